@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+# Throughput on platform threads vs virtual threads at 1,000 concurrent clients.
+# Boots the app twice on H2 with the dataset profile (VIRTUAL_THREADS=false, then true),
+# replays the load driver's traffic mix against each and prints both runs side by side.
+# Dataset sizes can be lowered for a quicker run, e.g. DATASET_APPOINTMENTS=100000.
+#
+#   JWT_SECRET=<at least 32 bytes> ./load-compare.sh [users] [measured seconds]
+set -euo pipefail
+cd "$(dirname "$0")"
+
+USERS=${1:-1000}
+DURATION=${2:-120}
+PORT=${PORT:-8080}
+OUT=build/results/loadtest
+RESULTS=$OUT/virtual-threads.csv
+: "${JWT_SECRET:?JWT_SECRET must be set, the server and the driver share it}"
+export JWT_SECRET
+
+./gradlew -q bootJar loadtestClasses
+mkdir -p "$OUT"
+rm -f "$RESULTS"
+
+for virtual in false true; do
+  if [ "$virtual" = true ]; then label=virtual; else label=platform; fi
+  VIRTUAL_THREADS=$virtual java -jar build/libs/profroidApp-0.0.1-SNAPSHOT.jar \
+      --spring.profiles.active=h2,dataset --server.port="$PORT" > "$OUT/server-$label.log" 2>&1 &
+  server=$!
+  trap 'kill $server 2>/dev/null || true' EXIT
+
+  echo "Seeding and starting the $label-thread server..."
+  until curl -sf "http://localhost:$PORT/actuator/health/readiness" > /dev/null; do
+    if ! kill -0 $server 2>/dev/null; then
+      echo "Server exited, see $OUT/server-$label.log" >&2
+      exit 1
+    fi
+    sleep 5
+  done
+
+  ./gradlew -q loadTest -PbaseUrl="http://localhost:$PORT" -Pusers="$USERS" -Pduration="$DURATION" \
+      -Plabel="$label" -Pcsv="$RESULTS"
+
+  kill $server
+  wait $server 2>/dev/null || true
+done
+
+echo
+column -s, -t "$RESULTS"
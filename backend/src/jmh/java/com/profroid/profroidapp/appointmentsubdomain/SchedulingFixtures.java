@@ -0,0 +1,107 @@
+package com.profroid.profroidapp.appointmentsubdomain;
+
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.Appointment;
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentIdentifier;
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentStatus;
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentStatusType;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.Employee;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.EmployeeIdentifier;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.EmployeeRole;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.EmployeeRoleType;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeScheduleDataAccessLayer.DayOfWeek;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeScheduleDataAccessLayer.DayOfWeekType;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeScheduleDataAccessLayer.Schedule;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeScheduleDataAccessLayer.TimeSlot;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeScheduleDataAccessLayer.TimeSlotType;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.Job;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.JobIdentifier;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.JobType;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Synthetic technicians, schedules and appointments for the scheduling benchmarks, and
+ * in-memory stand-ins for the Spring Data repositories they read. The stand-ins answer
+ * from prepared maps, so the benchmarks measure the scheduling code with every lookup
+ * served as if from the second-level cache.
+ */
+public final class SchedulingFixtures {
+
+    private SchedulingFixtures() {}
+
+    public static Job job(String name, int durationMinutes) {
+        Job job = new Job();
+        job.setJobIdentifier(new JobIdentifier("JOB-" + name));
+        job.setJobName(name);
+        job.setJobType(JobType.REPARATION);
+        job.setHourlyRate(85.0);
+        job.setEstimatedDurationMinutes(durationMinutes);
+        job.setActive(true);
+        return job;
+    }
+
+    public static Employee technician(int number) {
+        EmployeeRole role = new EmployeeRole();
+        role.setEmployeeRoleType(EmployeeRoleType.TECHNICIAN);
+
+        Employee technician = new Employee();
+        technician.setId(number);
+        technician.setEmployeeIdentifier(new EmployeeIdentifier(String.format("00000000-0000-0000-0000-%012d", number)));
+        technician.setFirstName("Tech");
+        technician.setLastName("Nr" + number);
+        technician.setEmployeeRole(role);
+        technician.setIsActive(true);
+        return technician;
+    }
+
+    public static Schedule weeklySlot(Employee technician, DayOfWeekType day, TimeSlotType slot) {
+        DayOfWeek dayOfWeek = new DayOfWeek();
+        dayOfWeek.setDayOfWeek(day);
+        TimeSlot timeSlot = new TimeSlot();
+        timeSlot.setTimeslot(slot);
+
+        Schedule schedule = new Schedule();
+        schedule.setEmployee(technician);
+        schedule.setDayOfWeek(dayOfWeek);
+        schedule.setTimeSlot(timeSlot);
+        return schedule;
+    }
+
+    public static Appointment appointment(String appointmentId, Employee technician, Job job, LocalDateTime at) {
+        AppointmentStatus status = new AppointmentStatus();
+        status.setAppointmentStatusType(AppointmentStatusType.SCHEDULED);
+
+        Appointment appointment = new Appointment();
+        appointment.setAppointmentIdentifier(new AppointmentIdentifier(appointmentId));
+        appointment.setTechnician(technician);
+        appointment.setJob(job);
+        appointment.setAppointmentDate(at);
+        appointment.setAppointmentStatus(status);
+        return appointment;
+    }
+
+    /**
+     * A repository whose methods answer through answers, keyed by method name. Any other
+     * call fails, so a benchmark notices when the code under test starts using a new query.
+     */
+    public static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "equals" -> self == args[0];
+                    default -> type.getSimpleName() + " (in memory)";
+                };
+            }
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return answer.apply(args);
+        });
+        return type.cast(proxy);
+    }
+}
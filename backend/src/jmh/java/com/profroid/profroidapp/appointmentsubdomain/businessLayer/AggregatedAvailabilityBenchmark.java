@@ -0,0 +1,98 @@
+package com.profroid.profroidapp.appointmentsubdomain.businessLayer;
+
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.Appointment;
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentRepository;
+import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.TechnicianBookedSlotsResponseModel;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.Employee;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.EmployeeRepository;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeScheduleDataAccessLayer.DayOfWeekType;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeScheduleDataAccessLayer.Schedule;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeScheduleDataAccessLayer.ScheduleRepository;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeScheduleDataAccessLayer.TimeSlotType;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.Job;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.JobRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.profroid.profroidapp.appointmentsubdomain.SchedulingFixtures.*;
+
+/**
+ * Aggregated availability for one Monday over fleets of technicians who all work the
+ * whole day. Every technician but the last is fully booked, so each slot scans the
+ * whole fleet before finding someone free: the worst case of the per-technician loop.
+ * Repositories answer from memory; the database round-trips come on top.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AggregatedAvailabilityBenchmark {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+    private static final String JOB_NAME = "Compressor Repair";
+
+    @Param({"10", "100", "1000"})
+    public int technicians;
+
+    private AppointmentServiceImpl appointmentService;
+
+    @Setup
+    public void setup() {
+        Job job = job(JOB_NAME, 120);
+        List<Employee> fleet = new ArrayList<>();
+        Map<String, List<Schedule>> schedules = new HashMap<>();
+        Map<String, List<Appointment>> appointments = new HashMap<>();
+
+        for (int i = 1; i <= technicians; i++) {
+            Employee technician = technician(i);
+            String employeeId = technician.getEmployeeIdentifier().getEmployeeId();
+            fleet.add(technician);
+
+            List<Schedule> week = new ArrayList<>();
+            for (TimeSlotType slot : TimeSlotType.values()) {
+                week.add(weeklySlot(technician, DayOfWeekType.MONDAY, slot));
+            }
+            schedules.put(employeeId, week);
+
+            List<Appointment> day = new ArrayList<>();
+            if (i < technicians) {
+                for (int hour = 9; hour <= 15; hour += 2) {
+                    day.add(appointment("APT-" + i + "-" + hour, technician, job, MONDAY.atTime(hour, 0)));
+                }
+            }
+            appointments.put(employeeId, day);
+        }
+
+        JobRepository jobRepository = repository(JobRepository.class, Map.of(
+                "findJobByJobName", args -> job));
+        EmployeeRepository employeeRepository = repository(EmployeeRepository.class, Map.of(
+                "findAll", args -> fleet));
+        ScheduleRepository scheduleRepository = repository(ScheduleRepository.class, Map.of(
+                "findAllByEmployee_EmployeeIdentifier_EmployeeId", args -> schedules.get((String) args[0]),
+                "findAllByEmployee_EmployeeIdentifier_EmployeeIdAndSpecificDate", args -> List.of()));
+        AppointmentRepository appointmentRepository = repository(AppointmentRepository.class, Map.of(
+                "findByTechnicianAndAppointmentDateBetween",
+                args -> appointments.get(((Employee) args[0]).getEmployeeIdentifier().getEmployeeId())));
+
+        appointmentService = new AppointmentServiceImpl(appointmentRepository, null, null, null,
+                employeeRepository, jobRepository, null, null, scheduleRepository, null, null, null,
+                new AvailabilityCoalescer(), null);
+    }
+
+    @Benchmark
+    public TechnicianBookedSlotsResponseModel aggregatedAvailability() {
+        return appointmentService.getAggregatedAvailability(MONDAY, JOB_NAME, "admin-user", "ADMIN", null);
+    }
+}
@@ -0,0 +1,68 @@
+package com.profroid.profroidapp.appointmentsubdomain.utils;
+
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.Appointment;
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentRepository;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.Employee;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.Job;
+import com.profroid.profroidapp.utils.exceptions.InvalidOperationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.profroid.profroidapp.appointmentsubdomain.SchedulingFixtures.*;
+
+/**
+ * The overlap check run for every booking and reschedule, against a technician with
+ * a full morning. free books the empty 3 PM slot; conflict asks for 11 AM and is
+ * rejected with TIME_CONFLICT, which includes the cost of building the exception.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimeSlotOverlapBenchmark {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    @Param({"free", "conflict"})
+    public String request;
+
+    private AppointmentValidationUtils validationUtils;
+    private Employee technician;
+    private Job job;
+    private LocalDateTime requestedAt;
+
+    @Setup
+    public void setup() {
+        job = job("Compressor Repair", 120);
+        technician = technician(1);
+        List<Appointment> day = List.of(
+                appointment("APT-9", technician, job, MONDAY.atTime(9, 0)),
+                appointment("APT-11", technician, job, MONDAY.atTime(11, 0)));
+        requestedAt = MONDAY.atTime("free".equals(request) ? 15 : 11, 0);
+
+        AppointmentRepository appointmentRepository = repository(AppointmentRepository.class, Map.of(
+                "findByTechnicianAndDateAndScheduled", args -> day));
+        validationUtils = new AppointmentValidationUtils(appointmentRepository, null);
+    }
+
+    @Benchmark
+    public boolean validateTimeSlotAvailability() {
+        try {
+            validationUtils.validateTimeSlotAvailability(technician, requestedAt, job);
+            return true;
+        } catch (InvalidOperationException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.profroid.profroidapp.reportsubdomain.mappingLayer;
+
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.Appointment;
+import com.profroid.profroidapp.customersubdomain.dataAccessLayer.Customer;
+import com.profroid.profroidapp.customersubdomain.dataAccessLayer.CustomerIdentifier;
+import com.profroid.profroidapp.customersubdomain.dataAccessLayer.CustomerPhoneNumber;
+import com.profroid.profroidapp.customersubdomain.dataAccessLayer.PhoneType;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.Employee;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.Job;
+import com.profroid.profroidapp.partsubdomain.dataAccessLayer.Part;
+import com.profroid.profroidapp.partsubdomain.dataAccessLayer.PartIdentifier;
+import com.profroid.profroidapp.reportsubdomain.dataAccessLayer.Report;
+import com.profroid.profroidapp.reportsubdomain.dataAccessLayer.ReportIdentifier;
+import com.profroid.profroidapp.reportsubdomain.dataAccessLayer.ReportPart;
+import com.profroid.profroidapp.reportsubdomain.presentationLayer.ReportResponseModel;
+import com.profroid.profroidapp.utils.generators.ReportPdfGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.profroid.profroidapp.appointmentsubdomain.SchedulingFixtures.*;
+
+/**
+ * Service report from entity to PDF: ReportResponseMapper, then ReportPdfGenerator in
+ * English and French. parts covers a routine visit and a large repair whose parts
+ * table spills onto a second page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReportRenderingBenchmark {
+
+    @Param({"3", "40"})
+    public int parts;
+
+    @Param({"en", "fr"})
+    public String language;
+
+    private final ReportResponseMapper mapper = new ReportResponseMapper();
+    private final ReportPdfGenerator pdfGenerator = new ReportPdfGenerator();
+    private Report report;
+    private ReportResponseModel responseModel;
+
+    @Setup
+    public void setup() {
+        Job job = job("Compressor Repair", 120);
+        job.setJobNameFr("Réparation du compresseur");
+        Employee technician = technician(7);
+
+        CustomerPhoneNumber phone = new CustomerPhoneNumber();
+        phone.setType(PhoneType.MOBILE);
+        phone.setNumber("514-555-0142");
+        Customer customer = new Customer();
+        customer.setCustomerIdentifier(new CustomerIdentifier("CUST-BENCH"));
+        customer.setFirstName("Élise");
+        customer.setLastName("Tremblay");
+        customer.setPhoneNumbers(List.of(phone));
+
+        Appointment appointment = appointment("APT-BENCH", technician, job, LocalDate.of(2026, 3, 2).atTime(9, 0));
+        appointment.setCustomer(customer);
+
+        report = new Report();
+        report.setReportIdentifier(new ReportIdentifier("REP-BENCH"));
+        report.setAppointment(appointment);
+        report.setHoursWorked(new BigDecimal("2.50"));
+        report.setFrais(new BigDecimal("15.00"));
+        report.setFraisDeplacement(new BigDecimal("40.00"));
+
+        List<ReportPart> reportParts = new ArrayList<>();
+        BigDecimal partsTotal = BigDecimal.ZERO;
+        for (int i = 1; i <= parts; i++) {
+            Part part = new Part();
+            part.setPartIdentifier(new PartIdentifier("PART-" + i));
+            part.setName("Replacement part " + i);
+
+            ReportPart reportPart = new ReportPart();
+            reportPart.setReport(report);
+            reportPart.setPart(part);
+            reportPart.setQuantity(1 + i % 3);
+            reportPart.setPrice(new BigDecimal("12.50").add(BigDecimal.valueOf(i)));
+            reportParts.add(reportPart);
+            partsTotal = partsTotal.add(reportPart.getPrice().multiply(BigDecimal.valueOf(reportPart.getQuantity())));
+        }
+        report.setReportParts(reportParts);
+
+        BigDecimal subtotal = report.getHoursWorked().multiply(BigDecimal.valueOf(job.getHourlyRate()))
+                .add(report.getFrais()).add(report.getFraisDeplacement()).add(partsTotal);
+        BigDecimal tps = subtotal.multiply(new BigDecimal("0.05")).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal tvq = subtotal.multiply(new BigDecimal("0.09975")).setScale(2, RoundingMode.HALF_UP);
+        report.setSubtotal(subtotal);
+        report.setTpsAmount(tps);
+        report.setTvqAmount(tvq);
+        report.setTotal(subtotal.add(tps).add(tvq));
+        report.setCreatedAt(LocalDateTime.of(2026, 3, 2, 11, 30));
+
+        responseModel = mapper.toResponseModel(report);
+    }
+
+    @Benchmark
+    public ReportResponseModel toResponseModel() {
+        return mapper.toResponseModel(report);
+    }
+
+    @Benchmark
+    public byte[] generateReportPdf() {
+        return pdfGenerator.generateReportPdf(responseModel, language);
+    }
+}
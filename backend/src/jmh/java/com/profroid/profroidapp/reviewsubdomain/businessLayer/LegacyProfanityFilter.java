@@ -0,0 +1,224 @@
+package com.profroid.profroidapp.reviewsubdomain.businessLayer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * The regex-per-word profanity filter that ProfanityFilterService used before the
+ * Aho-Corasick matcher, kept only as a baseline for ProfanityFilterBenchmark.
+ */
+class LegacyProfanityFilter {
+
+    private final Set<String> allProfanity;
+    private final List<Pattern> obfuscationPatterns;
+
+    LegacyProfanityFilter() {
+        allProfanity = ProfanityFilterService.builtInDictionary();
+        obfuscationPatterns = allProfanity.stream()
+            .map(this::createObfuscationPattern)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Check if the given text contains profanity
+     * @param text The text to check
+     * @return true if profanity is detected, false otherwise
+     */
+    public boolean containsProfanity(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return false;
+        }
+        
+        String normalizedText = normalizeText(text);
+        
+        // Check for exact matches (word boundaries)
+        for (String profanity : allProfanity) {
+            String pattern = "\\b" + Pattern.quote(profanity) + "\\b";
+            if (Pattern.compile(pattern, Pattern.CASE_INSENSITIVE).matcher(normalizedText).find()) {
+                return true;
+            }
+        }
+        
+        // Check for obfuscated versions
+        for (Pattern pattern : obfuscationPatterns) {
+            if (pattern.matcher(normalizedText).find()) {
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Get list of profanity words found in the text
+     * @param text The text to check
+     * @return List of profanity words found
+     */
+    public List<String> findProfanity(String text) {
+        List<String> foundProfanity = new ArrayList<>();
+        
+        if (text == null || text.trim().isEmpty()) {
+            return foundProfanity;
+        }
+        
+        String normalizedText = normalizeText(text);
+        
+        for (String profanity : allProfanity) {
+            String pattern = "\\b" + Pattern.quote(profanity) + "\\b";
+            if (Pattern.compile(pattern, Pattern.CASE_INSENSITIVE).matcher(normalizedText).find()) {
+                foundProfanity.add(profanity);
+            }
+        }
+        
+        return foundProfanity;
+    }
+    
+    /**
+     * Censors profanity in the text by replacing it with asterisks
+     * @param text The text to censor
+     * @return Censored text
+     */
+    public String censorProfanity(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return text;
+        }
+        
+        String result = text;
+        
+        for (String profanity : allProfanity) {
+            String pattern = "\\b" + Pattern.quote(profanity) + "\\b";
+            String replacement = "*".repeat(profanity.length());
+            result = result.replaceAll("(?i)" + pattern, replacement);
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Normalize text by removing accents and special characters
+     */
+    private String normalizeText(String text) {
+        if (text == null) {
+            return "";
+        }
+        
+        String normalized = text;
+        
+        // Replace common leetspeak/number substitutions FIRST
+        normalized = normalized.replaceAll("0", "o");
+        normalized = normalized.replaceAll("1", "i");
+        normalized = normalized.replaceAll("3", "e");
+        normalized = normalized.replaceAll("4", "a");
+        normalized = normalized.replaceAll("5", "s");
+        normalized = normalized.replaceAll("7", "t");
+        normalized = normalized.replaceAll("8", "b");
+        normalized = normalized.replaceAll("@", "a");
+        normalized = normalized.replaceAll("\\$", "s");
+        normalized = normalized.replaceAll("\\!", "i");
+        normalized = normalized.replaceAll("\\+", "t");
+        
+        // Remove common separators that might be used to bypass filter
+        normalized = normalized.replaceAll("[_\\-\\*\\.\\s]+", " ");
+        
+        // Remove accents (for French words) - both lowercase and uppercase
+        // Lowercase accents
+        normalized = normalized.replace('é', 'e');
+        normalized = normalized.replace('è', 'e');
+        normalized = normalized.replace('ê', 'e');
+        normalized = normalized.replace('ë', 'e');
+        normalized = normalized.replace('à', 'a');
+        normalized = normalized.replace('â', 'a');
+        normalized = normalized.replace('ä', 'a');
+        normalized = normalized.replace('ù', 'u');
+        normalized = normalized.replace('û', 'u');
+        normalized = normalized.replace('ü', 'u');
+        normalized = normalized.replace('ï', 'i');
+        normalized = normalized.replace('î', 'i');
+        normalized = normalized.replace('ô', 'o');
+        normalized = normalized.replace('ö', 'o');
+        normalized = normalized.replace('ç', 'c');
+        
+        // Uppercase accents
+        normalized = normalized.replace('É', 'E');
+        normalized = normalized.replace('È', 'E');
+        normalized = normalized.replace('Ê', 'E');
+        normalized = normalized.replace('Ë', 'E');
+        normalized = normalized.replace('À', 'A');
+        normalized = normalized.replace('Â', 'A');
+        normalized = normalized.replace('Ä', 'A');
+        normalized = normalized.replace('Ù', 'U');
+        normalized = normalized.replace('Û', 'U');
+        normalized = normalized.replace('Ü', 'U');
+        normalized = normalized.replace('Ï', 'I');
+        normalized = normalized.replace('Î', 'I');
+        normalized = normalized.replace('Ô', 'O');
+        normalized = normalized.replace('Ö', 'O');
+        normalized = normalized.replace('Ç', 'C');
+        
+        // Convert to lowercase first
+        normalized = normalized.toLowerCase();
+        
+        // CRITICAL: Reduce repeated characters to catch bypasses like "fdpppppp" → "fdp"
+        // This replaces 2+ consecutive identical characters with just 1 character
+        // Examples: "shiiit" → "shit", "fuuuck" → "fuck", "fdpppp" → "fdp"
+        normalized = normalized.replaceAll("(.)\\1+", "$1");
+        
+        return normalized.trim();
+    }
+    
+    /**
+     * Create a pattern to detect obfuscated versions of profanity
+     * Example: "fuck" -> matches "f*ck", "f@ck", "fu¢k", etc.
+     */
+    private Pattern createObfuscationPattern(String word) {
+        StringBuilder regex = new StringBuilder("\\b");
+        
+        for (char c : word.toCharArray()) {
+            // Create character class for common substitutions
+            String charPattern;
+            switch (Character.toLowerCase(c)) {
+                case 'a':
+                    charPattern = "[a@4]";
+                    break;
+                case 'e':
+                    charPattern = "[e3€]";
+                    break;
+                case 'i':
+                    charPattern = "[i1!|]";
+                    break;
+                case 'o':
+                    charPattern = "[o0]";
+                    break;
+                case 's':
+                    charPattern = "[s$5]";
+                    break;
+                case 't':
+                    charPattern = "[t7+]";
+                    break;
+                case 'l':
+                    charPattern = "[l1|]";
+                    break;
+                case 'c':
+                    charPattern = "[c¢]";
+                    break;
+                case 'u':
+                    charPattern = "[uv]";
+                    break;
+                default:
+                    charPattern = "[" + Character.toLowerCase(c) + Character.toUpperCase(c) + "]";
+                    break;
+            }
+            
+            regex.append(charPattern);
+            // Allow optional special characters between letters
+            regex.append("[*_\\-.]?");
+        }
+        
+        regex.append("\\b");
+        
+        return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE);
+    }
+}
@@ -0,0 +1,77 @@
+package com.profroid.profroidapp.reviewsubdomain.businessLayer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Aho-Corasick ProfanityFilterService with the previous regex-per-word filter
+ * on a typical clean review (the common case) and on a review that needs censoring, and on
+ * long texts the size of a detailed warranty claim (about 4 KB).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProfanityFilterBenchmark {
+
+    private static final String CLEAN_REVIEW =
+            "The technician arrived on time, replaced the compressor relay and explained everything clearly. "
+            + "Le cellier est revenu a 12 degres en moins d'une heure. Very professional, merci beaucoup!";
+
+    private static final String DIRTY_REVIEW =
+            "The first company left the cellar in a sh1t state and the fuuuucking door gasket was still leaking. "
+            + "Quel bordel, vraiment. Profroid fixed it in an hour.";
+
+    private static final int LONG_TEXT_LENGTH = 4096;
+
+    @Param({"short-clean", "short-dirty", "long-clean", "long-dirty"})
+    public String review;
+
+    private String text;
+    private ProfanityFilterService current;
+    private LegacyProfanityFilter legacy;
+
+    @Setup
+    public void setup() {
+        String sample = review.endsWith("clean") ? CLEAN_REVIEW : DIRTY_REVIEW;
+        text = review.startsWith("long") ? longText(sample) : sample;
+        current = new ProfanityFilterService();
+        legacy = new LegacyProfanityFilter();
+    }
+
+    // Clean text with the sample at the end, so a dirty one is only found after scanning it all
+    private static String longText(String ending) {
+        StringBuilder text = new StringBuilder(LONG_TEXT_LENGTH + ending.length());
+        while (text.length() < LONG_TEXT_LENGTH) {
+            text.append(CLEAN_REVIEW).append(' ');
+        }
+        return text.append(ending).toString();
+    }
+
+    @Benchmark
+    public boolean containsProfanityAhoCorasick() {
+        return current.containsProfanity(text);
+    }
+
+    @Benchmark
+    public boolean containsProfanityLegacy() {
+        return legacy.containsProfanity(text);
+    }
+
+    @Benchmark
+    public String censorProfanityAhoCorasick() {
+        return current.censorProfanity(text);
+    }
+
+    @Benchmark
+    public String censorProfanityLegacy() {
+        return legacy.censorProfanity(text);
+    }
+}
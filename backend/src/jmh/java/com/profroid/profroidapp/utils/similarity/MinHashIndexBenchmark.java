@@ -0,0 +1,79 @@
+package com.profroid.profroidapp.utils.similarity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup cost of the near-duplicate index with a realistic history size.
+ * Target: well under a millisecond per submission at 100k stored messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MinHashIndexBenchmark {
+
+    @Param({"10000", "100000"})
+    public int storedMessages;
+
+    private MinHashIndex index;
+    private String[] queries;
+    private int next;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] vocabulary = new String[5000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = randomWord(random);
+        }
+
+        index = new MinHashIndex(16, 4, 30);
+        for (int i = 0; i < storedMessages; i++) {
+            index.put("MSG-" + i, randomMessage(random, vocabulary));
+        }
+
+        // Half fresh messages, half slightly edited copies of stored ones
+        queries = new String[1024];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = randomMessage(random, vocabulary);
+            if (i % 2 == 0) {
+                index.put("COPY-" + i, queries[i]);
+                queries[i] = queries[i].toUpperCase() + " thanks";
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<MinHashIndex.Match> findMostSimilar() {
+        String query = queries[next++ & (queries.length - 1)];
+        return index.findMostSimilar(query, 0.8);
+    }
+
+    private static String randomWord(SplittableRandom random) {
+        StringBuilder word = new StringBuilder();
+        int length = 3 + random.nextInt(7);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+
+    private static String randomMessage(SplittableRandom random, String[] vocabulary) {
+        StringBuilder message = new StringBuilder();
+        int words = 20 + random.nextInt(60);
+        for (int i = 0; i < words; i++) {
+            message.append(vocabulary[random.nextInt(vocabulary.length)]).append(' ');
+        }
+        return message.toString();
+    }
+}
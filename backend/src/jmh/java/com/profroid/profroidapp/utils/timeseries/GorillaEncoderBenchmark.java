@@ -0,0 +1,93 @@
+package com.profroid.profroidapp.utils.timeseries;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Size and speed of one cellar-day chunk (a reading every 10 seconds, temperature and
+ * humidity). Bytes per point are printed during setup; points per second are the
+ * chunks per millisecond times 8,640,000.
+ * Target: under 2 bytes per point for a steady cellar, decode well above 1M points/s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GorillaEncoderBenchmark {
+
+    private static final int POINTS_PER_DAY = 8640;
+
+    /**
+     * steady: regulated cellar, two-decimal sensor values that rarely change.
+     * noisy: full-precision values that change on every reading.
+     */
+    @Param({"steady", "noisy"})
+    public String signal;
+
+    private long[] times;
+    private double[] temperatures;
+    private double[] humidities;
+    private byte[] chunk;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        times = new long[POINTS_PER_DAY];
+        temperatures = new double[POINTS_PER_DAY];
+        humidities = new double[POINTS_PER_DAY];
+        long time = 1_700_000_000L;
+        double temperature = 12.0;
+        double humidity = 70.0;
+        for (int i = 0; i < POINTS_PER_DAY; i++) {
+            time += 10 + (random.nextInt(20) == 0 ? 1 : 0);
+            if (signal.equals("steady")) {
+                if (random.nextInt(30) == 0) {
+                    temperature = Math.round((temperature + random.nextDouble(-0.2, 0.2)) * 100) / 100.0;
+                }
+                if (random.nextInt(60) == 0) {
+                    humidity = Math.round((humidity + random.nextDouble(-1, 1)) * 100) / 100.0;
+                }
+            } else {
+                temperature += random.nextGaussian() * 0.05;
+                humidity += random.nextGaussian() * 0.2;
+            }
+            times[i] = time;
+            temperatures[i] = temperature;
+            humidities[i] = humidity;
+        }
+        chunk = encodeDay().toBytes();
+        System.out.printf("%n%s: %d bytes for %d points, %.2f bytes per point%n",
+                signal, chunk.length, POINTS_PER_DAY, (double) chunk.length / POINTS_PER_DAY);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return encodeDay().toBytes();
+    }
+
+    @Benchmark
+    public double decode() {
+        GorillaDecoder decoder = new GorillaDecoder(chunk);
+        double sum = 0;
+        while (decoder.next()) {
+            sum += decoder.value(0) + decoder.value(1) + decoder.time();
+        }
+        return sum;
+    }
+
+    private GorillaEncoder encodeDay() {
+        GorillaEncoder encoder = new GorillaEncoder(2, POINTS_PER_DAY);
+        for (int i = 0; i < POINTS_PER_DAY; i++) {
+            encoder.append(times[i], temperatures[i], humidities[i]);
+        }
+        return encoder;
+    }
+}
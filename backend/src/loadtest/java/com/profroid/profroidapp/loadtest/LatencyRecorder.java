@@ -0,0 +1,52 @@
+package com.profroid.profroidapp.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and outcomes of one endpoint. Every sample is kept (a few million longs at
+ * most for a load run), so the percentiles are exact rather than bucketed.
+ */
+class LatencyRecorder {
+
+    private final String endpoint;
+    private long[] micros = new long[1024];
+    private int count;
+    private int errors;
+
+    LatencyRecorder(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * @param status HTTP status, or 0 when the request failed without a response
+     */
+    synchronized void record(long elapsedNanos, int status) {
+        if (count == micros.length) {
+            micros = Arrays.copyOf(micros, count * 2);
+        }
+        micros[count++] = elapsedNanos / 1_000;
+        if (status == 0 || status >= 400) {
+            errors++;
+        }
+    }
+
+    synchronized Summary summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(micros, count);
+        Arrays.sort(sorted);
+        return new Summary(endpoint, count, errors, percentile(sorted, 0.50), percentile(sorted, 0.99),
+                count == 0 ? 0 : sorted[count - 1], seconds > 0 ? count / seconds : 0);
+    }
+
+    // Nearest-rank percentile, in milliseconds
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1_000.0;
+    }
+
+    record Summary(String endpoint, int count, int errors, double p50Millis, double p99Millis,
+                   long maxMicros, double throughput) {
+    }
+}
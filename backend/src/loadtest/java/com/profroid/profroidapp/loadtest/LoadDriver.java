@@ -0,0 +1,392 @@
+package com.profroid.profroidapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.profroid.profroidapp.utils.dataset.SyntheticDataset.*;
+
+/**
+ * Closed-loop HTTP load against a server seeded with the dataset profile. Each virtual
+ * user picks a scenario from a fixed browse/booking/report mix, signs its own JWT for a
+ * dataset customer, technician or the admin, and goes again as soon as it has an answer.
+ * Samples from the warm-up are dropped; the rest are reported per endpoint.
+ *
+ * Arguments (all --name=value): jwtSecret (or JWT_SECRET), baseUrl, users, duration and
+ * warmup in seconds, customers/cellars/technicians/reports matching the dataset sizes, and
+ * label plus csv to append the results to a file for comparing runs.
+ *
+ * Virtual users are virtual threads, so a thousand of them cost the driver next to nothing
+ * and the server stays the bottleneck.
+ */
+public final class LoadDriver {
+
+    private final String baseUrl;
+    private final int users;
+    private final Duration duration;
+    private final Duration warmup;
+    private final int customers;
+    private final int cellarsPerCustomer;
+    private final int technicians;
+    private final int reports;
+    private final SecretKey signingKey;
+    private final String label;
+    private final Path csv;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, String> tokens = new ConcurrentHashMap<>();
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+    private final List<Scenario> mix = new ArrayList<>();
+    private final int totalWeight;
+    private List<String> jobNames;
+    private volatile long measuredFrom = Long.MAX_VALUE;
+
+    private LoadDriver(Map<String, String> options) {
+        String secret = options.getOrDefault("jwtSecret", System.getenv("JWT_SECRET"));
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("--jwtSecret (or JWT_SECRET) must match the server's jwt.secret");
+        }
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.baseUrl = options.getOrDefault("baseUrl", "http://localhost:8080").replaceAll("/+$", "");
+        this.users = Integer.parseInt(options.getOrDefault("users", "20"));
+        this.duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+        this.warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "15")));
+        this.customers = Integer.parseInt(options.getOrDefault("customers", "50000"));
+        this.cellarsPerCustomer = Math.max(1, Integer.parseInt(options.getOrDefault("cellars", "100000")) / customers);
+        this.technicians = Integer.parseInt(options.getOrDefault("technicians", "200"));
+        this.reports = Integer.parseInt(options.getOrDefault("reports", "100000"));
+        this.label = options.getOrDefault("label", "run");
+        this.csv = options.containsKey("csv") ? Path.of(options.get("csv")) : null;
+
+        // Out of 100: customers browsing 50, booking 10, technician app 15, bills and reports 25
+        mix.add(new Scenario(20, this::browseJobs));
+        mix.add(new Scenario(15, this::myAppointments));
+        mix.add(new Scenario(15, this::checkAvailability));
+        mix.add(new Scenario(10, this::book));
+        mix.add(new Scenario(10, this::technicianSync));
+        mix.add(new Scenario(5, this::technicianDay));
+        mix.add(new Scenario(10, this::customerBills));
+        mix.add(new Scenario(10, this::reportById));
+        mix.add(new Scenario(5, this::technicianReports));
+        this.totalWeight = mix.stream().mapToInt(Scenario::weight).sum();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        new LoadDriver(options).run();
+    }
+
+    private void run() throws Exception {
+        jobNames = fetchJobNames();
+        System.out.printf("[%s] Driving %s with %d users: %ds warm-up, %ds measured, jobs %s%n",
+                label, baseUrl, users, warmup.toSeconds(), duration.toSeconds(), jobNames);
+
+        long start = System.nanoTime();
+        long warmupEnd = start + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+
+        ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < users; i++) {
+            SplittableRandom random = new SplittableRandom(1_000L + i);
+            pool.submit(() -> {
+                while (System.nanoTime() < end) {
+                    pick(random).body().run(random);
+                }
+                return null;
+            });
+        }
+        pool.shutdown();
+
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, warmupEnd - System.nanoTime()));
+        measuredFrom = warmupEnd;
+        if (!pool.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS)) {
+            pool.shutdownNow();
+        }
+
+        report(duration.toNanos() / 1e9);
+    }
+
+    private Scenario pick(SplittableRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (Scenario scenario : mix) {
+            roll -= scenario.weight();
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    // ---- scenarios ----
+
+    private void browseJobs(SplittableRandom random) {
+        send("GET /v1/jobs", get("/v1/jobs", null));
+    }
+
+    private void myAppointments(SplittableRandom random) {
+        send("GET /v1/appointments/my-appointments",
+                get("/v1/appointments/my-appointments", customerToken(random.nextInt(customers))));
+    }
+
+    private void checkAvailability(SplittableRandom random) {
+        availability(random.nextInt(customers), bookableDate(random), pickJob(random));
+    }
+
+    /**
+     * Looks at the availability of a day, then books one of the free slots in a cellar of
+     * the customer. Conflicts from concurrent bookings show up as errors of the POST.
+     */
+    private void book(SplittableRandom random) {
+        int customer = random.nextInt(customers);
+        LocalDate date = bookableDate(random);
+        String jobName = pickJob(random);
+
+        JsonNode availability = availability(customer, date, jobName);
+        if (availability == null || availability.path("bookedSlots").isEmpty()) {
+            return;
+        }
+        JsonNode slots = availability.path("bookedSlots");
+        String startTime = slots.get(random.nextInt(slots.size())).path("startTime").asText();
+
+        String[] address = address(customer);
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("jobName", jobName)
+                .put("cellarName", cellarName(customer + random.nextInt(cellarsPerCustomer) * customers))
+                .put("appointmentDate", date + "T" + startTime)
+                .put("description", "Load test booking");
+        body.putObject("appointmentAddress")
+                .put("streetAddress", address[0])
+                .put("city", address[1])
+                .put("province", address[2])
+                .put("country", "Canada")
+                .put("postalCode", address[3]);
+
+        send("POST /v1/appointments", request("/v1/appointments", customerToken(customer))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build());
+    }
+
+    private void technicianSync(SplittableRandom random) {
+        send("GET /v1/appointments/my-jobs/sync",
+                get("/v1/appointments/my-jobs/sync", technicianToken(random.nextInt(technicians))));
+    }
+
+    private void technicianDay(SplittableRandom random) {
+        LocalDate date = LocalDate.now().plusDays(random.nextInt(-3, 4));
+        send("GET /v1/appointments/my-jobs/day",
+                get("/v1/appointments/my-jobs/day?date=" + date, technicianToken(random.nextInt(technicians))));
+    }
+
+    private void customerBills(SplittableRandom random) {
+        int customer = random.nextInt(customers);
+        send("GET /v1/bills/customer/{customerId}",
+                get("/v1/bills/customer/" + customerId(customer), customerToken(customer)));
+    }
+
+    private void reportById(SplittableRandom random) {
+        send("GET /v1/reports/{reportId}", get("/v1/reports/" + reportId(random.nextInt(reports)), adminToken()));
+    }
+
+    private void technicianReports(SplittableRandom random) {
+        int technician = random.nextInt(technicians);
+        send("GET /v1/reports/technician/{technicianId}",
+                get("/v1/reports/technician/" + employeeId(technician), technicianToken(technician)));
+    }
+
+    private JsonNode availability(int customer, LocalDate date, String jobName) {
+        String query = "date=" + date + "&jobName=" + jobName.replace(" ", "%20");
+        HttpResponse<String> response = send("GET /v1/appointments/availability/aggregated",
+                get("/v1/appointments/availability/aggregated?" + query, customerToken(customer)));
+        if (response == null || response.statusCode() != 200) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // Bookings need 24 hours of notice and land on weekdays
+    private static LocalDate bookableDate(SplittableRandom random) {
+        LocalDate date = LocalDate.now().plusDays(2 + random.nextInt(28));
+        while (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            date = date.plusDays(1);
+        }
+        return date;
+    }
+
+    private String pickJob(SplittableRandom random) {
+        return jobNames.get(random.nextInt(jobNames.size()));
+    }
+
+    // ---- HTTP ----
+
+    private List<String> fetchJobNames() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(get("/v1/jobs", null), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /v1/jobs answered " + response.statusCode() + "; is the server up?");
+        }
+        List<String> names = new ArrayList<>();
+        for (JsonNode job : objectMapper.readTree(response.body())) {
+            if (job.path("active").asBoolean(true)) {
+                names.add(job.path("jobName").asText());
+            }
+        }
+        if (names.isEmpty()) {
+            throw new IllegalStateException("The server has no active jobs to book");
+        }
+        return names;
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request) {
+        long started = System.nanoTime();
+        HttpResponse<String> response = null;
+        int status = 0;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            status = response.statusCode();
+        } catch (IOException e) {
+            // counted as an error with status 0
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        if (started >= measuredFrom) {
+            recorders.computeIfAbsent(endpoint, LatencyRecorder::new).record(System.nanoTime() - started, status);
+        }
+        return response;
+    }
+
+    // ---- tokens ----
+
+    private String customerToken(int customer) {
+        return tokens.computeIfAbsent(customerUserId(customer), userId -> sign(userId, "customer", null));
+    }
+
+    private String technicianToken(int technician) {
+        return tokens.computeIfAbsent(technicianUserId(technician), userId -> sign(userId, "employee", "TECHNICIAN"));
+    }
+
+    private String adminToken() {
+        return tokens.computeIfAbsent("syn-admin", userId -> sign(userId, "employee", "ADMIN"));
+    }
+
+    private String sign(String userId, String role, String employeeType) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(userId)
+                .claim("role", role)
+                .claim("employeeType", employeeType)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + TimeUnit.DAYS.toMillis(1)))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    // ---- report ----
+
+    private void report(double seconds) throws IOException {
+        List<LatencyRecorder.Summary> summaries = recorders.values().stream()
+                .map(recorder -> recorder.summarize(seconds))
+                .sorted((a, b) -> Integer.compare(b.count(), a.count()))
+                .toList();
+
+        String format = "%-48s %9s %7s %9s %9s %9s %9s%n";
+        System.out.printf(format, "endpoint", "requests", "errors", "p50 ms", "p99 ms", "max ms", "req/s");
+        int total = 0;
+        int errors = 0;
+        for (LatencyRecorder.Summary summary : summaries) {
+            System.out.printf(format, summary.endpoint(), summary.count(), summary.errors(),
+                    String.format("%.1f", summary.p50Millis()), String.format("%.1f", summary.p99Millis()),
+                    String.format("%.1f", summary.maxMicros() / 1_000.0), String.format("%.1f", summary.throughput()));
+            total += summary.count();
+            errors += summary.errors();
+        }
+        System.out.printf(format, "total", total, errors, "", "", "", String.format("%.1f", total / seconds));
+
+        if (csv != null) {
+            writeCsv(summaries, total, errors, seconds);
+        }
+    }
+
+    private void writeCsv(List<LatencyRecorder.Summary> summaries, int total, int errors, double seconds)
+            throws IOException {
+        StringBuilder rows = new StringBuilder();
+        if (!Files.exists(csv)) {
+            rows.append("run,users,endpoint,requests,errors,p50_ms,p99_ms,max_ms,req_per_s\n");
+        }
+        for (LatencyRecorder.Summary summary : summaries) {
+            rows.append(String.format(Locale.ROOT, "%s,%d,%s,%d,%d,%.1f,%.1f,%.1f,%.1f%n", label, users,
+                    summary.endpoint(), summary.count(), summary.errors(), summary.p50Millis(),
+                    summary.p99Millis(), summary.maxMicros() / 1_000.0, summary.throughput()));
+        }
+        rows.append(String.format(Locale.ROOT, "%s,%d,total,%d,%d,,,,%.1f%n", label, users, total, errors, total / seconds));
+        if (csv.getParent() != null) {
+            Files.createDirectories(csv.getParent());
+        }
+        Files.writeString(csv, rows, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private record Scenario(int weight, ScenarioBody body) {
+    }
+
+    @FunctionalInterface
+    private interface ScenarioBody {
+        void run(SplittableRandom random);
+    }
+}
@@ -3,21 +3,38 @@ package com.profroid.profroidapp.appointmentsubdomain.businessLayer;
 import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentRequestModel;
 import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentResponseModel;
 import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentStatusChangeRequestModel;
+import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentSyncResponseModel;
 import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.TechnicianBookedSlotsResponseModel;
 
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public interface AppointmentService {
 
     AppointmentResponseModel addAppointment(AppointmentRequestModel requestModel, String userId, String userRole);
+
+    /**
+     * Open a DRAFT maintenance appointment for a cellar, at the first slot in the coming two weeks
+     * that technician auto-assignment can fill. Used by telemetry alerts; the assigned technician
+     * confirms it by moving it to SCHEDULED, the customer can cancel it.
+     * Empty when the cellar already has an upcoming draft or scheduled maintenance visit.
+     */
+    Optional<AppointmentResponseModel> createDraftMaintenanceAppointment(String cellarId, String description);
     
     List<AppointmentResponseModel> getCustomerAppointments(String customerId);
     
     List<AppointmentResponseModel> getTechnicianAppointments(String technicianId);
+
+    /**
+     * Changes to a technician's appointments since a previous sync, for mobile clients.
+     * A null since returns the full list of open appointments.
+     */
+    AppointmentSyncResponseModel getTechnicianAppointmentChanges(String technicianId, Instant since);
     
     List<AppointmentResponseModel> getAllAppointments();
 
@@ -6,6 +6,7 @@ import com.profroid.profroidapp.appointmentsubdomain.mappingLayer.AppointmentRes
 import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentRequestModel;
 import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentResponseModel;
 import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentStatusChangeRequestModel;
+import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentSyncResponseModel;
 import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.TechnicianBookedSlotsResponseModel;
 import com.profroid.profroidapp.appointmentsubdomain.utils.AppointmentValidationUtils;
 import com.profroid.profroidapp.appointmentsubdomain.utils.AppointmentNotificationUtil;
@@ -26,19 +27,27 @@ import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.JobRepository;
 import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.JobType;
 import com.profroid.profroidapp.utils.exceptions.InvalidOperationException;
 import com.profroid.profroidapp.utils.exceptions.ResourceNotFoundException;
+import com.profroid.profroidapp.utils.metrics.Timings;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 @Service
 public class AppointmentServiceImpl implements AppointmentService {
@@ -54,6 +63,18 @@ public class AppointmentServiceImpl implements AppointmentService {
     private final ScheduleRepository scheduleRepository;
     private final AppointmentValidationUtils validationUtils;
     private final AppointmentNotificationUtil notificationUtil;
+    private final AppointmentSyncTombstoneRepository syncTombstoneRepository;
+    private final AvailabilityCoalescer availabilityCoalescer;
+    // Notification sends leave the request thread here (VirtualThreadConfig.notificationExecutor)
+    private final Executor notificationExecutor;
+
+    // Draft maintenance visits are searched over the next two weeks, in the regular start slots
+    private static final int DRAFT_SEARCH_DAYS = 14;
+    private static final int[] DRAFT_SLOT_HOURS = {9, 11, 13, 15};
+
+    // The next sync starts a little before this one read, so changes still committing
+    // while it ran (and second-precision timestamps) are picked up next time
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
 
     public AppointmentServiceImpl(AppointmentRepository appointmentRepository,
                                   AppointmentRequestMapper appointmentRequestMapper,
@@ -65,7 +86,10 @@ public class AppointmentServiceImpl implements AppointmentService {
                                   EmployeeResponseMapper employeeResponseMapper,
                                   ScheduleRepository scheduleRepository,
                                   AppointmentValidationUtils validationUtils,
-                                  AppointmentNotificationUtil notificationUtil) {
+                                  AppointmentNotificationUtil notificationUtil,
+                                  AppointmentSyncTombstoneRepository syncTombstoneRepository,
+                                  AvailabilityCoalescer availabilityCoalescer,
+                                  @Qualifier("notificationExecutor") Executor notificationExecutor) {
         this.appointmentRepository = appointmentRepository;
         this.appointmentRequestMapper = appointmentRequestMapper;
         this.appointmentResponseMapper = appointmentResponseMapper;
@@ -77,10 +101,18 @@ public class AppointmentServiceImpl implements AppointmentService {
         this.employeeResponseMapper = employeeResponseMapper;
         this.scheduleRepository = scheduleRepository;
         this.validationUtils = validationUtils;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.availabilityCoalescer = availabilityCoalescer;
+        this.notificationExecutor = notificationExecutor;
     }
 
     @Override
     public AppointmentResponseModel addAppointment(AppointmentRequestModel requestModel, String userId, String userRole) {
+        return Timings.record("appointments.create", null,
+                () -> createAppointment(requestModel, userId, userRole), "role", metricRole(userRole));
+    }
+
+    private AppointmentResponseModel createAppointment(AppointmentRequestModel requestModel, String userId, String userRole) {
         // Use Canada/Eastern timezone for accurate time comparisons
         LocalDateTime now = LocalDateTime.now(ZoneId.of("America/Toronto"));
         LocalDateTime appointmentDateTime = requestModel.getAppointmentDate();
@@ -243,7 +275,7 @@ public class AppointmentServiceImpl implements AppointmentService {
                         customer,
                         startOfDay,
                         endOfDay,
-                        Arrays.asList(AppointmentStatusType.SCHEDULED, AppointmentStatusType.COMPLETED)
+                        AppointmentStatusType.SLOT_HOLDING
                 );
         if (!customerAppointmentsAtTime.isEmpty()) {
             for (Appointment existing : customerAppointmentsAtTime) {
@@ -286,7 +318,7 @@ public class AppointmentServiceImpl implements AppointmentService {
         Appointment savedAppointment = appointmentRepository.save(appointment);
         
         // Send appointment booked notification asynchronously (non-blocking)
-        new Thread(() -> {
+        notificationExecutor.execute(() -> {
             try {
                 var recipients = NotificationPayloadBuilder.buildRecipients(savedAppointment);
                 var details = NotificationPayloadBuilder.buildAppointmentDetails(savedAppointment);
@@ -296,12 +328,112 @@ public class AppointmentServiceImpl implements AppointmentService {
                 System.err.println("Async notification error: " + e.getMessage());
                 e.printStackTrace();
             }
-        }).start();
+        });
         
         return appointmentResponseMapper.toResponseModel(savedAppointment);
     }
 
     @Override
+    public Optional<AppointmentResponseModel> createDraftMaintenanceAppointment(String cellarId, String description) {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("America/Toronto"));
+
+        Cellar cellar = cellarRepository.findCellarByCellarIdentifier_CellarId(cellarId);
+        if (cellar == null || Boolean.TRUE.equals(cellar.getIsDeleted())) {
+            throw new ResourceNotFoundException("Cellar " + cellarId + " not found.");
+        }
+        if (!appointmentRepository.findOpenMaintenanceByCellarId(cellarId, now).isEmpty()) {
+            return Optional.empty();
+        }
+
+        Customer customer = customerRepository.findCustomerByCustomerIdentifier_CustomerId(
+            cellar.getOwnerCustomerIdentifier().getCustomerId()
+        );
+        if (customer == null) {
+            throw new ResourceNotFoundException("Owner of cellar " + cellarId + " not found.");
+        }
+        if (customer.getCustomerAddress() == null) {
+            throw new InvalidOperationException("Customer " + customer.getCustomerIdentifier().getCustomerId() + " has no address on file.");
+        }
+
+        Job job = jobRepository.findFirstByJobTypeAndActiveTrueOrderByIdAsc(JobType.MAINTENANCE);
+        if (job == null) {
+            throw new ResourceNotFoundException("No active maintenance job is configured.");
+        }
+        int durationMinutes = (job.getEstimatedDurationMinutes() != null && job.getEstimatedDurationMinutes() > 0)
+                ? job.getEstimatedDurationMinutes()
+                : 120;
+
+        // First bookable weekday slot from tomorrow on that a technician can take
+        LocalDateTime appointmentDateTime = null;
+        Employee technician = null;
+        LocalDate lastDay = now.toLocalDate().plusDays(DRAFT_SEARCH_DAYS);
+        for (LocalDate day = now.toLocalDate().plusDays(1); technician == null && !day.isAfter(lastDay); day = day.plusDays(1)) {
+            if (day.getDayOfWeek() == java.time.DayOfWeek.SATURDAY || day.getDayOfWeek() == java.time.DayOfWeek.SUNDAY) {
+                continue;
+            }
+            for (int hour : DRAFT_SLOT_HOURS) {
+                LocalDateTime candidate = day.atTime(hour, 0);
+                if (candidate.toLocalTime().plusMinutes(durationMinutes).isAfter(LocalTime.of(17, 0))) {
+                    continue;
+                }
+                try {
+                    validationUtils.validateBookingDeadline(candidate, now);
+                    technician = autoAssignTechnician(candidate, job.getJobName());
+                    appointmentDateTime = candidate;
+                    break;
+                } catch (InvalidOperationException e) {
+                    // Too late to book or nobody free at this slot; try the next one
+                }
+            }
+        }
+        if (technician == null) {
+            throw new InvalidOperationException(
+                "No technician is available for a maintenance visit in the next " + DRAFT_SEARCH_DAYS + " days."
+            );
+        }
+
+        AppointmentStatus status = new AppointmentStatus();
+        status.setAppointmentStatusType(AppointmentStatusType.DRAFT);
+
+        Appointment appointment = new Appointment();
+        appointment.setAppointmentIdentifier(new AppointmentIdentifier());
+        appointment.setCustomer(customer);
+        appointment.setTechnician(technician);
+        appointment.setJob(job);
+        appointment.setCellar(cellar);
+        appointment.setAppointmentAddress(AppointmentAddress.builder()
+                .streetAddress(customer.getCustomerAddress().getStreetAddress())
+                .city(customer.getCustomerAddress().getCity())
+                .province(customer.getCustomerAddress().getProvince())
+                .country(customer.getCustomerAddress().getCountry())
+                .postalCode(customer.getCustomerAddress().getPostalCode())
+                .build());
+        appointment.setDescription(description);
+        appointment.setAppointmentDate(appointmentDateTime);
+        appointment.setAppointmentStatus(status);
+        appointment.setCreatedByRole("SYSTEM");
+        appointment.setIsActive(true);
+
+        Appointment savedAppointment = appointmentRepository.save(appointment);
+
+        // Same notification as a booking, so the customer and technician hear about the alert
+        notificationExecutor.execute(() -> {
+            try {
+                var recipients = NotificationPayloadBuilder.buildRecipients(savedAppointment);
+                var details = NotificationPayloadBuilder.buildAppointmentDetails(savedAppointment);
+                notificationUtil.sendAppointmentBookedNotification(recipients, details);
+            } catch (Exception e) {
+                // Log but don't fail the request if notification fails
+                System.err.println("Async notification error: " + e.getMessage());
+                e.printStackTrace();
+            }
+        });
+
+        return Optional.of(appointmentResponseMapper.toResponseModel(savedAppointment));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<AppointmentResponseModel> getCustomerAppointments(String customerId) {
        
         Customer customer = customerRepository.findCustomerByCustomerIdentifier_CustomerId(customerId);
@@ -319,6 +451,7 @@ public class AppointmentServiceImpl implements AppointmentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<AppointmentResponseModel> getTechnicianAppointments(String technicianId) {
         // Find technician by their employee identifier (UUID)
         Employee technician = employeeRepository.findEmployeeByEmployeeIdentifier_EmployeeId(technicianId);
@@ -341,7 +474,80 @@ public class AppointmentServiceImpl implements AppointmentService {
         );
     }
 
+    // Stays on the primary: a lagging replica would hand out a nextSince past changes it has not seen yet
+    @Override
+    public AppointmentSyncResponseModel getTechnicianAppointmentChanges(String technicianId, Instant since) {
+        Employee technician = employeeRepository.findEmployeeByEmployeeIdentifier_EmployeeId(technicianId);
+
+        if (technician == null) {
+            throw new ResourceNotFoundException("Technician " + technicianId + " not found.");
+        }
+
+        if (!technician.getIsActive()) {
+            throw new ResourceNotFoundException("Technician " + technicianId + " is deactivated and cannot access appointments.");
+        }
+
+        // Taken before reading, so nothing that changes during the reads is skipped next time
+        Instant now = Instant.now();
+        boolean fullSync = since == null;
+        List<Appointment> appointments = fullSync
+            ? appointmentRepository.findAllByTechnician(technician)
+            : appointmentRepository.findChangedByTechnicianSince(technician, since);
+
+        List<Appointment> changed = new ArrayList<>();
+        Set<String> removed = new LinkedHashSet<>();
+        for (Appointment appointment : appointments) {
+            if (isOpenForTechnician(appointment)) {
+                changed.add(appointment);
+            } else if (!fullSync) {
+                removed.add(appointment.getAppointmentIdentifier().getAppointmentId());
+            }
+        }
+
+        if (!fullSync) {
+            Set<String> stillAssigned = new HashSet<>();
+            changed.forEach(appointment -> stillAssigned.add(appointment.getAppointmentIdentifier().getAppointmentId()));
+            // An appointment reassigned away and back again is a change, not a removal
+            for (AppointmentSyncTombstone tombstone : syncTombstoneRepository
+                    .findAllByTechnicianIdAndRemovedAtGreaterThanEqual(technician.getId(), since)) {
+                if (!stillAssigned.contains(tombstone.getAppointmentId())) {
+                    removed.add(tombstone.getAppointmentId());
+                }
+            }
+        }
+
+        return AppointmentSyncResponseModel.builder()
+            .nextSince(now.minus(SYNC_OVERLAP))
+            .fullSync(fullSync)
+            .changed(appointmentResponseMapper.toResponseModelList(changed))
+            .removed(new ArrayList<>(removed))
+            .build();
+    }
+
+    private boolean isOpenForTechnician(Appointment appointment) {
+        if (!Boolean.TRUE.equals(appointment.getIsActive())) {
+            return false;
+        }
+        if (appointment.getAppointmentStatus() != null
+                && appointment.getAppointmentStatus().getAppointmentStatusType() == AppointmentStatusType.CANCELLED) {
+            return false;
+        }
+        // Same rule as the full list: skip appointments whose customer, job or cellar is gone
+        try {
+            validateAppointmentEntityIntegrity(appointment);
+            return true;
+        } catch (ResourceNotFoundException e) {
+            return false;
+        }
+    }
+
+    // Roles come from the token, so the tag only ever takes a handful of values
+    private static String metricRole(String userRole) {
+        return userRole == null ? "none" : userRole.toLowerCase(Locale.ROOT);
+    }
+
     @Override
+    @Transactional(readOnly = true)
     public List<AppointmentResponseModel> getAllAppointments() {
         // Get all appointments from the database (admin only)
         List<Appointment> appointments = appointmentRepository.findAll();
@@ -353,6 +559,7 @@ public class AppointmentServiceImpl implements AppointmentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public AppointmentResponseModel getAppointmentById(String appointmentId, String userId, String userRole) {
         // Find appointment by ID
         Optional<Appointment> appointmentOptional = appointmentRepository.findAppointmentByAppointmentIdentifier_AppointmentId(appointmentId);
@@ -580,7 +787,7 @@ public class AppointmentServiceImpl implements AppointmentService {
                             customerForValidation,
                             startOfDay,
                             endOfDay,
-                            Arrays.asList(AppointmentStatusType.SCHEDULED, AppointmentStatusType.COMPLETED)
+                            AppointmentStatusType.SLOT_HOLDING
                     );
             if (!customerAppointmentsAtTime.isEmpty()) {
                 for (Appointment existing : customerAppointmentsAtTime) {
@@ -659,6 +866,12 @@ public class AppointmentServiceImpl implements AppointmentService {
 
             // Do not change status for customer or technician edits
             Appointment updatedAppointment = appointmentRepository.save(appointment);
+
+            // The old technician's app no longer sees this row in its sync, so leave a tombstone
+            if (technicianWasChanged && oldTechnician != null) {
+                syncTombstoneRepository.save(
+                    new AppointmentSyncTombstone(oldTechnician.getId(), currentAppointmentId, Instant.now()));
+            }
             
             // Detect changes and send update notification asynchronously (non-blocking)
             final boolean finalCustomerWasChanged = customerWasChanged;
@@ -668,7 +881,7 @@ public class AppointmentServiceImpl implements AppointmentService {
                 
                 if (!changedFields.isEmpty() || finalCustomerWasChanged || finalTechnicianWasChanged) {
                     // Send notifications asynchronously in background thread to avoid latency
-                    new Thread(() -> {
+                    notificationExecutor.execute(() -> {
                         try {
                             var details = NotificationPayloadBuilder.buildAppointmentDetails(updatedAppointment);
                             
@@ -800,7 +1013,7 @@ public class AppointmentServiceImpl implements AppointmentService {
                             System.err.println("Async notification error: " + e.getMessage());
                             e.printStackTrace();
                         }
-                    }).start();
+                    });
                 }
             } catch (Exception e) {
                 // Log but don't fail the request if notification fails
@@ -828,11 +1041,13 @@ public class AppointmentServiceImpl implements AppointmentService {
                 if (customer == null || !customer.getId().equals(appointment.getCustomer().getId())) {
                     throw new ResourceNotFoundException("You don't have permission to update this appointment status.");
                 }
-                // Customer can only switch to CANCELLED, and cannot change status once cancelled
+                // Customer can only switch to CANCELLED or confirm a draft visit, and cannot change status once cancelled
                 if (currentStatusType == AppointmentStatusType.CANCELLED) {
                     throw new InvalidOperationException("Cannot change status of a cancelled appointment.");
                 }
-                if (newStatusType != AppointmentStatusType.CANCELLED) {
+                boolean confirmingDraft = currentStatusType == AppointmentStatusType.DRAFT
+                        && newStatusType == AppointmentStatusType.SCHEDULED;
+                if (newStatusType != AppointmentStatusType.CANCELLED && !confirmingDraft) {
                     throw new InvalidOperationException("Customer can only cancel their own appointment.");
                 }
             } else if ("TECHNICIAN".equals(effectiveRole)) {
@@ -848,6 +1063,20 @@ public class AppointmentServiceImpl implements AppointmentService {
                 throw new InvalidOperationException("Only customers or technicians can change appointment status.");
             }
 
+            // Drafts are only opened by the system; one is confirmed (SCHEDULED) or cancelled, never completed as is
+            if (newStatusType == AppointmentStatusType.DRAFT) {
+                throw new InvalidOperationException("An appointment cannot be moved back to draft.");
+            }
+            if (currentStatusType == AppointmentStatusType.DRAFT) {
+                if (newStatusType == AppointmentStatusType.COMPLETED) {
+                    throw new InvalidOperationException("A draft appointment must be confirmed before it can be completed.");
+                }
+                if (newStatusType == AppointmentStatusType.SCHEDULED
+                        && appointment.getAppointmentDate().isBefore(LocalDateTime.now(ZoneId.of("America/Toronto")))) {
+                    throw new InvalidOperationException("This draft visit is in the past; book a new appointment instead.");
+                }
+            }
+
             AppointmentStatus newStatus = new AppointmentStatus();
             newStatus.setAppointmentStatusType(newStatusType);
             appointment.setAppointmentStatus(newStatus);
@@ -861,7 +1090,7 @@ public class AppointmentServiceImpl implements AppointmentService {
             
             // Send cancellation notification asynchronously (non-blocking) if appointment was cancelled
             if (newStatusType == AppointmentStatusType.CANCELLED) {
-                new Thread(() -> {
+                notificationExecutor.execute(() -> {
                     try {
                         var recipients = NotificationPayloadBuilder.buildRecipients(updatedAppointment);
                         var details = NotificationPayloadBuilder.buildAppointmentDetails(updatedAppointment);
@@ -871,13 +1100,14 @@ public class AppointmentServiceImpl implements AppointmentService {
                         System.err.println("Async notification error: " + e.getMessage());
                         e.printStackTrace();
                     }
-                }).start();
+                });
             }
             
             return appointmentResponseMapper.toResponseModel(updatedAppointment);
         }
         
         @Override
+        @Transactional(readOnly = true)
         public TechnicianBookedSlotsResponseModel getTechnicianBookedSlots(String technicianId, LocalDate date, String appointmentId) {
             // Validate technician exists
             Employee technician = employeeRepository.findEmployeeByEmployeeIdentifier_EmployeeId(technicianId);
@@ -895,8 +1125,7 @@ public class AppointmentServiceImpl implements AppointmentService {
             // Filter out cancelled appointments and the appointment being edited, then build booked slots
             List<TechnicianBookedSlotsResponseModel.BookedSlot> bookedSlots = appointments.stream()
                     .filter(apt -> apt.getAppointmentStatus() != null &&
-                            (apt.getAppointmentStatus().getAppointmentStatusType() == AppointmentStatusType.SCHEDULED ||
-                                    apt.getAppointmentStatus().getAppointmentStatusType() == AppointmentStatusType.COMPLETED))
+                            apt.getAppointmentStatus().getAppointmentStatusType().holdsSlot())
                     .filter(apt -> appointmentId == null || appointmentId.isBlank() || 
                             !appointmentId.equals(apt.getAppointmentIdentifier().getAppointmentId()))
                     .map(apt -> {
@@ -927,27 +1156,28 @@ public class AppointmentServiceImpl implements AppointmentService {
         }
         
         @Override
+        @Transactional(readOnly = true)
         public TechnicianBookedSlotsResponseModel getAggregatedAvailability(LocalDate date, String jobName, String userId, String userRole, String appointmentId) {
-            // Get the job to determine duration
-            Job job = jobRepository.findJobByJobName(jobName);
-            int jobDurationMinutes = (job != null && job.getEstimatedDurationMinutes() > 0) 
-                    ? job.getEstimatedDurationMinutes() 
-                    : 120; // Default 2 hours
-            
-            // Get all active technicians
-            List<Employee> technicians = employeeRepository.findAll().stream()
-                    .filter(Employee::getIsActive)
-                    .filter(e -> e.getEmployeeRole().getEmployeeRoleType() == EmployeeRoleType.TECHNICIAN)
-                    .toList();
-            
-            if (technicians.isEmpty()) {
+            return Timings.record("appointments.availability", null,
+                    () -> aggregateAvailability(date, jobName, userId, userRole, appointmentId), "role", metricRole(userRole));
+        }
+
+        private TechnicianBookedSlotsResponseModel aggregateAvailability(LocalDate date, String jobName, String userId, String userRole, String appointmentId) {
+            // The technician side is shared by concurrent requests for the same date, job and edited appointment
+            String excludedAppointmentId = appointmentId == null || appointmentId.isBlank() ? null : appointmentId;
+            List<TechnicianBookedSlotsResponseModel.BookedSlot> technicianSlots = availabilityCoalescer.technicianSlots(
+                    date, jobName, excludedAppointmentId,
+                    () -> computeTechnicianAvailability(date, jobName, excludedAppointmentId));
+
+            List<TechnicianBookedSlotsResponseModel.BookedSlot> bookedSlots = new ArrayList<>();
+            if (technicianSlots.isEmpty()) {
                 return TechnicianBookedSlotsResponseModel.builder()
                         .technicianId("all") // Aggregated across all technicians
                         .date(date)
-                        .bookedSlots(new ArrayList<>())
+                        .bookedSlots(bookedSlots)
                         .build();
             }
-            
+
             // For customers, get their existing appointments to filter out busy times
             Customer customer = null;
             List<Appointment> customerAppointments = new ArrayList<>();
@@ -967,7 +1197,7 @@ public class AppointmentServiceImpl implements AppointmentService {
                                 customer,
                                 startOfDay,
                                 endOfDay,
-                                Arrays.asList(AppointmentStatusType.SCHEDULED, AppointmentStatusType.COMPLETED)
+                                AppointmentStatusType.SLOT_HOLDING
                             );
 
                         // When editing, allow the current appointment's slot to remain available
@@ -979,6 +1209,67 @@ public class AppointmentServiceImpl implements AppointmentService {
                 }
             }
             
+            for (TechnicianBookedSlotsResponseModel.BookedSlot technicianSlot : technicianSlots) {
+                LocalTime slotTime = technicianSlot.getStartTime();
+                LocalTime slotEnd = technicianSlot.getEndTime();
+
+                // For customers, also check if they already have an appointment at this time
+                boolean customerHasConflict = false;
+                if ("customer".equalsIgnoreCase(userRole) && !customerAppointments.isEmpty()) {
+                    for (Appointment customerApt : customerAppointments) {
+                        LocalTime customerAptStart = customerApt.getAppointmentDate().toLocalTime();
+                        LocalTime customerAptEnd = customerAptStart.plusMinutes(
+                            customerApt.getJob() != null ? customerApt.getJob().getEstimatedDurationMinutes() : 60
+                        );
+
+                        // Check for overlap
+                        // Two ranges overlap if: start1 < end2 AND start2 < end1
+                        // Adjacent slots should NOT be considered overlapping
+                        if (slotTime.isBefore(customerAptEnd) && customerAptStart.isBefore(slotEnd)) {
+                            customerHasConflict = true;
+                            break;
+                        }
+                    }
+                }
+
+                // Only add if customer doesn't have a conflict; copied so callers never share slot objects
+                if (!customerHasConflict) {
+                    bookedSlots.add(TechnicianBookedSlotsResponseModel.BookedSlot.builder()
+                            .startTime(slotTime)
+                            .endTime(slotEnd)
+                            .build());
+                }
+            }
+            
+            return TechnicianBookedSlotsResponseModel.builder()
+                    .technicianId("all")
+                    .date(date)
+                    .bookedSlots(bookedSlots)
+                    .build();
+        }
+
+        /**
+         * Slots of the day where at least one active technician has the slot in their schedule
+         * and no overlapping appointment. Depends only on its arguments, never on the caller,
+         * so concurrent identical requests can share the result.
+         */
+        private List<TechnicianBookedSlotsResponseModel.BookedSlot> computeTechnicianAvailability(LocalDate date, String jobName, String excludedAppointmentId) {
+            // Get the job to determine duration
+            Job job = jobRepository.findJobByJobName(jobName);
+            int jobDurationMinutes = (job != null && job.getEstimatedDurationMinutes() > 0) 
+                    ? job.getEstimatedDurationMinutes() 
+                    : 120; // Default 2 hours
+            
+            // Get all active technicians
+            List<Employee> technicians = employeeRepository.findAll().stream()
+                    .filter(Employee::getIsActive)
+                    .filter(e -> e.getEmployeeRole().getEmployeeRoleType() == EmployeeRoleType.TECHNICIAN)
+                    .toList();
+            
+            if (technicians.isEmpty()) {
+                return new ArrayList<>();
+            }
+            
             // Define available time slots for the day (9 AM, 11 AM, 1 PM, 3 PM, 5 PM)
             LocalTime[] timeSlots = {
                     LocalTime.of(9, 0),
@@ -988,7 +1279,7 @@ public class AppointmentServiceImpl implements AppointmentService {
                     LocalTime.of(17, 0)
             };
             
-            List<TechnicianBookedSlotsResponseModel.BookedSlot> bookedSlots = new ArrayList<>();
+            List<TechnicianBookedSlotsResponseModel.BookedSlot> availableSlots = new ArrayList<>();
             LocalDateTime dayStart = date.atStartOfDay();
             LocalDateTime dayEnd = date.plusDays(1).atStartOfDay();
             
@@ -1057,7 +1348,10 @@ public class AppointmentServiceImpl implements AppointmentService {
                     List<Appointment> appointmentsOnDay = appointmentRepository.findByTechnicianAndAppointmentDateBetween(
                             technician, dayStart, dayEnd).stream()
                             .filter(apt -> apt.getAppointmentStatus() != null && 
-                                    apt.getAppointmentStatus().getAppointmentStatusType() != AppointmentStatusType.CANCELLED)
+                                    apt.getAppointmentStatus().getAppointmentStatusType().holdsSlot())
+                            // When editing, the appointment being moved does not block its own technician
+                            .filter(apt -> excludedAppointmentId == null || apt.getAppointmentIdentifier() == null
+                                    || !excludedAppointmentId.equals(apt.getAppointmentIdentifier().getAppointmentId()))
                             .toList();
                     
                     boolean technicianAvailable = true;
@@ -1084,40 +1378,14 @@ public class AppointmentServiceImpl implements AppointmentService {
                 
                 // Only add slot if at least one technician is available
                 if (hasAvailableTechnician) {
-                    // For customers, also check if they already have an appointment at this time
-                    boolean customerHasConflict = false;
-                    if ("customer".equalsIgnoreCase(userRole) && !customerAppointments.isEmpty()) {
-                        for (Appointment customerApt : customerAppointments) {
-                            LocalTime customerAptStart = customerApt.getAppointmentDate().toLocalTime();
-                            LocalTime customerAptEnd = customerAptStart.plusMinutes(
-                                customerApt.getJob() != null ? customerApt.getJob().getEstimatedDurationMinutes() : 60
-                            );
-                            
-                            // Check for overlap
-                            // Two ranges overlap if: start1 < end2 AND start2 < end1
-                            // Adjacent slots should NOT be considered overlapping
-                            if (slotTime.isBefore(customerAptEnd) && customerAptStart.isBefore(slotEnd)) {
-                                customerHasConflict = true;
-                                break;
-                            }
-                        }
-                    }
-                    
-                    // Only add if customer doesn't have a conflict
-                    if (!customerHasConflict) {
-                        bookedSlots.add(TechnicianBookedSlotsResponseModel.BookedSlot.builder()
-                                .startTime(slotTime)
-                                .endTime(slotEnd)
-                                .build());
-                    }
+                    availableSlots.add(TechnicianBookedSlotsResponseModel.BookedSlot.builder()
+                            .startTime(slotTime)
+                            .endTime(slotEnd)
+                            .build());
                 }
             }
-            
-            return TechnicianBookedSlotsResponseModel.builder()
-                    .technicianId("all")
-                    .date(date)
-                    .bookedSlots(bookedSlots)
-                    .build();
+
+            return availableSlots;
         }
         
         // Backward-compatible overload for callers/tests that don't pass appointmentId
@@ -1132,6 +1400,12 @@ public class AppointmentServiceImpl implements AppointmentService {
          * 3. Random selection if all have equal hours
          */
         public Employee autoAssignTechnician(LocalDateTime appointmentDateTime, String jobName) {
+            // outcome=error counts the requests no technician could take
+            return Timings.record("appointments.auto-assign", null,
+                    () -> findTechnicianToAssign(appointmentDateTime, jobName));
+        }
+
+        private Employee findTechnicianToAssign(LocalDateTime appointmentDateTime, String jobName) {
             LocalDate appointmentDate = appointmentDateTime.toLocalDate();
             LocalTime appointmentTime = appointmentDateTime.toLocalTime();
             
@@ -1208,7 +1482,7 @@ public class AppointmentServiceImpl implements AppointmentService {
                 List<Appointment> appointmentsOnDay = appointmentRepository.findByTechnicianAndAppointmentDateBetween(
                         tech, dayStart, dayEnd).stream()
                         .filter(apt -> apt.getAppointmentStatus() != null && 
-                                apt.getAppointmentStatus().getAppointmentStatusType() != AppointmentStatusType.CANCELLED)
+                                apt.getAppointmentStatus().getAppointmentStatusType().holdsSlot())
                         .toList();
                 
                 // Check if technician is available for the requested slot
@@ -1256,7 +1530,7 @@ public class AppointmentServiceImpl implements AppointmentService {
                         .findByTechnicianAndAppointmentDateBetween(tech, weekStartDT, weekEndDT)
                         .stream()
                         .filter(apt -> apt.getAppointmentStatus() != null &&
-                                apt.getAppointmentStatus().getAppointmentStatusType() != AppointmentStatusType.CANCELLED)
+                                apt.getAppointmentStatus().getAppointmentStatusType().holdsSlot())
                         .toList();
 
                 int weekMinutes = 0;
@@ -1270,7 +1544,7 @@ public class AppointmentServiceImpl implements AppointmentService {
                         .findByTechnicianAndAppointmentDateBetween(tech, dayStart, dayEnd)
                         .stream()
                         .filter(apt -> apt.getAppointmentStatus() != null &&
-                                apt.getAppointmentStatus().getAppointmentStatusType() != AppointmentStatusType.CANCELLED)
+                                apt.getAppointmentStatus().getAppointmentStatusType().holdsSlot())
                         .toList();
 
                 int dayMinutes = 0;
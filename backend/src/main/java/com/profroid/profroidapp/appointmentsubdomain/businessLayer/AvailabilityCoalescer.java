@@ -0,0 +1,72 @@
+package com.profroid.profroidapp.appointmentsubdomain.businessLayer;
+
+import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.TechnicianBookedSlotsResponseModel.BookedSlot;
+import com.profroid.profroidapp.utils.concurrent.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight layer in front of the technician side of aggregated availability.
+ *
+ * Customers booking at the same moment tend to ask for the same date and job, and the
+ * technician x slot check behind it is the expensive part. Identical concurrent requests
+ * share one computation; each caller then applies its own customer overlap filter.
+ *
+ * Metrics: appointments.availability.requests and .computations count calls and actual
+ * computations, appointments.availability.coalescing.ratio is the share of requests that
+ * were served by another request's computation.
+ */
+@Component
+public class AvailabilityCoalescer implements MeterBinder {
+
+    private record Key(LocalDate date, String jobName, String excludedAppointmentId) {
+    }
+
+    private final SingleFlight<Key, List<BookedSlot>> flights = new SingleFlight<>();
+
+    /**
+     * Slots where at least one technician is free, computed once for all concurrent
+     * callers with the same date, job and excluded appointment. The list is read-only.
+     */
+    public List<BookedSlot> technicianSlots(LocalDate date, String jobName, String excludedAppointmentId,
+                                            Supplier<List<BookedSlot>> compute) {
+        String excluded = excludedAppointmentId == null || excludedAppointmentId.isBlank() ? null : excludedAppointmentId;
+        return flights.execute(new Key(date, jobName, excluded), () -> List.copyOf(compute.get()));
+    }
+
+    public long getRequestCount() {
+        return flights.getCallCount();
+    }
+
+    public long getComputationCount() {
+        return flights.getExecutionCount();
+    }
+
+    public double getCoalescingRatio() {
+        long requests = flights.getCallCount();
+        return requests == 0 ? 0 : 1 - (double) flights.getExecutionCount() / requests;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("appointments.availability.requests", flights, SingleFlight::getCallCount)
+                .description("Aggregated availability requests")
+                .register(registry);
+        FunctionCounter.builder("appointments.availability.computations", flights, SingleFlight::getExecutionCount)
+                .description("Technician availability computations actually run")
+                .register(registry);
+        Gauge.builder("appointments.availability.coalescing.ratio", this, AvailabilityCoalescer::getCoalescingRatio)
+                .description("Share of availability requests that reused a concurrent computation")
+                .register(registry);
+        Gauge.builder("appointments.availability.in-flight", flights, SingleFlight::getInFlightCount)
+                .description("Availability computations running now")
+                .register(registry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.profroid.profroidapp.appointmentsubdomain.businessLayer;
+
+import java.time.LocalDate;
+
+public interface TechnicianDayBundleService {
+
+    /**
+     * Serialized TechnicianDayBundleResponseModel with an ETag derived from its content.
+     */
+    record BundleJson(byte[] body, String etag) {
+    }
+
+    /**
+     * The technician's open appointments of the day with their cellars, customers, jobs,
+     * file metadata and the part catalog version. A null date means today.
+     */
+    BundleJson getDayBundle(String technicianId, LocalDate date);
+}
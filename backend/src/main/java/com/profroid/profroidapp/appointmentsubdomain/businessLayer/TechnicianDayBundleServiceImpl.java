@@ -0,0 +1,207 @@
+package com.profroid.profroidapp.appointmentsubdomain.businessLayer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.Appointment;
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentRepository;
+import com.profroid.profroidapp.appointmentsubdomain.mappingLayer.AppointmentResponseMapper;
+import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentResponseModel;
+import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.TechnicianDayBundleResponseModel;
+import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.Cellar;
+import com.profroid.profroidapp.cellarsubdomain.mappingLayer.CellarResponseMapper;
+import com.profroid.profroidapp.cellarsubdomain.presentationLayer.CellarResponseModel;
+import com.profroid.profroidapp.config.VirtualThreadConfig;
+import com.profroid.profroidapp.customersubdomain.dataAccessLayer.Customer;
+import com.profroid.profroidapp.customersubdomain.mappingLayer.CustomerResponseMapper;
+import com.profroid.profroidapp.customersubdomain.presentationLayer.CustomerResponseModel;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.Employee;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.EmployeeRepository;
+import com.profroid.profroidapp.filesubdomain.dataAccessLayer.FileOwnerType;
+import com.profroid.profroidapp.filesubdomain.dataAccessLayer.StoredFileRepository;
+import com.profroid.profroidapp.filesubdomain.mappingLayer.FileResponseMapper;
+import com.profroid.profroidapp.filesubdomain.presentationLayer.FileResponseModel;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.Job;
+import com.profroid.profroidapp.jobssubdomain.mappingLayer.JobResponseMapper;
+import com.profroid.profroidapp.jobssubdomain.presentationLayer.JobResponseModel;
+import com.profroid.profroidapp.partsubdomain.businessLayer.PartService;
+import com.profroid.profroidapp.utils.exceptions.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Builds a technician's day bundle with a handful of queries instead of one request per
+ * appointment and per related record.
+ *
+ * The part catalog version is read in parallel with the appointments. The appointments
+ * query also fetches their technician, customer, job and cellar, and the customers'
+ * phone numbers follow in one batched IN query. File metadata for every appointment,
+ * customer and job then comes in one more query. The bundle is serialized once and
+ * hashed for its ETag.
+ */
+@Service
+public class TechnicianDayBundleServiceImpl implements TechnicianDayBundleService {
+
+    // "Today" for a bundle requested without a date is the business day, not the server's
+    private static final ZoneId BUSINESS_ZONE = ZoneId.of("America/Toronto");
+
+    private static final List<String> FILE_OWNER_TYPES = List.of(
+            FileOwnerType.APPOINTMENT.name(), FileOwnerType.CUSTOMER.name(), FileOwnerType.JOB.name());
+
+    private record DayAppointments(List<AppointmentResponseModel> appointments,
+                                   List<CellarResponseModel> cellars,
+                                   List<CustomerResponseModel> customers,
+                                   List<JobResponseModel> jobs,
+                                   Set<String> fileOwnerIds) {
+    }
+
+    private final AppointmentRepository appointmentRepository;
+    private final EmployeeRepository employeeRepository;
+    private final StoredFileRepository storedFileRepository;
+    private final PartService partService;
+    private final AppointmentResponseMapper appointmentResponseMapper;
+    private final CellarResponseMapper cellarResponseMapper;
+    private final CustomerResponseMapper customerResponseMapper;
+    private final JobResponseMapper jobResponseMapper;
+    private final FileResponseMapper fileResponseMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService loaders;
+
+    public TechnicianDayBundleServiceImpl(AppointmentRepository appointmentRepository,
+                                          EmployeeRepository employeeRepository,
+                                          StoredFileRepository storedFileRepository,
+                                          PartService partService,
+                                          AppointmentResponseMapper appointmentResponseMapper,
+                                          CellarResponseMapper cellarResponseMapper,
+                                          CustomerResponseMapper customerResponseMapper,
+                                          JobResponseMapper jobResponseMapper,
+                                          FileResponseMapper fileResponseMapper,
+                                          ObjectMapper objectMapper,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${appointments.day-bundle.loader-threads:4}") int loaderThreads,
+                                          @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.appointmentRepository = appointmentRepository;
+        this.employeeRepository = employeeRepository;
+        this.storedFileRepository = storedFileRepository;
+        this.partService = partService;
+        this.appointmentResponseMapper = appointmentResponseMapper;
+        this.cellarResponseMapper = cellarResponseMapper;
+        this.customerResponseMapper = customerResponseMapper;
+        this.jobResponseMapper = jobResponseMapper;
+        this.fileResponseMapper = fileResponseMapper;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.loaders = VirtualThreadConfig.blockingExecutor(virtualThreads, "day-bundle-loader", loaderThreads);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        loaders.shutdown();
+    }
+
+    @Override
+    public BundleJson getDayBundle(String technicianId, LocalDate date) {
+        Employee technician = employeeRepository.findEmployeeByEmployeeIdentifier_EmployeeId(technicianId);
+        if (technician == null) {
+            throw new ResourceNotFoundException("Technician " + technicianId + " not found.");
+        }
+        if (!technician.getIsActive()) {
+            throw new ResourceNotFoundException("Technician " + technicianId + " is deactivated and cannot access appointments.");
+        }
+        LocalDate day = date == null ? LocalDate.now(BUSINESS_ZONE) : date;
+        Integer technicianKey = technician.getId();
+
+        CompletableFuture<String> catalogVersion =
+                CompletableFuture.supplyAsync(partService::getCatalogVersion, loaders);
+        CompletableFuture<DayAppointments> appointments = CompletableFuture.supplyAsync(
+                () -> readOnlyTransaction.execute(status -> loadAppointments(technicianKey, day)), loaders);
+        CompletableFuture<List<FileResponseModel>> files =
+                appointments.thenApplyAsync(loaded -> loadFiles(loaded.fileOwnerIds()), loaders);
+
+        DayAppointments loaded = join(appointments);
+        TechnicianDayBundleResponseModel bundle = TechnicianDayBundleResponseModel.builder()
+                .technicianId(technicianId)
+                .date(day)
+                .partCatalogVersion(join(catalogVersion))
+                .appointments(loaded.appointments())
+                .cellars(loaded.cellars())
+                .customers(loaded.customers())
+                .jobs(loaded.jobs())
+                .files(join(files))
+                .build();
+        return serialize(bundle);
+    }
+
+    private DayAppointments loadAppointments(Integer technicianKey, LocalDate day) {
+        List<Appointment> appointments = appointmentRepository.findOpenByTechnicianIdBetween(
+                technicianKey, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+
+        Map<Integer, Cellar> cellars = new LinkedHashMap<>();
+        Map<Integer, Customer> customers = new LinkedHashMap<>();
+        Map<Integer, Job> jobs = new LinkedHashMap<>();
+        Set<String> fileOwnerIds = new LinkedHashSet<>();
+        for (Appointment appointment : appointments) {
+            cellars.putIfAbsent(appointment.getCellar().getId(), appointment.getCellar());
+            customers.putIfAbsent(appointment.getCustomer().getId(), appointment.getCustomer());
+            jobs.putIfAbsent(appointment.getJob().getId(), appointment.getJob());
+            fileOwnerIds.add(appointment.getAppointmentIdentifier().getAppointmentId());
+            fileOwnerIds.add(appointment.getCustomer().getCustomerIdentifier().getCustomerId());
+            fileOwnerIds.add(appointment.getJob().getJobIdentifier().getJobId());
+        }
+
+        // Mapped inside the transaction: the customers' phone numbers load here, in one batch
+        return new DayAppointments(
+                appointmentResponseMapper.toResponseModelList(appointments),
+                cellarResponseMapper.toResponseModelList(new ArrayList<>(cellars.values())),
+                customerResponseMapper.toResponseModelList(new ArrayList<>(customers.values())),
+                jobResponseMapper.toResponseModelList(new ArrayList<>(jobs.values())),
+                fileOwnerIds);
+    }
+
+    private List<FileResponseModel> loadFiles(Set<String> ownerIds) {
+        if (ownerIds.isEmpty()) {
+            return List.of();
+        }
+        return fileResponseMapper.toResponseModelList(
+                storedFileRepository.findAllByOwnerTypeInAndOwnerIdInAndDeletedAtIsNull(FILE_OWNER_TYPES, ownerIds));
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // Surface ResourceNotFoundException and friends as the handlers expect them
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private BundleJson serialize(TechnicianDayBundleResponseModel bundle) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(bundle);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            return new BundleJson(body, etag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize technician day bundle", e);
+        }
+    }
+}
@@ -11,11 +11,16 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "appointments")
+@Table(name = "appointments", indexes = {
+    // Delta sync for technician apps scans one technician's rows by last change
+    @Index(name = "idx_appointments_technician_updated", columnList = "technician_id, updated_at")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -75,4 +80,9 @@ public class Appointment {
 
     private Boolean isActive = true;
 
+    // Set by Hibernate on every insert and update; the sync high-water mark
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
 }
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,6 +27,33 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Intege
     // Find all appointments for a specific technician
     List<Appointment> findAllByTechnician(Employee technician);
 
+    // Appointments of a technician changed at or after 'since', oldest change first.
+    // Range scan on (technician_id, updated_at); the related rows are fetched in the same query.
+    @Query("SELECT a FROM Appointment a " +
+           "JOIN FETCH a.customer JOIN FETCH a.job JOIN FETCH a.cellar LEFT JOIN FETCH a.schedule " +
+           "WHERE a.technician = :technician AND a.updatedAt >= :since " +
+           "ORDER BY a.updatedAt, a.id")
+    List<Appointment> findChangedByTechnicianSince(
+        @Param("technician") Employee technician,
+        @Param("since") Instant since
+    );
+
+    // A technician's open (not cancelled) appointments between from and to, in time order,
+    // with technician, customer, job and cellar in the same query
+    @Query("SELECT a FROM Appointment a " +
+           "JOIN FETCH a.technician JOIN FETCH a.customer JOIN FETCH a.job JOIN FETCH a.cellar " +
+           "LEFT JOIN FETCH a.schedule " +
+           "WHERE a.technician.id = :technicianId " +
+           "AND a.appointmentDate >= :from AND a.appointmentDate < :to " +
+           "AND a.isActive = true " +
+           "AND a.appointmentStatus.appointmentStatusType <> com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentStatusType.CANCELLED " +
+           "ORDER BY a.appointmentDate")
+    List<Appointment> findOpenByTechnicianIdBetween(
+        @Param("technicianId") Integer technicianId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+
     // Find appointments by job
     List<Appointment> findAllByJob(Job job);
 
@@ -61,16 +89,19 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Intege
         @Param("statuses") List<AppointmentStatusType> statuses
     );
     
-    // Find appointments by technician, date and time slot (SCHEDULED or COMPLETED block the slot)
+    // Find appointments by technician and date whose status holds the slot (AppointmentStatusType.SLOT_HOLDING)
+    default List<Appointment> findByTechnicianAndDateAndScheduled(Employee technician, LocalDate date) {
+        return findByTechnicianAndDateAndStatusIn(technician, date, AppointmentStatusType.SLOT_HOLDING);
+    }
+
     @Query("SELECT a FROM Appointment a WHERE " +
            "a.technician = :technician AND " +
            "DATE(a.appointmentDate) = :date AND " +
-           "a.appointmentStatus.appointmentStatusType IN " +
-           "(com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentStatusType.SCHEDULED, " +
-           "com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentStatusType.COMPLETED)")
-    List<Appointment> findByTechnicianAndDateAndScheduled(
+           "a.appointmentStatus.appointmentStatusType IN :statuses")
+    List<Appointment> findByTechnicianAndDateAndStatusIn(
         @Param("technician") Employee technician,
-        @Param("date") LocalDate date
+        @Param("date") LocalDate date,
+        @Param("statuses") List<AppointmentStatusType> statuses
     );
     
     // Find quotation appointments by customer and address
@@ -171,5 +202,13 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Intege
     @Query("SELECT a FROM Appointment a WHERE a.cellar.cellarIdentifier.cellarId = :cellarId " +
            "AND a.appointmentStatus.appointmentStatusType = com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentStatusType.SCHEDULED")
     List<Appointment> findScheduledAppointmentsByCellarId(@Param("cellarId") String cellarId);
-}
 
+    // Upcoming draft or scheduled maintenance visits of a cellar (so an alert does not open a second one)
+    @Query("SELECT a FROM Appointment a WHERE a.cellar.cellarIdentifier.cellarId = :cellarId " +
+           "AND a.job.jobType = com.profroid.profroidapp.jobssubdomain.dataAccessLayer.JobType.MAINTENANCE " +
+           "AND a.appointmentStatus.appointmentStatusType IN " +
+           "(com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentStatusType.DRAFT, " +
+           "com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentStatusType.SCHEDULED) " +
+           "AND a.appointmentDate >= :from")
+    List<Appointment> findOpenMaintenanceByCellarId(@Param("cellarId") String cellarId, @Param("from") LocalDateTime from);
+}
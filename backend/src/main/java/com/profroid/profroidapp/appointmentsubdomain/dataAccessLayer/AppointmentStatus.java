@@ -1,18 +1,24 @@
 package com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Embeddable
 @Data
 @NoArgsConstructor
 public class AppointmentStatus {
 
+    // A plain VARCHAR rather than a MySQL ENUM, so adding a status needs no DDL
     @NotNull
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 50)
     private AppointmentStatusType appointmentStatusType;
 }
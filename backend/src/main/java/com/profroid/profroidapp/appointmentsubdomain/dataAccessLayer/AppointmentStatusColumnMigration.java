@@ -0,0 +1,49 @@
+package com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * On MySQL databases created before AppointmentStatus was mapped as VARCHAR, Hibernate made
+ * appointment_status_type a native ENUM of the statuses known then, and ddl-auto=update
+ * never alters an existing column. Saving a DRAFT appointment there fails, so the column is
+ * widened to VARCHAR once at startup.
+ */
+@Component
+public class AppointmentStatusColumnMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(AppointmentStatusColumnMigration.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Taking the EntityManagerFactory runs this after Hibernate's schema update
+    public AppointmentStatusColumnMigration(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void widenStatusColumn() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(product)) {
+            return;
+        }
+        List<String> dataTypes = jdbcTemplate.queryForList(
+                "SELECT DATA_TYPE FROM INFORMATION_SCHEMA.COLUMNS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'appointments' " +
+                "AND COLUMN_NAME = 'appointment_status_type'",
+                String.class);
+        if (dataTypes.isEmpty() || !"enum".equalsIgnoreCase(dataTypes.get(0))) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE appointments MODIFY appointment_status_type VARCHAR(50) NOT NULL");
+        log.info("Changed appointments.appointment_status_type from ENUM to VARCHAR(50)");
+    }
+}
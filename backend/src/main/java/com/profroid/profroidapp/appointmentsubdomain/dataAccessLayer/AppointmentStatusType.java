@@ -1,7 +1,18 @@
 package com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer;
 
+import java.util.List;
+
 public enum AppointmentStatusType {
+    // Opened automatically (e.g. by a cellar telemetry alert); holds the technician's slot until confirmed or cancelled
+    DRAFT,
     SCHEDULED,
     COMPLETED,
-    CANCELLED
+    CANCELLED;
+
+    // Statuses whose appointment occupies its technician's and customer's time slot
+    public static final List<AppointmentStatusType> SLOT_HOLDING = List.of(DRAFT, SCHEDULED, COMPLETED);
+
+    public boolean holdsSlot() {
+        return SLOT_HOLDING.contains(this);
+    }
 }
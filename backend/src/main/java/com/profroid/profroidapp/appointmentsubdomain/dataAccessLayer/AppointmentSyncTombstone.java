@@ -0,0 +1,40 @@
+package com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Records that an appointment left a technician's list for a reason the appointment
+ * row itself no longer shows, i.e. it was reassigned to someone else. Technician apps
+ * pick these up in their next delta sync and drop the appointment locally.
+ */
+@Entity
+@Table(name = "appointment_sync_tombstones", indexes = {
+    @Index(name = "idx_appointment_sync_tombstones_technician", columnList = "technician_id, removed_at")
+})
+@Data
+@NoArgsConstructor
+public class AppointmentSyncTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "technician_id", nullable = false)
+    private Integer technicianId;
+
+    @Column(nullable = false, length = 36)
+    private String appointmentId;
+
+    @Column(name = "removed_at", nullable = false)
+    private Instant removedAt;
+
+    public AppointmentSyncTombstone(Integer technicianId, String appointmentId, Instant removedAt) {
+        this.technicianId = technicianId;
+        this.appointmentId = appointmentId;
+        this.removedAt = removedAt;
+    }
+}
@@ -0,0 +1,14 @@
+package com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface AppointmentSyncTombstoneRepository extends JpaRepository<AppointmentSyncTombstone, Long> {
+
+    // Range scan on (technician_id, removed_at)
+    List<AppointmentSyncTombstone> findAllByTechnicianIdAndRemovedAtGreaterThanEqual(Integer technicianId, Instant since);
+}
@@ -1,20 +1,26 @@
 package com.profroid.profroidapp.appointmentsubdomain.presentationLayer;
 
 import com.profroid.profroidapp.appointmentsubdomain.businessLayer.AppointmentService;
+import com.profroid.profroidapp.appointmentsubdomain.businessLayer.TechnicianDayBundleService;
 import com.profroid.profroidapp.customersubdomain.dataAccessLayer.Customer;
 import com.profroid.profroidapp.customersubdomain.dataAccessLayer.CustomerRepository;
 import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.Employee;
 import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.EmployeeRepository;
 import com.profroid.profroidapp.utils.exceptions.ResourceNotFoundException;
+import com.profroid.profroidapp.utils.sqlbudget.SqlBudget;
 import jakarta.validation.Valid;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -23,13 +29,16 @@ import java.util.List;
 public class AppointmentController {
 
     private final AppointmentService appointmentService;
+    private final TechnicianDayBundleService dayBundleService;
     private final CustomerRepository customerRepository;
     private final EmployeeRepository employeeRepository;
 
     public AppointmentController(AppointmentService appointmentService,
+                                  TechnicianDayBundleService dayBundleService,
                                   CustomerRepository customerRepository,
                                   EmployeeRepository employeeRepository) {
         this.appointmentService = appointmentService;
+        this.dayBundleService = dayBundleService;
         this.customerRepository = customerRepository;
         this.employeeRepository = employeeRepository;
     }
@@ -87,6 +96,47 @@ public class AppointmentController {
         return ResponseEntity.ok(appointments);
     }
 
+    /**
+     * Delta sync for the technician app: what changed in the technician's appointments since
+     * the nextSince returned by the previous call. Without since, a full list to start from.
+     * GET /api/v1/appointments/my-jobs/sync?since=2026-01-15T14:03:10Z
+     */
+    @SqlBudget(15)
+    @PreAuthorize("hasRole('TECHNICIAN')")
+    @GetMapping("/my-jobs/sync")
+    public ResponseEntity<AppointmentSyncResponseModel> syncMyJobs(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since,
+            Authentication authentication) {
+        String employeeId = getEmployeeIdFromUserId(authentication.getName());
+        return ResponseEntity.ok(appointmentService.getTechnicianAppointmentChanges(employeeId, since));
+    }
+
+    /**
+     * Everything the technician app needs for one day (default today): appointments with their
+     * cellars, customers, jobs and file metadata, plus the part catalog version.
+     * Clients sending If-None-Match get 304 when nothing changed.
+     * GET /api/v1/appointments/my-jobs/day?date=2026-01-15
+     */
+    @PreAuthorize("hasRole('TECHNICIAN')")
+    @GetMapping("/my-jobs/day")
+    public ResponseEntity<byte[]> getMyDayBundle(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest,
+            Authentication authentication) {
+        String employeeId = getEmployeeIdFromUserId(authentication.getName());
+        TechnicianDayBundleService.BundleJson bundle = dayBundleService.getDayBundle(employeeId, date);
+        // checkNotModified sets the ETag header, and the 304 status when If-None-Match matches it
+        if (webRequest.checkNotModified(bundle.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(bundle.body());
+    }
+
     /**
      * Get all appointments (admin only)
      * Returns all appointments in the system for admin management
@@ -119,6 +169,7 @@ public class AppointmentController {
      * Used by customers to see overall availability without selecting a technician first.
      * Filters out time slots where the customer already has appointments.
      */
+    @SqlBudget(30)
     @PreAuthorize("hasAnyRole('CUSTOMER','ADMIN')")
     @GetMapping("/availability/aggregated")
     public ResponseEntity<TechnicianBookedSlotsResponseModel> getAggregatedAvailability(
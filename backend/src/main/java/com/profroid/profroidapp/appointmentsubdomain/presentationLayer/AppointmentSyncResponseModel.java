@@ -0,0 +1,28 @@
+package com.profroid.profroidapp.appointmentsubdomain.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AppointmentSyncResponseModel {
+
+    // Pass back as 'since' on the next sync
+    private Instant nextSince;
+
+    // True when 'changed' is the technician's whole list and replaces what the app holds
+    private boolean fullSync;
+
+    // Appointments added or modified since the last sync
+    private List<AppointmentResponseModel> changed;
+
+    // Appointment IDs to drop: cancelled, deactivated or reassigned to another technician
+    private List<String> removed;
+}
@@ -0,0 +1,38 @@
+package com.profroid.profroidapp.appointmentsubdomain.presentationLayer;
+
+import com.profroid.profroidapp.cellarsubdomain.presentationLayer.CellarResponseModel;
+import com.profroid.profroidapp.customersubdomain.presentationLayer.CustomerResponseModel;
+import com.profroid.profroidapp.filesubdomain.presentationLayer.FileResponseModel;
+import com.profroid.profroidapp.jobssubdomain.presentationLayer.JobResponseModel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Everything a technician's app needs to start a day, in one response.
+ * Cellars, customers and jobs are listed once even when several appointments share them.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TechnicianDayBundleResponseModel {
+
+    private String technicianId;
+    private LocalDate date;
+
+    // Compare with the cached catalog to know whether /parts must be fetched again
+    private String partCatalogVersion;
+
+    private List<AppointmentResponseModel> appointments;
+    private List<CellarResponseModel> cellars;
+    private List<CustomerResponseModel> customers;  // With phone numbers
+    private List<JobResponseModel> jobs;
+
+    // Metadata of files attached to these appointments, customers and jobs
+    private List<FileResponseModel> files;
+}
@@ -1,6 +1,8 @@
 package com.profroid.profroidapp.appointmentsubdomain.utils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.profroid.profroidapp.utils.metrics.ServerTiming;
+import com.profroid.profroidapp.utils.metrics.Timings;
 import org.springframework.stereotype.Component;
 
 import java.net.URI;
@@ -21,11 +23,12 @@ public class AppointmentNotificationUtil {
     
     private static final Logger logger = Logger.getLogger(AppointmentNotificationUtil.class.getName());
     private static final ObjectMapper objectMapper = new ObjectMapper();
-    private static final HttpClient httpClient = HttpClient.newHttpClient();
+    private final HttpClient httpClient;
     
     private String authServiceUrl;
     
-    public AppointmentNotificationUtil() {
+    public AppointmentNotificationUtil(HttpClient outboundHttpClient) {
+        this.httpClient = outboundHttpClient;
         this.authServiceUrl = System.getenv("AUTH_SERVICE_URL");
         if (this.authServiceUrl == null || this.authServiceUrl.isBlank()) {
             // Default fallback
@@ -184,9 +187,18 @@ public class AppointmentNotificationUtil {
                 .timeout(java.time.Duration.ofSeconds(10))
                 .build();
         
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (Exception e) {
+            Timings.stop("notifications.send", ServerTiming.Phase.REMOTE, start, false, "endpoint", endpoint);
+            throw e;
+        }
+        boolean accepted = response.statusCode() >= 200 && response.statusCode() < 300;
+        Timings.stop("notifications.send", ServerTiming.Phase.REMOTE, start, accepted, "endpoint", endpoint);
         
-        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+        if (!accepted) {
             logger.log(Level.WARNING, "Notification endpoint returned status " + response.statusCode() + ": " + response.body());
         }
     }
@@ -7,6 +7,8 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.util.Map;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.profroid.profroidapp.utils.metrics.ServerTiming;
+import com.profroid.profroidapp.utils.metrics.Timings;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import lombok.extern.slf4j.Slf4j;
@@ -21,9 +23,13 @@ public class AuthServiceClient {
     @Value("${auth.service.url:http://localhost:3001}")
     private String authServiceUrl;
 
-    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final HttpClient httpClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    public AuthServiceClient(HttpClient outboundHttpClient) {
+        this.httpClient = outboundHttpClient;
+    }
+
     /**
      * Register a new user
      */
@@ -40,7 +46,7 @@ public class AuthServiceClient {
             .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
             .build();
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(request, "register");
         return objectMapper.readValue(response.body(), AuthResponse.class);
     }
 
@@ -59,7 +65,7 @@ public class AuthServiceClient {
             .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
             .build();
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(request, "sign-in");
         return objectMapper.readValue(response.body(), AuthResponse.class);
     }
 
@@ -73,7 +79,7 @@ public class AuthServiceClient {
             .GET()
             .build();
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(request, "get-user");
         
         if (response.statusCode() == 200) {
             return objectMapper.readValue(response.body(), UserResponse.class);
@@ -92,7 +98,7 @@ public class AuthServiceClient {
             .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(updates)))
             .build();
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(request, "update-user");
         return objectMapper.readValue(response.body(), UserResponse.class);
     }
 
@@ -112,7 +118,7 @@ public class AuthServiceClient {
             .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
             .build();
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(request, "change-password");
         
         if (response.statusCode() == 200) {
             return objectMapper.readValue(response.body(), Map.class);
@@ -130,7 +136,7 @@ public class AuthServiceClient {
             .POST(HttpRequest.BodyPublishers.noBody())
             .build();
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = send(request, "sign-out");
         return response.statusCode() == 200;
     }
 
@@ -144,11 +150,26 @@ public class AuthServiceClient {
                 .GET()
                 .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = send(request, "health-check");
             return response.statusCode() == 200;
         } catch (Exception e) {
             log.error("Auth service health check failed", e);
             return false;
         }
     }
+
+    /**
+     * Sends a request, timed as auth.service.calls and charged to the remote phase
+     */
+    private HttpResponse<String> send(HttpRequest request, String operation) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            success = true;
+            return response;
+        } finally {
+            Timings.stop("auth.service.calls", ServerTiming.Phase.REMOTE, start, success, "operation", operation);
+        }
+    }
 }
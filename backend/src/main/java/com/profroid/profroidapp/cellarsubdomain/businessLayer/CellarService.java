@@ -3,7 +3,10 @@ package com.profroid.profroidapp.cellarsubdomain.businessLayer;
 import com.profroid.profroidapp.cellarsubdomain.presentationLayer.CellarRequestModel;
 import com.profroid.profroidapp.cellarsubdomain.presentationLayer.CellarResponseModel;
 
+import org.springframework.data.domain.Page;
+
 import java.util.List;
+import java.util.Map;
 
 public interface CellarService {
 
@@ -12,6 +15,10 @@ public interface CellarService {
     List<CellarResponseModel> getAllCellars(String ownerCustomerId);
     List<CellarResponseModel> getAllCellarsForUser(String userId);
 
+    Page<CellarResponseModel> getCellarsPage(Boolean active, int page, int size);
+
+    Map<String, List<CellarResponseModel>> getCellarsForCustomers(List<String> customerIds);
+
     CellarResponseModel getCellarById(String ownerCustomerId, String cellarId);
 
     CellarResponseModel createCellar(String ownerCustomerId, CellarRequestModel cellarRequestModel);
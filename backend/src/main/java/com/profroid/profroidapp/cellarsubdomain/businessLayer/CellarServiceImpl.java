@@ -14,13 +14,25 @@ import com.profroid.profroidapp.utils.exceptions.InvalidIdentifierException;
 import com.profroid.profroidapp.utils.exceptions.InvalidOperationException;
 import com.profroid.profroidapp.utils.exceptions.ResourceNotFoundException;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class CellarServiceImpl implements CellarService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_CUSTOMERS = 200;
+
     private final CellarRepository cellarRepository;
     private final CellarResponseMapper cellarResponseMapper;
     private final CellarRequestMapper cellarRequestMapper;
@@ -41,12 +53,43 @@ public class CellarServiceImpl implements CellarService {
 
     @Override
     public List<CellarResponseModel> getAllCellars() {
-        List<Cellar> cellars = cellarRepository.findAll();
-        // Filter out deleted cellars
-        List<Cellar> activeCellars = cellars.stream()
-                .filter(c -> c.getIsDeleted() == null || !c.getIsDeleted())
-                .toList();
-        return cellarResponseMapper.toResponseModelList(activeCellars);
+        return cellarResponseMapper.toResponseModelList(cellarRepository.findAllNotDeleted());
+    }
+
+    @Override
+    public Page<CellarResponseModel> getCellarsPage(Boolean active, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by("name", "id"));
+        return cellarRepository.findNotDeleted(active, pageable).map(cellarResponseMapper::toResponseModel);
+    }
+
+    @Override
+    public Map<String, List<CellarResponseModel>> getCellarsForCustomers(List<String> customerIds) {
+        if (customerIds == null || customerIds.isEmpty()) {
+            throw new InvalidOperationException("At least one customer ID is required.");
+        }
+
+        Set<String> ids = new LinkedHashSet<>();
+        for (String customerId : customerIds) {
+            if (customerId == null || customerId.trim().length() != 36) {
+                throw new InvalidIdentifierException("Customer ID must be a 36-character UUID string.");
+            }
+            ids.add(customerId.trim());
+        }
+        if (ids.size() > MAX_BATCH_CUSTOMERS) {
+            throw new InvalidOperationException("Cannot load cellars for more than " + MAX_BATCH_CUSTOMERS + " customers at once.");
+        }
+
+        // Every requested customer gets an entry, in request order, even without cellars
+        Map<String, List<CellarResponseModel>> cellarsByCustomer = new LinkedHashMap<>();
+        for (String id : ids) {
+            cellarsByCustomer.put(id, new ArrayList<>());
+        }
+        for (Cellar cellar : cellarRepository.findActiveByOwnerCustomerIds(ids)) {
+            cellarsByCustomer.get(cellar.getOwnerCustomerIdentifier().getCustomerId())
+                    .add(cellarResponseMapper.toResponseModel(cellar));
+        }
+        return cellarsByCustomer;
     }
 
     @Override
@@ -8,7 +8,13 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 @Entity
-@Table(name = "cellars")
+@Table(
+        name = "cellars",
+        indexes = {
+                // Per-customer cellar lists filter on owner and the soft-delete flags
+                @Index(name = "idx_cellars_owner_active_deleted", columnList = "owner_customer_id, isActive, isDeleted")
+        }
+)
 @Data
 @NoArgsConstructor
 public class Cellar {
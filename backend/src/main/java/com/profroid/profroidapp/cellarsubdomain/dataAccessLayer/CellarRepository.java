@@ -1,10 +1,13 @@
 package com.profroid.profroidapp.cellarsubdomain.dataAccessLayer;
 
 import com.profroid.profroidapp.customersubdomain.dataAccessLayer.CustomerIdentifier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CellarRepository extends JpaRepository<Cellar, CellarIdentifier> {
@@ -27,4 +30,21 @@ public interface CellarRepository extends JpaRepository<Cellar, CellarIdentifier
     // Find active cellars by name and owner (excludes deleted cellars for duplicate name check)
     @Query("SELECT c FROM Cellar c WHERE c.name = :name AND c.ownerCustomerIdentifier.customerId = :customerId AND (c.isDeleted = false OR c.isDeleted IS NULL)")
     Cellar findActiveCellarByNameAndOwnerCustomerIdentifier_CustomerId(@Param("name") String name, @Param("customerId") String customerId);
+
+    // All cellars except deleted ones
+    @Query("SELECT c FROM Cellar c WHERE c.isDeleted = false OR c.isDeleted IS NULL")
+    List<Cellar> findAllNotDeleted();
+
+    // One page of non-deleted cellars, optionally only active or only inactive ones
+    @Query(value = "SELECT c FROM Cellar c WHERE (c.isDeleted = false OR c.isDeleted IS NULL) " +
+            "AND (:active IS NULL OR COALESCE(c.isActive, true) = :active)",
+            countQuery = "SELECT COUNT(c) FROM Cellar c WHERE (c.isDeleted = false OR c.isDeleted IS NULL) " +
+                    "AND (:active IS NULL OR COALESCE(c.isActive, true) = :active)")
+    Page<Cellar> findNotDeleted(@Param("active") Boolean active, Pageable pageable);
+
+    // Non-deleted cellars of several owners at once, grouped by owner
+    @Query("SELECT c FROM Cellar c WHERE c.ownerCustomerIdentifier.customerId IN :customerIds " +
+            "AND (c.isDeleted = false OR c.isDeleted IS NULL) " +
+            "ORDER BY c.ownerCustomerIdentifier.customerId, c.name, c.id")
+    List<Cellar> findActiveByOwnerCustomerIds(@Param("customerIds") Collection<String> customerIds);
 }
@@ -0,0 +1,11 @@
+package com.profroid.profroidapp.cellarsubdomain.presentationLayer;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CellarBatchRequestModel {
+
+    private List<String> customerIds;
+}
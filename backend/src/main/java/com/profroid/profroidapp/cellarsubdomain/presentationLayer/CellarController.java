@@ -2,6 +2,7 @@ package com.profroid.profroidapp.cellarsubdomain.presentationLayer;
 
 import com.profroid.profroidapp.cellarsubdomain.businessLayer.CellarService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -10,6 +11,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/v1/cellars")
@@ -57,6 +59,31 @@ public class CellarController {
         return ResponseEntity.ok(responseModels);
     }
 
+    /**
+     * One page of non-deleted cellars sorted by name (admin and technician).
+     * active=true or active=false keeps only active or deactivated cellars.
+     * GET /api/v1/cellars/page
+     */
+    @PreAuthorize("hasAnyRole('ADMIN','TECHNICIAN')")
+    @GetMapping("/page")
+    public ResponseEntity<Page<CellarResponseModel>> getCellarsPage(
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(cellarService.getCellarsPage(active, page, size));
+    }
+
+    /**
+     * Cellars of many customers in one call, keyed by customer ID (admin and technician).
+     * POST /api/v1/cellars/batch
+     */
+    @PreAuthorize("hasAnyRole('ADMIN','TECHNICIAN')")
+    @PostMapping("/batch")
+    public ResponseEntity<Map<String, List<CellarResponseModel>>> getCellarsForCustomers(
+            @RequestBody CellarBatchRequestModel request) {
+        return ResponseEntity.ok(cellarService.getCellarsForCustomers(request.getCustomerIds()));
+    }
+
     @GetMapping("/{cellarId}")
     public ResponseEntity<CellarResponseModel> getCellarById(@PathVariable String cellarId,
                                                              @RequestParam(value = "ownerCustomerId", required = false) String ownerCustomerId) {
@@ -1,8 +1,10 @@
 package com.profroid.profroidapp.config;
 
 import com.profroid.profroidapp.reviewsubdomain.businessLayer.ProfanityException;
+import com.profroid.profroidapp.telemetrysubdomain.businessLayer.TelemetryBufferFullException;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -62,6 +64,27 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handle 503 Service Unavailable (Telemetry Backpressure)
+     * Ingestion buffer is full; the device retries the same batch later
+     */
+    @ExceptionHandler(TelemetryBufferFullException.class)
+    public ResponseEntity<Map<String, Object>> handleTelemetryBufferFull(
+            TelemetryBufferFullException ex,
+            WebRequest request) {
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", false);
+        body.put("error", "Service Unavailable");
+        body.put("message", ex.getMessage());
+        body.put("timestamp", LocalDateTime.now());
+        body.put("path", request.getDescription(false).replace("uri=", ""));
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(body);
+    }
+
     /**
      * Handle 404 Not Found
      * Requested resource does not exist
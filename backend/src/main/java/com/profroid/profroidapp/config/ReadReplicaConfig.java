@@ -0,0 +1,105 @@
+package com.profroid.profroidapp.config;
+
+import com.profroid.profroidapp.utils.datasource.ReadWriteRoutingDataSource;
+import com.profroid.profroidapp.utils.datasource.ReplicaReadJpaDialect;
+import com.profroid.profroidapp.utils.datasource.ReplicaHealth;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+
+/**
+ * Read Replica Config
+ *
+ * With replica.enabled, the DataSource used by JPA and JdbcTemplate routes read-only
+ * service transactions to a replica pool and everything else to the primary pool, which
+ * keeps the spring.datasource settings. Off by default: one pool, as before.
+ *
+ * Transactions that may read from the replica do not put into the second-level and
+ * query cache (ReplicaReadJpaDialect), so a lagging replica cannot refill an evicted
+ * region with old rows.
+ */
+@Configuration
+@ConditionalOnProperty(name = "replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Username, password and driver default to the primary's. The pool does not fail at
+     * startup when the replica is down; reads use the primary until it comes up.
+     */
+    @Bean
+    @ConfigurationProperties("replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${replica.url}") String url,
+                                              @Value("${replica.username:}") String username,
+                                              @Value("${replica.password:}") String password) {
+        boolean ownCredentials = !username.isBlank();
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(ownCredentials ? username : properties.determineUsername())
+                .password(ownCredentials ? password : properties.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "stop")
+    public ReplicaHealth replicaHealth(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                       @Value("${replica.lag-query:}") String lagQuery,
+                                       @Value("${replica.lag-column:}") String lagColumn,
+                                       @Value("${replica.max-lag-seconds:2}") long maxLagSeconds,
+                                       @Value("${replica.check-interval-ms:1000}") long checkIntervalMs) {
+        ReplicaHealth replicaHealth = new ReplicaHealth(replicaDataSource, lagQuery, lagColumn, maxLagSeconds);
+        replicaHealth.start(checkIntervalMs);
+        return replicaHealth;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaHealth replicaHealth) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaHealth));
+    }
+
+    /**
+     * Set on the entity manager factory before it initializes, so the factory and the
+     * JpaTransactionManager built on it use it instead of the vendor adapter's dialect.
+     */
+    @Bean
+    public static BeanPostProcessor replicaReadJpaDialect() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean entityManagerFactory) {
+                    entityManagerFactory.setJpaDialect(new ReplicaReadJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+}
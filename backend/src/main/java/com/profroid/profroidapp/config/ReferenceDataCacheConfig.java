@@ -0,0 +1,77 @@
+package com.profroid.profroidapp.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.profroid.profroidapp.utils.cache.ReferenceDataCache;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate second-level and query cache on JCache, backed by Caffeine. Only entities
+ * marked @Cacheable are cached (jobs and schedules, see ReferenceDataCache); each
+ * region is created here with its own size bound and TTL.
+ */
+@Configuration
+public class ReferenceDataCacheConfig {
+
+    // Hibernate's own regions: table change timestamps must outlive every cached query result
+    private static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+    private static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager referenceDataCacheManager(
+            @Value("${cache.reference-data.jobs.max-size:500}") long jobsMaxSize,
+            @Value("${cache.reference-data.jobs.ttl-minutes:60}") long jobsTtlMinutes,
+            @Value("${cache.reference-data.job-queries.max-size:500}") long jobQueriesMaxSize,
+            @Value("${cache.reference-data.job-queries.ttl-minutes:60}") long jobQueriesTtlMinutes,
+            @Value("${cache.reference-data.schedules.max-size:10000}") long schedulesMaxSize,
+            @Value("${cache.reference-data.schedules.ttl-minutes:10}") long schedulesTtlMinutes,
+            @Value("${cache.reference-data.schedule-queries.max-size:5000}") long scheduleQueriesMaxSize,
+            @Value("${cache.reference-data.schedule-queries.ttl-minutes:10}") long scheduleQueriesTtlMinutes) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // A URI of its own per application context, so that contexts started side by side
+        // (tests) never share regions or close each other's cache manager
+        URI uri = URI.create("profroid:reference-data:" + UUID.randomUUID());
+        CacheManager cacheManager = provider.getCacheManager(uri, getClass().getClassLoader());
+
+        cacheManager.createCache(ReferenceDataCache.JOBS, region(jobsMaxSize, jobsTtlMinutes));
+        cacheManager.createCache(ReferenceDataCache.JOB_QUERIES, region(jobQueriesMaxSize, jobQueriesTtlMinutes));
+        cacheManager.createCache(ReferenceDataCache.SCHEDULES, region(schedulesMaxSize, schedulesTtlMinutes));
+        cacheManager.createCache(ReferenceDataCache.SCHEDULE_QUERIES, region(scheduleQueriesMaxSize, scheduleQueriesTtlMinutes));
+        cacheManager.createCache(DEFAULT_QUERY_RESULTS, region(1000, 10));
+        // One entry per table, never expired
+        cacheManager.createCache(UPDATE_TIMESTAMPS, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer referenceDataCacheCustomizer(CacheManager referenceDataCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", referenceDataCacheManager);
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            // Region hit and miss counts behind the cache.gets metrics
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxSize, long ttlMinutes) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MINUTES.toNanos(ttlMinutes)));
+        return configuration;
+    }
+}
@@ -63,12 +63,17 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/v1/contact/messages").permitAll()
                         .requestMatchers(HttpMethod.POST, "/v1/warranty-claims").permitAll()
                         .requestMatchers(HttpMethod.GET, "/v1/files/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/v1/reviews/approved", "/v1/reviews/approved/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/v1/jobs").permitAll()
                         .requestMatchers(HttpMethod.GET, "/v1/jobs/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/v1/payments/webhook").permitAll()
+                        // Cellar controllers authenticate with their device token instead of a JWT
+                        .requestMatchers(HttpMethod.POST, "/v1/telemetry/cellars/*/readings").permitAll()
                         .requestMatchers("/actuator/health/**").permitAll()
                         .requestMatchers("/actuator/info").permitAll()
                         .requestMatchers("/actuator/health/**", "/api/actuator/health/**").permitAll()
+                        // Scrapers authenticate with an admin token like any other caller
+                        .requestMatchers("/actuator/metrics", "/actuator/metrics/**", "/actuator/prometheus").hasRole("ADMIN")
                         // All other requests require authentication
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,64 @@
+package com.profroid.profroidapp.config;
+
+import com.profroid.profroidapp.utils.metrics.ServerTiming;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Server-Timing Filter
+ * Collects the db/storage/remote/render time of each request and adds it as a
+ * Server-Timing header, just before the response is committed (or when the request
+ * ends if nothing committed it earlier). Runs first so app covers the whole request.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        TimedResponse timedResponse = new TimedResponse(response, System.nanoTime());
+        ServerTiming.begin();
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            timedResponse.addTimingHeader();
+            ServerTiming.end();
+        }
+    }
+
+    private static final class TimedResponse extends OnCommittedResponseWrapper {
+
+        private final long startNanos;
+        private boolean headerAdded;
+
+        TimedResponse(HttpServletResponse response, long startNanos) {
+            super(response);
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            addTimingHeader();
+        }
+
+        void addTimingHeader() {
+            long[] totals = ServerTiming.current();
+            if (headerAdded || totals == null || getResponse().isCommitted()) {
+                return;
+            }
+            headerAdded = true;
+            ((HttpServletResponse) getResponse()).setHeader(ServerTiming.HEADER,
+                    ServerTiming.headerValue(totals, System.nanoTime() - startNanos));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.profroid.profroidapp.config;
+
+import com.profroid.profroidapp.utils.sqlbudget.SqlBudget;
+import com.profroid.profroidapp.utils.sqlbudget.SqlStatementRecorder;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL Budget Interceptor
+ * Counts the SQL statements each controller call runs and warns, with the most repeated
+ * statements, when it goes over its @SqlBudget (or sql-budget.default-max-statements).
+ * In strict mode (integration tests that set sql-budget.strict) the overrun is also kept
+ * until drainViolations, which fails the test that caused it, and each finished recording
+ * is kept until drainRecordings so a test can check the count itself.
+ */
+@Component
+public class SqlBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlBudgetInterceptor.class);
+
+    private static final int REPORTED_FINGERPRINTS = 5;
+
+    private final boolean enabled;
+    private final int defaultMaxStatements;
+    private final boolean strict;
+    private final List<String> violations = new ArrayList<>();
+    private final List<SqlStatementRecorder.Recording> recordings = new ArrayList<>();
+
+    public SqlBudgetInterceptor(@Value("${sql-budget.enabled:false}") boolean enabled,
+                                @Value("${sql-budget.default-max-statements:0}") int defaultMaxStatements,
+                                @Value("${sql-budget.strict:false}") boolean strict) {
+        this.enabled = enabled;
+        this.defaultMaxStatements = defaultMaxStatements;
+        this.strict = strict;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        SqlBudget annotation = handlerMethod.getMethodAnnotation(SqlBudget.class);
+        int budget = annotation != null ? annotation.value() : defaultMaxStatements;
+        if (budget <= 0) {
+            return true;
+        }
+        // Checked as soon as the budget is exceeded: the client (and the test) may see the
+        // response before afterCompletion runs
+        SqlStatementRecorder.start(endpoint(request, handlerMethod), budget, recording -> {
+            if (strict) {
+                addViolation(recording.getEndpoint() + " ran more than " + recording.getBudget()
+                        + " SQL statements:\n" + recording.topFingerprints(REPORTED_FINGERPRINTS));
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        SqlStatementRecorder.Recording recording = SqlStatementRecorder.stop();
+        if (recording != null && strict) {
+            addRecording(recording);
+        }
+        if (recording != null && recording.isOverBudget()) {
+            logger.warn("{} ran {} SQL statements, budget {}:\n{}", recording.getEndpoint(),
+                    recording.getStatements(), recording.getBudget(),
+                    recording.topFingerprints(REPORTED_FINGERPRINTS));
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The rest of an async request runs on other threads; stop before this one is reused
+        SqlStatementRecorder.stop();
+    }
+
+    /**
+     * Overruns recorded in strict mode since the last call, oldest first.
+     */
+    public synchronized List<String> drainViolations() {
+        List<String> drained = new ArrayList<>(violations);
+        violations.clear();
+        return drained;
+    }
+
+    /**
+     * Recordings finished in strict mode since the last call, oldest first.
+     */
+    public synchronized List<SqlStatementRecorder.Recording> drainRecordings() {
+        List<SqlStatementRecorder.Recording> drained = new ArrayList<>(recordings);
+        recordings.clear();
+        return drained;
+    }
+
+    private synchronized void addViolation(String violation) {
+        violations.add(violation);
+    }
+
+    private synchronized void addRecording(SqlStatementRecorder.Recording recording) {
+        recordings.add(recording);
+    }
+
+    private static String endpoint(HttpServletRequest request, HandlerMethod handlerMethod) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI())
+                + " (" + handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName() + ")";
+    }
+}
@@ -0,0 +1,62 @@
+package com.profroid.profroidapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Virtual Thread Config
+ *
+ * spring.threads.virtual.enabled switches Tomcat request handling and Spring's own task
+ * executors to virtual threads. This extends the same switch to the executors and HTTP
+ * clients the app creates itself, so a request blocked on MySQL, MinIO, the auth-service
+ * or Stripe parks a virtual thread instead of holding one of a fixed pool.
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    /**
+     * Shared by AuthServiceClient and the notification utilities. Calls are synchronous,
+     * so they run on the calling thread; the executor only drives response delivery.
+     */
+    @Bean
+    public HttpClient outboundHttpClient(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10));
+        if (virtualThreads) {
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Sends the appointment notifications off the request thread. Each send blocks on the
+     * notification service, so with virtual threads every send gets its own.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService notificationExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                                @Value("${notifications.sender-threads:4}") int senderThreads) {
+        return blockingExecutor(virtualThreads, "notification-sender", senderThreads);
+    }
+
+    /**
+     * A virtual thread per task when enabled, otherwise a fixed pool of daemon threads.
+     * Used for fan-out work inside a request, whose parallelism is then bounded by the
+     * connection pool rather than by the thread count.
+     */
+    public static ExecutorService blockingExecutor(boolean virtualThreads, String name, int platformThreads) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(Math.max(1, platformThreads), task -> {
+            Thread thread = new Thread(task, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -3,6 +3,7 @@ package com.profroid.profroidapp.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -17,8 +18,19 @@ public class WebConfig {
                         .allowedOrigins("http://localhost:5173", "http://localhost:3000", "profroid-app-bjodh.ondigitalocean.app")
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS","PATCH")
                         .allowedHeaders("*")
+                        .exposedHeaders("Server-Timing")
                         .allowCredentials(true);
             }
         };
     }
+
+    @Bean
+    public WebMvcConfigurer sqlBudgetConfigurer(SqlBudgetInterceptor sqlBudgetInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(sqlBudgetInterceptor);
+            }
+        };
+    }
 }
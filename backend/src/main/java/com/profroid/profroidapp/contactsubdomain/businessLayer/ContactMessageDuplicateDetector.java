@@ -0,0 +1,37 @@
+package com.profroid.profroidapp.contactsubdomain.businessLayer;
+
+import com.profroid.profroidapp.contactsubdomain.dataAccessLayer.ContactMessageRepository;
+import com.profroid.profroidapp.utils.similarity.IndexedText;
+import com.profroid.profroidapp.utils.similarity.NearDuplicateDetector;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * MinHash index over contact message bodies, keyed by messageId.
+ */
+@Component
+public class ContactMessageDuplicateDetector extends NearDuplicateDetector {
+
+    private static final Logger log = LoggerFactory.getLogger(ContactMessageDuplicateDetector.class);
+
+    private final ContactMessageRepository contactMessageRepository;
+
+    public ContactMessageDuplicateDetector(ContactMessageRepository contactMessageRepository,
+                                           @Value("${duplicates.similarity-threshold:0.8}") double threshold,
+                                           @Value("${duplicates.min-text-length:30}") int minTextLength) {
+        super(threshold, minTextLength);
+        this.contactMessageRepository = contactMessageRepository;
+    }
+
+    @PostConstruct
+    public void init() {
+        List<IndexedText> messages = contactMessageRepository.findAllMessageTexts();
+        load(messages);
+        log.info("Contact message duplicate index loaded: {} of {} messages indexed", size(), messages.size());
+    }
+}
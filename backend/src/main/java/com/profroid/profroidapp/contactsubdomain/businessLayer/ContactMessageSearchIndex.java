@@ -0,0 +1,52 @@
+package com.profroid.profroidapp.contactsubdomain.businessLayer;
+
+import com.profroid.profroidapp.contactsubdomain.dataAccessLayer.ContactMessage;
+import com.profroid.profroidapp.contactsubdomain.dataAccessLayer.ContactMessageRepository;
+import com.profroid.profroidapp.utils.search.SearchIndex;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inverted index over contact messages, keyed by messageId.
+ * An email or name hit ranks above a word buried in the message body.
+ */
+@Component
+public class ContactMessageSearchIndex extends SearchIndex<ContactMessage> {
+
+    private static final Logger log = LoggerFactory.getLogger(ContactMessageSearchIndex.class);
+
+    private final ContactMessageRepository contactMessageRepository;
+
+    public ContactMessageSearchIndex(ContactMessageRepository contactMessageRepository) {
+        super(Map.of("email", 3f, "name", 2f, "subject", 2f, "message", 1f));
+        this.contactMessageRepository = contactMessageRepository;
+    }
+
+    @PostConstruct
+    public void init() {
+        List<ContactMessage> messages = contactMessageRepository.findAll();
+        load(messages);
+        log.info("Contact message search index loaded: {} messages", size());
+    }
+
+    @Override
+    protected String key(ContactMessage message) {
+        return message.getMessageId();
+    }
+
+    @Override
+    protected Map<String, String> fields(ContactMessage message) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("email", message.getEmail());
+        fields.put("name", message.getName());
+        fields.put("subject", message.getSubject());
+        fields.put("message", message.getMessage());
+        return fields;
+    }
+}
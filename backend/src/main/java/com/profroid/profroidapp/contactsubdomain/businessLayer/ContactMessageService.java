@@ -22,6 +22,16 @@ public interface ContactMessageService {
      */
     Page<ContactMessageResponseModel> getUnreadMessages(Pageable pageable);
     
+    /**
+     * Get messages held as near-duplicates of earlier ones (admin only)
+     */
+    Page<ContactMessageResponseModel> getHeldMessages(Pageable pageable);
+    
+    /**
+     * Full-text search over subject, message, email and name, best match first (admin only)
+     */
+    Page<ContactMessageResponseModel> searchMessages(String query, Pageable pageable);
+    
     /**
      * Get a specific message by ID (admin only)
      */
@@ -6,16 +6,23 @@ import com.profroid.profroidapp.contactsubdomain.mappingLayer.ContactMessageRequ
 import com.profroid.profroidapp.contactsubdomain.mappingLayer.ContactMessageResponseMapper;
 import com.profroid.profroidapp.contactsubdomain.presentationLayer.ContactMessageRequestModel;
 import com.profroid.profroidapp.contactsubdomain.presentationLayer.ContactMessageResponseModel;
+import com.profroid.profroidapp.dashboardsubdomain.businessLayer.AdminCounter;
+import com.profroid.profroidapp.dashboardsubdomain.businessLayer.AdminCounters;
 import com.profroid.profroidapp.utils.exceptions.ResourceNotFoundException;
+import com.profroid.profroidapp.utils.search.InvertedIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 public class ContactMessageServiceImpl implements ContactMessageService {
@@ -27,14 +34,23 @@ public class ContactMessageServiceImpl implements ContactMessageService {
     private final ContactMessageRepository contactMessageRepository;
     private final ContactMessageRequestMapper requestMapper;
     private final ContactMessageResponseMapper responseMapper;
+    private final ContactMessageDuplicateDetector duplicateDetector;
+    private final ContactMessageSearchIndex searchIndex;
+    private final AdminCounters adminCounters;
     
     public ContactMessageServiceImpl(
             ContactMessageRepository contactMessageRepository,
             ContactMessageRequestMapper requestMapper,
-            ContactMessageResponseMapper responseMapper) {
+            ContactMessageResponseMapper responseMapper,
+            ContactMessageDuplicateDetector duplicateDetector,
+            ContactMessageSearchIndex searchIndex,
+            AdminCounters adminCounters) {
         this.contactMessageRepository = contactMessageRepository;
         this.requestMapper = requestMapper;
         this.responseMapper = responseMapper;
+        this.duplicateDetector = duplicateDetector;
+        this.searchIndex = searchIndex;
+        this.adminCounters = adminCounters;
     }
     
     @Override
@@ -48,7 +64,20 @@ public class ContactMessageServiceImpl implements ContactMessageService {
         ContactMessage message = requestMapper.toEntity(requestModel, ipAddress);
         message.setIsRead(false);
         
+        // Copy-paste spam with small variations is kept out of the inbox
+        duplicateDetector.findDuplicate(message.getMessage()).ifPresent(match -> {
+            log.warn("Contact message from IP: {} is {}% similar to message {}, holding it",
+                    ipAddress, Math.round(match.similarity() * 100), match.key());
+            message.setDuplicateOf(match.key());
+        });
+        
         ContactMessage savedMessage = contactMessageRepository.save(message);
+        duplicateDetector.addAfterCommit(savedMessage.getMessageId(), savedMessage.getMessage());
+        searchIndex.indexAfterCommit(savedMessage);
+        if (savedMessage.getDuplicateOf() == null) {
+            adminCounters.adjustAfterCommit(AdminCounter.UNREAD_MESSAGES, 1);
+            adminCounters.announceAfterCommit("CONTACT_MESSAGE", savedMessage.getMessageId(), savedMessage.getSubject());
+        }
         log.info("Contact message created with ID: {} from IP: {}", savedMessage.getMessageId(), ipAddress);
         
         return responseMapper.toResponseModel(savedMessage);
@@ -64,10 +93,35 @@ public class ContactMessageServiceImpl implements ContactMessageService {
     @Override
     public Page<ContactMessageResponseModel> getUnreadMessages(Pageable pageable) {
         log.info("Fetching unread contact messages");
-        Page<ContactMessage> messages = contactMessageRepository.findByIsRead(false, pageable);
+        Page<ContactMessage> messages = contactMessageRepository.findByIsReadAndDuplicateOfIsNull(false, pageable);
         return messages.map(responseMapper::toResponseModel);
     }
     
+    @Override
+    public Page<ContactMessageResponseModel> getHeldMessages(Pageable pageable) {
+        log.info("Fetching contact messages held as duplicates");
+        Page<ContactMessage> messages = contactMessageRepository.findByDuplicateOfIsNotNull(pageable);
+        return messages.map(responseMapper::toResponseModel);
+    }
+    
+    @Override
+    public Page<ContactMessageResponseModel> searchMessages(String query, Pageable pageable) {
+        log.info("Searching contact messages for: {}", query);
+        InvertedIndex.SearchResult result = searchIndex.search(query, pageable.getPageNumber(), pageable.getPageSize());
+        
+        // Keep the rank order; hits deleted since they were indexed simply drop out
+        Map<String, ContactMessage> byId = new HashMap<>();
+        for (ContactMessage message : contactMessageRepository.findByMessageIdIn(result.keys())) {
+            byId.put(message.getMessageId(), message);
+        }
+        List<ContactMessageResponseModel> content = result.keys().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(responseMapper::toResponseModel)
+                .toList();
+        return new PageImpl<>(content, pageable, result.total());
+    }
+    
     @Override
     public ContactMessageResponseModel getMessageById(String messageId) {
         log.info("Fetching contact message: {}", messageId);
@@ -86,8 +140,12 @@ public class ContactMessageServiceImpl implements ContactMessageService {
         ContactMessage message = contactMessageRepository.findByMessageId(messageId)
                 .orElseThrow(() -> new ResourceNotFoundException("Contact message not found: " + messageId));
         
+        Boolean wasRead = message.getIsRead();
         message.setIsRead(isRead);
         ContactMessage updatedMessage = contactMessageRepository.save(message);
+        if (message.getDuplicateOf() == null) {
+            adminCounters.transitionAfterCommit(AdminCounter.UNREAD_MESSAGES, Boolean.FALSE, wasRead, isRead);
+        }
         
         return responseMapper.toResponseModel(updatedMessage);
     }
@@ -110,7 +168,8 @@ public class ContactMessageServiceImpl implements ContactMessageService {
     
     @Override
     public long getUnreadMessageCount() {
-        return contactMessageRepository.countByIsRead(false);
+        // Kept current by every write and recounted in the background
+        return adminCounters.get(AdminCounter.UNREAD_MESSAGES);
     }
     
     @Override
@@ -121,6 +180,11 @@ public class ContactMessageServiceImpl implements ContactMessageService {
                 .orElseThrow(() -> new ResourceNotFoundException("Contact message not found: " + messageId));
         
         contactMessageRepository.delete(message);
+        duplicateDetector.removeAfterCommit(messageId);
+        searchIndex.removeAfterCommit(messageId);
+        if (message.getDuplicateOf() == null) {
+            adminCounters.transitionAfterCommit(AdminCounter.UNREAD_MESSAGES, Boolean.FALSE, message.getIsRead(), null);
+        }
         log.info("Contact message deleted: {}", messageId);
     }
 
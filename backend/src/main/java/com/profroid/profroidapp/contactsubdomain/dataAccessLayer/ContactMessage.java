@@ -45,6 +45,12 @@ public class ContactMessage {
     @Column(nullable = false)
     private Boolean isRead = false;
     
+    @Column
+    private Boolean profanityFlagged = false; // Set by the re-moderation job
+    
+    @Column
+    private String duplicateOf; // messageId of a near-identical earlier message, kept out of the inbox
+    
     @Column
     private String adminNotes;
     
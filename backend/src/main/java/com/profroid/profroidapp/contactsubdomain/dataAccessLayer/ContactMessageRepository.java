@@ -1,5 +1,6 @@
 package com.profroid.profroidapp.contactsubdomain.dataAccessLayer;
 
+import com.profroid.profroidapp.utils.similarity.IndexedText;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,6 +19,24 @@ public interface ContactMessageRepository extends JpaRepository<ContactMessage,
     long countByIsRead(Boolean isRead);
     Page<ContactMessage> findAll(Pageable pageable);
     
+    /**
+     * Inbox queries leave out messages held as near-duplicates
+     */
+    Page<ContactMessage> findByIsReadAndDuplicateOfIsNull(Boolean isRead, Pageable pageable);
+    long countByIsReadAndDuplicateOfIsNull(Boolean isRead);
+    Page<ContactMessage> findByDuplicateOfIsNotNull(Pageable pageable);
+    
+    /**
+     * Loads one page of search hits
+     */
+    List<ContactMessage> findByMessageIdIn(List<String> messageIds);
+    
+    /**
+     * Only the columns needed to build the duplicate index at startup
+     */
+    @Query("SELECT new com.profroid.profroidapp.utils.similarity.IndexedText(c.messageId, c.message) FROM ContactMessage c")
+    List<IndexedText> findAllMessageTexts();
+    
     /**
      * Find messages from a specific IP address created after a certain time
      * Used for rate limiting
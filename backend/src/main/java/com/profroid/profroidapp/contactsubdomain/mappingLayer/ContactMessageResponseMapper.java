@@ -18,6 +18,8 @@ public class ContactMessageResponseMapper {
                 .subject(message.getSubject())
                 .message(message.getMessage())
                 .isRead(message.getIsRead() != null ? message.getIsRead() : false)
+                .profanityFlagged(Boolean.TRUE.equals(message.getProfanityFlagged()))
+                .duplicateOf(message.getDuplicateOf())
                 .adminNotes(message.getAdminNotes())
                 .respondedBy(message.getRespondedBy())
                 .createdAt(message.getCreatedAt())
@@ -107,6 +107,37 @@ public class ContactMessageController {
         return ResponseEntity.ok(messages);
     }
     
+    /**
+     * Get messages held as near-duplicates of earlier ones (admin only)
+     * GET /api/v1/contact/messages/held?page=0&size=10
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/messages/held")
+    public ResponseEntity<Page<ContactMessageResponseModel>> getHeldMessages(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Admin fetching held contact messages");
+        Pageable pageable = PageRequest.of(page, size);
+        Page<ContactMessageResponseModel> messages = contactMessageService.getHeldMessages(pageable);
+        return ResponseEntity.ok(messages);
+    }
+    
+    /**
+     * Search contact messages by subject, message, email or name (admin only)
+     * GET /api/v1/contact/messages/search?q=compresseur&page=0&size=10
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/messages/search")
+    public ResponseEntity<Page<ContactMessageResponseModel>> searchMessages(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Admin searching contact messages");
+        Pageable pageable = PageRequest.of(page, Math.min(size, 100));
+        Page<ContactMessageResponseModel> messages = contactMessageService.searchMessages(query, pageable);
+        return ResponseEntity.ok(messages);
+    }
+    
     /**
      * Get a specific message (admin only)
      * GET /api/v1/contact/messages/{messageId}
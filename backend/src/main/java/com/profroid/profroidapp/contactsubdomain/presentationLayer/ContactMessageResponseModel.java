@@ -22,6 +22,8 @@ public class ContactMessageResponseModel {
     private String subject;
     private String message;
     private Boolean isRead;
+    private Boolean profanityFlagged;
+    private String duplicateOf;
     private String adminNotes;
     private String respondedBy;
     private Instant createdAt;
@@ -3,10 +3,13 @@ package com.profroid.profroidapp.customersubdomain.businessLayer;
 import com.profroid.profroidapp.customersubdomain.presentationLayer.CustomerRequestModel;
 import com.profroid.profroidapp.customersubdomain.presentationLayer.CustomerResponseModel;
 
+import org.springframework.data.domain.Page;
+
 import java.util.List;
 
 public interface CustomerService {
     List<CustomerResponseModel> getAllCustomers();
+    Page<CustomerResponseModel> getCustomersPage(String search, int page, int size, String sort, String direction);
     CustomerResponseModel getCustomerById(String customerId);
     CustomerResponseModel getCustomerByUserId(String userId);
     CustomerResponseModel updateCustomerByUserId(String userId, CustomerRequestModel requestModel);
@@ -13,10 +13,16 @@ import com.profroid.profroidapp.utils.exceptions.InvalidIdentifierException;
 import com.profroid.profroidapp.utils.exceptions.ResourceAlreadyExistsException;
 import com.profroid.profroidapp.utils.exceptions.ResourceNotFoundException;
 import com.profroid.profroidapp.utils.exceptions.InvalidOperationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class CustomerServiceImpl implements CustomerService {
@@ -34,11 +40,58 @@ public class CustomerServiceImpl implements CustomerService {
     }
 
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // Sortable columns of the customer directory; id last keeps pages stable on ties
+    private static final Map<String, Sort> SORTS = Map.of(
+            "lastName", Sort.by("lastName", "firstName", "id"),
+            "firstName", Sort.by("firstName", "lastName", "id"),
+            "postalCode", Sort.by("customerAddress.postalCode", "id"),
+            "city", Sort.by("customerAddress.city", "lastName", "id")
+    );
+
     @Override
+    @Transactional(readOnly = true)
     public List<CustomerResponseModel> getAllCustomers() {
         List<Customer> customers = customerRepository.findAll();
         List<CustomerResponseModel> responses = customerResponseMapper.toResponseModelList(customers);
-        
+        hideContactDetailsUnlessAdmin(responses);
+        return responses;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CustomerResponseModel> getCustomersPage(String search, int page, int size, String sort, String direction) {
+        Sort baseSort = SORTS.get(sort == null || sort.isBlank() ? "lastName" : sort);
+        if (baseSort == null) {
+            throw new InvalidOperationException("Cannot sort customers by '" + sort + "'. Allowed: " + SORTS.keySet());
+        }
+        Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by(baseSort.stream().map(order -> order.with(sortDirection)).toList()));
+
+        String term = search == null ? "" : search.trim();
+        Page<Customer> customers;
+        if (term.isEmpty()) {
+            customers = customerRepository.findAll(pageable);
+        } else {
+            String[] words = term.split("\\s+");
+            customers = words.length == 2
+                    ? customerRepository.searchByNamePrefixes(likePrefix(words[0]), likePrefix(words[1]), pageable)
+                    : customerRepository.searchByPrefix(likePrefix(term), pageable);
+        }
+
+        return customers.map(customerResponseMapper::toResponseModel);
+    }
+
+    /**
+     * LIKE pattern matching values that start with term, wildcards in term taken literally.
+     */
+    private static String likePrefix(String term) {
+        return term.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+
+    private void hideContactDetailsUnlessAdmin(List<CustomerResponseModel> responses) {
         // Check if current user is admin
         boolean isAdmin = SecurityContextHolder.getContext().getAuthentication() != null &&
                 SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
@@ -57,12 +110,11 @@ public class CustomerServiceImpl implements CustomerService {
                 cust.setPhoneNumbers(null);
             });
         }
-        
-        return responses;
     }
 
 
     @Override
+    @Transactional(readOnly = true)
     public CustomerResponseModel getCustomerById(String customerId) {
 
         if (customerId == null || customerId.trim().length() != 36) {
@@ -80,6 +132,7 @@ public class CustomerServiceImpl implements CustomerService {
     }
 
 
+    // Stays on the primary: the app loads the profile right after creating it at sign-up
     @Override
     public CustomerResponseModel getCustomerByUserId(String userId) {
         if (userId == null || userId.trim().isEmpty()) {
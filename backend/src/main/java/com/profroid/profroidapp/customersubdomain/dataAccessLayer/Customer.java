@@ -5,13 +5,18 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Cascade;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "customers")
+@Table(name = "customers", indexes = {
+        @Index(name = "idx_customers_name", columnList = "lastName, firstName"),
+        @Index(name = "idx_customers_postal_code", columnList = "postalCode"),
+        @Index(name = "idx_customers_user_id", columnList = "userId")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -31,9 +36,12 @@ public class Customer {
     private String firstName;
     private String lastName;
 
+    // Loaded for up to 100 customers per IN query instead of one select per customer
     @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "customer_phonenumbers", joinColumns = @JoinColumn(name = "customer_id"))
+    @CollectionTable(name = "customer_phonenumbers", joinColumns = @JoinColumn(name = "customer_id"),
+            indexes = @Index(name = "idx_customer_phonenumbers_number", columnList = "number"))
     @Cascade(org.hibernate.annotations.CascadeType.ALL)
+    @BatchSize(size = 100)
     private List<CustomerPhoneNumber> phoneNumbers;
 
     @Embedded
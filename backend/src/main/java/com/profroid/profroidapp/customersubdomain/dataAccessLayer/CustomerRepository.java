@@ -1,9 +1,43 @@
 package com.profroid.profroidapp.customersubdomain.dataAccessLayer;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CustomerRepository extends JpaRepository<Customer, Integer> {
     Customer findCustomerByCustomerIdentifier_CustomerId(String customerIdentifier);
     Customer findByFirstNameAndLastName(String firstName, String lastName);
     Customer findCustomerByUserId(String userId);
+
+    /**
+     * Customers whose first name, last name, postal code or one of whose phone numbers
+     * starts with prefix. prefix must end with '%' and escape LIKE wildcards with '!'.
+     * Only leading-prefix LIKEs are used so the name, postal code and phone number
+     * indexes stay usable.
+     */
+    @Query(value = "SELECT c FROM Customer c WHERE c.lastName LIKE :prefix ESCAPE '!'"
+            + " OR c.firstName LIKE :prefix ESCAPE '!'"
+            + " OR c.customerAddress.postalCode LIKE :prefix ESCAPE '!'"
+            + " OR EXISTS (SELECT 1 FROM Customer p JOIN p.phoneNumbers n"
+            + "            WHERE p = c AND n.number LIKE :prefix ESCAPE '!')",
+            countQuery = "SELECT COUNT(c) FROM Customer c WHERE c.lastName LIKE :prefix ESCAPE '!'"
+            + " OR c.firstName LIKE :prefix ESCAPE '!'"
+            + " OR c.customerAddress.postalCode LIKE :prefix ESCAPE '!'"
+            + " OR EXISTS (SELECT 1 FROM Customer p JOIN p.phoneNumbers n"
+            + "            WHERE p = c AND n.number LIKE :prefix ESCAPE '!')")
+    Page<Customer> searchByPrefix(@Param("prefix") String prefix, Pageable pageable);
+
+    /**
+     * Two-word searches ("Alice Mar", "Martin Al"): first word on one name, second on the other.
+     */
+    @Query(value = "SELECT c FROM Customer c"
+            + " WHERE (c.firstName LIKE :first ESCAPE '!' AND c.lastName LIKE :second ESCAPE '!')"
+            + " OR (c.lastName LIKE :first ESCAPE '!' AND c.firstName LIKE :second ESCAPE '!')",
+            countQuery = "SELECT COUNT(c) FROM Customer c"
+            + " WHERE (c.firstName LIKE :first ESCAPE '!' AND c.lastName LIKE :second ESCAPE '!')"
+            + " OR (c.lastName LIKE :first ESCAPE '!' AND c.firstName LIKE :second ESCAPE '!')")
+    Page<Customer> searchByNamePrefixes(@Param("first") String first, @Param("second") String second,
+                                        Pageable pageable);
 }
@@ -4,6 +4,7 @@ import com.profroid.profroidapp.cellarsubdomain.businessLayer.CellarService;
 import com.profroid.profroidapp.cellarsubdomain.presentationLayer.CellarResponseModel;
 import com.profroid.profroidapp.customersubdomain.businessLayer.CustomerService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -28,6 +29,22 @@ public class CustomerController {
         return ResponseEntity.ok(customerService.getAllCustomers());
     }
 
+    /**
+     * Admin customer directory: one page at a time, sortable by lastName, firstName,
+     * postalCode or city. q matches the start of a name, postal code or phone number;
+     * two words match first and last name in either order.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/page")
+    public ResponseEntity<Page<CustomerResponseModel>> getCustomersPage(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "lastName") String sort,
+            @RequestParam(defaultValue = "asc") String direction) {
+        return ResponseEntity.ok(customerService.getCustomersPage(q, page, size, sort, direction));
+    }
+
     @GetMapping("/{customerId}")
     public ResponseEntity<CustomerResponseModel> getCustomerById(@PathVariable String customerId) {
         return ResponseEntity.ok(customerService.getCustomerById(customerId));
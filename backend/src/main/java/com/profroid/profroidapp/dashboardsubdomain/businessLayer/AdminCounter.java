@@ -0,0 +1,10 @@
+package com.profroid.profroidapp.dashboardsubdomain.businessLayer;
+
+/**
+ * Work waiting for an admin, as shown on the dashboard badges.
+ */
+public enum AdminCounter {
+    UNREAD_MESSAGES,          // unread contact messages, near-duplicates excluded
+    PENDING_REVIEWS,
+    PENDING_WARRANTY_CLAIMS
+}
@@ -0,0 +1,169 @@
+package com.profroid.profroidapp.dashboardsubdomain.businessLayer;
+
+import com.profroid.profroidapp.contactsubdomain.dataAccessLayer.ContactMessageRepository;
+import com.profroid.profroidapp.dashboardsubdomain.presentationLayer.AdminCountsResponseModel;
+import com.profroid.profroidapp.dashboardsubdomain.presentationLayer.AdminEventResponseModel;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ReviewRepository;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ReviewStatus;
+import com.profroid.profroidapp.utils.transactions.AfterCommit;
+import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaimRepository;
+import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaimStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory dashboard counters, so polling them never hits the database.
+ *
+ * Services report every write that moves an item in or out of a counter; the delta is
+ * applied after commit and pushed to connected dashboards. Writes that bypass the
+ * services (the re-moderation job, manual SQL) are caught by a periodic recount.
+ */
+@Component
+public class AdminCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminCounters.class);
+
+    public static final String COUNTS_EVENT = "counts";
+    public static final String NEW_ITEM_EVENT = "new-item";
+
+    private static final class Counter {
+        final AtomicLong value = new AtomicLong();
+        // Bumped by every applied delta; lets a recount detect writes that raced with it
+        final AtomicLong version = new AtomicLong();
+        final LongSupplier recount;
+
+        Counter(LongSupplier recount) {
+            this.recount = recount;
+        }
+    }
+
+    private final AdminEventBroadcaster broadcaster;
+    private final long reconcileIntervalMs;
+    private final Map<AdminCounter, Counter> counters = new EnumMap<>(AdminCounter.class);
+    private final ScheduledExecutorService reconciler = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "admin-counters");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AdminCounters(ContactMessageRepository contactMessageRepository,
+                         ReviewRepository reviewRepository,
+                         WarrantyClaimRepository warrantyClaimRepository,
+                         AdminEventBroadcaster broadcaster,
+                         @Value("${admin.counters.reconcile-interval-ms:300000}") long reconcileIntervalMs) {
+        this.broadcaster = broadcaster;
+        this.reconcileIntervalMs = reconcileIntervalMs;
+        counters.put(AdminCounter.UNREAD_MESSAGES,
+                new Counter(() -> contactMessageRepository.countByIsReadAndDuplicateOfIsNull(false)));
+        counters.put(AdminCounter.PENDING_REVIEWS,
+                new Counter(() -> reviewRepository.countByStatus(ReviewStatus.PENDING)));
+        counters.put(AdminCounter.PENDING_WARRANTY_CLAIMS,
+                new Counter(() -> warrantyClaimRepository.countByStatus(WarrantyClaimStatus.PENDING)));
+    }
+
+    @PostConstruct
+    public void init() {
+        reconcile();
+        reconciler.scheduleWithFixedDelay(this::reconcileSafely, reconcileIntervalMs, reconcileIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reconciler.shutdownNow();
+    }
+
+    public long get(AdminCounter counter) {
+        return counters.get(counter).value.get();
+    }
+
+    public AdminCountsResponseModel getCounts() {
+        return AdminCountsResponseModel.builder()
+                .unreadMessages(get(AdminCounter.UNREAD_MESSAGES))
+                .pendingReviews(get(AdminCounter.PENDING_REVIEWS))
+                .pendingWarrantyClaims(get(AdminCounter.PENDING_WARRANTY_CLAIMS))
+                .build();
+    }
+
+    /**
+     * Applies the delta once the surrounding transaction commits. A zero delta is ignored.
+     */
+    public void adjustAfterCommit(AdminCounter counter, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            Counter target = counters.get(counter);
+            target.version.incrementAndGet();
+            target.value.addAndGet(delta);
+            broadcaster.publish(COUNTS_EVENT, getCounts());
+        });
+    }
+
+    /**
+     * Convenience for status moves: -1 when the item leaves the counted state, +1 when it enters it.
+     */
+    public <S> void transitionAfterCommit(AdminCounter counter, S counted, S before, S after) {
+        long delta = (counted.equals(after) ? 1 : 0) - (counted.equals(before) ? 1 : 0);
+        adjustAfterCommit(counter, delta);
+    }
+
+    /**
+     * Tells connected dashboards about a new submission once it is committed.
+     */
+    public void announceAfterCommit(String type, String id, String summary) {
+        AdminEventResponseModel event = AdminEventResponseModel.builder()
+                .type(type)
+                .id(id)
+                .summary(summary)
+                .build();
+        AfterCommit.run(() -> broadcaster.publish(NEW_ITEM_EVENT, event));
+    }
+
+    /**
+     * Recounts every counter from the database. A counter that received a delta while its
+     * count query ran is left alone: the query may or may not have seen that write, and
+     * the next recount settles it.
+     */
+    public void reconcile() {
+        boolean changed = false;
+        for (Map.Entry<AdminCounter, Counter> entry : counters.entrySet()) {
+            Counter counter = entry.getValue();
+            long versionBefore = counter.version.get();
+            long actual = counter.recount.getAsLong();
+            long previous = counter.value.get();
+            // A delta bumps the version before its value, so either check catches one in flight
+            if (counter.version.get() != versionBefore || !counter.value.compareAndSet(previous, actual)) {
+                continue;
+            }
+            if (previous != actual) {
+                changed = true;
+                logger.info("Admin counter {} reconciled: {} -> {}", entry.getKey(), previous, actual);
+            }
+        }
+        if (changed) {
+            broadcaster.publish(COUNTS_EVENT, getCounts());
+        }
+    }
+
+    private void reconcileSafely() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; the counters stay as they are until the next run
+            logger.error("Admin counter reconciliation failed", e);
+        }
+    }
+}
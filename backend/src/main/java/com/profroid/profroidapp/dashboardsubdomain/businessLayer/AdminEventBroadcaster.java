@@ -0,0 +1,101 @@
+package com.profroid.profroidapp.dashboardsubdomain.businessLayer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the Server-Sent Events connections of admin dashboards and pushes events to them.
+ *
+ * Sends happen on one background thread, so a slow or dead client never holds up the
+ * request that produced the event, and events reach every client in publish order.
+ * The same thread sends a heartbeat comment that keeps idle connections open through proxies.
+ */
+@Component
+public class AdminEventBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminEventBroadcaster.class);
+
+    private final long timeoutMs;
+    private final long heartbeatMs;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService sender = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "admin-events");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AdminEventBroadcaster(@Value("${admin.events.timeout-ms:1800000}") long timeoutMs,
+                                 @Value("${admin.events.heartbeat-ms:25000}") long heartbeatMs) {
+        this.timeoutMs = timeoutMs;
+        this.heartbeatMs = heartbeatMs;
+    }
+
+    @PostConstruct
+    public void init() {
+        sender.scheduleWithFixedDelay(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Registers a new dashboard connection. initialData is sent first under initialName.
+     */
+    public SseEmitter subscribe(String initialName, Object initialData) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(error -> emitters.remove(emitter));
+        emitters.add(emitter);
+        sender.execute(() -> send(emitter, SseEmitter.event().name(initialName).data(initialData)));
+        logger.info("Admin dashboard connected ({} open)", emitters.size());
+        return emitter;
+    }
+
+    public void publish(String name, Object data) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        sender.execute(() -> {
+            for (SseEmitter emitter : emitters) {
+                send(emitter, SseEmitter.event().name(name).data(data));
+            }
+        });
+    }
+
+    public int getConnectionCount() {
+        return emitters.size();
+    }
+
+    private void heartbeat() {
+        for (SseEmitter emitter : emitters) {
+            send(emitter, SseEmitter.event().comment("ping"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+        emitters.clear();
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the container reports it through onError/onCompletion too
+            emitters.remove(emitter);
+            logger.debug("Dropping admin dashboard connection: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.profroid.profroidapp.dashboardsubdomain.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminCountsResponseModel {
+    private long unreadMessages;
+    private long pendingReviews;
+    private long pendingWarrantyClaims;
+}
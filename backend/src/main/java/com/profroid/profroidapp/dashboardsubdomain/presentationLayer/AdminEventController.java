@@ -0,0 +1,50 @@
+package com.profroid.profroidapp.dashboardsubdomain.presentationLayer;
+
+import com.profroid.profroidapp.dashboardsubdomain.businessLayer.AdminCounters;
+import com.profroid.profroidapp.dashboardsubdomain.businessLayer.AdminEventBroadcaster;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/v1/admin")
+public class AdminEventController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminEventController.class);
+    private final AdminCounters adminCounters;
+    private final AdminEventBroadcaster broadcaster;
+
+    public AdminEventController(AdminCounters adminCounters, AdminEventBroadcaster broadcaster) {
+        this.adminCounters = adminCounters;
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * Current dashboard counters (Admin only)
+     * GET /api/v1/admin/counts
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/counts")
+    public ResponseEntity<AdminCountsResponseModel> getCounts() {
+        return ResponseEntity.ok(adminCounters.getCounts());
+    }
+
+    /**
+     * Live dashboard updates as Server-Sent Events (Admin only)
+     * GET /api/v1/admin/events
+     * Sends "counts" on connect and after every change, "new-item" for each new
+     * contact message, review or warranty claim
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents() {
+        logger.info("Admin dashboard subscribing to events");
+        return broadcaster.subscribe(AdminCounters.COUNTS_EVENT, adminCounters.getCounts());
+    }
+}
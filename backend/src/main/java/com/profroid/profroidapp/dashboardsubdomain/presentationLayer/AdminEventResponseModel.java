@@ -0,0 +1,19 @@
+package com.profroid.profroidapp.dashboardsubdomain.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of a "new-item" event: what arrived and where to fetch it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminEventResponseModel {
+    private String type;      // CONTACT_MESSAGE, REVIEW or WARRANTY_CLAIM
+    private String id;
+    private String summary;
+}
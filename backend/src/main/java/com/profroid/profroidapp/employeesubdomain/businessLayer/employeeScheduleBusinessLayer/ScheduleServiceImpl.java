@@ -11,6 +11,7 @@ import com.profroid.profroidapp.employeesubdomain.mappingLayer.employeeScheduleM
 import com.profroid.profroidapp.employeesubdomain.mappingLayer.employeeScheduleMappers.EmployeeScheduleResponseMapper;
 import com.profroid.profroidapp.employeesubdomain.presentationLayer.employeeSchedulePresentationLayer.EmployeeScheduleRequestModel;
 import com.profroid.profroidapp.employeesubdomain.presentationLayer.employeeSchedulePresentationLayer.EmployeeScheduleResponseModel;
+import com.profroid.profroidapp.utils.cache.ReferenceDataCache;
 import com.profroid.profroidapp.utils.exceptions.InvalidIdentifierException;
 import com.profroid.profroidapp.utils.exceptions.InvalidIdentifierException;
 import com.profroid.profroidapp.utils.exceptions.InvalidOperationException;
@@ -32,13 +33,15 @@ public class ScheduleServiceImpl implements ScheduleService {
     private final EmployeeScheduleResponseMapper responseMapper;
     private final EmployeeScheduleRequestMapper requestMapper;
     private final AppointmentRepository appointmentRepository;
+    private final ReferenceDataCache referenceDataCache;
 
-    public ScheduleServiceImpl(ScheduleRepository scheduleRepository, EmployeeRepository employeeRepository, EmployeeScheduleResponseMapper responseMapper, EmployeeScheduleRequestMapper requestMapper, AppointmentRepository appointmentRepository) {
+    public ScheduleServiceImpl(ScheduleRepository scheduleRepository, EmployeeRepository employeeRepository, EmployeeScheduleResponseMapper responseMapper, EmployeeScheduleRequestMapper requestMapper, AppointmentRepository appointmentRepository, ReferenceDataCache referenceDataCache) {
         this.scheduleRepository = scheduleRepository;
         this.employeeRepository = employeeRepository;
         this.responseMapper = responseMapper;
         this.requestMapper = requestMapper;
         this.appointmentRepository = appointmentRepository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Override
@@ -280,6 +283,7 @@ public class ScheduleServiceImpl implements ScheduleService {
         }
 
         scheduleRepository.saveAll(schedulesToSave);
+        referenceDataCache.evictSchedules();
 
         return getEmployeeSchedule(employeeId);
     }
@@ -469,6 +473,7 @@ public class ScheduleServiceImpl implements ScheduleService {
         }
         
         List<Schedule> savedSchedules = scheduleRepository.saveAll(schedulesToSave);
+        referenceDataCache.evictSchedules();
 
         // Reattach appointments to matching new schedules
         for (Appointment appointment : allAppointments) {
@@ -649,6 +654,7 @@ public class ScheduleServiceImpl implements ScheduleService {
             .collect(Collectors.toList());
         
         scheduleRepository.saveAll(newSchedules);
+        referenceDataCache.evictSchedules();
 
         // Return response
         EmployeeScheduleResponseModel response = new EmployeeScheduleResponseModel();
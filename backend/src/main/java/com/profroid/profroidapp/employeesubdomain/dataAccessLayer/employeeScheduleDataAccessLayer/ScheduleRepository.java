@@ -1,6 +1,10 @@
 package com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeScheduleDataAccessLayer;
 
+import com.profroid.profroidapp.utils.cache.ReferenceDataCache;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -10,8 +14,16 @@ import java.util.List;
 public interface ScheduleRepository extends JpaRepository<Schedule, Integer> {
 
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.SCHEDULE_QUERIES)
+    })
     List<Schedule> findAllByEmployee_EmployeeIdentifier_EmployeeId(String employeeId);
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.SCHEDULE_QUERIES)
+    })
     List<Schedule> findAllByEmployee_EmployeeIdentifier_EmployeeIdAndSpecificDate(String employeeId, LocalDate specificDate);
 
 }
@@ -1,6 +1,7 @@
 package com.profroid.profroidapp.employeesubdomain.presentationLayer.employeeSchedulePresentationLayer;
 
 import com.profroid.profroidapp.employeesubdomain.businessLayer.employeeScheduleBusinessLayer.ScheduleService;
+import com.profroid.profroidapp.utils.sqlbudget.SqlBudget;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -20,6 +21,7 @@ public class EmployeeScheduleController {
         this.scheduleService = scheduleService;
     }
 
+    @SqlBudget(5)
     @GetMapping()
     public ResponseEntity <List<EmployeeScheduleResponseModel>> getEmployeeSchedule(
             @PathVariable String employeeId,
@@ -6,6 +6,8 @@ import com.profroid.profroidapp.filesubdomain.dataAccessLayer.StoredFile;
 import com.profroid.profroidapp.filesubdomain.dataAccessLayer.StoredFileRepository;
 import com.profroid.profroidapp.filesubdomain.utils.FilenameSanitizer;
 import com.profroid.profroidapp.utils.exceptions.ResourceNotFoundException;
+import com.profroid.profroidapp.utils.metrics.ServerTiming;
+import com.profroid.profroidapp.utils.metrics.Timings;
 import io.minio.*;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -43,20 +45,21 @@ public class FileServiceImpl implements FileService {
         validator.validateUpload(file, ownerType, ownerId, category);
 
         try (InputStream input = file.getInputStream()) {
-            ensureBucketExists(privateBucket);
-
             UUID fileId = UUID.randomUUID();
             String safeName = FilenameSanitizer.sanitize(file.getOriginalFilename());
             String objectKey = ObjectKeyBuilder.build(ownerType, ownerId, category, fileId, safeName);
 
-            minio.putObject(
-                    PutObjectArgs.builder()
-                            .bucket(privateBucket)
-                            .object(objectKey)
-                    .stream(input, file.getSize(), -1)
-                    .contentType(resolveContentType(file.getContentType()))
-                            .build()
-            );
+            Timings.run("files.put", ServerTiming.Phase.STORAGE, () -> {
+                ensureBucketExists(privateBucket);
+                minio.putObject(
+                        PutObjectArgs.builder()
+                                .bucket(privateBucket)
+                                .object(objectKey)
+                        .stream(input, file.getSize(), -1)
+                        .contentType(resolveContentType(file.getContentType()))
+                                .build()
+                );
+            }, "category", category.name());
 
             StoredFile stored = new StoredFile();
             stored.setId(fileId);
@@ -86,12 +89,13 @@ public class FileServiceImpl implements FileService {
     @Override
     public InputStream openStream(StoredFile f) {
         try {
-            return minio.getObject(
+            // Times until MinIO answers; the body is streamed to the client afterwards
+            return Timings.record("files.get", ServerTiming.Phase.STORAGE, () -> minio.getObject(
                     GetObjectArgs.builder()
                             .bucket(f.getBucket())
                             .object(f.getObjectKey())
                             .build()
-            );
+            ), "category", f.getCategory());
         } catch (Exception e) {
             throw new RuntimeException("Download failed.", e);
         }
@@ -104,12 +108,12 @@ public class FileServiceImpl implements FileService {
 
         try {
             // Remove from MinIO
-            minio.removeObject(
+            Timings.run("files.delete", ServerTiming.Phase.STORAGE, () -> minio.removeObject(
                     RemoveObjectArgs.builder()
                             .bucket(f.getBucket())
                             .object(f.getObjectKey())
                             .build()
-            );
+            ), "category", f.getCategory());
 
             // Hard delete from DB (permanent removal, not soft delete)
             repo.delete(f);
@@ -2,6 +2,7 @@ package com.profroid.profroidapp.filesubdomain.dataAccessLayer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,4 +11,6 @@ public interface StoredFileRepository extends JpaRepository<StoredFile, UUID> {
 	Optional<StoredFile> findByIdAndDeletedAtIsNull(UUID id);
 	List<StoredFile> findAllByOwnerTypeAndOwnerIdAndDeletedAtIsNull(String ownerType, String ownerId);
 	List<StoredFile> findAllByOwnerTypeAndOwnerIdAndCategoryAndDeletedAtIsNull(String ownerType, String ownerId, String category);
+	// Files of many owners in one query
+	List<StoredFile> findAllByOwnerTypeInAndOwnerIdInAndDeletedAtIsNull(Collection<String> ownerTypes, Collection<String> ownerIds);
 }
@@ -13,6 +13,7 @@ import com.profroid.profroidapp.jobssubdomain.presentationLayer.JobResponseModel
 import com.profroid.profroidapp.filesubdomain.businessLayer.FileService;
 import com.profroid.profroidapp.filesubdomain.dataAccessLayer.FileCategory;
 import com.profroid.profroidapp.filesubdomain.dataAccessLayer.FileOwnerType;
+import com.profroid.profroidapp.utils.cache.ReferenceDataCache;
 import com.profroid.profroidapp.utils.exceptions.InvalidOperationException;
 import jakarta.persistence.EntityNotFoundException;
 import com.profroid.profroidapp.utils.exceptions.InvalidIdentifierException;
@@ -33,17 +34,20 @@ public class JobServiceImpl implements JobService {
     private final JobRequestMapper jobRequestMapper;
     private final AppointmentRepository appointmentRepository;
     private final FileService fileService;
+    private final ReferenceDataCache referenceDataCache;
 
     public JobServiceImpl(JobRepository jobRepository,
                           JobResponseMapper jobResponseMapper,
                           JobRequestMapper jobRequestMapper,
                           AppointmentRepository appointmentRepository,
-                          FileService fileService) {
+                          FileService fileService,
+                          ReferenceDataCache referenceDataCache) {
         this.jobRepository = jobRepository;
         this.jobResponseMapper = jobResponseMapper;
         this.jobRequestMapper = jobRequestMapper;
         this.appointmentRepository = appointmentRepository;
         this.fileService = fileService;
+        this.referenceDataCache = referenceDataCache;
     }
 
     @Override
@@ -72,6 +76,7 @@ public class JobServiceImpl implements JobService {
         JobIdentifier jobIdentifier = new JobIdentifier();
         Job job = jobRequestMapper.toEntity(requestModel, jobIdentifier);
         Job savedJob = jobRepository.save(job);
+        referenceDataCache.evictJobs();
         return jobResponseMapper.toResponseModel(savedJob);
     }
 
@@ -101,6 +106,7 @@ public class JobServiceImpl implements JobService {
         validateExistingAppointments(foundJob);
 
         Job updatedJob = jobRepository.save(foundJob);
+        referenceDataCache.evictJobs();
         return jobResponseMapper.toResponseModel(updatedJob);
     }
 
@@ -122,6 +128,7 @@ public class JobServiceImpl implements JobService {
 
         foundJob.setActive(false);
         Job deactivatedJob = jobRepository.save(foundJob);
+        referenceDataCache.evictJobs();
         return jobResponseMapper.toResponseModel(deactivatedJob);
     }
 
@@ -290,6 +297,7 @@ public JobResponseModel reactivateJob(String jobId) {
 
         foundJob.setActive(true);
         Job reactivatedJob = jobRepository.save(foundJob);
+        referenceDataCache.evictJobs();
         return jobResponseMapper.toResponseModel(reactivatedJob);
     }
 
@@ -316,6 +324,7 @@ public JobResponseModel reactivateJob(String jobId) {
             // Update job with new image ID
             job.setImageFileId(newImageId);
             Job saved = jobRepository.save(job);
+            referenceDataCache.evictJobs();
 
             // Delete old image after successful save (best effort)
             if (previousImageId != null) {
@@ -1,12 +1,18 @@
 package com.profroid.profroidapp.jobssubdomain.dataAccessLayer;
 
+import com.profroid.profroidapp.utils.cache.ReferenceDataCache;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.util.UUID;
 
 @Entity
 @Table(name = "jobs")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceDataCache.JOBS)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
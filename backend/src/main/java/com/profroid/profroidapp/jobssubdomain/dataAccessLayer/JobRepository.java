@@ -1,8 +1,33 @@
 package com.profroid.profroidapp.jobssubdomain.dataAccessLayer;
 
+import com.profroid.profroidapp.utils.cache.ReferenceDataCache;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 public interface JobRepository extends JpaRepository<Job, Integer> {
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.JOB_QUERIES)
+    })
     Job findJobByJobIdentifier_JobId(String jobId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.JOB_QUERIES)
+    })
     Job findJobByJobName(String jobName);
+
+    Job findFirstByJobTypeAndActiveTrueOrderByIdAsc(JobType jobType);
+
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ReferenceDataCache.JOB_QUERIES)
+    })
+    List<Job> findAll();
 }
@@ -1,6 +1,7 @@
 package com.profroid.profroidapp.jobssubdomain.presentationLayer;
 
 import com.profroid.profroidapp.jobssubdomain.businessLayer.JobService;
+import com.profroid.profroidapp.utils.sqlbudget.SqlBudget;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -21,11 +22,13 @@ public class JobController {
         this.jobService = jobService;
     }
 
+    @SqlBudget(2)
     @GetMapping
     public ResponseEntity<List<JobResponseModel>> getAllJobs(){
         return ResponseEntity.ok(jobService.getAllJobs());
     }
 
+    @SqlBudget(2)
     @GetMapping("/{jobId}")
     public ResponseEntity<JobResponseModel> getJobById(@PathVariable String jobId){
         return ResponseEntity.ok(jobService.getJobById(jobId));
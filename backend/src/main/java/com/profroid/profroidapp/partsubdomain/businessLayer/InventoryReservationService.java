@@ -0,0 +1,9 @@
+package com.profroid.profroidapp.partsubdomain.businessLayer;
+
+import java.util.Map;
+
+public interface InventoryReservationService {
+    void reserve(Map<String, Integer> quantitiesByPartId);
+    void release(Map<String, Integer> quantitiesByPartId);
+    void adjust(Map<String, Integer> previousQuantitiesByPartId, Map<String, Integer> newQuantitiesByPartId);
+}
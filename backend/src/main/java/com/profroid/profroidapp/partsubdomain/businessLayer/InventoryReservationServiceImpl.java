@@ -0,0 +1,104 @@
+package com.profroid.profroidapp.partsubdomain.businessLayer;
+
+import com.profroid.profroidapp.partsubdomain.dataAccessLayer.PartStockRepository;
+import com.profroid.profroidapp.utils.exceptions.InvalidOperationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class InventoryReservationServiceImpl implements InventoryReservationService {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryReservationServiceImpl.class);
+
+    private final PartStockRepository partStockRepository;
+
+    public InventoryReservationServiceImpl(PartStockRepository partStockRepository) {
+        this.partStockRepository = partStockRepository;
+    }
+
+    // =====================================================
+    // RESERVE STOCK
+    // =====================================================
+    @Override
+    @Transactional
+    public void reserve(Map<String, Integer> quantitiesByPartId) {
+        Map<String, Integer> toReserve = positiveQuantities(quantitiesByPartId);
+        if (toReserve.isEmpty()) {
+            return;
+        }
+
+        // Rows are updated in part id order so two reports touching the same parts
+        // always lock them in the same order and cannot deadlock each other.
+        int[] counts = partStockRepository.decrementIfAvailable(toReserve);
+
+        List<String> partIds = new ArrayList<>(toReserve.keySet());
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                // Throwing rolls back the decrements already applied in this batch
+                throw new InvalidOperationException("Insufficient stock for part: " + partIds.get(i));
+            }
+        }
+
+        log.debug("Reserved stock for {} part(s)", toReserve.size());
+    }
+
+    // =====================================================
+    // RELEASE STOCK (COMPENSATION)
+    // =====================================================
+    @Override
+    @Transactional
+    public void release(Map<String, Integer> quantitiesByPartId) {
+        Map<String, Integer> toRelease = positiveQuantities(quantitiesByPartId);
+        if (toRelease.isEmpty()) {
+            return;
+        }
+
+        partStockRepository.increment(toRelease);
+        log.debug("Released stock for {} part(s)", toRelease.size());
+    }
+
+    // =====================================================
+    // ADJUST STOCK AFTER A REPORT CHANGE
+    // =====================================================
+    @Override
+    @Transactional
+    public void adjust(Map<String, Integer> previousQuantitiesByPartId, Map<String, Integer> newQuantitiesByPartId) {
+        Map<String, Integer> toReserve = new TreeMap<>();
+        Map<String, Integer> toRelease = new TreeMap<>();
+
+        Map<String, Integer> delta = new TreeMap<>();
+        newQuantitiesByPartId.forEach((partId, quantity) -> delta.merge(partId, quantity, Integer::sum));
+        previousQuantitiesByPartId.forEach((partId, quantity) -> delta.merge(partId, -quantity, Integer::sum));
+
+        delta.forEach((partId, quantity) -> {
+            if (quantity > 0) {
+                toReserve.put(partId, quantity);
+            } else if (quantity < 0) {
+                toRelease.put(partId, -quantity);
+            }
+        });
+
+        release(toRelease);
+        reserve(toReserve);
+    }
+
+    private Map<String, Integer> positiveQuantities(Map<String, Integer> quantitiesByPartId) {
+        Map<String, Integer> result = new TreeMap<>();
+        if (quantitiesByPartId == null) {
+            return result;
+        }
+        quantitiesByPartId.forEach((partId, quantity) -> {
+            if (partId != null && quantity != null && quantity > 0) {
+                result.merge(partId, quantity, Integer::sum);
+            }
+        });
+        return result;
+    }
+}
@@ -15,4 +15,10 @@ public interface PartService {
     PartResponseModel uploadPartImage(String partId, MultipartFile file);
     PartResponseModel createPartWithImage(PartRequestModel requestModel, MultipartFile file);
     byte[] exportInventoryToPdf();
+
+    /**
+     * Short hash of the catalog as technicians see it (ids, names, categories, prices,
+     * availability). Changes whenever any of these change; stock levels do not count.
+     */
+    String getCatalogVersion();
 }
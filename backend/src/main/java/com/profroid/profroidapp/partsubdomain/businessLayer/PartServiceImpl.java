@@ -1,6 +1,7 @@
 package com.profroid.profroidapp.partsubdomain.businessLayer;
 
 import com.profroid.profroidapp.partsubdomain.dataAccessLayer.Part;
+import com.profroid.profroidapp.partsubdomain.dataAccessLayer.PartCatalogEntry;
 import com.profroid.profroidapp.partsubdomain.dataAccessLayer.PartIdentifier;
 import com.profroid.profroidapp.partsubdomain.dataAccessLayer.PartRepository;
 import com.profroid.profroidapp.partsubdomain.mappingLayer.PartRequestMapper;
@@ -22,8 +23,11 @@ import com.profroid.profroidapp.utils.generators.InventoryPdfGenerator.Inventory
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -54,15 +58,34 @@ public class PartServiceImpl implements PartService {
     // GET ALL PARTS
     // =====================================================
     @Override
+    @Transactional(readOnly = true)
     public List<PartResponseModel> getAllParts() {
         List<Part> parts = partRepository.findAll();
         return partResponseMapper.toResponseModelList(parts);
     }
 
+    // =====================================================
+    // CATALOG VERSION
+    // =====================================================
+    @Override
+    @Transactional(readOnly = true)
+    public String getCatalogVersion() {
+        StringBuilder catalog = new StringBuilder();
+        for (PartCatalogEntry entry : partRepository.findCatalogEntries()) {
+            catalog.append(entry.getPartId()).append('\u001F')
+                    .append(entry.getName()).append('\u001F')
+                    .append(entry.getCategory()).append('\u001F')
+                    .append(entry.getPrice() == null ? null : entry.getPrice().toPlainString()).append('\u001F')
+                    .append(entry.getAvailable()).append('\u001E');
+        }
+        return DigestUtils.md5DigestAsHex(catalog.toString().getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+    }
+
     // =====================================================
     // GET PART BY ID
     // =====================================================
     @Override
+    @Transactional(readOnly = true)
     public PartResponseModel getPartById(String partId) {
 
 
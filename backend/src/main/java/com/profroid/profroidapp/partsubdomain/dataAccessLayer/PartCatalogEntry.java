@@ -0,0 +1,18 @@
+package com.profroid.profroidapp.partsubdomain.dataAccessLayer;
+
+import java.math.BigDecimal;
+
+/**
+ * The fields of a part that technicians see in the catalog, without stock levels.
+ */
+public interface PartCatalogEntry {
+    String getPartId();
+
+    String getName();
+
+    String getCategory();
+
+    BigDecimal getPrice();
+
+    Boolean getAvailable();
+}
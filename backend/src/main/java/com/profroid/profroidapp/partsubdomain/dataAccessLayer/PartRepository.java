@@ -1,9 +1,17 @@
 package com.profroid.profroidapp.partsubdomain.dataAccessLayer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface PartRepository extends JpaRepository<Part, Integer> {
     Part findPartByPartIdentifier_PartId(String partId);
 
     Part findPartByName(String name);
+
+    // Catalog fields only, in a stable order, for computing the catalog version
+    @Query("SELECT p.partIdentifier.partId AS partId, p.name AS name, p.category AS category, "
+            + "p.price AS price, p.available AS available FROM Part p ORDER BY p.id")
+    List<PartCatalogEntry> findCatalogEntries();
 }
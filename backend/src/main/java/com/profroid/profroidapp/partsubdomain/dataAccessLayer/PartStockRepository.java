@@ -0,0 +1,48 @@
+package com.profroid.profroidapp.partsubdomain.dataAccessLayer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stock movements on the parts table done with single conditional statements,
+ * so concurrent reports never read-modify-write the same quantity.
+ */
+@Repository
+public class PartStockRepository {
+
+    private static final String DECREMENT_SQL =
+            "UPDATE parts SET quantity = quantity - ? WHERE part_id = ? AND quantity >= ?";
+
+    private static final String INCREMENT_SQL =
+            "UPDATE parts SET quantity = quantity + ? WHERE part_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PartStockRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Decrements every part in one JDBC batch.
+     * Each entry of the returned array is the update count of the matching entry,
+     * 0 meaning the part does not exist or does not have enough stock.
+     */
+    public int[] decrementIfAvailable(Map<String, Integer> quantitiesByPartId) {
+        List<Object[]> args = new ArrayList<>();
+        quantitiesByPartId.forEach((partId, quantity) -> args.add(new Object[]{quantity, partId, quantity}));
+        return jdbcTemplate.batchUpdate(DECREMENT_SQL, args);
+    }
+
+    /**
+     * Gives stock back for every part in one JDBC batch.
+     */
+    public int[] increment(Map<String, Integer> quantitiesByPartId) {
+        List<Object[]> args = new ArrayList<>();
+        quantitiesByPartId.forEach((partId, quantity) -> args.add(new Object[]{quantity, partId}));
+        return jdbcTemplate.batchUpdate(INCREMENT_SQL, args);
+    }
+}
@@ -6,6 +6,7 @@ import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.Appointment
 import com.profroid.profroidapp.customersubdomain.dataAccessLayer.Customer;
 import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.Employee;
 import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.EmployeeRepository;
+import com.profroid.profroidapp.partsubdomain.businessLayer.InventoryReservationService;
 import com.profroid.profroidapp.partsubdomain.dataAccessLayer.Part;
 import com.profroid.profroidapp.partsubdomain.dataAccessLayer.PartRepository;
 import org.slf4j.Logger;
@@ -37,7 +38,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.io.InputStream;
 
@@ -56,6 +59,7 @@ public class ReportServiceImpl implements ReportService {
     private final ReportPdfGenerator reportPdfGenerator;
     private final BillRepository billRepository;
     private final PaymentNotificationUtil paymentNotificationUtil;
+    private final InventoryReservationService inventoryReservationService;
 
     // Tax rates
     private static final BigDecimal TPS_RATE = new BigDecimal("0.05"); // 5%
@@ -70,7 +74,8 @@ public class ReportServiceImpl implements ReportService {
                              StoredFileRepository storedFileRepository,
                              ReportPdfGenerator reportPdfGenerator,
                              BillRepository billRepository,
-                             PaymentNotificationUtil paymentNotificationUtil) {
+                             PaymentNotificationUtil paymentNotificationUtil,
+                             InventoryReservationService inventoryReservationService) {
         this.reportRepository = reportRepository;
         this.appointmentRepository = appointmentRepository;
         this.employeeRepository = employeeRepository;
@@ -81,6 +86,7 @@ public class ReportServiceImpl implements ReportService {
         this.reportPdfGenerator = reportPdfGenerator;
         this.billRepository = billRepository;
         this.paymentNotificationUtil = paymentNotificationUtil;
+        this.inventoryReservationService = inventoryReservationService;
     }
 
     @Override
@@ -149,6 +155,10 @@ public class ReportServiceImpl implements ReportService {
         }
         report.setReportParts(reportParts);
 
+        // Take the used parts out of stock (fails the whole report if any part is short)
+        inventoryReservationService.reserve(partQuantities(reportParts));
+        report.setStockReserved(true);
+
         // Calculate totals
         calculateTotals(report, appointment);
 
@@ -170,6 +180,7 @@ public class ReportServiceImpl implements ReportService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ReportResponseModel getReportById(String reportId, String userId, String userRole) {
         Report report = reportRepository.findReportByReportIdentifier_ReportId(reportId);
         
@@ -184,6 +195,7 @@ public class ReportServiceImpl implements ReportService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ReportResponseModel getReportByAppointmentId(String appointmentId, String userId, String userRole) {
         Report report = reportRepository
                 .findReportByAppointment_AppointmentIdentifier_AppointmentId(appointmentId);
@@ -199,6 +211,7 @@ public class ReportServiceImpl implements ReportService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ReportResponseModel> getTechnicianReports(String technicianId, String userId, String userRole) {
         // Permission check: only the technician themselves or admin
         if ("TECHNICIAN".equals(userRole) && !userId.equals(technicianId)) {
@@ -212,6 +225,7 @@ public class ReportServiceImpl implements ReportService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ReportResponseModel> getCustomerReports(String customerId, String userId, String userRole) {
         // Permission check: only admin can view all customer reports
         // Customers will access through their appointment details
@@ -226,6 +240,7 @@ public class ReportServiceImpl implements ReportService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ReportResponseModel> getAllReports(String userId, String userRole) {
         // Permission check: only admin can view all reports
         if (!"ADMIN".equals(userRole)) {
@@ -265,6 +280,9 @@ public class ReportServiceImpl implements ReportService {
         report.setFrais(requestModel.getFrais());
         report.setFraisDeplacement(requestModel.getFraisDeplacement());
 
+        // Remember what was taken out of stock before the parts are replaced
+        Map<String, Integer> previousPartQuantities = partQuantities(report.getReportParts());
+
         // Update parts - clear existing and add new ones
         report.getReportParts().clear();
         
@@ -285,6 +303,11 @@ public class ReportServiceImpl implements ReportService {
             }
         }
 
+        // Give back removed parts and reserve added ones in one step
+        if (Boolean.TRUE.equals(report.getStockReserved())) {
+            inventoryReservationService.adjust(previousPartQuantities, partQuantities(report.getReportParts()));
+        }
+
         // Recalculate totals
         calculateTotals(report, report.getAppointment());
 
@@ -308,6 +331,11 @@ public class ReportServiceImpl implements ReportService {
             throw new InvalidOperationException("Only administrators can delete reports");
         }
 
+        // Return the parts used on this report to stock, if they were ever taken out
+        if (Boolean.TRUE.equals(report.getStockReserved())) {
+            inventoryReservationService.release(partQuantities(report.getReportParts()));
+        }
+
         reportRepository.delete(report);
     }
 
@@ -381,6 +409,23 @@ public class ReportServiceImpl implements ReportService {
         report.setTotal(total.setScale(2, RoundingMode.HALF_UP));
     }
 
+    /**
+     * Total quantity used per part id across the given report parts
+     */
+    private Map<String, Integer> partQuantities(List<ReportPart> reportParts) {
+        Map<String, Integer> quantities = new HashMap<>();
+        if (reportParts == null) {
+            return quantities;
+        }
+        for (ReportPart reportPart : reportParts) {
+            if (reportPart.getPart() == null || reportPart.getQuantity() == null) {
+                continue;
+            }
+            quantities.merge(reportPart.getPart().getPartIdentifier().getPartId(), reportPart.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
     /**
      * Validate user has access to view this report
      */
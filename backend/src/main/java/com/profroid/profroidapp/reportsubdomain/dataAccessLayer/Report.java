@@ -50,6 +50,10 @@ public class Report {
     @OneToMany(mappedBy = "report", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ReportPart> reportParts = new ArrayList<>();
 
+    // Whether the parts were taken out of stock; reports written before reservations existed never were
+    @Column(name = "stock_reserved")
+    private Boolean stockReserved = false;
+
     // Calculated totals
     @NotNull
     @Column(name = "subtotal", precision = 10, scale = 2)
@@ -1,6 +1,8 @@
 package com.profroid.profroidapp.reportsubdomain.utils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.profroid.profroidapp.utils.metrics.ServerTiming;
+import com.profroid.profroidapp.utils.metrics.Timings;
 import org.springframework.stereotype.Component;
 
 import java.net.URI;
@@ -17,11 +19,12 @@ public class PaymentNotificationUtil {
 
     private static final Logger logger = Logger.getLogger(PaymentNotificationUtil.class.getName());
     private static final ObjectMapper objectMapper = new ObjectMapper();
-    private static final HttpClient httpClient = HttpClient.newHttpClient();
+    private final HttpClient httpClient;
 
     private String authServiceUrl;
 
-    public PaymentNotificationUtil() {
+    public PaymentNotificationUtil(HttpClient outboundHttpClient) {
+        this.httpClient = outboundHttpClient;
         this.authServiceUrl = System.getenv("AUTH_SERVICE_URL");
         if (this.authServiceUrl == null || this.authServiceUrl.isBlank()) {
             this.authServiceUrl = "http://auth-service:3001";
@@ -76,9 +79,18 @@ public class PaymentNotificationUtil {
                 .timeout(java.time.Duration.ofSeconds(10))
                 .build();
 
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (Exception e) {
+            Timings.stop("notifications.send", ServerTiming.Phase.REMOTE, start, false, "endpoint", endpoint);
+            throw e;
+        }
+        boolean accepted = response.statusCode() >= 200 && response.statusCode() < 300;
+        Timings.stop("notifications.send", ServerTiming.Phase.REMOTE, start, accepted, "endpoint", endpoint);
 
-        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+        if (!accepted) {
             logger.log(Level.WARNING, "Payment notification endpoint returned status " + response.statusCode() + ": " + response.body());
         }
     }
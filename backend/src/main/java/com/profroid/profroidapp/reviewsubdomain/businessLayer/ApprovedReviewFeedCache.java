@@ -0,0 +1,242 @@
+package com.profroid.profroidapp.reviewsubdomain.businessLayer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.Review;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ReviewRepository;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ReviewStatus;
+import com.profroid.profroidapp.reviewsubdomain.mappingLayer.ReviewResponseMapper;
+import com.profroid.profroidapp.reviewsubdomain.presentationLayer.ReviewResponseModel;
+import com.profroid.profroidapp.reviewsubdomain.presentationLayer.ReviewSummaryResponseModel;
+import com.profroid.profroidapp.utils.transactions.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read-through cache of the public approved-review feed.
+ *
+ * The approved reviews are loaded with one query the first time they are needed and
+ * kept until a write that can change the feed invalidates them. Pages are serialized
+ * to JSON once and served as bytes with an ETag, so repeated homepage hits neither
+ * touch the database nor re-run Jackson. Rating aggregates are computed from the same
+ * snapshot.
+ */
+@Component
+public class ApprovedReviewFeedCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApprovedReviewFeedCache.class);
+
+    // Past this many distinct (page, size) pairs, further pages are served uncached
+    private static final int MAX_CACHED_PAGES = 256;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Serialized JSON body with its ETag and the total number of approved reviews.
+     */
+    public record CachedJson(byte[] body, String etag, long totalCount) {
+    }
+
+    private record PageKey(int page, int size) {
+    }
+
+    private record CachedSummary(CachedJson json, Instant validUntil) {
+    }
+
+    private record Snapshot(long generation,
+                            List<ReviewResponseModel> reviews,
+                            long ratingSum,
+                            long[] countByRating,
+                            Map<PageKey, CachedJson> pages,
+                            AtomicReference<CachedSummary> summary) {
+    }
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewResponseMapper reviewResponseMapper;
+    private final ObjectMapper objectMapper;
+    private final Duration recentWindow;
+    private final int recentDays;
+
+    // Bumped by every invalidation; a snapshot built from an older generation is never served
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    // A lock rather than a monitor: a virtual thread blocked on the query inside must not pin its carrier
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    public ApprovedReviewFeedCache(ReviewRepository reviewRepository,
+                                   ReviewResponseMapper reviewResponseMapper,
+                                   ObjectMapper objectMapper,
+                                   @Value("${reviews.feed.recent-days:30}") int recentDays) {
+        this.reviewRepository = reviewRepository;
+        this.reviewResponseMapper = reviewResponseMapper;
+        this.objectMapper = objectMapper;
+        this.recentDays = recentDays;
+        this.recentWindow = Duration.ofDays(recentDays);
+    }
+
+    /**
+     * Approved reviews, newest first, as a JSON array.
+     * A null page returns the whole feed.
+     */
+    public CachedJson getPage(Integer page, Integer size) {
+        Snapshot current = current();
+        PageKey key = page == null
+                ? new PageKey(-1, -1)
+                : new PageKey(Math.max(page, 0), size == null ? 10 : Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+
+        CachedJson cached = current.pages().get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<ReviewResponseModel> reviews = current.reviews();
+        List<ReviewResponseModel> slice;
+        if (key.page() < 0) {
+            slice = reviews;
+        } else {
+            long from = Math.min((long) key.page() * key.size(), reviews.size());
+            long to = Math.min(from + key.size(), reviews.size());
+            slice = reviews.subList((int) from, (int) to);
+        }
+
+        CachedJson json = serialize(slice, reviews.size());
+        if (current.pages().size() < MAX_CACHED_PAGES) {
+            current.pages().putIfAbsent(key, json);
+        }
+        return json;
+    }
+
+    public List<ReviewResponseModel> getReviews() {
+        return current().reviews();
+    }
+
+    /**
+     * Rating aggregates as JSON. The recent count depends on the clock, so the cached
+     * body is rebuilt once the oldest recent review leaves the window.
+     */
+    public CachedJson getSummary() {
+        Snapshot current = current();
+        Instant now = Instant.now();
+        CachedSummary cached = current.summary().get();
+        if (cached != null && now.isBefore(cached.validUntil())) {
+            return cached.json();
+        }
+
+        Instant cutoff = now.minus(recentWindow);
+        long recentCount = 0;
+        Instant oldestRecent = null;
+        // Reviews are newest first, so the recent ones form a prefix
+        for (ReviewResponseModel review : current.reviews()) {
+            if (review.getCreatedAt() == null || !review.getCreatedAt().isAfter(cutoff)) {
+                break;
+            }
+            recentCount++;
+            oldestRecent = review.getCreatedAt();
+        }
+
+        Map<Integer, Long> countByRating = new LinkedHashMap<>();
+        for (int star = 1; star <= 5; star++) {
+            countByRating.put(star, current.countByRating()[star]);
+        }
+        long total = current.reviews().size();
+        double average = total == 0 ? 0 : Math.round(current.ratingSum() * 100.0 / total) / 100.0;
+
+        ReviewSummaryResponseModel summary = ReviewSummaryResponseModel.builder()
+                .totalCount(total)
+                .averageRating(average)
+                .countByRating(countByRating)
+                .recentCount(recentCount)
+                .recentDays(recentDays)
+                .build();
+
+        CachedJson json = serialize(summary, total);
+        Instant validUntil = oldestRecent == null ? Instant.MAX : oldestRecent.plus(recentWindow);
+        current.summary().set(new CachedSummary(json, validUntil));
+        return json;
+    }
+
+    // =====================================================
+    // INVALIDATION
+    // =====================================================
+
+    /**
+     * Called by every write on a review. The feed is dropped, after commit, only when
+     * the review was or becomes APPROVED.
+     */
+    public void onReviewChanged(ReviewStatus before, ReviewStatus after) {
+        if (before == ReviewStatus.APPROVED || after == ReviewStatus.APPROVED) {
+            AfterCommit.run(this::invalidate);
+        }
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    // =====================================================
+    // LOADING
+    // =====================================================
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current != null && current.generation() == generation.get()) {
+            return current;
+        }
+        loadLock.lock();
+        try {
+            current = snapshot.get();
+            if (current != null && current.generation() == generation.get()) {
+                return current;
+            }
+            Snapshot loaded = load();
+            snapshot.set(loaded);
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Snapshot load() {
+        // Read the generation first: an invalidation racing with the query makes this
+        // snapshot stale on arrival and the next reader loads again
+        long loadedGeneration = generation.get();
+        List<Review> approved = reviewRepository.findByStatusOrderByCreatedAtDesc(ReviewStatus.APPROVED);
+
+        long ratingSum = 0;
+        long[] countByRating = new long[6];
+        for (Review review : approved) {
+            int rating = review.getRating() == null ? 0 : review.getRating();
+            if (rating >= 1 && rating <= 5) {
+                ratingSum += rating;
+                countByRating[rating]++;
+            }
+        }
+
+        List<ReviewResponseModel> reviews = List.copyOf(reviewResponseMapper.toResponseModelList(approved));
+        logger.info("Approved review feed loaded: {} reviews", reviews.size());
+        return new Snapshot(loadedGeneration, reviews, ratingSum, countByRating,
+                new ConcurrentHashMap<>(), new AtomicReference<>());
+    }
+
+    private CachedJson serialize(Object value, long totalCount) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            return new CachedJson(body, etag, totalCount);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize approved review feed", e);
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package com.profroid.profroidapp.reviewsubdomain.businessLayer;
 
+import com.profroid.profroidapp.reviewsubdomain.utils.ProfanityMatcher;
+import com.profroid.profroidapp.utils.metrics.Timings;
+import io.micrometer.core.instrument.Metrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class ProfanityFilterService {
@@ -235,22 +245,118 @@ public class ProfanityFilterService {
         "fdputain", "putainde", "bordelde"
     ));
     
-    // Combine all profanity words
-    private final Set<String> allProfanity;
-    
-    // Patterns to detect obfuscated profanity (e.g., "f*ck", "sh!t", "a$$")
-    private final List<Pattern> obfuscationPatterns;
-    
+    // Automaton over the built-in dictionary plus the optional external file.
+    // Replaced as a whole on reload, so readers never see a half-built dictionary.
+    private final AtomicReference<ProfanityMatcher> matcher = new AtomicReference<>();
+
+    // Optional dictionary file (one word or phrase per line, '#' for comments)
+    private final Path dictionaryFile;
+    private final long reloadIntervalMillis;
+    private volatile long dictionaryLastModified = -1;
+    private volatile long nextReloadCheck;
+    private final AtomicBoolean reloading = new AtomicBoolean(false);
+
     public ProfanityFilterService() {
-        // Combine English and French profanity
-        allProfanity = new HashSet<>();
-        allProfanity.addAll(ENGLISH_PROFANITY);
-        allProfanity.addAll(FRENCH_PROFANITY);
-        
-        // Create patterns to detect obfuscated profanity
-        obfuscationPatterns = allProfanity.stream()
-            .map(this::createObfuscationPattern)
-            .collect(Collectors.toList());
+        this("", 30);
+    }
+
+    @Autowired
+    public ProfanityFilterService(@Value("${profanity.dictionary-file:}") String dictionaryFile,
+                                  @Value("${profanity.reload-interval-seconds:30}") long reloadIntervalSeconds) {
+        this.dictionaryFile = dictionaryFile == null || dictionaryFile.isBlank() ? null : Path.of(dictionaryFile);
+        this.reloadIntervalMillis = TimeUnit.SECONDS.toMillis(reloadIntervalSeconds);
+        reloadDictionary();
+    }
+
+    /**
+     * Built-in English and French dictionary
+     */
+    static Set<String> builtInDictionary() {
+        Set<String> words = new HashSet<>();
+        words.addAll(ENGLISH_PROFANITY);
+        words.addAll(FRENCH_PROFANITY);
+        return words;
+    }
+
+    /**
+     * Rebuilds the automaton from the built-in words and the dictionary file, then swaps it in.
+     * @return number of dictionary entries in the new automaton
+     */
+    public int reloadDictionary() {
+        Set<String> words = builtInDictionary();
+
+        if (dictionaryFile != null) {
+            try {
+                if (Files.exists(dictionaryFile)) {
+                    dictionaryLastModified = Files.getLastModifiedTime(dictionaryFile).toMillis();
+                    for (String line : Files.readAllLines(dictionaryFile, StandardCharsets.UTF_8)) {
+                        String word = line.trim();
+                        if (!word.isEmpty() && !word.startsWith("#")) {
+                            words.add(word.toLowerCase());
+                        }
+                    }
+                } else {
+                    logger.warn("Profanity dictionary file not found: {}", dictionaryFile);
+                }
+            } catch (IOException e) {
+                // Keep serving with the current automaton rather than an incomplete one
+                logger.error("Failed to read profanity dictionary file: {}", dictionaryFile, e);
+                ProfanityMatcher current = matcher.get();
+                if (current != null) {
+                    return current.getWordCount();
+                }
+            }
+        }
+
+        ProfanityMatcher rebuilt = ProfanityMatcher.build(words);
+        matcher.set(rebuilt);
+        logger.info("Profanity dictionary loaded with {} entries", rebuilt.getWordCount());
+        return rebuilt.getWordCount();
+    }
+
+    /**
+     * Reloads the dictionary when the file changed, checked at most once per interval.
+     * Only one caller does the rebuild; the others keep using the current automaton.
+     */
+    private void reloadIfChanged() {
+        if (dictionaryFile == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now < nextReloadCheck || !reloading.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            nextReloadCheck = now + reloadIntervalMillis;
+            long lastModified = Files.exists(dictionaryFile)
+                    ? Files.getLastModifiedTime(dictionaryFile).toMillis()
+                    : -1;
+            if (lastModified != dictionaryLastModified) {
+                reloadDictionary();
+            }
+        } catch (IOException e) {
+            logger.error("Failed to check profanity dictionary file: {}", dictionaryFile, e);
+        } finally {
+            reloading.set(false);
+        }
+    }
+
+    /**
+     * Single pass over the text returning every profanity hit with its offsets
+     * in the original text
+     * @param text The text to scan
+     * @return Matches in order of appearance
+     */
+    public List<ProfanityMatcher.Match> scan(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return List.of();
+        }
+        reloadIfChanged();
+        List<ProfanityMatcher.Match> matches = Timings.record("profanity.scan", null, () -> matcher.get().scan(text));
+        if (!matches.isEmpty()) {
+            Metrics.counter("profanity.hits").increment();
+        }
+        return matches;
     }
     
     /**
@@ -259,29 +365,11 @@ public class ProfanityFilterService {
      * @return true if profanity is detected, false otherwise
      */
     public boolean containsProfanity(String text) {
-        if (text == null || text.trim().isEmpty()) {
-            return false;
+        List<ProfanityMatcher.Match> matches = scan(text);
+        if (!matches.isEmpty()) {
+            logger.warn("Profanity detected: {}", matches.get(0).word());
+            return true;
         }
-        
-        String normalizedText = normalizeText(text);
-        
-        // Check for exact matches (word boundaries)
-        for (String profanity : allProfanity) {
-            String pattern = "\\b" + Pattern.quote(profanity) + "\\b";
-            if (Pattern.compile(pattern, Pattern.CASE_INSENSITIVE).matcher(normalizedText).find()) {
-                logger.warn("Profanity detected: {}", profanity);
-                return true;
-            }
-        }
-        
-        // Check for obfuscated versions
-        for (Pattern pattern : obfuscationPatterns) {
-            if (pattern.matcher(normalizedText).find()) {
-                logger.warn("Obfuscated profanity detected");
-                return true;
-            }
-        }
-        
         return false;
     }
     
@@ -291,22 +379,11 @@ public class ProfanityFilterService {
      * @return List of profanity words found
      */
     public List<String> findProfanity(String text) {
-        List<String> foundProfanity = new ArrayList<>();
-        
-        if (text == null || text.trim().isEmpty()) {
-            return foundProfanity;
-        }
-        
-        String normalizedText = normalizeText(text);
-        
-        for (String profanity : allProfanity) {
-            String pattern = "\\b" + Pattern.quote(profanity) + "\\b";
-            if (Pattern.compile(pattern, Pattern.CASE_INSENSITIVE).matcher(normalizedText).find()) {
-                foundProfanity.add(profanity);
-            }
+        Set<String> foundProfanity = new LinkedHashSet<>();
+        for (ProfanityMatcher.Match match : scan(text)) {
+            foundProfanity.add(match.word());
         }
-        
-        return foundProfanity;
+        return new ArrayList<>(foundProfanity);
     }
     
     /**
@@ -315,144 +392,21 @@ public class ProfanityFilterService {
      * @return Censored text
      */
     public String censorProfanity(String text) {
-        if (text == null || text.trim().isEmpty()) {
+        List<ProfanityMatcher.Match> matches = scan(text);
+        if (matches.isEmpty()) {
             return text;
         }
         
-        String result = text;
-        
-        for (String profanity : allProfanity) {
-            String pattern = "\\b" + Pattern.quote(profanity) + "\\b";
-            String replacement = "*".repeat(profanity.length());
-            result = result.replaceAll("(?i)" + pattern, replacement);
-        }
-        
-        return result;
-    }
-    
-    /**
-     * Normalize text by removing accents and special characters
-     */
-    private String normalizeText(String text) {
-        if (text == null) {
-            return "";
-        }
-        
-        String normalized = text;
-        
-        // Replace common leetspeak/number substitutions FIRST
-        normalized = normalized.replaceAll("0", "o");
-        normalized = normalized.replaceAll("1", "i");
-        normalized = normalized.replaceAll("3", "e");
-        normalized = normalized.replaceAll("4", "a");
-        normalized = normalized.replaceAll("5", "s");
-        normalized = normalized.replaceAll("7", "t");
-        normalized = normalized.replaceAll("8", "b");
-        normalized = normalized.replaceAll("@", "a");
-        normalized = normalized.replaceAll("\\$", "s");
-        normalized = normalized.replaceAll("\\!", "i");
-        normalized = normalized.replaceAll("\\+", "t");
-        
-        // Remove common separators that might be used to bypass filter
-        normalized = normalized.replaceAll("[_\\-\\*\\.\\s]+", " ");
-        
-        // Remove accents (for French words) - both lowercase and uppercase
-        // Lowercase accents
-        normalized = normalized.replace('é', 'e');
-        normalized = normalized.replace('è', 'e');
-        normalized = normalized.replace('ê', 'e');
-        normalized = normalized.replace('ë', 'e');
-        normalized = normalized.replace('à', 'a');
-        normalized = normalized.replace('â', 'a');
-        normalized = normalized.replace('ä', 'a');
-        normalized = normalized.replace('ù', 'u');
-        normalized = normalized.replace('û', 'u');
-        normalized = normalized.replace('ü', 'u');
-        normalized = normalized.replace('ï', 'i');
-        normalized = normalized.replace('î', 'i');
-        normalized = normalized.replace('ô', 'o');
-        normalized = normalized.replace('ö', 'o');
-        normalized = normalized.replace('ç', 'c');
-        
-        // Uppercase accents
-        normalized = normalized.replace('É', 'E');
-        normalized = normalized.replace('È', 'E');
-        normalized = normalized.replace('Ê', 'E');
-        normalized = normalized.replace('Ë', 'E');
-        normalized = normalized.replace('À', 'A');
-        normalized = normalized.replace('Â', 'A');
-        normalized = normalized.replace('Ä', 'A');
-        normalized = normalized.replace('Ù', 'U');
-        normalized = normalized.replace('Û', 'U');
-        normalized = normalized.replace('Ü', 'U');
-        normalized = normalized.replace('Ï', 'I');
-        normalized = normalized.replace('Î', 'I');
-        normalized = normalized.replace('Ô', 'O');
-        normalized = normalized.replace('Ö', 'O');
-        normalized = normalized.replace('Ç', 'C');
-        
-        // Convert to lowercase first
-        normalized = normalized.toLowerCase();
-        
-        // CRITICAL: Reduce repeated characters to catch bypasses like "fdpppppp" → "fdp"
-        // This replaces 2+ consecutive identical characters with just 1 character
-        // Examples: "shiiit" → "shit", "fuuuck" → "fuck", "fdpppp" → "fdp"
-        normalized = normalized.replaceAll("(.)\\1+", "$1");
-        
-        return normalized.trim();
-    }
-    
-    /**
-     * Create a pattern to detect obfuscated versions of profanity
-     * Example: "fuck" -> matches "f*ck", "f@ck", "fu¢k", etc.
-     */
-    private Pattern createObfuscationPattern(String word) {
-        StringBuilder regex = new StringBuilder("\\b");
-        
-        for (char c : word.toCharArray()) {
-            // Create character class for common substitutions
-            String charPattern;
-            switch (Character.toLowerCase(c)) {
-                case 'a':
-                    charPattern = "[a@4]";
-                    break;
-                case 'e':
-                    charPattern = "[e3€]";
-                    break;
-                case 'i':
-                    charPattern = "[i1!|]";
-                    break;
-                case 'o':
-                    charPattern = "[o0]";
-                    break;
-                case 's':
-                    charPattern = "[s$5]";
-                    break;
-                case 't':
-                    charPattern = "[t7+]";
-                    break;
-                case 'l':
-                    charPattern = "[l1|]";
-                    break;
-                case 'c':
-                    charPattern = "[c¢]";
-                    break;
-                case 'u':
-                    charPattern = "[uv]";
-                    break;
-                default:
-                    charPattern = "[" + Character.toLowerCase(c) + Character.toUpperCase(c) + "]";
-                    break;
+        char[] result = text.toCharArray();
+        for (ProfanityMatcher.Match match : matches) {
+            for (int i = match.start(); i < match.end(); i++) {
+                if (!Character.isWhitespace(result[i])) {
+                    result[i] = '*';
+                }
             }
-            
-            regex.append(charPattern);
-            // Allow optional special characters between letters
-            regex.append("[*_\\-.]?");
         }
         
-        regex.append("\\b");
-        
-        return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE);
+        return new String(result);
     }
     
     /**
@@ -462,11 +416,7 @@ public class ProfanityFilterService {
      */
     public void validateText(String text) {
         if (containsProfanity(text)) {
-            List<String> foundWords = findProfanity(text);
-            String message = foundWords.isEmpty() 
-                ? "Your review contains inappropriate language. Please remove offensive words and try again."
-                : "Your review contains inappropriate language. Please remove offensive words and try again.";
-            throw new ProfanityException(message);
+            throw new ProfanityException("Your review contains inappropriate language. Please remove offensive words and try again.");
         }
     }
 }
@@ -0,0 +1,18 @@
+package com.profroid.profroidapp.reviewsubdomain.businessLayer;
+
+import com.profroid.profroidapp.reviewsubdomain.presentationLayer.ReModerationStatusResponseModel;
+
+public interface ReModerationService {
+
+    /**
+     * Start re-checking stored reviews, contact messages and warranty claims against the
+     * current profanity dictionary. Runs in the background; an interrupted run resumes
+     * from its checkpoints unless restart is true.
+     */
+    ReModerationStatusResponseModel startRescan(boolean restart);
+
+    /**
+     * Progress and throughput of the current or last run
+     */
+    ReModerationStatusResponseModel getStatus();
+}
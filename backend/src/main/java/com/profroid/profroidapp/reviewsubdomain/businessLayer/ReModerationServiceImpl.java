@@ -0,0 +1,375 @@
+package com.profroid.profroidapp.reviewsubdomain.businessLayer;
+
+import com.profroid.profroidapp.dashboardsubdomain.businessLayer.AdminCounters;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ModerationBatchRepository;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ModerationBatchRepository.ModerationRow;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ModerationCheckpoint;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ModerationCheckpointRepository;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ModerationSource;
+import com.profroid.profroidapp.reviewsubdomain.presentationLayer.ReModerationStatusResponseModel;
+import com.profroid.profroidapp.utils.exceptions.InvalidOperationException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Re-checks content already stored in reviews, contact messages and warranty claims
+ * against the current profanity dictionary.
+ *
+ * Each table is read in id-ordered chunks. The text of a chunk is scanned in parallel
+ * on a dedicated fork-join pool, then the flag changes and the table checkpoint are
+ * written in one transaction, so a crash never loses or repeats more than one chunk.
+ */
+@Service
+public class ReModerationServiceImpl implements ReModerationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReModerationServiceImpl.class);
+
+    // Rows scanned sequentially by one fork-join task before it stops splitting
+    private static final int SCAN_THRESHOLD = 32;
+
+    private final ModerationBatchRepository batchRepository;
+    private final ModerationCheckpointRepository checkpointRepository;
+    private final ProfanityFilterService profanityFilterService;
+    private final ApprovedReviewFeedCache approvedReviewFeedCache;
+    private final AdminCounters adminCounters;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "re-moderation");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicReference<Run> lastRun = new AtomicReference<>();
+
+    public ReModerationServiceImpl(ModerationBatchRepository batchRepository,
+                                   ModerationCheckpointRepository checkpointRepository,
+                                   ProfanityFilterService profanityFilterService,
+                                   ApprovedReviewFeedCache approvedReviewFeedCache,
+                                   AdminCounters adminCounters,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${moderation.rescan.chunk-size:500}") int chunkSize,
+                                   @Value("${moderation.rescan.parallelism:0}") int parallelism) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Re-moderation chunk size must be at least 1");
+        }
+        this.batchRepository = batchRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.profanityFilterService = profanityFilterService;
+        this.approvedReviewFeedCache = approvedReviewFeedCache;
+        this.adminCounters = adminCounters;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public ReModerationStatusResponseModel startRescan(boolean restart) {
+        if (!running.compareAndSet(false, true)) {
+            throw new InvalidOperationException("A re-moderation run is already in progress.");
+        }
+
+        Run run = new Run();
+        lastRun.set(run);
+        logger.info("Starting re-moderation run (restart: {}, chunk size: {}, parallelism: {})",
+                restart, chunkSize, parallelism);
+
+        try {
+            runner.submit(() -> execute(run, restart));
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return run.toResponseModel(true);
+    }
+
+    @Override
+    public ReModerationStatusResponseModel getStatus() {
+        Run run = lastRun.get();
+        if (run == null) {
+            return ReModerationStatusResponseModel.builder()
+                    .running(false)
+                    .sources(List.of())
+                    .build();
+        }
+        return run.toResponseModel(running.get());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdownNow();
+    }
+
+    // =====================================================
+    // JOB
+    // =====================================================
+    private void execute(Run run, boolean restart) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (ModerationSource source : ModerationSource.values()) {
+                rescanSource(source, restart, run.progress.get(source), pool);
+            }
+            logger.info("Re-moderation run finished: {} rows scanned, {} flagged, {} cleared in {} ms ({} rows/s)",
+                    run.total(p -> p.scanned), run.total(p -> p.flagged), run.total(p -> p.cleared),
+                    run.elapsedMillis(), String.format("%.1f", run.rowsPerSecond()));
+        } catch (RuntimeException e) {
+            logger.error("Re-moderation run failed, it will resume from the last checkpoint", e);
+            run.error = e.getMessage();
+        } finally {
+            pool.shutdown();
+            run.finishedAt = Instant.now();
+            run.finishedNanos = System.nanoTime();
+            running.set(false);
+        }
+    }
+
+    private void rescanSource(ModerationSource source, boolean restart, SourceProgress progress, ForkJoinPool pool) {
+        ModerationCheckpoint checkpoint = checkpointRepository.findById(source)
+                .filter(existing -> !restart && !Boolean.TRUE.equals(existing.getCompleted()))
+                .orElseGet(() -> ModerationCheckpoint.fresh(source));
+        progress.start(checkpoint);
+
+        if (checkpoint.getLastId() > 0) {
+            logger.info("Resuming re-moderation of {} after id {}", source, checkpoint.getLastId());
+        }
+
+        while (true) {
+            List<ModerationRow> rows = batchRepository.fetchChunk(source, checkpoint.getLastId(), chunkSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            boolean[] hits = new boolean[rows.size()];
+            pool.invoke(new ScanTask(rows, hits, 0, rows.size()));
+
+            List<Long> toFlag = new ArrayList<>();
+            List<Long> toClear = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                ModerationRow row = rows.get(i);
+                // Only rows whose verdict changed are written
+                if (hits[i] && !row.flagged()) {
+                    toFlag.add(row.id());
+                } else if (!hits[i] && row.flagged()) {
+                    toClear.add(row.id());
+                }
+            }
+
+            checkpoint.setLastId(rows.get(rows.size() - 1).id());
+            checkpoint.setScanned(checkpoint.getScanned() + rows.size());
+            checkpoint.setFlagged(checkpoint.getFlagged() + toFlag.size());
+            checkpoint.setCleared(checkpoint.getCleared() + toClear.size());
+            checkpoint.setCompleted(rows.size() < chunkSize);
+            checkpoint.setUpdatedAt(Instant.now());
+
+            ModerationCheckpoint pending = checkpoint;
+            checkpoint = transactionTemplate.execute(status -> {
+                batchRepository.flag(source, toFlag);
+                batchRepository.clear(source, toClear);
+                return checkpointRepository.save(pending);
+            });
+            progress.chunkDone(checkpoint, rows.size(), toFlag.size(), toClear.size());
+            if (source == ModerationSource.REVIEWS && !toFlag.isEmpty()) {
+                // Flagged APPROVED reviews just went back to PENDING
+                approvedReviewFeedCache.invalidate();
+                adminCounters.reconcile();
+            }
+
+            if (checkpoint.getCompleted()) {
+                break;
+            }
+        }
+
+        if (!Boolean.TRUE.equals(checkpoint.getCompleted())) {
+            // Table size was an exact multiple of the chunk size
+            checkpoint.setCompleted(true);
+            checkpoint.setUpdatedAt(Instant.now());
+            checkpoint = checkpointRepository.save(checkpoint);
+        }
+        progress.finish();
+
+        logger.info("Re-moderation of {} done: {} rows scanned, {} flagged, {} cleared ({} rows/s)",
+                source, progress.scanned.get(), progress.flagged.get(), progress.cleared.get(),
+                String.format("%.1f", progress.rowsPerSecond()));
+    }
+
+    /**
+     * Splits a chunk in halves until pieces are small enough, then scans each row.
+     * Results go to a shared array indexed like the rows, so no merging is needed.
+     */
+    private final class ScanTask extends RecursiveAction {
+
+        private final List<ModerationRow> rows;
+        private final boolean[] hits;
+        private final int from;
+        private final int to;
+
+        ScanTask(List<ModerationRow> rows, boolean[] hits, int from, int to) {
+            this.rows = rows;
+            this.hits = hits;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SCAN_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    hits[i] = containsProfanity(rows.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ScanTask(rows, hits, from, middle), new ScanTask(rows, hits, middle, to));
+        }
+    }
+
+    private boolean containsProfanity(ModerationRow row) {
+        for (String text : row.texts()) {
+            if (profanityFilterService.containsProfanity(text)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // =====================================================
+    // PROGRESS
+    // =====================================================
+
+    /**
+     * Live counters of one run, read by the status endpoint while the job writes them.
+     */
+    private static final class Run {
+
+        private final Instant startedAt = Instant.now();
+        private final long startedNanos = System.nanoTime();
+        private final Map<ModerationSource, SourceProgress> progress = new EnumMap<>(ModerationSource.class);
+        private volatile Instant finishedAt;
+        private volatile long finishedNanos;
+        private volatile String error;
+
+        Run() {
+            for (ModerationSource source : ModerationSource.values()) {
+                progress.put(source, new SourceProgress(source));
+            }
+        }
+
+        long total(Function<SourceProgress, AtomicLong> counter) {
+            long total = 0;
+            for (SourceProgress source : progress.values()) {
+                total += counter.apply(source).get();
+            }
+            return total;
+        }
+
+        long elapsedMillis() {
+            long end = finishedAt != null ? finishedNanos : System.nanoTime();
+            return (end - startedNanos) / 1_000_000;
+        }
+
+        double rowsPerSecond() {
+            long elapsed = elapsedMillis();
+            return elapsed == 0 ? 0 : total(p -> p.scanned) * 1000.0 / elapsed;
+        }
+
+        ReModerationStatusResponseModel toResponseModel(boolean running) {
+            List<ReModerationStatusResponseModel.SourceStatus> sources = new ArrayList<>();
+            for (SourceProgress source : progress.values()) {
+                sources.add(source.toSourceStatus());
+            }
+            return ReModerationStatusResponseModel.builder()
+                    .running(running)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .elapsedMillis(elapsedMillis())
+                    .scanned(total(p -> p.scanned))
+                    .flagged(total(p -> p.flagged))
+                    .cleared(total(p -> p.cleared))
+                    .rowsPerSecond(rowsPerSecond())
+                    .error(error)
+                    .sources(sources)
+                    .build();
+        }
+    }
+
+    private static final class SourceProgress {
+
+        private final ModerationSource source;
+        private final AtomicLong chunks = new AtomicLong();
+        private final AtomicLong scanned = new AtomicLong();
+        private final AtomicLong flagged = new AtomicLong();
+        private final AtomicLong cleared = new AtomicLong();
+        private volatile long lastId;
+        private volatile boolean resumed;
+        private volatile boolean completed;
+        private volatile long startedNanos;
+        private volatile long finishedNanos;
+
+        SourceProgress(ModerationSource source) {
+            this.source = source;
+        }
+
+        void start(ModerationCheckpoint checkpoint) {
+            lastId = checkpoint.getLastId();
+            resumed = checkpoint.getLastId() > 0;
+            startedNanos = System.nanoTime();
+        }
+
+        void chunkDone(ModerationCheckpoint checkpoint, int rows, int newlyFlagged, int newlyCleared) {
+            chunks.incrementAndGet();
+            scanned.addAndGet(rows);
+            flagged.addAndGet(newlyFlagged);
+            cleared.addAndGet(newlyCleared);
+            lastId = checkpoint.getLastId();
+        }
+
+        void finish() {
+            finishedNanos = System.nanoTime();
+            completed = true;
+        }
+
+        double rowsPerSecond() {
+            if (startedNanos == 0) {
+                return 0;
+            }
+            long end = completed ? finishedNanos : System.nanoTime();
+            long elapsedMillis = (end - startedNanos) / 1_000_000;
+            return elapsedMillis == 0 ? 0 : scanned.get() * 1000.0 / elapsedMillis;
+        }
+
+        ReModerationStatusResponseModel.SourceStatus toSourceStatus() {
+            return ReModerationStatusResponseModel.SourceStatus.builder()
+                    .source(source.name())
+                    .resumed(resumed)
+                    .completed(completed)
+                    .lastId(lastId)
+                    .chunks(chunks.get())
+                    .scanned(scanned.get())
+                    .flagged(flagged.get())
+                    .cleared(cleared.get())
+                    .rowsPerSecond(rowsPerSecond())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.profroid.profroidapp.reviewsubdomain.businessLayer;
+
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ReviewRepository;
+import com.profroid.profroidapp.utils.similarity.IndexedText;
+import com.profroid.profroidapp.utils.similarity.NearDuplicateDetector;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * MinHash index over review comments, keyed by reviewId.
+ */
+@Component
+public class ReviewDuplicateDetector extends NearDuplicateDetector {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewDuplicateDetector.class);
+
+    private final ReviewRepository reviewRepository;
+
+    public ReviewDuplicateDetector(ReviewRepository reviewRepository,
+                                   @Value("${duplicates.similarity-threshold:0.8}") double threshold,
+                                   @Value("${duplicates.min-text-length:30}") int minTextLength) {
+        super(threshold, minTextLength);
+        this.reviewRepository = reviewRepository;
+    }
+
+    @PostConstruct
+    public void init() {
+        List<IndexedText> comments = reviewRepository.findAllCommentTexts();
+        load(comments);
+        logger.info("Review duplicate index loaded: {} of {} comments indexed", size(), comments.size());
+    }
+}
@@ -28,6 +28,17 @@ public interface ReviewService {
      */
     List<ReviewResponseModel> getApprovedReviews();
     
+    /**
+     * Get a page of approved reviews as cached JSON (public).
+     * A null page returns the whole feed.
+     */
+    ApprovedReviewFeedCache.CachedJson getApprovedReviewFeed(Integer page, Integer size);
+    
+    /**
+     * Get average rating, count per star and recent count of approved reviews as cached JSON (public)
+     */
+    ApprovedReviewFeedCache.CachedJson getApprovedReviewSummary();
+    
     /**
      * Get review by ID
      */
@@ -1,5 +1,7 @@
 package com.profroid.profroidapp.reviewsubdomain.businessLayer;
 
+import com.profroid.profroidapp.dashboardsubdomain.businessLayer.AdminCounter;
+import com.profroid.profroidapp.dashboardsubdomain.businessLayer.AdminCounters;
 import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.Review;
 import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ReviewRepository;
 import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ReviewStatus;
@@ -26,15 +28,24 @@ public class ReviewServiceImpl implements ReviewService {
     private final ReviewRequestMapper reviewRequestMapper;
     private final ReviewResponseMapper reviewResponseMapper;
     private final ProfanityFilterService profanityFilterService;
+    private final ReviewDuplicateDetector reviewDuplicateDetector;
+    private final ApprovedReviewFeedCache approvedReviewFeedCache;
+    private final AdminCounters adminCounters;
     
     public ReviewServiceImpl(ReviewRepository reviewRepository,
                             ReviewRequestMapper reviewRequestMapper,
                             ReviewResponseMapper reviewResponseMapper,
-                            ProfanityFilterService profanityFilterService) {
+                            ProfanityFilterService profanityFilterService,
+                            ReviewDuplicateDetector reviewDuplicateDetector,
+                            ApprovedReviewFeedCache approvedReviewFeedCache,
+                            AdminCounters adminCounters) {
         this.reviewRepository = reviewRepository;
         this.reviewRequestMapper = reviewRequestMapper;
         this.reviewResponseMapper = reviewResponseMapper;
         this.profanityFilterService = profanityFilterService;
+        this.reviewDuplicateDetector = reviewDuplicateDetector;
+        this.approvedReviewFeedCache = approvedReviewFeedCache;
+        this.adminCounters = adminCounters;
     }
     
     @Override
@@ -56,8 +67,20 @@ public class ReviewServiceImpl implements ReviewService {
         // Map to entity
         Review review = reviewRequestMapper.toEntity(requestModel, reviewId);
         
+        // Near-copies of an earlier review stay PENDING and are marked for the admin
+        reviewDuplicateDetector.findDuplicate(review.getComment()).ifPresent(match -> {
+            logger.warn("Review {} is {}% similar to review {}, holding it for moderation",
+                    reviewId, Math.round(match.similarity() * 100), match.key());
+            review.setStatus(ReviewStatus.PENDING);
+            review.setDuplicateOf(match.key());
+        });
+        
         // Save to database
         Review savedReview = reviewRepository.save(review);
+        reviewDuplicateDetector.addAfterCommit(savedReview.getReviewId(), savedReview.getComment());
+        approvedReviewFeedCache.onReviewChanged(null, savedReview.getStatus());
+        adminCounters.transitionAfterCommit(AdminCounter.PENDING_REVIEWS, ReviewStatus.PENDING, null, savedReview.getStatus());
+        adminCounters.announceAfterCommit("REVIEW", savedReview.getReviewId(), savedReview.getCustomerName());
         
         logger.info("Review created successfully with ID: {}", savedReview.getReviewId());
         
@@ -65,6 +88,7 @@ public class ReviewServiceImpl implements ReviewService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<ReviewResponseModel> getAllReviews() {
         logger.info("Fetching all reviews");
         List<Review> reviews = reviewRepository.findAllByOrderByCreatedAtDesc();
@@ -72,20 +96,33 @@ public class ReviewServiceImpl implements ReviewService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<ReviewResponseModel> getReviewsByStatus(ReviewStatus status) {
         logger.info("Fetching reviews with status: {}", status);
         List<Review> reviews = reviewRepository.findByStatusOrderByCreatedAtDesc(status);
         return reviewResponseMapper.toResponseModelList(reviews);
     }
     
+    // The approved feed stays on the primary: it is reloaded right after each moderation
+    // commit, and a lagging replica would put the old list back in the cache
     @Override
     public List<ReviewResponseModel> getApprovedReviews() {
         logger.info("Fetching approved reviews for public display");
-        List<Review> reviews = reviewRepository.findByStatusOrderByCreatedAtDesc(ReviewStatus.APPROVED);
-        return reviewResponseMapper.toResponseModelList(reviews);
+        return approvedReviewFeedCache.getReviews();
+    }
+    
+    @Override
+    public ApprovedReviewFeedCache.CachedJson getApprovedReviewFeed(Integer page, Integer size) {
+        return approvedReviewFeedCache.getPage(page, size);
+    }
+    
+    @Override
+    public ApprovedReviewFeedCache.CachedJson getApprovedReviewSummary() {
+        return approvedReviewFeedCache.getSummary();
     }
     
     @Override
+    @Transactional(readOnly = true)
     public ReviewResponseModel getReviewById(String reviewId) {
         logger.info("Fetching review by ID: {}", reviewId);
         Review review = reviewRepository.findByReviewId(reviewId)
@@ -101,11 +138,14 @@ public class ReviewServiceImpl implements ReviewService {
         Review review = reviewRepository.findByReviewId(reviewId)
                 .orElseThrow(() -> new ResourceNotFoundException("Review not found with ID: " + reviewId));
         
+        ReviewStatus previousStatus = review.getStatus();
         review.setStatus(status);
         review.setReviewedBy(reviewedBy);
         review.setReviewedAt(Instant.now());
         
         Review updatedReview = reviewRepository.save(review);
+        approvedReviewFeedCache.onReviewChanged(previousStatus, status);
+        adminCounters.transitionAfterCommit(AdminCounter.PENDING_REVIEWS, ReviewStatus.PENDING, previousStatus, status);
         
         logger.info("Review {} status updated successfully", reviewId);
         
@@ -121,6 +161,9 @@ public class ReviewServiceImpl implements ReviewService {
                 .orElseThrow(() -> new ResourceNotFoundException("Review not found with ID: " + reviewId));
         
         reviewRepository.delete(review);
+        reviewDuplicateDetector.removeAfterCommit(reviewId);
+        approvedReviewFeedCache.onReviewChanged(review.getStatus(), null);
+        adminCounters.transitionAfterCommit(AdminCounter.PENDING_REVIEWS, ReviewStatus.PENDING, review.getStatus(), null);
         
         logger.info("Review {} deleted successfully", reviewId);
     }
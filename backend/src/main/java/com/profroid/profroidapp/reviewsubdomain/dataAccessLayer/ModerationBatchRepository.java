@@ -0,0 +1,83 @@
+package com.profroid.profroidapp.reviewsubdomain.dataAccessLayer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plain JDBC access used by the re-moderation job.
+ * Rows are read in primary key order (keyset pagination, so every chunk is an index
+ * range scan no matter how far the job has progressed) and flag changes are written
+ * back in JDBC batches instead of loading and saving entities one by one.
+ */
+@Repository
+public class ModerationBatchRepository {
+
+    /**
+     * One stored row: its user-written text fields and the flag currently stored.
+     */
+    public record ModerationRow(long id, List<String> texts, boolean flagged) {
+    }
+
+    // A flagged review leaves the public feed until an admin approves it again
+    private static final String FLAG_REVIEW_SQL =
+            "UPDATE reviews SET profanity_flagged = TRUE, "
+                    + "status = CASE WHEN status = 'APPROVED' THEN 'PENDING' ELSE status END WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ModerationBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Up to limit rows with id > afterId, in id order.
+     */
+    public List<ModerationRow> fetchChunk(ModerationSource source, long afterId, int limit) {
+        List<String> columns = source.getTextColumns();
+        String sql = "SELECT id, " + String.join(", ", columns) + ", profanity_flagged FROM " + source.getTableName()
+                + " WHERE id > ? ORDER BY id LIMIT ?";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            List<String> texts = new ArrayList<>(columns.size());
+            for (int i = 0; i < columns.size(); i++) {
+                String value = rs.getString(i + 2);
+                if (value != null) {
+                    texts.add(value);
+                }
+            }
+            return new ModerationRow(rs.getLong(1), texts, rs.getBoolean(columns.size() + 2));
+        }, afterId, limit);
+    }
+
+    /**
+     * Marks every id as containing profanity, in one JDBC batch.
+     */
+    public int[] flag(ModerationSource source, List<Long> ids) {
+        String sql = source == ModerationSource.REVIEWS
+                ? FLAG_REVIEW_SQL
+                : "UPDATE " + source.getTableName() + " SET profanity_flagged = TRUE WHERE id = ?";
+        return batch(sql, ids);
+    }
+
+    /**
+     * Clears the flag on rows that no longer match the dictionary, in one JDBC batch.
+     * Review status is left as is: putting a review back on the feed stays an admin decision.
+     */
+    public int[] clear(ModerationSource source, List<Long> ids) {
+        return batch("UPDATE " + source.getTableName() + " SET profanity_flagged = FALSE WHERE id = ?", ids);
+    }
+
+    private int[] batch(String sql, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new int[0];
+        }
+        List<Object[]> args = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            args.add(new Object[]{id});
+        }
+        return jdbcTemplate.batchUpdate(sql, args);
+    }
+}
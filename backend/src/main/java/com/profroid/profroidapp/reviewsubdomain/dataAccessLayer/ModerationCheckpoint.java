@@ -0,0 +1,57 @@
+package com.profroid.profroidapp.reviewsubdomain.dataAccessLayer;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Progress of the re-moderation job for one table.
+ * last_id is the highest primary key already scanned and written back, so an
+ * interrupted run resumes right after it.
+ */
+@Entity
+@Table(name = "moderation_checkpoints")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ModerationCheckpoint {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", length = 30)
+    private ModerationSource source;
+
+    @Column(name = "last_id", nullable = false)
+    private Long lastId;
+
+    @Column(nullable = false)
+    private Long scanned;
+
+    @Column(nullable = false)
+    private Long flagged;
+
+    @Column(nullable = false)
+    private Long cleared;
+
+    @Column(nullable = false)
+    private Boolean completed;
+
+    @Column(nullable = false)
+    private Instant startedAt;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    public static ModerationCheckpoint fresh(ModerationSource source) {
+        Instant now = Instant.now();
+        return new ModerationCheckpoint(source, 0L, 0L, 0L, 0L, false, now, now);
+    }
+}
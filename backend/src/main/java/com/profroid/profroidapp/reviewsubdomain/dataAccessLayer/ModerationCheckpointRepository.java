@@ -0,0 +1,8 @@
+package com.profroid.profroidapp.reviewsubdomain.dataAccessLayer;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ModerationCheckpointRepository extends JpaRepository<ModerationCheckpoint, ModerationSource> {
+}
@@ -0,0 +1,28 @@
+package com.profroid.profroidapp.reviewsubdomain.dataAccessLayer;
+
+import java.util.List;
+
+/**
+ * Tables re-checked by the re-moderation job, with the user-written columns scanned in each.
+ */
+public enum ModerationSource {
+    REVIEWS("reviews", List.of("customer_name", "comment")),
+    CONTACT_MESSAGES("contact_messages", List.of("name", "subject", "message")),
+    WARRANTY_CLAIMS("warranty_claims", List.of("customer_name", "product_name", "issue_description"));
+
+    private final String tableName;
+    private final List<String> textColumns;
+
+    ModerationSource(String tableName, List<String> textColumns) {
+        this.tableName = tableName;
+        this.textColumns = textColumns;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<String> getTextColumns() {
+        return textColumns;
+    }
+}
@@ -38,6 +38,12 @@ public class Review {
     @Column
     private String reviewedBy; // Admin userId who reviewed it
     
+    @Column
+    private Boolean profanityFlagged = false; // Set by the re-moderation job
+    
+    @Column
+    private String duplicateOf; // reviewId of a near-identical earlier review, held for moderation
+    
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
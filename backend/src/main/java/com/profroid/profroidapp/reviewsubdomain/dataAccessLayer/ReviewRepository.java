@@ -1,6 +1,8 @@
 package com.profroid.profroidapp.reviewsubdomain.dataAccessLayer;
 
+import com.profroid.profroidapp.utils.similarity.IndexedText;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,5 +17,13 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     
     List<Review> findByStatusOrderByCreatedAtDesc(ReviewStatus status);
     
+    long countByStatus(ReviewStatus status);
+    
     List<Review> findAllByOrderByCreatedAtDesc();
+    
+    /**
+     * Only the columns needed to build the duplicate index at startup
+     */
+    @Query("SELECT new com.profroid.profroidapp.utils.similarity.IndexedText(r.reviewId, r.comment) FROM Review r WHERE r.comment IS NOT NULL")
+    List<IndexedText> findAllCommentTexts();
 }
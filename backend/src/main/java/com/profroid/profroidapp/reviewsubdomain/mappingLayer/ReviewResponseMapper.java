@@ -23,6 +23,8 @@ public class ReviewResponseMapper {
                 .customerId(review.getCustomerId())
                 .status(review.getStatus().name())
                 .reviewedBy(review.getReviewedBy())
+                .profanityFlagged(Boolean.TRUE.equals(review.getProfanityFlagged()))
+                .duplicateOf(review.getDuplicateOf())
                 .createdAt(review.getCreatedAt())
                 .updatedAt(review.getUpdatedAt())
                 .reviewedAt(review.getReviewedAt())
@@ -0,0 +1,43 @@
+package com.profroid.profroidapp.reviewsubdomain.presentationLayer;
+
+import com.profroid.profroidapp.reviewsubdomain.businessLayer.ReModerationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/v1/moderation/rescan")
+public class ReModerationController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReModerationController.class);
+    private final ReModerationService reModerationService;
+
+    public ReModerationController(ReModerationService reModerationService) {
+        this.reModerationService = reModerationService;
+    }
+
+    /**
+     * Re-check stored reviews, contact messages and warranty claims (Admin only)
+     * Runs in the background; resumes an interrupted run unless restart=true
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping
+    public ResponseEntity<ReModerationStatusResponseModel> startRescan(
+            @RequestParam(defaultValue = "false") boolean restart) {
+        logger.info("Admin starting re-moderation run (restart: {})", restart);
+        ReModerationStatusResponseModel status = reModerationService.startRescan(restart);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+    }
+
+    /**
+     * Progress and throughput of the current or last run (Admin only)
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping
+    public ResponseEntity<ReModerationStatusResponseModel> getStatus() {
+        return ResponseEntity.ok(reModerationService.getStatus());
+    }
+}
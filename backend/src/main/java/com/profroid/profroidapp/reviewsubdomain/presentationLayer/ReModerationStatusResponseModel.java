@@ -0,0 +1,43 @@
+package com.profroid.profroidapp.reviewsubdomain.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReModerationStatusResponseModel {
+
+    private boolean running;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private long elapsedMillis;
+    private long scanned;
+    private long flagged;
+    private long cleared;
+    private double rowsPerSecond;
+    private String error;
+    private List<SourceStatus> sources;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SourceStatus {
+        private String source;
+        private boolean resumed;
+        private boolean completed;
+        private long lastId;
+        private long chunks;
+        private long scanned;
+        private long flagged;
+        private long cleared;
+        private double rowsPerSecond;
+    }
+}
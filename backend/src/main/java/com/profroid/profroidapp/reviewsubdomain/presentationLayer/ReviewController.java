@@ -1,15 +1,19 @@
 package com.profroid.profroidapp.reviewsubdomain.presentationLayer;
 
+import com.profroid.profroidapp.reviewsubdomain.businessLayer.ApprovedReviewFeedCache;
 import com.profroid.profroidapp.reviewsubdomain.businessLayer.ReviewService;
 import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ReviewStatus;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -62,13 +66,40 @@ public class ReviewController {
     
     /**
      * Get approved reviews (Public endpoint)
-     * Used to display reviews on the home page
+     * Used to display reviews on the home page. Without page, the whole feed is returned.
+     * Served from cached JSON; clients sending If-None-Match get 304 when nothing changed.
      */
     @GetMapping("/approved")
-    public ResponseEntity<List<ReviewResponseModel>> getApprovedReviews() {
-        logger.info("Fetching approved reviews for public display");
-        List<ReviewResponseModel> reviews = reviewService.getApprovedReviews();
-        return ResponseEntity.ok(reviews);
+    public ResponseEntity<byte[]> getApprovedReviews(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+        ApprovedReviewFeedCache.CachedJson feed = reviewService.getApprovedReviewFeed(page, size);
+        return cachedJson(feed, webRequest);
+    }
+    
+    /**
+     * Get rating aggregates of approved reviews (Public endpoint)
+     * Average rating, count per star and number of recent reviews
+     */
+    @GetMapping("/approved/summary")
+    public ResponseEntity<byte[]> getApprovedReviewSummary(WebRequest webRequest) {
+        ApprovedReviewFeedCache.CachedJson summary = reviewService.getApprovedReviewSummary();
+        return cachedJson(summary, webRequest);
+    }
+    
+    // checkNotModified sets the ETag header, and the 304 status when If-None-Match matches it
+    private ResponseEntity<byte[]> cachedJson(ApprovedReviewFeedCache.CachedJson json, WebRequest webRequest) {
+        if (webRequest.checkNotModified(json.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .header("X-Total-Count", String.valueOf(json.totalCount()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json.body());
     }
     
     /**
@@ -20,6 +20,8 @@ public class ReviewResponseModel {
     private String customerId;
     private String status;
     private String reviewedBy;
+    private Boolean profanityFlagged;
+    private String duplicateOf;
     private Instant createdAt;
     private Instant updatedAt;
     private Instant reviewedAt;
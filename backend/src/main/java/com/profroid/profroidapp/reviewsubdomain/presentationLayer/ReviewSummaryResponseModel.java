@@ -0,0 +1,21 @@
+package com.profroid.profroidapp.reviewsubdomain.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewSummaryResponseModel {
+
+    private long totalCount;
+    private double averageRating;
+    private Map<Integer, Long> countByRating; // 1-5 stars, every star present
+    private long recentCount;                 // approved reviews created in the last recentDays
+    private int recentDays;
+}
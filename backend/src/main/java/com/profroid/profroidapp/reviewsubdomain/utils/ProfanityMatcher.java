@@ -0,0 +1,266 @@
+package com.profroid.profroidapp.reviewsubdomain.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+
+/**
+ * Aho-Corasick automaton over the normalized profanity dictionary.
+ *
+ * The automaton is built once per dictionary and is immutable, so it can be shared
+ * by any number of threads and swapped atomically when the dictionary is reloaded.
+ * One scan over the normalized text finds every dictionary entry; a hit only counts
+ * when it starts and ends on a word boundary.
+ */
+public final class ProfanityMatcher {
+
+    /**
+     * A dictionary word found in the text. start/end are offsets in the original text.
+     */
+    public record Match(String word, int start, int end) {
+    }
+
+    // Keeps obfuscation variants per word bounded
+    private static final int MAX_VARIANTS_PER_WORD = 64;
+
+    // Alternative spellings still seen after normalization: "fvck", "sh|t", "|oser"
+    private static final Map<Character, char[]> VARIANTS = Map.of(
+            'u', new char[]{'v'},
+            'i', new char[]{'|'},
+            'l', new char[]{'|'}
+    );
+
+    private final char[] alphabet;        // sorted chars used by the patterns
+    private final int[][] transitions;    // full goto/fail table: node x alphabet index
+    private final int[][] outputs;        // pattern ids ending at each node (fail links merged)
+    private final String[] patternWords;  // dictionary entry reported for each pattern
+    private final int[] patternLengths;   // length of each pattern in normalized chars
+    private final int wordCount;
+
+    private ProfanityMatcher(char[] alphabet, int[][] transitions, int[][] outputs,
+                             String[] patternWords, int[] patternLengths, int wordCount) {
+        this.alphabet = alphabet;
+        this.transitions = transitions;
+        this.outputs = outputs;
+        this.patternWords = patternWords;
+        this.patternLengths = patternLengths;
+        this.wordCount = wordCount;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    // =====================================================
+    // BUILD
+    // =====================================================
+    public static ProfanityMatcher build(Collection<String> words) {
+        // normalized pattern -> dictionary word reported for it
+        Map<String, String> patterns = new LinkedHashMap<>();
+        int wordCount = 0;
+        for (String word : words) {
+            if (word == null) {
+                continue;
+            }
+            String normalized = ProfanityTextNormalizer.normalizeWord(word);
+            if (!isUsable(word, normalized)) {
+                continue;
+            }
+            wordCount++;
+            for (String variant : variants(normalized)) {
+                patterns.merge(variant, word, ProfanityMatcher::preferredWord);
+            }
+        }
+
+        // Trie construction
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> nodeOutputs = new ArrayList<>();
+        trie.add(new HashMap<>());
+        nodeOutputs.add(new ArrayList<>());
+
+        String[] patternWords = new String[patterns.size()];
+        int[] patternLengths = new int[patterns.size()];
+        TreeSet<Character> chars = new TreeSet<>();
+
+        int patternId = 0;
+        for (Map.Entry<String, String> entry : patterns.entrySet()) {
+            String pattern = entry.getKey();
+            int node = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                chars.add(c);
+                Integer child = trie.get(node).get(c);
+                if (child == null) {
+                    child = trie.size();
+                    trie.get(node).put(c, child);
+                    trie.add(new HashMap<>());
+                    nodeOutputs.add(new ArrayList<>());
+                }
+                node = child;
+            }
+            nodeOutputs.get(node).add(patternId);
+            patternWords[patternId] = entry.getValue();
+            patternLengths[patternId] = pattern.length();
+            patternId++;
+        }
+
+        char[] alphabet = new char[chars.size()];
+        int a = 0;
+        for (char c : chars) {
+            alphabet[a++] = c;
+        }
+
+        // BFS to compute fail links and turn the trie into a full transition table
+        int nodeCount = trie.size();
+        int[][] transitions = new int[nodeCount][alphabet.length];
+        int[] fail = new int[nodeCount];
+        int[][] outputs = new int[nodeCount][];
+        Queue<Integer> queue = new ArrayDeque<>();
+
+        for (int s = 0; s < alphabet.length; s++) {
+            Integer child = trie.get(0).get(alphabet[s]);
+            if (child != null) {
+                transitions[0][s] = child;
+                fail[child] = 0;
+                queue.add(child);
+            }
+        }
+        outputs[0] = new int[0];
+
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            List<Integer> own = nodeOutputs.get(node);
+            int[] inherited = outputs[fail[node]];
+            int[] merged = new int[own.size() + inherited.length];
+            for (int i = 0; i < own.size(); i++) {
+                merged[i] = own.get(i);
+            }
+            System.arraycopy(inherited, 0, merged, own.size(), inherited.length);
+            outputs[node] = merged;
+
+            for (int s = 0; s < alphabet.length; s++) {
+                Integer child = trie.get(node).get(alphabet[s]);
+                if (child != null) {
+                    fail[child] = transitions[fail[node]][s];
+                    transitions[node][s] = child;
+                    queue.add(child);
+                } else {
+                    transitions[node][s] = transitions[fail[node]][s];
+                }
+            }
+        }
+
+        return new ProfanityMatcher(alphabet, transitions, outputs, patternWords, patternLengths, wordCount);
+    }
+
+    /**
+     * Entries that collapse into a different, very short token ("ass" -> "as")
+     * would flag ordinary words, so they are skipped.
+     */
+    private static boolean isUsable(String word, String normalized) {
+        if (normalized.isEmpty()) {
+            return false;
+        }
+        boolean collapsed = normalized.length() < word.trim().length();
+        return !(collapsed && normalized.length() < 3);
+    }
+
+    /**
+     * When several entries normalize to the same pattern ("shit", "sh1t", "sh!t"),
+     * report the plain spelling.
+     */
+    private static String preferredWord(String existing, String candidate) {
+        boolean existingPlain = isPlain(existing);
+        boolean candidatePlain = isPlain(candidate);
+        if (existingPlain != candidatePlain) {
+            return existingPlain ? existing : candidate;
+        }
+        return existing.compareTo(candidate) <= 0 ? existing : candidate;
+    }
+
+    private static boolean isPlain(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (!Character.isLetter(c) && c != ' ' && c != '\'' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> variants(String normalized) {
+        List<String> result = new ArrayList<>();
+        result.add(normalized);
+        for (int i = 0; i < normalized.length(); i++) {
+            char[] alternatives = VARIANTS.get(normalized.charAt(i));
+            if (alternatives == null) {
+                continue;
+            }
+            int existing = result.size();
+            for (int v = 0; v < existing && result.size() < MAX_VARIANTS_PER_WORD; v++) {
+                for (char alternative : alternatives) {
+                    char[] chars = result.get(v).toCharArray();
+                    chars[i] = alternative;
+                    result.add(new String(chars));
+                }
+            }
+        }
+        return result;
+    }
+
+    // =====================================================
+    // SCAN
+    // =====================================================
+
+    /**
+     * All dictionary hits in the text, in order of appearance, with offsets in the
+     * original (non-normalized) text.
+     */
+    public List<Match> scan(String text) {
+        if (text == null || text.isEmpty() || patternWords.length == 0) {
+            return List.of();
+        }
+
+        ProfanityTextNormalizer.Normalized normalized = ProfanityTextNormalizer.normalize(text);
+        char[] chars = normalized.chars();
+        int length = normalized.length();
+
+        List<Match> matches = new ArrayList<>();
+        int node = 0;
+        for (int i = 0; i < length; i++) {
+            int symbol = Arrays.binarySearch(alphabet, chars[i]);
+            if (symbol < 0) {
+                node = 0;
+                continue;
+            }
+            node = transitions[node][symbol];
+
+            for (int pattern : outputs[node]) {
+                int start = i - patternLengths[pattern] + 1;
+                int end = i + 1;
+                if (isBoundary(chars, length, start - 1) && isBoundary(chars, length, end)) {
+                    matches.add(new Match(
+                            patternWords[pattern],
+                            normalized.sourceStart()[start],
+                            normalized.sourceEnd()[end - 1]));
+                }
+            }
+        }
+
+        matches.sort((left, right) -> left.start() != right.start()
+                ? Integer.compare(left.start(), right.start())
+                : Integer.compare(right.end(), left.end()));
+        return matches;
+    }
+
+    private static boolean isBoundary(char[] chars, int length, int index) {
+        return index < 0 || index >= length || !Character.isLetterOrDigit(chars[index]);
+    }
+}
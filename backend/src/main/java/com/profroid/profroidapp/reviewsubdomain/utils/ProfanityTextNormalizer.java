@@ -0,0 +1,105 @@
+package com.profroid.profroidapp.reviewsubdomain.utils;
+
+/**
+ * Single-pass text normalizer used by the profanity matcher.
+ *
+ * Every input char goes through one lookup table that folds leetspeak, separators,
+ * accents and case, then runs of the same folded char are collapsed
+ * ("shiiit" -> "shit", "f-u-c-k" stays "f u c k"). For each normalized char we keep
+ * the range of original chars it came from, so matches can be censored in the
+ * original text.
+ */
+public final class ProfanityTextNormalizer {
+
+    // Chars above this are only lower-cased
+    private static final int TABLE_SIZE = 0x250;
+    private static final char[] FOLD = new char[TABLE_SIZE];
+
+    static {
+        for (int c = 0; c < TABLE_SIZE; c++) {
+            FOLD[c] = Character.toLowerCase((char) c);
+        }
+
+        // Leetspeak / number substitutions
+        map("0", 'o');
+        map("1!", 'i');
+        map("3", 'e');
+        map("4@", 'a');
+        map("5$", 's');
+        map("7+", 't');
+        map("8", 'b');
+        map("¢", 'c');
+
+        // Separators used to split words apart
+        map("_-*.", ' ');
+        for (int c = 0; c < TABLE_SIZE; c++) {
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                FOLD[c] = ' ';
+            }
+        }
+
+        // French accents, both cases
+        map("éèêëÉÈÊË", 'e');
+        map("àâäÀÂÄ", 'a');
+        map("ùûüÙÛÜ", 'u');
+        map("ïîÏÎ", 'i');
+        map("ôöÔÖ", 'o');
+        map("çÇ", 'c');
+    }
+
+    private ProfanityTextNormalizer() {}
+
+    private static void map(String from, char to) {
+        for (int i = 0; i < from.length(); i++) {
+            FOLD[from.charAt(i)] = to;
+        }
+    }
+
+    public static char fold(char c) {
+        if (c < TABLE_SIZE) {
+            return FOLD[c];
+        }
+        if (c == '€') {
+            return 'e'; // euro sign
+        }
+        return Character.toLowerCase(c);
+    }
+
+    /**
+     * Normalized text plus, for every normalized char i, the original range
+     * [sourceStart[i], sourceEnd[i]) it was produced from.
+     */
+    public record Normalized(char[] chars, int length, int[] sourceStart, int[] sourceEnd) {
+    }
+
+    public static Normalized normalize(String text) {
+        int n = text.length();
+        char[] chars = new char[n];
+        int[] sourceStart = new int[n];
+        int[] sourceEnd = new int[n];
+        int length = 0;
+
+        for (int i = 0; i < n; i++) {
+            char c = fold(text.charAt(i));
+            if (length > 0 && chars[length - 1] == c) {
+                // Same char repeated: extend the previous one instead of emitting
+                sourceEnd[length - 1] = i + 1;
+                continue;
+            }
+            chars[length] = c;
+            sourceStart[length] = i;
+            sourceEnd[length] = i + 1;
+            length++;
+        }
+
+        return new Normalized(chars, length, sourceStart, sourceEnd);
+    }
+
+    /**
+     * Normalized form of a dictionary word, trimmed.
+     */
+    public static String normalizeWord(String word) {
+        Normalized normalized = normalize(word);
+        return new String(normalized.chars(), 0, normalized.length()).trim();
+    }
+}
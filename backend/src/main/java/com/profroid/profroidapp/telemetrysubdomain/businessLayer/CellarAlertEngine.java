@@ -0,0 +1,207 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+import com.profroid.profroidapp.appointmentsubdomain.businessLayer.AppointmentService;
+import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.Cellar;
+import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.CellarRepository;
+import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.CellarType;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.TelemetryReading;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Evaluates the alert rules of each cellar's type on readings as they are ingested,
+ * so out-of-range cellars are caught without querying stored readings.
+ *
+ * Each (cellar, rule) pair is a small state machine: OK, PENDING once a reading is past
+ * the threshold, FIRING once it has stayed there for the rule's sustain duration, and
+ * back to OK only when a reading passes the clear threshold. Time is the readings' own
+ * recordedAt; late readings are skipped, and a silence longer than the sustain duration
+ * restarts a pending rule since nothing proves the cellar stayed out of range.
+ *
+ * Firing opens a draft maintenance appointment through AppointmentService, which
+ * auto-assigns a technician and notifies the customer and technician. A rule that fires
+ * again within the cooldown is not acted on twice, and the appointment service skips
+ * cellars that already have an upcoming maintenance visit. Actions run on their own
+ * thread so the telemetry writer never waits on them.
+ *
+ * observe() is called from the telemetry writer thread only.
+ */
+@Component
+public class CellarAlertEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(CellarAlertEngine.class);
+
+    // How long a cellar's type is trusted before it is looked up again
+    private static final long PROFILE_TTL_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    enum Phase {
+        OK,
+        PENDING,
+        FIRING
+    }
+
+    static final class RuleState {
+        Phase phase = Phase.OK;
+        long since;
+        long lastTime = Long.MIN_VALUE;
+        long lastFiredAt = Long.MIN_VALUE;
+    }
+
+    private static final class CellarState {
+        final CellarType type;
+        final String name;
+        final List<CellarAlertRule> rules;
+        final RuleState[] states;
+        long loadedAtNanos;
+
+        CellarState(CellarType type, String name, List<CellarAlertRule> rules, long loadedAtNanos) {
+            this.type = type;
+            this.name = name;
+            this.rules = rules;
+            this.states = new RuleState[rules.size()];
+            for (int i = 0; i < states.length; i++) {
+                states[i] = new RuleState();
+            }
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
+
+    private final CellarRepository cellarRepository;
+    private final CellarAlertRules alertRules;
+    private final AppointmentService appointmentService;
+    private final long cooldownMs;
+
+    private final Map<String, CellarState> cellars = new HashMap<>();
+    private final AtomicLong firedCount = new AtomicLong();
+
+    private final ExecutorService actions = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "cellar-alerts");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CellarAlertEngine(CellarRepository cellarRepository,
+                             CellarAlertRules alertRules,
+                             AppointmentService appointmentService,
+                             @Value("${telemetry.alerts.cooldown-minutes:360}") long cooldownMinutes) {
+        this.cellarRepository = cellarRepository;
+        this.alertRules = alertRules;
+        this.appointmentService = appointmentService;
+        this.cooldownMs = Duration.ofMinutes(cooldownMinutes).toMillis();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        actions.shutdown();
+    }
+
+    public long getFiredCount() {
+        return firedCount.get();
+    }
+
+    public void observe(TelemetryReading reading) {
+        CellarState cellar = cellarState(reading.cellarId());
+        for (int i = 0; i < cellar.states.length; i++) {
+            CellarAlertRule rule = cellar.rules.get(i);
+            Double value = rule.valueOf(reading.temperature(), reading.humidity());
+            if (value != null && advance(rule, cellar.states[i], reading.recordedAt(), value)) {
+                fire(reading.cellarId(), cellar.name, rule, value);
+            }
+        }
+    }
+
+    /**
+     * Moves one rule's state machine forward; true when the rule fires and should be acted on.
+     */
+    boolean advance(CellarAlertRule rule, RuleState state, long time, double value) {
+        if (time < state.lastTime) {
+            return false;
+        }
+        long sinceLast = state.lastTime == Long.MIN_VALUE ? 0 : time - state.lastTime;
+        state.lastTime = time;
+
+        switch (state.phase) {
+            case OK -> {
+                if (!rule.isBreached(value)) {
+                    return false;
+                }
+                state.phase = Phase.PENDING;
+                state.since = time;
+            }
+            case PENDING -> {
+                if (!rule.isBreached(value)) {
+                    state.phase = Phase.OK;
+                    return false;
+                }
+                if (sinceLast > rule.sustain().toMillis()) {
+                    state.since = time;
+                }
+            }
+            case FIRING -> {
+                if (rule.isCleared(value)) {
+                    state.phase = Phase.OK;
+                }
+                return false;
+            }
+        }
+
+        if (time - state.since < rule.sustain().toMillis()) {
+            return false;
+        }
+        state.phase = Phase.FIRING;
+        boolean duplicate = state.lastFiredAt != Long.MIN_VALUE && time - state.lastFiredAt < cooldownMs;
+        state.lastFiredAt = time;
+        return !duplicate;
+    }
+
+    private CellarState cellarState(String cellarId) {
+        long now = System.nanoTime();
+        CellarState state = cellars.get(cellarId);
+        if (state != null && now - state.loadedAtNanos < PROFILE_TTL_NANOS) {
+            return state;
+        }
+
+        Cellar cellar = cellarRepository.findCellarByCellarIdentifier_CellarId(cellarId);
+        boolean monitored = cellar != null && !Boolean.TRUE.equals(cellar.getIsDeleted());
+        CellarType type = monitored ? cellar.getCellarType() : null;
+        if (state != null && state.type == type) {
+            // Same rules: keep the running state machines
+            state.loadedAtNanos = now;
+            return state;
+        }
+        state = new CellarState(type, monitored ? cellar.getName() : cellarId, alertRules.rulesFor(type), now);
+        cellars.put(cellarId, state);
+        return state;
+    }
+
+    private void fire(String cellarId, String cellarName, CellarAlertRule rule, double value) {
+        firedCount.incrementAndGet();
+        String description = "Automatic alert from cellar \"" + cellarName + "\": " + rule.describe()
+                + " (last reading " + value + "). Please check the cellar's cooling and humidity control.";
+        logger.warn("Cellar {} alert: {}", cellarId, rule.describe());
+
+        actions.execute(() -> {
+            try {
+                appointmentService.createDraftMaintenanceAppointment(cellarId, description)
+                        .ifPresentOrElse(
+                                appointment -> logger.info("Opened draft maintenance appointment {} for cellar {}",
+                                        appointment.getAppointmentId(), cellarId),
+                                () -> logger.info("Cellar {} already has an upcoming maintenance visit", cellarId));
+            } catch (RuntimeException e) {
+                logger.error("Could not open a maintenance appointment for cellar {}", cellarId, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,74 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One out-of-range condition, e.g. humidity under 50% for more than 30 minutes.
+ *
+ * The rule fires once the value has stayed past threshold for the whole sustain
+ * duration, and only clears once it is back past clearThreshold, so a reading
+ * hovering around the threshold does not fire and clear over and over.
+ *
+ * Written in configuration as "humidity < 50 for 30m clear 55".
+ */
+public record CellarAlertRule(Metric metric, boolean above, double threshold, double clearThreshold, Duration sustain) {
+
+    public enum Metric {
+        TEMPERATURE,
+        HUMIDITY
+    }
+
+    private static final Pattern SYNTAX = Pattern.compile(
+            "(temperature|humidity)\\s*([<>])\\s*(-?\\d+(?:\\.\\d+)?)\\s+for\\s+(\\d+)\\s*([mh])\\s+clear\\s+(-?\\d+(?:\\.\\d+)?)");
+
+    public CellarAlertRule {
+        if (above ? clearThreshold > threshold : clearThreshold < threshold) {
+            throw new IllegalArgumentException("The clear threshold must be on the safe side of the alert threshold");
+        }
+        if (sustain.isNegative()) {
+            throw new IllegalArgumentException("The sustain duration must not be negative");
+        }
+    }
+
+    public static CellarAlertRule parse(String text) {
+        Matcher matcher = SYNTAX.matcher(text.trim().toLowerCase(Locale.ROOT));
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid alert rule '" + text
+                    + "', expected e.g. 'humidity < 50 for 30m clear 55'");
+        }
+        long amount = Long.parseLong(matcher.group(4));
+        return new CellarAlertRule(
+                Metric.valueOf(matcher.group(1).toUpperCase(Locale.ROOT)),
+                matcher.group(2).equals(">"),
+                Double.parseDouble(matcher.group(3)),
+                Double.parseDouble(matcher.group(6)),
+                matcher.group(5).equals("h") ? Duration.ofHours(amount) : Duration.ofMinutes(amount));
+    }
+
+    /**
+     * The rule's value in a reading, or null when the reading does not measure it.
+     */
+    public Double valueOf(Double temperature, Double humidity) {
+        return metric == Metric.TEMPERATURE ? temperature : humidity;
+    }
+
+    public boolean isBreached(double value) {
+        return above ? value > threshold : value < threshold;
+    }
+
+    public boolean isCleared(double value) {
+        return above ? value <= clearThreshold : value >= clearThreshold;
+    }
+
+    public String describe() {
+        return metric.name().toLowerCase(Locale.ROOT) + (above ? " above " : " below ") + format(threshold)
+                + (metric == Metric.HUMIDITY ? "%" : "°C") + " for more than " + sustain.toMinutes() + " minutes";
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
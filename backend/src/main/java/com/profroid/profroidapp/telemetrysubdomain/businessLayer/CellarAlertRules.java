@@ -0,0 +1,44 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.CellarType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Alert rules per cellar type, read once at startup from
+ * telemetry.alerts.rules.&lt;CELLAR_TYPE&gt; (rules separated by ';'), falling back to
+ * telemetry.alerts.default-rules. A malformed rule stops the application from starting.
+ */
+@Component
+public class CellarAlertRules {
+
+    private final Map<CellarType, List<CellarAlertRule>> rulesByType = new EnumMap<>(CellarType.class);
+
+    public CellarAlertRules(Environment environment,
+                            @Value("${telemetry.alerts.default-rules:humidity < 50 for 30m clear 55; temperature > 18 for 30m clear 17}") String defaultRules) {
+        for (CellarType type : CellarType.values()) {
+            String rules = environment.getProperty("telemetry.alerts.rules." + type.name(), defaultRules);
+            rulesByType.put(type, parse(rules));
+        }
+    }
+
+    public List<CellarAlertRule> rulesFor(CellarType type) {
+        return type == null ? List.of() : rulesByType.get(type);
+    }
+
+    static List<CellarAlertRule> parse(String rules) {
+        List<CellarAlertRule> parsed = new ArrayList<>();
+        for (String rule : rules.split(";")) {
+            if (!rule.isBlank()) {
+                parsed.add(CellarAlertRule.parse(rule));
+            }
+        }
+        return List.copyOf(parsed);
+    }
+}
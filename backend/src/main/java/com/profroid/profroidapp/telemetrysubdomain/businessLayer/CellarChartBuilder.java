@@ -0,0 +1,149 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.CellarReadingRollupRepository;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.CellarReadingRollupRepository.Rollup;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.RollupResolution;
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryHistoryPointResponseModel;
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryHistoryResponseModel;
+import com.profroid.profroidapp.utils.timeseries.Lttb;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Builds cellar history charts of at most a requested number of points.
+ *
+ * Reads the coarsest rollup that still has at least that many buckets in the window
+ * (raw readings when even 5-minute buckets are too few), then thins the series with
+ * LTTB. The shape is chosen on the average temperature, or on humidity for a cellar
+ * without a temperature probe; the kept points carry all their values.
+ */
+@Component
+public class CellarChartBuilder {
+
+    public static final String RAW = "RAW";
+
+    private record ChartPoint(long time, double temperatureMin, double temperatureAvg, double temperatureMax,
+                              double humidityMin, double humidityAvg, double humidityMax) {
+    }
+
+    private final CellarTimeSeriesStore timeSeriesStore;
+    private final CellarReadingRollupRepository rollupRepository;
+
+    public CellarChartBuilder(CellarTimeSeriesStore timeSeriesStore, CellarReadingRollupRepository rollupRepository) {
+        this.timeSeriesStore = timeSeriesStore;
+        this.rollupRepository = rollupRepository;
+    }
+
+    /**
+     * The resolution a chart of the window would be read at; null means raw readings.
+     */
+    public static RollupResolution resolutionFor(long windowSeconds, int maxPoints) {
+        RollupResolution[] resolutions = RollupResolution.values();
+        for (int i = resolutions.length - 1; i >= 0; i--) {
+            if (windowSeconds / resolutions[i].seconds() >= maxPoints) {
+                return resolutions[i];
+            }
+        }
+        return null;
+    }
+
+    public TelemetryHistoryResponseModel build(String cellarId, Instant from, Instant to, int maxPoints) {
+        RollupResolution resolution = resolutionFor(to.getEpochSecond() - from.getEpochSecond(), maxPoints);
+        List<ChartPoint> series = resolution == null
+                ? readRaw(cellarId, from, to)
+                : readRollups(cellarId, resolution, from, to);
+
+        int[] kept = Lttb.downsample(times(series), shape(series), maxPoints);
+        List<TelemetryHistoryPointResponseModel> points = new ArrayList<>(kept.length);
+        for (int index : kept) {
+            points.add(toResponseModel(series.get(index)));
+        }
+
+        return TelemetryHistoryResponseModel.builder()
+                .cellarId(cellarId)
+                .from(from)
+                .to(to)
+                .resolution(resolution == null ? RAW : resolution.name())
+                .points(points)
+                .build();
+    }
+
+    private List<ChartPoint> readRaw(String cellarId, Instant from, Instant to) {
+        List<ChartPoint> series = new ArrayList<>();
+        for (TelemetryPoint point : timeSeriesStore.query(cellarId, from.toEpochMilli(), to.toEpochMilli())) {
+            double temperature = point.temperature() == null ? Double.NaN : point.temperature();
+            double humidity = point.humidity() == null ? Double.NaN : point.humidity();
+            series.add(new ChartPoint(point.recordedAt(), temperature, temperature, temperature, humidity, humidity, humidity));
+        }
+        return series;
+    }
+
+    private List<ChartPoint> readRollups(String cellarId, RollupResolution resolution, Instant from, Instant to) {
+        // Include the bucket that was already running at 'from'
+        long start = resolution.bucketStart(from.getEpochSecond());
+        List<ChartPoint> series = new ArrayList<>();
+        for (Rollup rollup : rollupRepository.findRange(cellarId, resolution, start, to.getEpochSecond())) {
+            series.add(new ChartPoint(rollup.bucketStart() * 1000,
+                    rollup.temperature().min(), rollup.temperature().average(), rollup.temperature().max(),
+                    rollup.humidity().min(), rollup.humidity().average(), rollup.humidity().max()));
+        }
+        return series;
+    }
+
+    private static long[] times(List<ChartPoint> series) {
+        long[] times = new long[series.size()];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = series.get(i).time();
+        }
+        return times;
+    }
+
+    /**
+     * The series LTTB ranks points on, with gaps filled from the nearest earlier value
+     * (or the first value, before it) since the algorithm needs one value per point.
+     */
+    private static double[] shape(List<ChartPoint> series) {
+        boolean hasTemperature = series.stream().anyMatch(point -> !Double.isNaN(point.temperatureAvg()));
+        double[] values = new double[series.size()];
+        double last = Double.NaN;
+        int firstKnown = -1;
+        for (int i = 0; i < values.length; i++) {
+            ChartPoint point = series.get(i);
+            double value = hasTemperature ? point.temperatureAvg() : point.humidityAvg();
+            if (!Double.isNaN(value)) {
+                last = value;
+                if (firstKnown < 0) {
+                    firstKnown = i;
+                }
+            }
+            values[i] = last;
+        }
+        for (int i = 0; i < firstKnown; i++) {
+            values[i] = values[firstKnown];
+        }
+        if (firstKnown < 0) {
+            Arrays.fill(values, 0);
+        }
+        return values;
+    }
+
+    private static TelemetryHistoryPointResponseModel toResponseModel(ChartPoint point) {
+        return TelemetryHistoryPointResponseModel.builder()
+                .time(Instant.ofEpochMilli(point.time()))
+                .temperatureMin(nullIfMissing(point.temperatureMin()))
+                .temperatureAvg(nullIfMissing(point.temperatureAvg()))
+                .temperatureMax(nullIfMissing(point.temperatureMax()))
+                .humidityMin(nullIfMissing(point.humidityMin()))
+                .humidityAvg(nullIfMissing(point.humidityAvg()))
+                .humidityMax(nullIfMissing(point.humidityMax()))
+                .build();
+    }
+
+    private static Double nullIfMissing(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
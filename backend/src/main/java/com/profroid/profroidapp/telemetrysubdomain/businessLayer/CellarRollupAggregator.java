@@ -0,0 +1,106 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.CellarReadingRollupRepository;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.CellarReadingRollupRepository.Rollup;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.CellarReadingRollupRepository.Stats;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.RollupResolution;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the 5-minute, hourly and daily rollups of every cellar up to date as readings
+ * are stored, without ever reading the raw chunks back.
+ *
+ * It is fed the points each chunk store persist actually added, so a reading the device
+ * sent twice is counted once. Each point is added to an in-memory delta for its three buckets. Every persist
+ * interval the deltas are added to the stored buckets in one transaction and dropped;
+ * min, max, sum and count merge the same way whether a reading is on time or late.
+ * Charts therefore lag ingestion by up to two persist intervals. Called from the
+ * telemetry writer thread only.
+ */
+@Component
+public class CellarRollupAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CellarRollupAggregator.class);
+
+    private record BucketKey(String cellarId, RollupResolution resolution, long bucketStart) {
+    }
+
+    private static final class Accumulator {
+        double min = Double.NaN;
+        double max = Double.NaN;
+        double sum;
+        int count;
+
+        void add(Double value) {
+            if (value == null) {
+                return;
+            }
+            min = count == 0 ? value : Math.min(min, value);
+            max = count == 0 ? value : Math.max(max, value);
+            sum += value;
+            count++;
+        }
+
+        Stats toStats() {
+            return count == 0 ? Stats.EMPTY : new Stats(min, max, sum, count);
+        }
+    }
+
+    private record Delta(Accumulator temperature, Accumulator humidity) {
+    }
+
+    private final CellarReadingRollupRepository rollupRepository;
+    private final long persistIntervalNanos;
+
+    private final Map<BucketKey, Delta> deltas = new HashMap<>();
+    private long persistedAtNanos = System.nanoTime();
+
+    public CellarRollupAggregator(CellarReadingRollupRepository rollupRepository,
+                                  @Value("${telemetry.store.persist-interval-ms:60000}") long persistIntervalMs) {
+        this.rollupRepository = rollupRepository;
+        this.persistIntervalNanos = TimeUnit.MILLISECONDS.toNanos(persistIntervalMs);
+    }
+
+    public void add(String cellarId, TelemetryPoint point) {
+        long time = Math.floorDiv(point.recordedAt(), 1000);
+        for (RollupResolution resolution : RollupResolution.values()) {
+            Delta delta = deltas.computeIfAbsent(
+                    new BucketKey(cellarId, resolution, resolution.bucketStart(time)),
+                    ignored -> new Delta(new Accumulator(), new Accumulator()));
+            delta.temperature().add(point.temperature());
+            delta.humidity().add(point.humidity());
+        }
+    }
+
+    /**
+     * Writes the pending deltas once the persist interval has passed, or now when force
+     * is set. On failure they are kept and retried on the next call.
+     */
+    public void persistDue(boolean force) {
+        long now = System.nanoTime();
+        if (deltas.isEmpty() || (!force && now - persistedAtNanos < persistIntervalNanos)) {
+            return;
+        }
+
+        List<Rollup> rollups = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> rollups.add(new Rollup(key.cellarId(), key.resolution(), key.bucketStart(),
+                delta.temperature().toStats(), delta.humidity().toStats())));
+        try {
+            rollupRepository.addAll(rollups);
+        } catch (RuntimeException e) {
+            logger.error("Could not persist {} cellar reading rollups, retrying on the next flush", rollups.size(), e);
+            return;
+        }
+        deltas.clear();
+        persistedAtNanos = now;
+    }
+}
@@ -0,0 +1,449 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.CellarReadingChunkRepository;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.CellarReadingChunkRepository.StoredChunk;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.TelemetryReading;
+import com.profroid.profroidapp.utils.timeseries.GorillaDecoder;
+import com.profroid.profroidapp.utils.timeseries.GorillaEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.CellarReadingChunkRepository.NEW;
+
+/**
+ * Compressed storage for cellar readings: one Gorilla-encoded chunk per cellar and
+ * UTC day (time in whole seconds, temperature, humidity), kept as a BLOB row.
+ *
+ * The current day of every reporting cellar is an append-only head chunk in memory.
+ * Dirty heads are written back in one JDBC batch every persist interval, and a head
+ * is closed and written one last time when its cellar's next day starts. Readings that
+ * arrive out of order are merged into their chunk instead of appended: straight away
+ * for a head, at the next persist for an older day.
+ *
+ * Writes (append, persistDue) come from the single telemetry writer thread; range
+ * queries may run on any thread and see heads as of their last append.
+ *
+ * Several nodes may receive readings of the same cellar. Each chunk remembers the row
+ * version it was read from and the points added since, and is written over that version
+ * only. When another node got there first, the stored chunk is read again, this node's
+ * points are merged into it and the result is written over the new version.
+ *
+ * A reading equal to one already in its chunk (a batch the device sent again) is
+ * dropped. persistDue returns only the points its writes added, so the rollups count
+ * every stored reading once.
+ */
+@Component
+public class CellarTimeSeriesStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(CellarTimeSeriesStore.class);
+
+    private static final int COLUMNS = 2;
+    private static final int TEMPERATURE = 0;
+    private static final int HUMIDITY = 1;
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final int MAX_MERGE_ATTEMPTS = 3;
+
+    private record ChunkKey(String cellarId, LocalDate day) {
+    }
+
+    private record Point(long time, double temperature, double humidity) {
+    }
+
+    private static final class HeadChunk {
+        final ChunkKey key;
+        GorillaEncoder encoder;
+        // Row version the encoder was read from or last written as, and the points added since
+        long version;
+        final List<Point> unsaved = new ArrayList<>();
+        long persistedAtNanos;
+
+        HeadChunk(ChunkKey key, GorillaEncoder encoder, long version) {
+            this.key = key;
+            this.encoder = encoder;
+            this.version = version;
+        }
+    }
+
+    // A chunk to write: its encoded content over a row version, and the points it adds to that row
+    private record DirtyChunk(ChunkKey key, StoredChunk chunk, List<Point> unsaved) {
+    }
+
+    // A chunk as written, with the points it added to the row; merged when another node's points had to be added first
+    private record WrittenChunk(StoredChunk chunk, boolean merged, List<Point> added) {
+    }
+
+    private final CellarReadingChunkRepository chunkRepository;
+    private final long persistIntervalNanos;
+
+    private final Map<String, HeadChunk> heads = new ConcurrentHashMap<>();
+    // Closed heads and merged older days waiting for the next persist; already encoded
+    private final Map<ChunkKey, DirtyChunk> pending = new ConcurrentHashMap<>();
+    // Out-of-order points for days that are no longer a head, writer thread only
+    private final Map<ChunkKey, List<Point>> late = new HashMap<>();
+
+    public CellarTimeSeriesStore(CellarReadingChunkRepository chunkRepository,
+                                 @Value("${telemetry.store.persist-interval-ms:60000}") long persistIntervalMs) {
+        this.chunkRepository = chunkRepository;
+        this.persistIntervalNanos = TimeUnit.MILLISECONDS.toNanos(persistIntervalMs);
+    }
+
+    // =====================================================
+    // WRITES (telemetry writer thread)
+    // =====================================================
+
+    public void append(TelemetryReading reading) {
+        long time = Math.floorDiv(reading.recordedAt(), 1000);
+        ChunkKey key = new ChunkKey(reading.cellarId(), LocalDate.ofEpochDay(Math.floorDiv(time, SECONDS_PER_DAY)));
+        Point point = new Point(time,
+                reading.temperature() == null ? Double.NaN : reading.temperature(),
+                reading.humidity() == null ? Double.NaN : reading.humidity());
+
+        HeadChunk head = heads.get(key.cellarId());
+        if (head != null && key.day().isAfter(head.key.day())) {
+            close(head);
+            head = null;
+        }
+        if (head == null) {
+            head = open(key);
+            heads.put(key.cellarId(), head);
+        }
+
+        if (key.day().isBefore(head.key.day())) {
+            late.computeIfAbsent(key, ignored -> new ArrayList<>()).add(point);
+            return;
+        }
+        synchronized (head) {
+            if (head.encoder.count() > 0 && time <= head.encoder.lastTime()) {
+                // Merging drops the point when the head already has it
+                List<Point> added = new ArrayList<>(1);
+                GorillaEncoder merged = merge(head.encoder.toBytes(), List.of(point), added);
+                if (added.isEmpty()) {
+                    return;
+                }
+                head.encoder = merged;
+            } else {
+                head.encoder.append(time, point.temperature(), point.humidity());
+            }
+            head.unsaved.add(point);
+        }
+    }
+
+    /**
+     * Writes every chunk that is due, in one update batch plus one insert batch for
+     * chunks the table does not have yet; chunks another node wrote in between are then
+     * merged and written one by one. force writes dirty heads regardless of the persist
+     * interval. A failed write is retried on the next call.
+     *
+     * Returns the points the written chunks added to the table, by cellar.
+     */
+    public Map<String, List<TelemetryPoint>> persistDue(boolean force) {
+        long now = System.nanoTime();
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        mergeLatePoints();
+
+        Map<ChunkKey, DirtyChunk> pendingDue = new HashMap<>(pending);
+        // A head is newer than a pending chunk of the same day
+        Map<ChunkKey, DirtyChunk> due = new HashMap<>(pendingDue);
+        Map<ChunkKey, HeadChunk> dueHeads = new HashMap<>();
+        for (Iterator<HeadChunk> it = heads.values().iterator(); it.hasNext(); ) {
+            HeadChunk head = it.next();
+            if (head.unsaved.isEmpty()) {
+                // Nothing new since the last write; forget days that are over
+                if (head.key.day().isBefore(today)) {
+                    it.remove();
+                }
+                continue;
+            }
+            if (force || now - head.persistedAtNanos >= persistIntervalNanos) {
+                due.put(head.key, snapshot(head));
+                dueHeads.put(head.key, head);
+            }
+        }
+        if (due.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<ChunkKey, WrittenChunk> written;
+        try {
+            written = write(new ArrayList<>(due.values()));
+        } catch (RuntimeException e) {
+            logger.error("Could not persist {} cellar reading chunks, retrying on the next flush", due.size(), e);
+            return Map.of();
+        }
+
+        Map<String, List<TelemetryPoint>> stored = new HashMap<>();
+
+        // Only this thread appends, so nothing was added to these heads since the snapshot
+        written.forEach((key, chunk) -> {
+            HeadChunk head = dueHeads.get(key);
+            if (head != null) {
+                synchronized (head) {
+                    if (chunk.merged()) {
+                        head.encoder = merge(chunk.chunk().data(), List.of());
+                    }
+                    head.version = chunk.chunk().version();
+                }
+                head.unsaved.clear();
+                head.persistedAtNanos = now;
+            }
+            DirtyChunk pendingChunk = pendingDue.get(key);
+            if (pendingChunk != null) {
+                pending.remove(key, pendingChunk);
+            }
+            List<TelemetryPoint> points = stored.computeIfAbsent(key.cellarId(), ignored -> new ArrayList<>());
+            for (Point point : chunk.added()) {
+                points.add(new TelemetryPoint(point.time() * 1000,
+                        nullIfMissing(point.temperature()), nullIfMissing(point.humidity())));
+            }
+        });
+        return stored;
+    }
+
+    /**
+     * Returns the chunks written, each with its new row version. A chunk missing from the
+     * result lost the race to other nodes every time and stays due.
+     */
+    private Map<ChunkKey, WrittenChunk> write(List<DirtyChunk> chunks) {
+        Map<ChunkKey, WrittenChunk> written = new HashMap<>();
+        List<DirtyChunk> missing = new ArrayList<>();
+        List<DirtyChunk> conflicts = new ArrayList<>();
+
+        int[] updated = chunkRepository.updateAll(chunks.stream().map(DirtyChunk::chunk).toList());
+        for (int i = 0; i < chunks.size(); i++) {
+            DirtyChunk chunk = chunks.get(i);
+            if (updated[i] != 0) {
+                written.put(chunk.key(), new WrittenChunk(withVersion(chunk.chunk(), chunk.chunk().version() + 1), false,
+                        chunk.unsaved()));
+            } else if (chunk.chunk().version() == NEW) {
+                missing.add(chunk);
+            } else {
+                conflicts.add(chunk);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            try {
+                chunkRepository.insertAll(missing.stream().map(DirtyChunk::chunk).toList());
+                for (DirtyChunk chunk : missing) {
+                    written.put(chunk.key(), new WrittenChunk(withVersion(chunk.chunk(), 1), false, chunk.unsaved()));
+                }
+            } catch (DataIntegrityViolationException e) {
+                // Another node inserted some of these days first
+                conflicts.addAll(missing);
+            }
+        }
+
+        for (DirtyChunk chunk : conflicts) {
+            WrittenChunk merged = writeMerged(chunk);
+            if (merged != null) {
+                written.put(chunk.key(), merged);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Reads the chunk as stored now, merges this node's unsaved points into it and writes
+     * the result over the version just read. Points another node already stored are not
+     * added twice. A row holding exactly this chunk was written by an earlier write of
+     * this node that failed halfway, and its points count as added.
+     */
+    private WrittenChunk writeMerged(DirtyChunk chunk) {
+        ChunkKey key = chunk.key();
+        for (int attempt = 0; attempt < MAX_MERGE_ATTEMPTS; attempt++) {
+            StoredChunk stored = chunkRepository.find(key.cellarId(), key.day());
+            List<Point> added = new ArrayList<>();
+            if (stored == null) {
+                StoredChunk created = toStoredChunk(key, merge(null, chunk.unsaved(), added), NEW);
+                try {
+                    chunkRepository.insertAll(List.of(created));
+                    return new WrittenChunk(withVersion(created, 1), true, added);
+                } catch (DataIntegrityViolationException e) {
+                    continue;
+                }
+            }
+            if (Arrays.equals(stored.data(), chunk.chunk().data())) {
+                return new WrittenChunk(stored, false, chunk.unsaved());
+            }
+            StoredChunk merged = toStoredChunk(key, merge(stored.data(), chunk.unsaved(), added), stored.version());
+            if (chunkRepository.updateAll(List.of(merged))[0] != 0) {
+                return new WrittenChunk(withVersion(merged, stored.version() + 1), true, added);
+            }
+        }
+        logger.warn("Cellar {} chunk of {} kept changing on other nodes, retrying on the next flush",
+                key.cellarId(), key.day());
+        return null;
+    }
+
+    private HeadChunk open(ChunkKey key) {
+        DirtyChunk unsaved = pending.get(key);
+        HeadChunk head;
+        if (unsaved != null) {
+            // A chunk still pending has not been written yet; the head takes over its points
+            head = new HeadChunk(key, merge(unsaved.chunk().data(), List.of()), unsaved.chunk().version());
+            head.unsaved.addAll(unsaved.unsaved());
+        } else {
+            StoredChunk stored = chunkRepository.find(key.cellarId(), key.day());
+            head = stored == null
+                    ? new HeadChunk(key, new GorillaEncoder(COLUMNS), NEW)
+                    : new HeadChunk(key, merge(stored.data(), List.of()), stored.version());
+        }
+        head.persistedAtNanos = System.nanoTime();
+        return head;
+    }
+
+    private void close(HeadChunk head) {
+        if (!head.unsaved.isEmpty()) {
+            pending.put(head.key, snapshot(head));
+        }
+        heads.remove(head.key.cellarId(), head);
+    }
+
+    private void mergeLatePoints() {
+        for (Iterator<Map.Entry<ChunkKey, List<Point>>> it = late.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<ChunkKey, List<Point>> entry = it.next();
+            ChunkKey key = entry.getKey();
+            DirtyChunk dirty = pending.get(key);
+            StoredChunk stored = dirty != null ? dirty.chunk() : chunkRepository.find(key.cellarId(), key.day());
+            List<Point> added = new ArrayList<>();
+            GorillaEncoder merged = merge(stored == null ? null : stored.data(), entry.getValue(), added);
+            // Points the chunk already had are not written again
+            if (!added.isEmpty()) {
+                List<Point> unsaved = new ArrayList<>(dirty == null ? List.of() : dirty.unsaved());
+                unsaved.addAll(added);
+                pending.put(key, new DirtyChunk(key, toStoredChunk(key, merged, stored == null ? NEW : stored.version()),
+                        List.copyOf(unsaved)));
+            }
+            // Dropped one by one, so a failed lookup never merges the same points twice
+            it.remove();
+        }
+    }
+
+    // =====================================================
+    // READS
+    // =====================================================
+
+    /**
+     * Points of the cellar with from <= recordedAt <= to (epoch milliseconds), oldest first.
+     * Only the chunks overlapping the range are decoded.
+     */
+    public List<TelemetryPoint> query(String cellarId, long fromMillis, long toMillis) {
+        long from = Math.floorDiv(fromMillis, 1000);
+        long to = Math.floorDiv(toMillis, 1000);
+        LocalDate fromDay = LocalDate.ofEpochDay(Math.floorDiv(from, SECONDS_PER_DAY));
+        LocalDate toDay = LocalDate.ofEpochDay(Math.floorDiv(to, SECONDS_PER_DAY));
+
+        Map<LocalDate, byte[]> chunks = new TreeMap<>();
+        for (StoredChunk stored : chunkRepository.findOverlapping(cellarId, from, to)) {
+            chunks.put(stored.day(), stored.data());
+        }
+        // Newer than the table: closed heads not written yet, then the live head
+        pending.forEach((key, dirty) -> {
+            if (key.cellarId().equals(cellarId) && !key.day().isBefore(fromDay) && !key.day().isAfter(toDay)) {
+                chunks.put(key.day(), dirty.chunk().data());
+            }
+        });
+        HeadChunk head = heads.get(cellarId);
+        if (head != null && !head.key.day().isBefore(fromDay) && !head.key.day().isAfter(toDay)) {
+            synchronized (head) {
+                if (head.encoder.count() > 0) {
+                    chunks.put(head.key.day(), head.encoder.toBytes());
+                }
+            }
+        }
+
+        List<TelemetryPoint> points = new ArrayList<>();
+        for (byte[] chunk : chunks.values()) {
+            GorillaDecoder decoder = new GorillaDecoder(chunk);
+            while (decoder.next()) {
+                long time = decoder.time();
+                if (time > to) {
+                    break;
+                }
+                if (time >= from) {
+                    points.add(new TelemetryPoint(time * 1000,
+                            nullIfMissing(decoder.value(TEMPERATURE)),
+                            nullIfMissing(decoder.value(HUMIDITY))));
+                }
+            }
+        }
+        return points;
+    }
+
+    // =====================================================
+    // ENCODING
+    // =====================================================
+
+    private DirtyChunk snapshot(HeadChunk head) {
+        synchronized (head) {
+            return new DirtyChunk(head.key, toStoredChunk(head.key, head.encoder, head.version), List.copyOf(head.unsaved));
+        }
+    }
+
+    private static StoredChunk toStoredChunk(ChunkKey key, GorillaEncoder encoder, long version) {
+        return new StoredChunk(key.cellarId(), key.day(), encoder.firstTime(), encoder.lastTime(),
+                encoder.count(), encoder.toBytes(), version);
+    }
+
+    private static StoredChunk withVersion(StoredChunk chunk, long version) {
+        return new StoredChunk(chunk.cellarId(), chunk.day(), chunk.firstTime(), chunk.lastTime(),
+                chunk.pointCount(), chunk.data(), version);
+    }
+
+    private static GorillaEncoder merge(byte[] existing, List<Point> extra) {
+        return merge(existing, extra, new ArrayList<>());
+    }
+
+    /**
+     * Re-encodes an existing chunk (may be null) together with extra points, in time order.
+     * An extra point equal to one already in the chunk, or to an earlier extra point, is a
+     * reading sent twice and is dropped; the others are also put in added.
+     */
+    private static GorillaEncoder merge(byte[] existing, List<Point> extra, List<Point> added) {
+        List<Point> points = new ArrayList<>();
+        if (existing != null) {
+            GorillaDecoder decoder = new GorillaDecoder(existing);
+            while (decoder.next()) {
+                points.add(new Point(decoder.time(), decoder.value(TEMPERATURE), decoder.value(HUMIDITY)));
+            }
+        }
+        Set<Point> stored = new HashSet<>(points);
+        for (Point point : extra) {
+            if (stored.add(point)) {
+                points.add(point);
+                added.add(point);
+            }
+        }
+        // Stable sort keeps stored points ahead of new ones at the same second
+        points.sort(Comparator.comparingLong(Point::time));
+
+        GorillaEncoder encoder = new GorillaEncoder(COLUMNS, Math.max(points.size(), 1440));
+        for (Point point : points) {
+            encoder.append(point.time(), point.temperature(), point.humidity());
+        }
+        return encoder;
+    }
+
+    private static Double nullIfMissing(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
@@ -0,0 +1,129 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryReadingRequestModel;
+import com.profroid.profroidapp.utils.exceptions.InvalidOperationException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary form of a reading batch for controllers with little bandwidth.
+ * All numbers are big-endian:
+ *
+ * <pre>
+ * u8      format version (1)
+ * u16     number of readings
+ * i64     time of the first reading, epoch milliseconds
+ * per reading, in time order:
+ *   varint  milliseconds since the previous reading (0 for the first)
+ *   i16     temperature in hundredths of a degree Celsius, -32768 when not measured
+ *   u16     relative humidity in hundredths of a percent, 65535 when not measured
+ * </pre>
+ *
+ * A reading every minute costs 7 bytes, about a tenth of its JSON form.
+ */
+public final class TelemetryBinaryCodec {
+
+    public static final String CONTENT_TYPE = "application/x-profroid-telemetry";
+
+    private static final byte VERSION = 1;
+    private static final short NO_TEMPERATURE = Short.MIN_VALUE;
+    private static final int NO_HUMIDITY = 0xFFFF;
+
+    private TelemetryBinaryCodec() {
+    }
+
+    public static List<TelemetryReadingRequestModel> decode(byte[] body) {
+        if (body == null || body.length < 11) {
+            throw new InvalidOperationException("Telemetry payload is too short.");
+        }
+        ByteBuffer in = ByteBuffer.wrap(body);
+        try {
+            byte version = in.get();
+            if (version != VERSION) {
+                throw new InvalidOperationException("Unsupported telemetry payload version " + version + ".");
+            }
+            int count = Short.toUnsignedInt(in.getShort());
+            long time = in.getLong();
+
+            List<TelemetryReadingRequestModel> readings = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                time += readVarLong(in);
+                short temperature = in.getShort();
+                int humidity = Short.toUnsignedInt(in.getShort());
+
+                TelemetryReadingRequestModel reading = new TelemetryReadingRequestModel();
+                reading.setRecordedAt(Instant.ofEpochMilli(time));
+                reading.setTemperature(temperature == NO_TEMPERATURE ? null : temperature / 100.0);
+                reading.setHumidity(humidity == NO_HUMIDITY ? null : humidity / 100.0);
+                readings.add(reading);
+            }
+            if (in.hasRemaining()) {
+                throw new InvalidOperationException("Telemetry payload has trailing bytes.");
+            }
+            return readings;
+        } catch (BufferUnderflowException e) {
+            throw new InvalidOperationException("Telemetry payload is truncated.");
+        }
+    }
+
+    /**
+     * Reference encoder, used by tests and the device simulator. Readings must be in
+     * time order and carry a recordedAt.
+     */
+    public static byte[] encode(List<TelemetryReadingRequestModel> readings) {
+        if (readings.size() > 0xFFFF) {
+            throw new IllegalArgumentException("At most 65535 readings fit in one payload");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(11 + readings.size() * 7);
+        long first = readings.isEmpty() ? 0 : readings.get(0).getRecordedAt().toEpochMilli();
+        ByteBuffer header = ByteBuffer.allocate(11).put(VERSION).putShort((short) readings.size()).putLong(first);
+        out.writeBytes(header.array());
+
+        long previous = first;
+        ByteBuffer values = ByteBuffer.allocate(4);
+        for (TelemetryReadingRequestModel reading : readings) {
+            long time = reading.getRecordedAt().toEpochMilli();
+            if (time < previous) {
+                throw new IllegalArgumentException("Readings must be in time order");
+            }
+            writeVarLong(out, time - previous);
+            previous = time;
+
+            short temperature = reading.getTemperature() == null
+                    ? NO_TEMPERATURE
+                    : (short) Math.max(NO_TEMPERATURE + 1, Math.min(Short.MAX_VALUE, Math.round(reading.getTemperature() * 100)));
+            int humidity = reading.getHumidity() == null
+                    ? NO_HUMIDITY
+                    : (int) Math.max(0, Math.min(NO_HUMIDITY - 1, Math.round(reading.getHumidity() * 100)));
+            values.clear();
+            values.putShort(temperature).putShort((short) humidity);
+            out.writeBytes(values.array());
+        }
+        return out.toByteArray();
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new InvalidOperationException("Telemetry payload has a malformed time delta.");
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
@@ -0,0 +1,11 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+/**
+ * The ingestion buffer has no room for a batch; the device should retry later.
+ */
+public class TelemetryBufferFullException extends RuntimeException {
+
+    public TelemetryBufferFullException(String message) {
+        super(message);
+    }
+}
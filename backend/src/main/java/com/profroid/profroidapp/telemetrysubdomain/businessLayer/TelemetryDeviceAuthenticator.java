@@ -0,0 +1,104 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.Cellar;
+import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.CellarRepository;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.TelemetryDevice;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.TelemetryDeviceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks that a device may report for a cellar: the device exists and is active, it
+ * was registered for that cellar, the cellar is not deleted and still belongs to the
+ * customer who registered the device, and the token matches.
+ *
+ * Controllers report every minute, so a successful check is remembered for a short
+ * while and the next batches only compare the token hash in memory.
+ */
+@Component
+public class TelemetryDeviceAuthenticator {
+
+    private record AuthorizedDevice(String cellarId, byte[] tokenHash, long validUntilNanos) {
+    }
+
+    private static final int MAX_CACHED_DEVICES = 100_000;
+
+    private final TelemetryDeviceRepository deviceRepository;
+    private final CellarRepository cellarRepository;
+    private final long ttlNanos;
+
+    private final Map<String, AuthorizedDevice> authorized = new ConcurrentHashMap<>();
+
+    public TelemetryDeviceAuthenticator(TelemetryDeviceRepository deviceRepository,
+                                        CellarRepository cellarRepository,
+                                        @Value("${telemetry.device-cache-ttl-ms:60000}") long ttlMs) {
+        this.deviceRepository = deviceRepository;
+        this.cellarRepository = cellarRepository;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+    }
+
+    /**
+     * Throws AccessDeniedException unless the device may report readings for cellarId.
+     */
+    public void authenticate(String cellarId, String deviceId, String token) {
+        if (cellarId == null || deviceId == null || token == null || token.isBlank()) {
+            throw new AccessDeniedException("Device credentials are required.");
+        }
+        byte[] presentedHash = hash(token);
+
+        AuthorizedDevice cached = authorized.get(deviceId);
+        if (cached == null || System.nanoTime() - cached.validUntilNanos() > 0) {
+            cached = load(deviceId);
+            if (authorized.size() >= MAX_CACHED_DEVICES) {
+                authorized.clear();
+            }
+            authorized.put(deviceId, cached);
+        }
+
+        if (!cached.cellarId().equals(cellarId) || !MessageDigest.isEqual(cached.tokenHash(), presentedHash)) {
+            throw new AccessDeniedException("Device is not allowed to report for this cellar.");
+        }
+    }
+
+    /**
+     * Forgets a device so its next batch is checked against the database again.
+     */
+    public void evict(String deviceId) {
+        authorized.remove(deviceId);
+    }
+
+    private AuthorizedDevice load(String deviceId) {
+        TelemetryDevice device = deviceRepository.findByDeviceId(deviceId)
+                .filter(found -> Boolean.TRUE.equals(found.getIsActive()))
+                .orElseThrow(() -> new AccessDeniedException("Unknown or disabled device."));
+
+        Cellar cellar = cellarRepository.findCellarByCellarIdentifier_CellarId(device.getCellarId());
+        if (cellar == null || Boolean.TRUE.equals(cellar.getIsDeleted())
+                || !device.getOwnerCustomerId().equals(cellar.getOwnerCustomerIdentifier().getCustomerId())) {
+            throw new AccessDeniedException("Device is not allowed to report for this cellar.");
+        }
+        return new AuthorizedDevice(device.getCellarId(), HexFormat.of().parseHex(device.getTokenHash()),
+                System.nanoTime() + ttlNanos);
+    }
+
+    static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    static String hashHex(String token) {
+        return HexFormat.of().formatHex(hash(token));
+    }
+}
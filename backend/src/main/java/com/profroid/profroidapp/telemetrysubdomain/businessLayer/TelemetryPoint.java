@@ -0,0 +1,8 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+/**
+ * A stored reading. recordedAt is in epoch milliseconds (whole seconds);
+ * temperature and humidity are null when not measured.
+ */
+public record TelemetryPoint(long recordedAt, Double temperature, Double humidity) {
+}
@@ -0,0 +1,29 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryDeviceResponseModel;
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryHistoryResponseModel;
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryIngestResponseModel;
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryReadingRequestModel;
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryReadingResponseModel;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TelemetryService {
+
+    TelemetryIngestResponseModel ingestReadings(String cellarId, String deviceId, String token,
+                                                List<TelemetryReadingRequestModel> readings);
+
+    TelemetryIngestResponseModel ingestBinaryReadings(String cellarId, String deviceId, String token, byte[] payload);
+
+    List<TelemetryReadingResponseModel> getReadings(String cellarId, Instant from, Instant to, String userId, boolean isStaff);
+
+    TelemetryHistoryResponseModel getHistory(String cellarId, Instant from, Instant to, Integer points,
+                                             String userId, boolean isStaff);
+
+    TelemetryDeviceResponseModel registerDevice(String cellarId, String userId, boolean isAdmin);
+
+    List<TelemetryDeviceResponseModel> getDevices(String cellarId, String userId, boolean isAdmin);
+
+    void deactivateDevice(String cellarId, String deviceId, String userId, boolean isAdmin);
+}
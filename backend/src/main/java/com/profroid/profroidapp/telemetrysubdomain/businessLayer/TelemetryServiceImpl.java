@@ -0,0 +1,265 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.Cellar;
+import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.CellarRepository;
+import com.profroid.profroidapp.customersubdomain.dataAccessLayer.Customer;
+import com.profroid.profroidapp.customersubdomain.dataAccessLayer.CustomerRepository;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.TelemetryDevice;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.TelemetryDeviceRepository;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.TelemetryReading;
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryDeviceResponseModel;
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryHistoryResponseModel;
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryIngestResponseModel;
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryReadingRequestModel;
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryReadingResponseModel;
+import com.profroid.profroidapp.utils.exceptions.InvalidIdentifierException;
+import com.profroid.profroidapp.utils.exceptions.InvalidOperationException;
+import com.profroid.profroidapp.utils.exceptions.ResourceNotFoundException;
+import com.profroid.profroidapp.utils.transactions.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class TelemetryServiceImpl implements TelemetryService {
+
+    // Plausible range for a cellar probe; anything outside is a sensor fault
+    private static final double MIN_TEMPERATURE = -50;
+    private static final double MAX_TEMPERATURE = 80;
+    private static final long MAX_CLOCK_SKEW_MS = Duration.ofMinutes(5).toMillis();
+    private static final int DEFAULT_CHART_POINTS = 300;
+    private static final int MAX_CHART_POINTS = 1000;
+
+    private static final SecureRandom TOKEN_RANDOM = new SecureRandom();
+
+    private final TelemetryDeviceRepository deviceRepository;
+    private final CellarRepository cellarRepository;
+    private final CustomerRepository customerRepository;
+    private final TelemetryDeviceAuthenticator deviceAuthenticator;
+    private final TelemetryWriter telemetryWriter;
+    private final CellarTimeSeriesStore timeSeriesStore;
+    private final CellarChartBuilder chartBuilder;
+    private final int maxReadingsPerRequest;
+    private final long maxReadingAgeMs;
+    private final Duration maxQueryRange;
+    private final Duration maxHistoryRange;
+
+    public TelemetryServiceImpl(TelemetryDeviceRepository deviceRepository,
+                                CellarRepository cellarRepository,
+                                CustomerRepository customerRepository,
+                                TelemetryDeviceAuthenticator deviceAuthenticator,
+                                TelemetryWriter telemetryWriter,
+                                CellarTimeSeriesStore timeSeriesStore,
+                                CellarChartBuilder chartBuilder,
+                                @Value("${telemetry.max-readings-per-request:1000}") int maxReadingsPerRequest,
+                                @Value("${telemetry.max-reading-age-hours:168}") long maxReadingAgeHours,
+                                @Value("${telemetry.max-query-days:7}") long maxQueryDays,
+                                @Value("${telemetry.max-history-days:400}") long maxHistoryDays) {
+        this.deviceRepository = deviceRepository;
+        this.cellarRepository = cellarRepository;
+        this.customerRepository = customerRepository;
+        this.deviceAuthenticator = deviceAuthenticator;
+        this.telemetryWriter = telemetryWriter;
+        this.timeSeriesStore = timeSeriesStore;
+        this.chartBuilder = chartBuilder;
+        this.maxReadingsPerRequest = maxReadingsPerRequest;
+        this.maxReadingAgeMs = Duration.ofHours(maxReadingAgeHours).toMillis();
+        this.maxQueryRange = Duration.ofDays(maxQueryDays);
+        this.maxHistoryRange = Duration.ofDays(maxHistoryDays);
+    }
+
+    // =====================================================
+    // INGESTION
+    // =====================================================
+
+    @Override
+    public TelemetryIngestResponseModel ingestReadings(String cellarId, String deviceId, String token,
+                                                       List<TelemetryReadingRequestModel> readings) {
+        deviceAuthenticator.authenticate(cellarId, deviceId, token);
+        return accept(cellarId, deviceId, readings);
+    }
+
+    @Override
+    public TelemetryIngestResponseModel ingestBinaryReadings(String cellarId, String deviceId, String token, byte[] payload) {
+        // Authenticate before spending time on the payload
+        deviceAuthenticator.authenticate(cellarId, deviceId, token);
+        return accept(cellarId, deviceId, TelemetryBinaryCodec.decode(payload));
+    }
+
+    private TelemetryIngestResponseModel accept(String cellarId, String deviceId, List<TelemetryReadingRequestModel> readings) {
+        if (readings == null || readings.isEmpty()) {
+            return TelemetryIngestResponseModel.builder().accepted(0).rejected(0).build();
+        }
+        if (readings.size() > maxReadingsPerRequest) {
+            throw new InvalidOperationException("At most " + maxReadingsPerRequest + " readings can be sent at once.");
+        }
+
+        long now = System.currentTimeMillis();
+        List<TelemetryReading> valid = new ArrayList<>(readings.size());
+        for (TelemetryReadingRequestModel reading : readings) {
+            if (reading == null) {
+                continue;
+            }
+            long recordedAt = reading.getRecordedAt() == null ? now : reading.getRecordedAt().toEpochMilli();
+            if (isValid(recordedAt, reading.getTemperature(), reading.getHumidity(), now)) {
+                valid.add(new TelemetryReading(cellarId, deviceId, recordedAt, reading.getTemperature(), reading.getHumidity()));
+            }
+        }
+
+        if (!telemetryWriter.offer(valid)) {
+            throw new TelemetryBufferFullException("Telemetry is backing up; retry this batch later.");
+        }
+        return TelemetryIngestResponseModel.builder()
+                .accepted(valid.size())
+                .rejected(readings.size() - valid.size())
+                .build();
+    }
+
+    private boolean isValid(long recordedAt, Double temperature, Double humidity, long now) {
+        if (recordedAt > now + MAX_CLOCK_SKEW_MS || recordedAt < now - maxReadingAgeMs) {
+            return false;
+        }
+        if (temperature == null && humidity == null) {
+            return false;
+        }
+        if (temperature != null && !(temperature >= MIN_TEMPERATURE && temperature <= MAX_TEMPERATURE)) {
+            return false;
+        }
+        return humidity == null || (humidity >= 0 && humidity <= 100);
+    }
+
+    // =====================================================
+    // READINGS
+    // =====================================================
+
+    @Override
+    public List<TelemetryReadingResponseModel> getReadings(String cellarId, Instant from, Instant to,
+                                                           String userId, boolean isStaff) {
+        requireAccessibleCellar(cellarId, userId, isStaff);
+
+        Instant end = to == null ? Instant.now() : to;
+        Instant start = from == null ? end.minus(Duration.ofDays(1)) : from;
+        if (start.isAfter(end)) {
+            throw new InvalidOperationException("'from' must not be after 'to'.");
+        }
+        if (Duration.between(start, end).compareTo(maxQueryRange) > 0) {
+            throw new InvalidOperationException("Readings can be fetched for at most " + maxQueryRange.toDays() + " days at once.");
+        }
+
+        return timeSeriesStore.query(cellarId, start.toEpochMilli(), end.toEpochMilli()).stream()
+                .map(point -> TelemetryReadingResponseModel.builder()
+                        .recordedAt(Instant.ofEpochMilli(point.recordedAt()))
+                        .temperature(point.temperature())
+                        .humidity(point.humidity())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public TelemetryHistoryResponseModel getHistory(String cellarId, Instant from, Instant to, Integer points,
+                                                    String userId, boolean isStaff) {
+        requireAccessibleCellar(cellarId, userId, isStaff);
+
+        int maxPoints = points == null ? DEFAULT_CHART_POINTS : points;
+        if (maxPoints < 3 || maxPoints > MAX_CHART_POINTS) {
+            throw new InvalidOperationException("A chart holds between 3 and " + MAX_CHART_POINTS + " points.");
+        }
+        Instant end = to == null ? Instant.now() : to;
+        Instant start = from == null ? end.minus(Duration.ofDays(1)) : from;
+        if (start.isAfter(end)) {
+            throw new InvalidOperationException("'from' must not be after 'to'.");
+        }
+        if (Duration.between(start, end).compareTo(maxHistoryRange) > 0) {
+            throw new InvalidOperationException("History can be charted for at most " + maxHistoryRange.toDays() + " days at once.");
+        }
+
+        return chartBuilder.build(cellarId, start, end, maxPoints);
+    }
+
+    // =====================================================
+    // DEVICES
+    // =====================================================
+
+    @Override
+    @Transactional
+    public TelemetryDeviceResponseModel registerDevice(String cellarId, String userId, boolean isAdmin) {
+        Cellar cellar = requireAccessibleCellar(cellarId, userId, isAdmin);
+
+        byte[] secret = new byte[32];
+        TOKEN_RANDOM.nextBytes(secret);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+
+        TelemetryDevice device = new TelemetryDevice();
+        device.setDeviceId(UUID.randomUUID().toString());
+        device.setCellarId(cellarId);
+        device.setOwnerCustomerId(cellar.getOwnerCustomerIdentifier().getCustomerId());
+        device.setTokenHash(TelemetryDeviceAuthenticator.hashHex(token));
+        device.setIsActive(true);
+        TelemetryDevice saved = deviceRepository.save(device);
+
+        TelemetryDeviceResponseModel response = toResponseModel(saved);
+        response.setToken(token);
+        return response;
+    }
+
+    @Override
+    public List<TelemetryDeviceResponseModel> getDevices(String cellarId, String userId, boolean isAdmin) {
+        requireAccessibleCellar(cellarId, userId, isAdmin);
+        return deviceRepository.findByCellarIdAndIsActiveTrue(cellarId).stream()
+                .map(this::toResponseModel)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void deactivateDevice(String cellarId, String deviceId, String userId, boolean isAdmin) {
+        requireAccessibleCellar(cellarId, userId, isAdmin);
+
+        TelemetryDevice device = deviceRepository.findByDeviceId(deviceId)
+                .filter(found -> found.getCellarId().equals(cellarId))
+                .orElseThrow(() -> new ResourceNotFoundException("Device " + deviceId + " not found for cellar " + cellarId + "."));
+        device.setIsActive(false);
+        deviceRepository.save(device);
+
+        AfterCommit.run(() -> deviceAuthenticator.evict(deviceId));
+    }
+
+    /**
+     * The cellar, if it exists and the caller owns it; canAccessAnyCellar skips the ownership check.
+     */
+    private Cellar requireAccessibleCellar(String cellarId, String userId, boolean canAccessAnyCellar) {
+        if (cellarId == null || cellarId.trim().length() != 36) {
+            throw new InvalidIdentifierException("Cellar ID must be a 36-character UUID string.");
+        }
+        Cellar cellar = cellarRepository.findCellarByCellarIdentifier_CellarId(cellarId);
+        if (cellar == null || Boolean.TRUE.equals(cellar.getIsDeleted())) {
+            throw new ResourceNotFoundException("Cellar " + cellarId + " not found.");
+        }
+        if (!canAccessAnyCellar) {
+            Customer customer = customerRepository.findCustomerByUserId(userId);
+            if (customer == null || !customer.getCustomerIdentifier().getCustomerId()
+                    .equals(cellar.getOwnerCustomerIdentifier().getCustomerId())) {
+                throw new AccessDeniedException("You can only access cellars you own.");
+            }
+        }
+        return cellar;
+    }
+
+    private TelemetryDeviceResponseModel toResponseModel(TelemetryDevice device) {
+        return TelemetryDeviceResponseModel.builder()
+                .deviceId(device.getDeviceId())
+                .cellarId(device.getCellarId())
+                .isActive(device.getIsActive())
+                .createdAt(device.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.TelemetryReading;
+import com.profroid.profroidapp.utils.concurrent.MpscRingBuffer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Decouples request threads from the database for sensor readings.
+ *
+ * Request threads only put validated readings in a lock-free ring buffer. One daemon
+ * thread drains it into the compressed time-series store, as soon as a full batch is
+ * waiting or at the latest every flush interval, and has it write its due chunks back
+ * in JDBC batches. The points those writes added go to the chart rollups, which are
+ * written back the same way. The same thread runs the alert rules on
+ * every reading. When the buffer is full the batch is refused and the
+ * device is expected to retry later; readings already accepted are lost only if the
+ * process dies before the store persists them.
+ */
+@Component
+public class TelemetryWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelemetryWriter.class);
+
+    private final CellarTimeSeriesStore timeSeriesStore;
+    private final CellarRollupAggregator rollupAggregator;
+    private final CellarAlertEngine alertEngine;
+    private final MpscRingBuffer<TelemetryReading> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public TelemetryWriter(CellarTimeSeriesStore timeSeriesStore,
+                           CellarRollupAggregator rollupAggregator,
+                           CellarAlertEngine alertEngine,
+                           @Value("${telemetry.buffer-capacity:65536}") int bufferCapacity,
+                           @Value("${telemetry.batch-size:2000}") int batchSize,
+                           @Value("${telemetry.flush-interval-ms:1000}") long flushIntervalMs) {
+        this.timeSeriesStore = timeSeriesStore;
+        this.rollupAggregator = rollupAggregator;
+        this.alertEngine = alertEngine;
+        this.buffer = new MpscRingBuffer<>(bufferCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMs));
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        flusher = new Thread(this::run, "telemetry-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Queues every reading or none of them. Never blocks.
+     */
+    public boolean offer(List<TelemetryReading> readings) {
+        if (!buffer.offerAll(readings)) {
+            return false;
+        }
+        accepted.addAndGet(readings.size());
+        if (buffer.size() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+        return true;
+    }
+
+    public long getAcceptedCount() {
+        return accepted.get();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+
+    private void run() {
+        List<TelemetryReading> batch = new ArrayList<>(batchSize);
+        while (running || buffer.size() > 0) {
+            if (running && buffer.size() < batchSize) {
+                // Woken early by offer() once a full batch is waiting
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            while (buffer.drain(batch::add, batchSize) > 0) {
+                flush(batch);
+                batch.clear();
+                if (running && buffer.size() < batchSize) {
+                    break;
+                }
+            }
+            persist(false);
+        }
+        // Shutting down: write every dirty chunk now
+        persist(true);
+        logger.info("Telemetry writer stopped: {} readings written, {} failed", written.get(), failed.get());
+    }
+
+    private void flush(List<TelemetryReading> batch) {
+        for (TelemetryReading reading : batch) {
+            try {
+                timeSeriesStore.append(reading);
+                written.incrementAndGet();
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                logger.error("Could not store telemetry reading for cellar {}", reading.cellarId(), e);
+            }
+            try {
+                alertEngine.observe(reading);
+            } catch (RuntimeException e) {
+                logger.error("Could not evaluate alert rules for cellar {}", reading.cellarId(), e);
+            }
+        }
+    }
+
+    private void persist(boolean force) {
+        Map<String, List<TelemetryPoint>> stored = Map.of();
+        try {
+            stored = timeSeriesStore.persistDue(force);
+        } catch (RuntimeException e) {
+            logger.error("Could not persist telemetry chunks", e);
+        }
+        // Only points the store wrote, so a retried batch is not counted twice
+        stored.forEach((cellarId, points) -> points.forEach(point -> rollupAggregator.add(cellarId, point)));
+        try {
+            rollupAggregator.persistDue(force);
+        } catch (RuntimeException e) {
+            logger.error("Could not persist telemetry rollups", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * One cellar's readings for one UTC day, compressed with GorillaEncoder
+ * (time in seconds, then temperature and humidity).
+ * Rows are read and written with CellarReadingChunkRepository; the entity only
+ * declares the table.
+ */
+@Entity
+@Table(name = "cellar_reading_chunks",
+        uniqueConstraints = @UniqueConstraint(name = "uk_cellar_reading_chunks_cellar_day", columnNames = {"cellarId", "chunkDay"}))
+@Data
+public class CellarReadingChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 36)
+    private String cellarId;
+
+    @Column(nullable = false)
+    private LocalDate chunkDay;
+
+    @Column(nullable = false)
+    private Instant firstTime;
+
+    @Column(nullable = false)
+    private Instant lastTime;
+
+    @Column(nullable = false)
+    private Integer pointCount;
+
+    // Bumped by every write, see CellarReadingChunkRepository
+    @Column(nullable = false)
+    @ColumnDefault("1")
+    private Long version;
+
+    // Up to 16 MB, a mediumblob on MySQL
+    @Lob
+    @Column(nullable = false, length = 16_777_215)
+    private byte[] data;
+}
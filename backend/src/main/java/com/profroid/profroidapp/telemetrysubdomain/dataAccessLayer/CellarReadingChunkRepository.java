@@ -0,0 +1,150 @@
+package com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Plain JDBC access to the compressed reading chunks, so a flush writes many chunks
+ * in one batch and a range query reads only the BLOBs it needs.
+ *
+ * Every row carries a version, 1 when inserted and bumped by each update. An update
+ * only applies over the version it was computed from, so a node never overwrites
+ * points another node wrote in between.
+ */
+@Repository
+public class CellarReadingChunkRepository {
+
+    /**
+     * A stored chunk. Times are epoch seconds. version is the row's version the data was
+     * read from or computed over, NEW for a chunk the table had no row for.
+     */
+    public record StoredChunk(String cellarId, LocalDate day, long firstTime, long lastTime, int pointCount, byte[] data,
+                              long version) {
+    }
+
+    public static final long NEW = 0;
+
+    private static final String SELECT_COLUMNS =
+            "SELECT cellar_id, chunk_day, first_time, last_time, point_count, data, version FROM cellar_reading_chunks ";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO cellar_reading_chunks (cellar_id, chunk_day, first_time, last_time, point_count, data, version) VALUES (?, ?, ?, ?, ?, ?, 1)";
+
+    private static final String UPDATE_SQL =
+            "UPDATE cellar_reading_chunks SET first_time = ?, last_time = ?, point_count = ?, data = ?, version = version + 1 "
+                    + "WHERE cellar_id = ? AND chunk_day = ? AND version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CellarReadingChunkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Chunks of the cellar holding at least one point between from and to (epoch seconds), oldest first.
+     * The day bounds let the (cellar_id, chunk_day) unique index narrow the scan.
+     */
+    public List<StoredChunk> findOverlapping(String cellarId, long from, long to) {
+        LocalDate fromDay = LocalDate.ofEpochDay(Math.floorDiv(from, 86_400));
+        LocalDate toDay = LocalDate.ofEpochDay(Math.floorDiv(to, 86_400));
+        Calendar utc = utc();
+        return jdbcTemplate.query(SELECT_COLUMNS
+                        + "WHERE cellar_id = ? AND chunk_day BETWEEN ? AND ? AND first_time <= ? AND last_time >= ? ORDER BY chunk_day",
+                ps -> {
+                    ps.setString(1, cellarId);
+                    ps.setDate(2, Date.valueOf(fromDay));
+                    ps.setDate(3, Date.valueOf(toDay));
+                    ps.setTimestamp(4, Timestamp.from(Instant.ofEpochSecond(to)), utc);
+                    ps.setTimestamp(5, Timestamp.from(Instant.ofEpochSecond(from)), utc);
+                },
+                rowMapper(utc));
+    }
+
+    public StoredChunk find(String cellarId, LocalDate day) {
+        Calendar utc = utc();
+        List<StoredChunk> chunks = jdbcTemplate.query(SELECT_COLUMNS + "WHERE cellar_id = ? AND chunk_day = ?",
+                ps -> {
+                    ps.setString(1, cellarId);
+                    ps.setDate(2, Date.valueOf(day));
+                },
+                rowMapper(utc));
+        return chunks.isEmpty() ? null : chunks.get(0);
+    }
+
+    /**
+     * Inserts the chunks at version 1. Throws DataIntegrityViolationException when one of
+     * them already has a row, in which case others of the batch may have been inserted.
+     */
+    public void insertAll(List<StoredChunk> chunks) {
+        if (chunks.isEmpty()) {
+            return;
+        }
+        Calendar utc = utc();
+        jdbcTemplate.batchUpdate(INSERT_SQL, chunks, chunks.size(), (ps, chunk) -> {
+            ps.setString(1, chunk.cellarId());
+            ps.setDate(2, Date.valueOf(chunk.day()));
+            ps.setTimestamp(3, Timestamp.from(Instant.ofEpochSecond(chunk.firstTime())), utc);
+            ps.setTimestamp(4, Timestamp.from(Instant.ofEpochSecond(chunk.lastTime())), utc);
+            ps.setInt(5, chunk.pointCount());
+            ps.setBytes(6, chunk.data());
+        });
+    }
+
+    /**
+     * Writes each chunk over the row version it carries and returns one update count per
+     * chunk: 1 for a row now at version + 1, 0 when the table has no row for it yet or
+     * the row has moved past that version.
+     */
+    public int[] updateAll(List<StoredChunk> chunks) {
+        if (chunks.isEmpty()) {
+            return new int[0];
+        }
+        Calendar utc = utc();
+        return jdbcTemplate.batchUpdate(UPDATE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                StoredChunk chunk = chunks.get(i);
+                ps.setTimestamp(1, Timestamp.from(Instant.ofEpochSecond(chunk.firstTime())), utc);
+                ps.setTimestamp(2, Timestamp.from(Instant.ofEpochSecond(chunk.lastTime())), utc);
+                ps.setInt(3, chunk.pointCount());
+                ps.setBytes(4, chunk.data());
+                ps.setString(5, chunk.cellarId());
+                ps.setDate(6, Date.valueOf(chunk.day()));
+                ps.setLong(7, chunk.version());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return chunks.size();
+            }
+        });
+    }
+
+    private static RowMapper<StoredChunk> rowMapper(Calendar utc) {
+        return (rs, rowNum) -> new StoredChunk(
+                rs.getString(1),
+                rs.getDate(2).toLocalDate(),
+                rs.getTimestamp(3, utc).toInstant().getEpochSecond(),
+                rs.getTimestamp(4, utc).toInstant().getEpochSecond(),
+                rs.getInt(5),
+                rs.getBytes(6),
+                rs.getLong(7));
+    }
+
+    private static Calendar utc() {
+        // Instants are stored in UTC, as Hibernate does for the entity
+        return Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * Min/max/sum/count of one cellar's readings over one bucket (5 minutes, an hour or
+ * a UTC day). Sums and counts rather than averages, so new readings are simply added.
+ * Rows are read and written with CellarReadingRollupRepository; the entity only
+ * declares the table.
+ */
+@Entity
+@Table(name = "cellar_reading_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_cellar_reading_rollups_bucket",
+                columnNames = {"cellarId", "resolution", "bucketStart"}))
+@Data
+public class CellarReadingRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 36)
+    private String cellarId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private RollupResolution resolution;
+
+    @Column(nullable = false)
+    private Instant bucketStart;
+
+    private Double temperatureMin;
+    private Double temperatureMax;
+
+    @Column(nullable = false)
+    private Double temperatureSum;
+
+    @Column(nullable = false)
+    private Integer temperatureCount;
+
+    private Double humidityMin;
+    private Double humidityMax;
+
+    @Column(nullable = false)
+    private Double humiditySum;
+
+    @Column(nullable = false)
+    private Integer humidityCount;
+}
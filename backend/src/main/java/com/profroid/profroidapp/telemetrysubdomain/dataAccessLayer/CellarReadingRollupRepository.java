@@ -0,0 +1,174 @@
+package com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Plain JDBC access to the reading rollups. New readings are added to stored buckets
+ * with one UPDATE batch (min/max/sum/count merged in SQL) plus one INSERT batch for
+ * buckets that have no row yet.
+ */
+@Repository
+public class CellarReadingRollupRepository {
+
+    /**
+     * Aggregate of one value over a bucket; min and max are NaN when count is 0.
+     */
+    public record Stats(double min, double max, double sum, int count) {
+
+        public static final Stats EMPTY = new Stats(Double.NaN, Double.NaN, 0, 0);
+
+        public double average() {
+            return count == 0 ? Double.NaN : sum / count;
+        }
+    }
+
+    /**
+     * One bucket of one cellar. bucketStart is in epoch seconds.
+     */
+    public record Rollup(String cellarId, RollupResolution resolution, long bucketStart, Stats temperature, Stats humidity) {
+    }
+
+    private static final String SELECT_SQL =
+            "SELECT cellar_id, resolution, bucket_start, temperature_min, temperature_max, temperature_sum, temperature_count, "
+                    + "humidity_min, humidity_max, humidity_sum, humidity_count FROM cellar_reading_rollups "
+                    + "WHERE cellar_id = ? AND resolution = ? AND bucket_start BETWEEN ? AND ? ORDER BY bucket_start";
+
+    // COALESCE keeps the stored or the new bound when the other side has no value
+    private static final String ADD_SQL =
+            "UPDATE cellar_reading_rollups SET "
+                    + "temperature_min = LEAST(COALESCE(temperature_min, ?), COALESCE(?, temperature_min)), "
+                    + "temperature_max = GREATEST(COALESCE(temperature_max, ?), COALESCE(?, temperature_max)), "
+                    + "temperature_sum = temperature_sum + ?, temperature_count = temperature_count + ?, "
+                    + "humidity_min = LEAST(COALESCE(humidity_min, ?), COALESCE(?, humidity_min)), "
+                    + "humidity_max = GREATEST(COALESCE(humidity_max, ?), COALESCE(?, humidity_max)), "
+                    + "humidity_sum = humidity_sum + ?, humidity_count = humidity_count + ? "
+                    + "WHERE cellar_id = ? AND resolution = ? AND bucket_start = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO cellar_reading_rollups (cellar_id, resolution, bucket_start, temperature_min, temperature_max, "
+                    + "temperature_sum, temperature_count, humidity_min, humidity_max, humidity_sum, humidity_count) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CellarReadingRollupRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Buckets of the cellar starting between from and to (epoch seconds), oldest first.
+     */
+    public List<Rollup> findRange(String cellarId, RollupResolution resolution, long from, long to) {
+        Calendar utc = utc();
+        return jdbcTemplate.query(SELECT_SQL,
+                ps -> {
+                    ps.setString(1, cellarId);
+                    ps.setString(2, resolution.name());
+                    ps.setTimestamp(3, Timestamp.from(Instant.ofEpochSecond(from)), utc);
+                    ps.setTimestamp(4, Timestamp.from(Instant.ofEpochSecond(to)), utc);
+                },
+                (rs, rowNum) -> new Rollup(
+                        rs.getString(1),
+                        RollupResolution.valueOf(rs.getString(2)),
+                        rs.getTimestamp(3, utc).toInstant().getEpochSecond(),
+                        readStats(rs, 4),
+                        readStats(rs, 8)));
+    }
+
+    /**
+     * Adds the readings summarised in each rollup to the stored bucket, creating it if needed.
+     * All or nothing, so a failed call can be retried with the same rollups.
+     */
+    @Transactional
+    public void addAll(List<Rollup> rollups) {
+        if (rollups.isEmpty()) {
+            return;
+        }
+        Calendar utc = utc();
+        int[] updated = jdbcTemplate.batchUpdate(ADD_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Rollup rollup = rollups.get(i);
+                setBounds(ps, 1, rollup.temperature());
+                setBounds(ps, 7, rollup.humidity());
+                ps.setString(13, rollup.cellarId());
+                ps.setString(14, rollup.resolution().name());
+                ps.setTimestamp(15, Timestamp.from(Instant.ofEpochSecond(rollup.bucketStart())), utc);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rollups.size();
+            }
+        });
+
+        List<Rollup> missing = new ArrayList<>();
+        for (int i = 0; i < rollups.size(); i++) {
+            if (updated[i] == 0) {
+                missing.add(rollups.get(i));
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, missing, missing.size(), (ps, rollup) -> {
+            ps.setString(1, rollup.cellarId());
+            ps.setString(2, rollup.resolution().name());
+            ps.setTimestamp(3, Timestamp.from(Instant.ofEpochSecond(rollup.bucketStart())), utc);
+            setStats(ps, 4, rollup.temperature());
+            setStats(ps, 8, rollup.humidity());
+        });
+    }
+
+    // min, min, max, max, sum, count: the bounds appear twice in ADD_SQL
+    private static void setBounds(PreparedStatement ps, int index, Stats stats) throws SQLException {
+        setNullable(ps, index, stats.min());
+        setNullable(ps, index + 1, stats.min());
+        setNullable(ps, index + 2, stats.max());
+        setNullable(ps, index + 3, stats.max());
+        ps.setDouble(index + 4, stats.sum());
+        ps.setInt(index + 5, stats.count());
+    }
+
+    private static void setStats(PreparedStatement ps, int index, Stats stats) throws SQLException {
+        setNullable(ps, index, stats.min());
+        setNullable(ps, index + 1, stats.max());
+        ps.setDouble(index + 2, stats.sum());
+        ps.setInt(index + 3, stats.count());
+    }
+
+    private static void setNullable(PreparedStatement ps, int index, double value) throws SQLException {
+        if (Double.isNaN(value)) {
+            ps.setNull(index, Types.DOUBLE);
+        } else {
+            ps.setDouble(index, value);
+        }
+    }
+
+    private static Stats readStats(ResultSet rs, int index) throws SQLException {
+        double min = rs.getDouble(index);
+        boolean noMin = rs.wasNull();
+        double max = rs.getDouble(index + 1);
+        boolean noMax = rs.wasNull();
+        return new Stats(noMin ? Double.NaN : min, noMax ? Double.NaN : max, rs.getDouble(index + 2), rs.getInt(index + 3));
+    }
+
+    private static Calendar utc() {
+        // Instants are stored in UTC, as Hibernate does for the entity
+        return Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    }
+}
@@ -0,0 +1,28 @@
+package com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer;
+
+/**
+ * Bucket sizes of the reading rollups, finest first. Buckets are aligned on the epoch,
+ * so daily buckets are UTC days.
+ */
+public enum RollupResolution {
+    FIVE_MINUTES(300),
+    HOUR(3_600),
+    DAY(86_400);
+
+    private final long seconds;
+
+    RollupResolution(long seconds) {
+        this.seconds = seconds;
+    }
+
+    public long seconds() {
+        return seconds;
+    }
+
+    /**
+     * Start of the bucket holding the given epoch second.
+     */
+    public long bucketStart(long epochSecond) {
+        return Math.floorDiv(epochSecond, seconds) * seconds;
+    }
+}
@@ -0,0 +1,43 @@
+package com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+/**
+ * A cellar controller allowed to report readings for one cellar.
+ * Only a SHA-256 hash of the device token is stored.
+ */
+@Entity
+@Table(name = "telemetry_devices", indexes = {
+    @Index(name = "idx_telemetry_devices_cellar", columnList = "cellarId")
+})
+@Data
+public class TelemetryDevice {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 36)
+    private String deviceId;
+
+    @Column(nullable = false, length = 36)
+    private String cellarId;
+
+    // Owner of the cellar when the device was registered; a transferred cellar disables it
+    @Column(nullable = false, length = 36)
+    private String ownerCustomerId;
+
+    @Column(nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private Boolean isActive = true;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+}
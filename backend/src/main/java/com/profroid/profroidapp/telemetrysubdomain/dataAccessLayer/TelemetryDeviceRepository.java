@@ -0,0 +1,15 @@
+package com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TelemetryDeviceRepository extends JpaRepository<TelemetryDevice, Long> {
+
+    Optional<TelemetryDevice> findByDeviceId(String deviceId);
+
+    List<TelemetryDevice> findByCellarIdAndIsActiveTrue(String cellarId);
+}
@@ -0,0 +1,8 @@
+package com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer;
+
+/**
+ * A validated reading waiting to be written. recordedAt is in epoch milliseconds;
+ * temperature and humidity are null when not measured.
+ */
+public record TelemetryReading(String cellarId, String deviceId, long recordedAt, Double temperature, Double humidity) {
+}
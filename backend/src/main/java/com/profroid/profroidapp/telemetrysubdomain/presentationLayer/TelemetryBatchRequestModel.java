@@ -0,0 +1,19 @@
+package com.profroid.profroidapp.telemetrysubdomain.presentationLayer;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TelemetryBatchRequestModel {
+
+    @NotNull(message = "Readings are required")
+    private List<TelemetryReadingRequestModel> readings;
+}
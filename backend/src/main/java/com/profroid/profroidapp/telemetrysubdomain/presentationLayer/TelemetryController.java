@@ -0,0 +1,142 @@
+package com.profroid.profroidapp.telemetrysubdomain.presentationLayer;
+
+import com.profroid.profroidapp.telemetrysubdomain.businessLayer.TelemetryBinaryCodec;
+import com.profroid.profroidapp.telemetrysubdomain.businessLayer.TelemetryService;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/telemetry")
+public class TelemetryController {
+
+    public static final String DEVICE_ID_HEADER = "X-Device-Id";
+    public static final String DEVICE_TOKEN_HEADER = "X-Device-Token";
+
+    private final TelemetryService telemetryService;
+
+    public TelemetryController(TelemetryService telemetryService) {
+        this.telemetryService = telemetryService;
+    }
+
+    /**
+     * Helper to check if user has a specific role
+     */
+    private boolean hasRole(Authentication authentication, String role) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(("ROLE_" + role)::equals);
+    }
+
+    private boolean isAdmin(Authentication authentication) {
+        return hasRole(authentication, "ADMIN");
+    }
+
+    /**
+     * Batch of readings from a cellar controller, as JSON (device credentials in headers)
+     * POST /api/v1/telemetry/cellars/{cellarId}/readings
+     */
+    @PostMapping(value = "/cellars/{cellarId}/readings", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TelemetryIngestResponseModel> ingestReadings(
+            @PathVariable String cellarId,
+            @RequestHeader(DEVICE_ID_HEADER) String deviceId,
+            @RequestHeader(DEVICE_TOKEN_HEADER) String token,
+            @Valid @RequestBody TelemetryBatchRequestModel request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(telemetryService.ingestReadings(cellarId, deviceId, token, request.getReadings()));
+    }
+
+    /**
+     * Same batch in the compact binary form described in TelemetryBinaryCodec
+     * POST /api/v1/telemetry/cellars/{cellarId}/readings
+     */
+    @PostMapping(value = "/cellars/{cellarId}/readings",
+            consumes = {TelemetryBinaryCodec.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<TelemetryIngestResponseModel> ingestBinaryReadings(
+            @PathVariable String cellarId,
+            @RequestHeader(DEVICE_ID_HEADER) String deviceId,
+            @RequestHeader(DEVICE_TOKEN_HEADER) String token,
+            @RequestBody byte[] payload) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(telemetryService.ingestBinaryReadings(cellarId, deviceId, token, payload));
+    }
+
+    /**
+     * Stored readings of a cellar between from and to, oldest first (owner, technician or admin).
+     * Defaults to the last 24 hours.
+     * GET /api/v1/telemetry/cellars/{cellarId}/readings
+     */
+    @PreAuthorize("hasAnyRole('CUSTOMER','ADMIN','TECHNICIAN')")
+    @GetMapping("/cellars/{cellarId}/readings")
+    public ResponseEntity<List<TelemetryReadingResponseModel>> getReadings(
+            @PathVariable String cellarId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            Authentication authentication) {
+        boolean isStaff = isAdmin(authentication) || hasRole(authentication, "TECHNICIAN");
+        return ResponseEntity.ok(telemetryService.getReadings(cellarId, from, to, authentication.getName(), isStaff));
+    }
+
+    /**
+     * Chart of a cellar's temperature and humidity with at most 'points' points (default 300),
+     * read from the coarsest rollup that fits the window. Defaults to the last 24 hours.
+     * GET /api/v1/telemetry/cellars/{cellarId}/history
+     */
+    @PreAuthorize("hasAnyRole('CUSTOMER','ADMIN','TECHNICIAN')")
+    @GetMapping("/cellars/{cellarId}/history")
+    public ResponseEntity<TelemetryHistoryResponseModel> getHistory(
+            @PathVariable String cellarId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) Integer points,
+            Authentication authentication) {
+        boolean isStaff = isAdmin(authentication) || hasRole(authentication, "TECHNICIAN");
+        return ResponseEntity.ok(telemetryService.getHistory(cellarId, from, to, points, authentication.getName(), isStaff));
+    }
+
+    /**
+     * Register a controller for a cellar (owner or admin). The token is only shown in this response.
+     * POST /api/v1/telemetry/cellars/{cellarId}/devices
+     */
+    @PreAuthorize("hasAnyRole('CUSTOMER','ADMIN')")
+    @PostMapping("/cellars/{cellarId}/devices")
+    public ResponseEntity<TelemetryDeviceResponseModel> registerDevice(@PathVariable String cellarId,
+                                                                       Authentication authentication) {
+        TelemetryDeviceResponseModel device =
+                telemetryService.registerDevice(cellarId, authentication.getName(), isAdmin(authentication));
+        return ResponseEntity.status(HttpStatus.CREATED).body(device);
+    }
+
+    /**
+     * Active controllers of a cellar (owner or admin)
+     * GET /api/v1/telemetry/cellars/{cellarId}/devices
+     */
+    @PreAuthorize("hasAnyRole('CUSTOMER','ADMIN')")
+    @GetMapping("/cellars/{cellarId}/devices")
+    public ResponseEntity<List<TelemetryDeviceResponseModel>> getDevices(@PathVariable String cellarId,
+                                                                         Authentication authentication) {
+        return ResponseEntity.ok(telemetryService.getDevices(cellarId, authentication.getName(), isAdmin(authentication)));
+    }
+
+    /**
+     * Revoke a controller (owner or admin)
+     * DELETE /api/v1/telemetry/cellars/{cellarId}/devices/{deviceId}
+     */
+    @PreAuthorize("hasAnyRole('CUSTOMER','ADMIN')")
+    @DeleteMapping("/cellars/{cellarId}/devices/{deviceId}")
+    public ResponseEntity<Void> deactivateDevice(@PathVariable String cellarId,
+                                                 @PathVariable String deviceId,
+                                                 Authentication authentication) {
+        telemetryService.deactivateDevice(cellarId, deviceId, authentication.getName(), isAdmin(authentication));
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.profroid.profroidapp.telemetrysubdomain.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TelemetryDeviceResponseModel {
+
+    private String deviceId;
+    private String cellarId;
+    private Boolean isActive;
+    private Instant createdAt;
+
+    // Only returned once, when the device is registered
+    private String token;
+}
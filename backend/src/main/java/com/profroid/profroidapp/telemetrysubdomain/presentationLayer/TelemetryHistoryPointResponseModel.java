@@ -0,0 +1,27 @@
+package com.profroid.profroidapp.telemetrysubdomain.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * One chart point: a raw reading (min = avg = max) or a rollup bucket starting at time.
+ * Values are null when nothing was measured.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TelemetryHistoryPointResponseModel {
+
+    private Instant time;
+    private Double temperatureMin;
+    private Double temperatureAvg;
+    private Double temperatureMax;
+    private Double humidityMin;
+    private Double humidityAvg;
+    private Double humidityMax;
+}
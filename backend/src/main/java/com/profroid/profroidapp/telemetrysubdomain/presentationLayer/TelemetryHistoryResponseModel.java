@@ -0,0 +1,23 @@
+package com.profroid.profroidapp.telemetrysubdomain.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TelemetryHistoryResponseModel {
+
+    private String cellarId;
+    private Instant from;
+    private Instant to;
+    // RAW, FIVE_MINUTES, HOUR or DAY
+    private String resolution;
+    private List<TelemetryHistoryPointResponseModel> points;
+}
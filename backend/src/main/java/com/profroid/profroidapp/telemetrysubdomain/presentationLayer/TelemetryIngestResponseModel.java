@@ -0,0 +1,18 @@
+package com.profroid.profroidapp.telemetrysubdomain.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TelemetryIngestResponseModel {
+
+    private int accepted;
+
+    // Readings dropped because their time or values are out of range
+    private int rejected;
+}
@@ -0,0 +1,24 @@
+package com.profroid.profroidapp.telemetrysubdomain.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TelemetryReadingRequestModel {
+
+    // Time the controller took the reading; the receipt time is used when missing
+    private Instant recordedAt;
+
+    // Degrees Celsius
+    private Double temperature;
+
+    // Relative humidity in percent
+    private Double humidity;
+}
@@ -0,0 +1,102 @@
+package com.profroid.profroidapp.utils.cache;
+
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeScheduleDataAccessLayer.Schedule;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.Job;
+import com.profroid.profroidapp.utils.transactions.AfterCommit;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hibernate second-level cache regions for reference data read on every booking path:
+ * jobs and employee schedules, plus the query results of their lookups.
+ *
+ * Hibernate keeps the regions in step with its own writes. The services still evict
+ * after their writes commit, which also covers bulk and native updates Hibernate cannot
+ * see. The cache is local to each node, so the region TTL bounds how long another
+ * node's change can go unseen.
+ *
+ * Metrics per region (tag cache): cache.gets (result hit or miss), cache.puts and
+ * cache.hit.ratio.
+ */
+@Component
+public class ReferenceDataCache implements MeterBinder {
+
+    public static final String JOBS = "jobs";
+    public static final String JOB_QUERIES = "job-queries";
+    public static final String SCHEDULES = "schedules";
+    public static final String SCHEDULE_QUERIES = "schedule-queries";
+
+    static final List<String> REGIONS = List.of(JOBS, JOB_QUERIES, SCHEDULES, SCHEDULE_QUERIES);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ReferenceDataCache(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public void evictJobs() {
+        AfterCommit.run(() -> {
+            org.hibernate.Cache cache = sessionFactory().getCache();
+            cache.evictEntityData(Job.class);
+            cache.evictQueryRegion(JOB_QUERIES);
+        });
+    }
+
+    public void evictSchedules() {
+        AfterCommit.run(() -> {
+            org.hibernate.Cache cache = sessionFactory().getCache();
+            cache.evictEntityData(Schedule.class);
+            cache.evictQueryRegion(SCHEDULE_QUERIES);
+        });
+    }
+
+    /**
+     * Share of lookups in the region answered from the cache since startup, 0 before the first one.
+     */
+    public double getHitRatio(String region) {
+        long hits = count(region, CacheRegionStatistics::getHitCount);
+        long lookups = hits + count(region, CacheRegionStatistics::getMissCount);
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : REGIONS) {
+            FunctionCounter.builder("cache.gets", this, cache -> cache.count(region, CacheRegionStatistics::getHitCount))
+                    .tags("cache", region, "cache.manager", "hibernate", "result", "hit")
+                    .description("Lookups answered from the second-level cache")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", this, cache -> cache.count(region, CacheRegionStatistics::getMissCount))
+                    .tags("cache", region, "cache.manager", "hibernate", "result", "miss")
+                    .description("Lookups that went to the database")
+                    .register(registry);
+            FunctionCounter.builder("cache.puts", this, cache -> cache.count(region, CacheRegionStatistics::getPutCount))
+                    .tags("cache", region, "cache.manager", "hibernate")
+                    .description("Entries put in the second-level cache")
+                    .register(registry);
+            Gauge.builder("cache.hit.ratio", this, cache -> cache.getHitRatio(region))
+                    .tags("cache", region, "cache.manager", "hibernate")
+                    .description("Share of lookups answered from the second-level cache")
+                    .register(registry);
+        }
+    }
+
+    private long count(String region, ToLongFunction<CacheRegionStatistics> counter) {
+        // Null while statistics are off or before a query region is first used
+        CacheRegionStatistics statistics = sessionFactory().getStatistics().getCacheRegionStatistics(region);
+        return statistics == null ? 0 : counter.applyAsLong(statistics);
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -0,0 +1,128 @@
+package com.profroid.profroidapp.utils.concurrent;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue for many producer threads and a single consumer thread.
+ *
+ * Producers claim a range of slots with one CAS on the tail and then fill them; the
+ * consumer takes filled slots in order and clears them before moving the head, which
+ * is what frees them for the next lap. A claimed slot that is not filled yet reads as
+ * null, so the consumer simply stops there and picks it up on its next drain.
+ * Nothing ever blocks: a producer that does not fit is told so and decides what to do.
+ */
+public final class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final int capacity;
+
+    private final AtomicLong tail = new AtomicLong();
+    // Only written by the consumer
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param capacity rounded up to the next power of two
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Ring buffer capacity must be between 2 and 2^30");
+        }
+        this.capacity = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Number of claimed slots not yet consumed. Approximate while producers are active.
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("Ring buffer elements must not be null");
+        }
+        long claimed = claim(1);
+        if (claimed < 0) {
+            return false;
+        }
+        slots.lazySet((int) claimed & mask, element);
+        return true;
+    }
+
+    /**
+     * Adds every element or none of them. Elements of one call stay contiguous, so the
+     * consumer sees them in order and never interleaved with another producer's.
+     */
+    public boolean offerAll(Collection<? extends E> elements) {
+        int count = elements.size();
+        if (count == 0) {
+            return true;
+        }
+        for (E element : elements) {
+            if (element == null) {
+                throw new NullPointerException("Ring buffer elements must not be null");
+            }
+        }
+        long first = claim(count);
+        if (first < 0) {
+            return false;
+        }
+        long index = first;
+        for (E element : elements) {
+            slots.lazySet((int) index & mask, element);
+            index++;
+        }
+        return true;
+    }
+
+    /**
+     * Hands up to max elements to sink, oldest first, and returns how many were taken.
+     * Must only ever be called from one thread at a time.
+     */
+    public int drain(Consumer<? super E> sink, int max) {
+        long current = head.get();
+        int taken = 0;
+        while (taken < max) {
+            int index = (int) current & mask;
+            E element = slots.get(index);
+            if (element == null) {
+                // Empty, or claimed by a producer that has not written it yet
+                break;
+            }
+            slots.lazySet(index, null);
+            current++;
+            taken++;
+            sink.accept(element);
+        }
+        if (taken > 0) {
+            // Publishes the cleared slots to producers waiting for room
+            head.set(current);
+        }
+        return taken;
+    }
+
+    private long claim(int count) {
+        if (count > capacity) {
+            return -1;
+        }
+        while (true) {
+            long currentTail = tail.get();
+            if (currentTail + count - head.get() > capacity) {
+                return -1;
+            }
+            if (tail.compareAndSet(currentTail, currentTail + count)) {
+                return currentTail;
+            }
+        }
+    }
+}
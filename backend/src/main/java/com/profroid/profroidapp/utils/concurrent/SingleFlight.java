@@ -0,0 +1,79 @@
+package com.profroid.profroidapp.utils.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one computation.
+ *
+ * The first caller for a key runs the loader on its own thread; callers arriving while
+ * it runs wait for that result (or exception) instead of starting their own. Nothing is
+ * cached: once the computation finishes the key is free, and the next caller computes
+ * again. The shared value is handed to every waiting caller, so it should be immutable.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong executions = new AtomicLong();
+
+    public V execute(K key, Supplier<V> loader) {
+        calls.incrementAndGet();
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(running);
+        }
+
+        executions.incrementAndGet();
+        try {
+            V value = loader.get();
+            // Freed before completing, so no one joins a computation that is already over
+            inFlight.remove(key, mine);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Calls made, including those that shared another caller's computation.
+     */
+    public long getCallCount() {
+        return calls.get();
+    }
+
+    /**
+     * Computations actually run.
+     */
+    public long getExecutionCount() {
+        return executions.get();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
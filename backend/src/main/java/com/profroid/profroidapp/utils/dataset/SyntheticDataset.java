@@ -0,0 +1,87 @@
+package com.profroid.profroidapp.utils.dataset;
+
+/**
+ * Identifiers of the rows written by SyntheticDatasetGenerator. They are derived from a
+ * row number, so the load driver can address any customer, technician or report of the
+ * dataset without reading it back, and a second run can tell the dataset is already there.
+ *
+ * Public ids keep the 36-character UUID shape the services validate.
+ */
+public final class SyntheticDataset {
+
+    public static final String CUSTOMER_ID_PREFIX = "c5e00000-0000-4000-8000-";
+    public static final String EMPLOYEE_ID_PREFIX = "e5e00000-0000-4000-8000-";
+    public static final String CELLAR_ID_PREFIX = "d5e00000-0000-4000-8000-";
+    public static final String APPOINTMENT_ID_PREFIX = "a5e00000-0000-4000-8000-";
+    public static final String REPORT_ID_PREFIX = "REP-SYN-";
+    public static final String BILL_ID_PREFIX = "BILL-SYN-";
+
+    // city, province, postal code: the first letter matches the province, as bookings require
+    private static final String[][] CITIES = {
+            {"Montreal", "QC", "H2X 1Y4"}, {"Laval", "QC", "H7N 2K5"}, {"Quebec", "QC", "G1R 4P5"},
+            {"Gatineau", "QC", "J8X 3X7"}, {"Sherbrooke", "QC", "J1H 1Z3"}, {"Ottawa", "ON", "K1P 5G4"},
+            {"Toronto", "ON", "M5V 2T6"}, {"Kingston", "ON", "K7L 3N6"}};
+
+    private SyntheticDataset() {}
+
+    public static String customerId(int number) {
+        return CUSTOMER_ID_PREFIX + String.format("%012d", number);
+    }
+
+    public static String customerUserId(int number) {
+        return "syn-customer-" + number;
+    }
+
+    public static String employeeId(int number) {
+        return EMPLOYEE_ID_PREFIX + String.format("%012d", number);
+    }
+
+    public static String technicianUserId(int number) {
+        return "syn-technician-" + number;
+    }
+
+    public static String cellarId(int number) {
+        return CELLAR_ID_PREFIX + String.format("%012d", number);
+    }
+
+    public static String cellarName(int number) {
+        return "Cellar " + number;
+    }
+
+    /**
+     * Cellars are spread over the customers round-robin: customer n owns cellars n, n + customers, ...
+     */
+    public static int cellarOwner(int cellarNumber, int customers) {
+        return cellarNumber % customers;
+    }
+
+    /**
+     * Street, city, province and postal code of customer (or technician) number.
+     */
+    public static String[] address(int number) {
+        String[] city = CITIES[number % CITIES.length];
+        return new String[]{(100 + number % 9000) + " Rue Principale", city[0], city[1], city[2]};
+    }
+
+    public static String appointmentId(int number) {
+        return APPOINTMENT_ID_PREFIX + String.format("%012d", number);
+    }
+
+    public static String reportId(int number) {
+        return REPORT_ID_PREFIX + String.format("%07d", number);
+    }
+
+    public static String billId(int number) {
+        return BILL_ID_PREFIX + String.format("%07d", number);
+    }
+
+    /**
+     * Row number of a prefixed public id, -1 if it does not belong to the dataset.
+     */
+    public static int number(String publicId, String prefix) {
+        if (publicId == null || !publicId.startsWith(prefix)) {
+            return -1;
+        }
+        return Integer.parseInt(publicId.substring(prefix.length()));
+    }
+}
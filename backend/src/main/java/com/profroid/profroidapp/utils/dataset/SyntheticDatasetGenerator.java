@@ -0,0 +1,394 @@
+package com.profroid.profroidapp.utils.dataset;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.profroid.profroidapp.utils.dataset.SyntheticDataset.*;
+
+/**
+ * Synthetic Dataset Generator
+ * Fills the database with production-sized data for load tests: customers with their
+ * cellars, technicians with full weekly schedules, appointments spread over the past
+ * history-days and the next future-days, and reports with their bills for completed
+ * appointments. Rows go in with batched JDBC (one batchUpdate per batch-size rows),
+ * bypassing Hibernate, so H2 and MySQL both load in minutes.
+ *
+ * Runs at startup with the dataset profile, next to h2 or docker. The same seed gives
+ * the same data; if the dataset is already there nothing is written.
+ */
+@Component
+@Profile("dataset")
+public class SyntheticDatasetGenerator implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDatasetGenerator.class);
+
+    private static final int[] SLOT_HOURS = {9, 11, 13, 15};
+    private static final String[] TIME_SLOTS = {"NINE_AM", "ELEVEN_AM", "ONE_PM", "THREE_PM", "FIVE_PM"};
+    private static final String[] WEEK_DAYS = {"MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY"};
+    private static final String[] CELLAR_TYPES = {"PRIVATE", "PRIVATE", "PRIVATE", "COMMERCIAL", "PROFESSIONAL", "MODULAR"};
+    private static final String[] FIRST_NAMES = {"Marie", "Jean", "Sophie", "Luc", "Isabelle", "Marc", "Chloé", "David",
+            "Julie", "Martin", "Emma", "Olivier", "Sarah", "Nicolas", "Camille", "Alexandre"};
+    private static final String[] LAST_NAMES = {"Tremblay", "Gagnon", "Roy", "Côté", "Bouchard", "Gauthier", "Morin",
+            "Lavoie", "Fortin", "Gagné", "Ouellet", "Pelletier", "Bélanger", "Smith", "Brown", "Wilson"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long seed;
+    private final int customers;
+    private final int cellars;
+    private final int technicians;
+    private final int appointments;
+    private final int reports;
+    private final int historyDays;
+    private final int futureDays;
+    private final int batchSize;
+
+    public SyntheticDatasetGenerator(JdbcTemplate jdbcTemplate,
+                                     @Value("${dataset.seed:42}") long seed,
+                                     @Value("${dataset.customers:50000}") int customers,
+                                     @Value("${dataset.cellars:100000}") int cellars,
+                                     @Value("${dataset.technicians:200}") int technicians,
+                                     @Value("${dataset.appointments:500000}") int appointments,
+                                     @Value("${dataset.reports:100000}") int reports,
+                                     @Value("${dataset.history-days:730}") int historyDays,
+                                     @Value("${dataset.future-days:60}") int futureDays,
+                                     @Value("${dataset.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.seed = seed;
+        this.customers = customers;
+        this.cellars = cellars;
+        this.technicians = technicians;
+        this.appointments = appointments;
+        this.reports = reports;
+        this.historyDays = historyDays;
+        this.futureDays = futureDays;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM customers WHERE customer_id LIKE ?", Integer.class, CUSTOMER_ID_PREFIX + "%");
+        if (existing != null && existing > 0) {
+            logger.info("Synthetic dataset already loaded ({} customers), nothing to do", existing);
+            return;
+        }
+
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(seed);
+        List<JobRow> jobs = loadJobs();
+
+        insertCustomers(random);
+        int[] customerIds = readIds("customers", "customer_id", CUSTOMER_ID_PREFIX, customers);
+        insertCustomerPhoneNumbers(customerIds);
+
+        insertTechnicians(random);
+        int[] technicianIds = readIds("employees", "employee_id", EMPLOYEE_ID_PREFIX, technicians);
+        insertSchedules(technicianIds);
+
+        insertCellars(random);
+        int[] cellarIds = readIds("cellars", "cellar_id", CELLAR_ID_PREFIX, cellars);
+
+        CompletedAppointments completed = insertAppointments(random, jobs, customerIds, technicianIds, cellarIds);
+        int[] appointmentIds = readIds("appointments", "appointment_id", APPOINTMENT_ID_PREFIX, completed.total());
+
+        BigDecimal[] reportTotals = insertReports(random, jobs, completed, appointmentIds);
+        int[] reportIds = readIds("reports", "report_id", REPORT_ID_PREFIX, reportTotals.length);
+        insertBills(random, completed, customerIds, appointmentIds, reportIds, reportTotals);
+
+        logger.info("Synthetic dataset loaded in {} s", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+    }
+
+    private record JobRow(int id, int durationMinutes, double hourlyRate, String jobType) {
+    }
+
+    /**
+     * Which appointments were completed, and what their reports and bills need to know about them.
+     * Indexed by appointment number.
+     */
+    private record CompletedAppointments(int total, int[] numbers, int count, int[] customer, byte[] job, long[] endEpochSecond) {
+    }
+
+    private List<JobRow> loadJobs() {
+        String select = "SELECT id, estimated_duration_minutes, hourly_rate, job_type FROM jobs WHERE active = true ORDER BY id";
+        List<JobRow> jobs = jdbcTemplate.query(select, (rs, rowNum) ->
+                new JobRow(rs.getInt(1), rs.getInt(2), rs.getDouble(3), rs.getString(4)));
+        if (!jobs.isEmpty()) {
+            return jobs;
+        }
+        // Same catalog as data.sql, for databases that were not seeded
+        String insert = "INSERT INTO jobs (job_id, job_name, job_description, hourly_rate, estimated_duration_minutes, job_type, active) "
+                + "VALUES (?, ?, ?, ?, ?, ?, true)";
+        jdbcTemplate.batchUpdate(insert, List.of(
+                new Object[]{UUID.randomUUID().toString(), "Free Quotation", "On-site evaluation and quote.", 0.0, 30, "QUOTATION"},
+                new Object[]{UUID.randomUUID().toString(), "Cellar Installation", "Installation of a new refrigeration system.", 120.0, 240, "INSTALLATION"},
+                new Object[]{UUID.randomUUID().toString(), "Repair Service", "Diagnosis and repair.", 95.0, 90, "REPARATION"},
+                new Object[]{UUID.randomUUID().toString(), "Annual Maintenance", "Full system checkup.", 85.0, 60, "MAINTENANCE"}));
+        return jdbcTemplate.query(select, (rs, rowNum) ->
+                new JobRow(rs.getInt(1), rs.getInt(2), rs.getDouble(3), rs.getString(4)));
+    }
+
+    private void insertCustomers(SplittableRandom random) {
+        try (Batch batch = new Batch("customers", "(customer_id, first_name, last_name, street_address, city, "
+                + "province, country, postal_code, user_id, is_active) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, true)")) {
+            for (int n = 0; n < customers; n++) {
+                String[] address = address(n);
+                batch.add(customerId(n), pick(random, FIRST_NAMES), pick(random, LAST_NAMES), address[0],
+                        address[1], address[2], "Canada", address[3], customerUserId(n));
+            }
+        }
+    }
+
+    private void insertCustomerPhoneNumbers(int[] customerIds) {
+        try (Batch batch = new Batch("customer_phonenumbers", "(customer_id, type, number) VALUES (?, ?, ?)")) {
+            for (int n = 0; n < customerIds.length; n++) {
+                batch.add(customerIds[n], "MOBILE", String.format("514-%03d-%04d", (n / 10_000) % 1000, n % 10_000));
+            }
+        }
+    }
+
+    private void insertTechnicians(SplittableRandom random) {
+        try (Batch batch = new Batch("employees", "(employee_id, first_name, last_name, user_id, employee_role_type, "
+                + "street_address, city, province, country, postal_code, is_active) VALUES (?, ?, ?, ?, 'TECHNICIAN', ?, ?, ?, ?, ?, true)")) {
+            for (int n = 0; n < technicians; n++) {
+                String[] address = address(n);
+                batch.add(employeeId(n), pick(random, FIRST_NAMES), pick(random, LAST_NAMES), technicianUserId(n),
+                        address[0], address[1], address[2], "Canada", address[3]);
+            }
+        }
+    }
+
+    private void insertSchedules(int[] technicianIds) {
+        try (Batch batch = new Batch("schedules", "(employee_fk, day_of_week, time_slot) VALUES (?, ?, ?)")) {
+            for (int technicianId : technicianIds) {
+                for (String day : WEEK_DAYS) {
+                    for (String slot : TIME_SLOTS) {
+                        batch.add(technicianId, day, slot);
+                    }
+                }
+            }
+        }
+    }
+
+    private void insertCellars(SplittableRandom random) {
+        try (Batch batch = new Batch("cellars", "(cellar_id, owner_customer_id, name, height, width, depth, "
+                + "bottle_capacity, has_cooling_system, has_humidity_control, has_auto_regulation, cellar_type, is_active, is_deleted) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true, false)")) {
+            for (int n = 0; n < cellars; n++) {
+                batch.add(cellarId(n), customerId(cellarOwner(n, customers)), cellarName(n),
+                        200 + random.nextInt(150), 100 + random.nextInt(400), 60 + random.nextInt(60),
+                        100 + random.nextInt(30) * 50, true, random.nextInt(4) > 0, random.nextBoolean(),
+                        pick(random, CELLAR_TYPES));
+            }
+        }
+    }
+
+    /**
+     * Every technician gets an equal share of the appointments, placed on distinct weekday
+     * slots (selection sampling), so no technician is double-booked. A 4-hour installation
+     * also takes the following slot.
+     */
+    private CompletedAppointments insertAppointments(SplittableRandom random, List<JobRow> jobs,
+                                                     int[] customerIds, int[] technicianIds, int[] cellarIds) {
+        LocalDate today = LocalDate.now();
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = today.minusDays(historyDays); !day.isAfter(today.plusDays(futureDays)); day = day.plusDays(1)) {
+            if (day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                days.add(day);
+            }
+        }
+        int cellsPerTechnician = days.size() * SLOT_HOURS.length;
+        if (appointments > cellsPerTechnician * technicians) {
+            logger.warn("{} appointments do not fit {} technicians over {} days, loading fewer",
+                    appointments, technicians, days.size());
+        }
+
+        int[] completedNumbers = new int[appointments];
+        int[] customerOf = new int[appointments];
+        byte[] jobOf = new byte[appointments];
+        long[] endOf = new long[appointments];
+        int completedCount = 0;
+        int number = 0;
+
+        Timestamp now = Timestamp.from(Instant.now());
+        try (Batch batch = new Batch("appointments", "(appointment_id, customer_id, technician_id, job_id, cellar_id, "
+                + "appointment_date, description, street_address, city, province, country, postal_code, "
+                + "appointment_status_type, is_active, created_by_role, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true, 'CUSTOMER', ?)")) {
+            for (int technician = 0; technician < technicians && number < appointments; technician++) {
+                int quota = Math.min(cellsPerTechnician, (appointments - number) / (technicians - technician));
+                int cellsLeft = cellsPerTechnician;
+                for (LocalDate day : days) {
+                    boolean slotTaken = false;
+                    for (int slot = 0; slot < SLOT_HOURS.length; slot++, cellsLeft--) {
+                        if (slotTaken || quota == 0 || random.nextInt(cellsLeft) >= quota) {
+                            slotTaken = false;
+                            continue;
+                        }
+                        quota--;
+                        int jobIndex = random.nextInt(jobs.size());
+                        JobRow job = jobs.get(jobIndex);
+                        if (job.durationMinutes() > 120) {
+                            if (slot == SLOT_HOURS.length - 1) {
+                                jobIndex = (jobIndex + 1) % jobs.size();
+                                job = jobs.get(jobIndex);
+                            } else {
+                                slotTaken = true;
+                            }
+                        }
+                        int cellar = random.nextInt(cellars);
+                        int customer = cellarOwner(cellar, customers);
+                        LocalDateTime at = day.atTime(SLOT_HOURS[slot], 0);
+                        String status = !day.isBefore(today) ? "SCHEDULED" : random.nextInt(10) == 0 ? "CANCELLED" : "COMPLETED";
+                        String[] address = address(customer);
+
+                        batch.add(appointmentId(number), customerIds[customer], technicianIds[technician], job.id(),
+                                cellarIds[cellar], Timestamp.valueOf(at), "Synthetic " + job.jobType().toLowerCase() + " visit",
+                                address[0], address[1], address[2], "Canada", address[3], status, now);
+
+                        if ("COMPLETED".equals(status)) {
+                            completedNumbers[completedCount++] = number;
+                            customerOf[number] = customer;
+                            jobOf[number] = (byte) jobIndex;
+                            endOf[number] = at.plusMinutes(job.durationMinutes()).toEpochSecond(ZoneOffset.UTC);
+                        }
+                        number++;
+                    }
+                }
+            }
+        }
+        return new CompletedAppointments(number, completedNumbers, completedCount, customerOf, jobOf, endOf);
+    }
+
+    /**
+     * Reports for a random selection of the completed appointments; returns their totals, by report number.
+     */
+    private BigDecimal[] insertReports(SplittableRandom random, List<JobRow> jobs, CompletedAppointments completed, int[] appointmentIds) {
+        int count = Math.min(reports, completed.count());
+        BigDecimal[] totals = new BigDecimal[count];
+        // Partial Fisher-Yates: the first count entries become the reported appointments
+        int[] numbers = completed.numbers();
+        for (int i = 0; i < count; i++) {
+            int j = i + random.nextInt(completed.count() - i);
+            int swap = numbers[i];
+            numbers[i] = numbers[j];
+            numbers[j] = swap;
+        }
+
+        try (Batch batch = new Batch("reports", "(report_id, appointment_id, hours_worked, frais, frais_deplacement, "
+                + "subtotal, tps_amount, tvq_amount, total, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int r = 0; r < count; r++) {
+                int appointment = numbers[r];
+                JobRow job = jobs.get(completed.job()[appointment]);
+                BigDecimal hours = BigDecimal.valueOf(job.durationMinutes() + random.nextInt(4) * 15L)
+                        .divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
+                BigDecimal frais = BigDecimal.valueOf(random.nextInt(60)).setScale(2, RoundingMode.HALF_UP);
+                BigDecimal travel = new BigDecimal("40.00");
+                BigDecimal subtotal = hours.multiply(BigDecimal.valueOf(job.hourlyRate())).add(frais).add(travel)
+                        .setScale(2, RoundingMode.HALF_UP);
+                BigDecimal tps = subtotal.multiply(new BigDecimal("0.05")).setScale(2, RoundingMode.HALF_UP);
+                BigDecimal tvq = subtotal.multiply(new BigDecimal("0.09975")).setScale(2, RoundingMode.HALF_UP);
+                Timestamp createdAt = Timestamp.valueOf(LocalDateTime.ofEpochSecond(completed.endEpochSecond()[appointment], 0, ZoneOffset.UTC));
+
+                totals[r] = subtotal.add(tps).add(tvq);
+
+                batch.add(reportId(r), appointmentIds[appointment], hours, frais, travel, subtotal, tps, tvq,
+                        totals[r], createdAt, createdAt);
+            }
+        }
+        return totals;
+    }
+
+    private void insertBills(SplittableRandom random, CompletedAppointments completed, int[] customerIds,
+                             int[] appointmentIds, int[] reportIds, BigDecimal[] reportTotals) {
+        try (Batch batch = new Batch("bills", "(bill_id, report_id, customer_id, appointment_id, amount, status, "
+                + "created_at, updated_at, paid_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int r = 0; r < reportIds.length; r++) {
+                int appointment = completed.numbers()[r];
+                LocalDateTime createdAt = LocalDateTime.ofEpochSecond(completed.endEpochSecond()[appointment], 0, ZoneOffset.UTC);
+                boolean paid = random.nextInt(5) > 0;
+                Timestamp paidAt = paid ? Timestamp.valueOf(createdAt.plusDays(1 + random.nextInt(20))) : null;
+
+                batch.add(billId(r), reportIds[r], customerIds[completed.customer()[appointment]], appointmentIds[appointment],
+                        reportTotals[r], paid ? "PAID" : "UNPAID", Timestamp.valueOf(createdAt), paidAt, paidAt);
+            }
+        }
+    }
+
+    /**
+     * Internal ids of the dataset rows of a table, indexed by row number.
+     */
+    private int[] readIds(String table, String publicIdColumn, String prefix, int count) {
+        int[] ids = new int[count];
+        jdbcTemplate.query("SELECT id, " + publicIdColumn + " FROM " + table + " WHERE " + publicIdColumn + " LIKE ?",
+                rs -> {
+                    int number = SyntheticDataset.number(rs.getString(2), prefix);
+                    if (number >= 0 && number < count) {
+                        ids[number] = rs.getInt(1);
+                    }
+                },
+                prefix + "%");
+        return ids;
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Rows of one INSERT, sent as a JDBC batch every batch-size rows and on close.
+     */
+    private final class Batch implements AutoCloseable {
+
+        private final String table;
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(batchSize);
+        private int written;
+
+        Batch(String table, String columnsAndValues) {
+            this.table = table;
+            this.sql = "INSERT INTO " + table + " " + columnsAndValues;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() == batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+            written += rows.size();
+            rows.clear();
+        }
+
+        @Override
+        public void close() {
+            flush();
+            logger.info("Synthetic dataset: {} rows into {}", written, table);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.profroid.profroidapp.utils.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions declared by the application to the replica and everything
+ * else to the primary. Falls back to the primary while ReplicaHealth says the replica is
+ * down or lagging, and when getting a replica connection fails.
+ *
+ * Spring Data marks its own finders read-only. Those run wherever the caller is, e.g. the
+ * conflict check of a booking outside any service transaction, and must see the primary,
+ * so a read-only transaction named after a Spring Data class stays there.
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy: the read-only flag of a transaction is
+ * only published after the transaction manager asked for its connection. Transactions that
+ * may be routed here do not put into the Hibernate cache, see ReplicaReadJpaDialect.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private static final String SPRING_DATA_PACKAGE = "org.springframework.data.";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaHealth replicaHealth;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaHealth replicaHealth) {
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaHealth = replicaHealth;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return isReplicaRead() && replicaHealth.isAvailable() ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    static boolean isReplicaRead() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && isReplicaRead(TransactionSynchronizationManager.isCurrentTransactionReadOnly(),
+                        TransactionSynchronizationManager.getCurrentTransactionName());
+    }
+
+    static boolean isReplicaRead(boolean readOnly, String transactionName) {
+        return readOnly && (transactionName == null || !transactionName.startsWith(SPRING_DATA_PACKAGE));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineTargetDataSource() != replica) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            replicaHealth.markDown(e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (determineTargetDataSource() != replica) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replica.getConnection(username, password);
+        } catch (SQLException e) {
+            replicaHealth.markDown(e);
+            return primary.getConnection(username, password);
+        }
+    }
+}
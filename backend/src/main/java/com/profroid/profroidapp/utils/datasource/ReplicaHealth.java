@@ -0,0 +1,110 @@
+package com.profroid.profroidapp.utils.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whether reads may go to the replica. A background check connects to it every interval
+ * and, when a lag query is configured (SHOW REPLICA STATUS on MySQL), reads how far it
+ * is behind; a failed connection from a request marks it down at once. Both are undone
+ * by the next check that finds the replica reachable and within maxLagSeconds.
+ */
+public class ReplicaHealth {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaHealth.class);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagSeconds;
+    private final ScheduledExecutorService checker = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "replica-health");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean available;
+
+    /**
+     * @param lagQuery  query returning the replication delay in seconds, blank to only check connectivity
+     * @param lagColumn column of lagQuery holding the delay, blank for the first one
+     */
+    public ReplicaHealth(DataSource replica, String lagQuery, String lagColumn, long maxLagSeconds) {
+        this.replica = replica;
+        this.lagQuery = lagQuery == null ? "" : lagQuery.trim();
+        this.lagColumn = lagColumn == null ? "" : lagColumn.trim();
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public void start(long checkIntervalMs) {
+        check();
+        checker.scheduleWithFixedDelay(this::check, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        checker.shutdownNow();
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public void markDown(SQLException cause) {
+        setAvailable(false, "connection failed: " + cause.getMessage());
+    }
+
+    public void check() {
+        try (Connection connection = replica.getConnection()) {
+            if (lagQuery.isEmpty()) {
+                boolean valid = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+                setAvailable(valid, valid ? "reachable" : "connection not valid");
+                return;
+            }
+            Long lag = readLagSeconds(connection);
+            if (lag == null) {
+                setAvailable(false, "replication is not running");
+            } else {
+                setAvailable(lag <= maxLagSeconds, lag + "s behind the primary");
+            }
+        } catch (SQLException | RuntimeException e) {
+            setAvailable(false, "check failed: " + e.getMessage());
+        }
+    }
+
+    // null when the replica reports no replication (not configured, or the applier stopped)
+    private Long readLagSeconds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(VALIDATION_TIMEOUT_SECONDS);
+            try (ResultSet result = statement.executeQuery(lagQuery)) {
+                if (!result.next()) {
+                    return null;
+                }
+                Object value = lagColumn.isEmpty() ? result.getObject(1) : result.getObject(lagColumn);
+                if (value == null) {
+                    return null;
+                }
+                return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString().trim());
+            }
+        }
+    }
+
+    private void setAvailable(boolean nowAvailable, String reason) {
+        boolean wasAvailable = available;
+        available = nowAvailable;
+        if (wasAvailable && !nowAvailable) {
+            logger.warn("Read replica unavailable ({}); read-only transactions use the primary", reason);
+        } else if (!wasAvailable && nowAvailable) {
+            logger.info("Read replica available ({}); read-only transactions use it", reason);
+        }
+    }
+}
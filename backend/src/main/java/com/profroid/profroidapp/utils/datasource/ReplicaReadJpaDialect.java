@@ -0,0 +1,50 @@
+package com.profroid.profroidapp.utils.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+/**
+ * Keeps replica reads out of the Hibernate second-level and query cache. A transaction
+ * ReadWriteRoutingDataSource may send to the replica only reads from the cache
+ * (CacheMode.GET): a row read from a replica that has not caught up with an eviction
+ * would otherwise go back into the cache and be served as fresh until the region TTL.
+ *
+ * The route is only decided at the first statement, so this holds for every such
+ * transaction, also while the replica is down and the reads end up on the primary.
+ * The session's previous cache mode is restored when the transaction ends, for
+ * sessions that outlive it (open-in-view).
+ */
+public class ReplicaReadJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!ReadWriteRoutingDataSource.isReplicaRead(definition.isReadOnly(), definition.getName())) {
+            return transactionData;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReplicaReadTransactionData(transactionData, session, previousCacheMode);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaReadTransactionData replicaRead) {
+            replicaRead.session().setCacheMode(replicaRead.previousCacheMode());
+            super.cleanupTransaction(replicaRead.transactionData());
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private record ReplicaReadTransactionData(Object transactionData, Session session, CacheMode previousCacheMode) {}
+}
@@ -1,5 +1,7 @@
 package com.profroid.profroidapp.utils.generators.BillIdGenerator;
 
+import com.profroid.profroidapp.utils.generators.IdSequence.IdBlockAllocator;
+
 import java.time.Year;
 
 public class BillIdGenerator {
@@ -8,6 +10,15 @@ public class BillIdGenerator {
     private static final Object lock = new Object();
     private static int counter = 1;
     private static int year = Year.now().getValue();
+    private static volatile IdBlockAllocator allocator;
+
+    static void useAllocator(IdBlockAllocator blockAllocator) {
+        allocator = blockAllocator;
+    }
+
+    static int currentYear() {
+        return Year.now().getValue();
+    }
 
     static void initialize(int persistedYear, int nextCounter) {
         synchronized (lock) {
@@ -24,6 +35,13 @@ public class BillIdGenerator {
     }
 
     public static String generateBillId() {
+        IdBlockAllocator current = allocator;
+        if (current != null) {
+            IdBlockAllocator.Allocation allocation = current.next();
+            return format(allocation.period(), allocation.value());
+        }
+
+        // No shared sequence (e.g. outside a Spring context): fall back to the local counter
         synchronized (lock) {
             int currentYear = Year.now().getValue();
             if (currentYear != year) {
@@ -31,9 +49,13 @@ public class BillIdGenerator {
                 counter = 1;
             }
 
-            String id = PREFIX + year + "-" + String.format("%06d", counter);
+            String id = format(year, counter);
             counter++;
             return id;
         }
     }
+
+    static String format(int year, long counter) {
+        return PREFIX + year + "-" + String.format("%06d", counter);
+    }
 }
@@ -1,8 +1,12 @@
 package com.profroid.profroidapp.utils.generators.BillIdGenerator;
 
+import com.profroid.profroidapp.utils.generators.IdSequence.IdBlockAllocator;
+import com.profroid.profroidapp.utils.generators.IdSequence.IdSequenceRepository;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -15,8 +19,19 @@ public class BillIdInitializer {
     @Autowired
     private BillIdRepository billIdRepository;
 
+    @Autowired
+    private IdSequenceRepository idSequenceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${ids.block-size:20}")
+    private int blockSize;
+
     @PostConstruct
     public void init() {
+        IdBlockAllocator allocator = new IdBlockAllocator(
+                idSequenceRepository, transactionManager, "BILL", blockSize, BillIdGenerator::currentYear);
         String maxBillId = billIdRepository.findMaxBillId();
 
         if (maxBillId != null) {
@@ -25,6 +40,8 @@ public class BillIdInitializer {
                 int persistedYear = Integer.parseInt(matcher.group(1));
                 int nextCounter = Integer.parseInt(matcher.group(2)) + 1;
                 BillIdGenerator.initialize(persistedYear, nextCounter);
+                allocator.seed(persistedYear, nextCounter);
+                BillIdGenerator.useAllocator(allocator);
                 String preview = "BILL-" + persistedYear + "-" + String.format("%06d", nextCounter);
                 System.out.println("Bill ID Generator initialized. Next Bill ID = " + preview);
                 return;
@@ -32,6 +49,8 @@ public class BillIdInitializer {
         }
 
         BillIdGenerator.resetToCurrentYear();
+        allocator.seed(BillIdGenerator.currentYear(), 1);
+        BillIdGenerator.useAllocator(allocator);
         System.out.println("Bill ID Generator initialized. Starting from current year.");
     }
 }
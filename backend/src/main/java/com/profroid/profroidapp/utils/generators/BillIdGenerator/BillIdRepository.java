@@ -1,5 +1,6 @@
 package com.profroid.profroidapp.utils.generators.BillIdGenerator;
 
+import com.profroid.profroidapp.utils.dataset.SyntheticDataset;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Repository;
@@ -10,9 +11,12 @@ public class BillIdRepository {
     @PersistenceContext
     private EntityManager entityManager;
 
+    // Synthetic load-test bills (BILL-SYN-nnnnnnn) sort above every BILL-yyyy-nnnnnn id and are skipped
     public String findMaxBillId() {
         try {
-            Object result = entityManager.createNativeQuery("SELECT MAX(bill_id) FROM bills").getSingleResult();
+            Object result = entityManager.createNativeQuery("SELECT MAX(bill_id) FROM bills WHERE bill_id NOT LIKE ?1")
+                    .setParameter(1, SyntheticDataset.BILL_ID_PREFIX + "%")
+                    .getSingleResult();
             return result != null ? result.toString() : null;
         } catch (Exception ex) {
             return null;
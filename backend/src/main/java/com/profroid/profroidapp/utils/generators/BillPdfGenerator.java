@@ -18,6 +18,8 @@ import com.profroid.profroidapp.filesubdomain.businessLayer.FileService;
 import com.profroid.profroidapp.filesubdomain.dataAccessLayer.FileCategory;
 import com.profroid.profroidapp.filesubdomain.dataAccessLayer.FileOwnerType;
 import com.profroid.profroidapp.filesubdomain.dataAccessLayer.StoredFile;
+import com.profroid.profroidapp.utils.metrics.ServerTiming;
+import com.profroid.profroidapp.utils.metrics.Timings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -38,6 +40,11 @@ public class BillPdfGenerator {
     private static final Logger log = LoggerFactory.getLogger(BillPdfGenerator.class);
 
     public byte[] generateBillPdf(Bill bill, String language) {
+        return Timings.record("pdf.render", ServerTiming.Phase.RENDER,
+                () -> renderBillPdf(bill, language), "document", "bill");
+    }
+
+    private byte[] renderBillPdf(Bill bill, String language) {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         try {
             PdfWriter writer = new PdfWriter(outputStream);
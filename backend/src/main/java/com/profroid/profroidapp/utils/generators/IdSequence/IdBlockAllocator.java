@@ -0,0 +1,153 @@
+package com.profroid.profroidapp.utils.generators.IdSequence;
+
+import jakarta.persistence.PersistenceException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+
+/**
+ * Hi/lo allocator backed by the id_sequences table.
+ *
+ * Each node reserves a block of counter values with one atomic row update and then
+ * hands them out from an AtomicLong without locking. Only the thread that finds the
+ * block exhausted talks to the database. Values left in a block when a node stops
+ * are never reused, so ids can have gaps but never duplicates across replicas.
+ */
+public class IdBlockAllocator {
+
+    public record Allocation(int period, long value) {
+    }
+
+    private record Block(int period, AtomicLong next, long limit) {
+    }
+
+    private static final int MAX_ATTEMPTS = 10;
+
+    private final IdSequenceRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final String sequenceName;
+    private final int blockSize;
+    private final IntSupplier periodSupplier;
+
+    private final AtomicReference<Block> current = new AtomicReference<>(new Block(Integer.MIN_VALUE, new AtomicLong(), 0));
+    // Held across the database round-trip, so a lock rather than a monitor that would pin a virtual thread
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    public IdBlockAllocator(IdSequenceRepository repository,
+                            PlatformTransactionManager transactionManager,
+                            String sequenceName,
+                            int blockSize,
+                            IntSupplier periodSupplier) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be at least 1");
+        }
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.sequenceName = sequenceName;
+        this.blockSize = blockSize;
+        this.periodSupplier = periodSupplier;
+    }
+
+    public String getSequenceName() {
+        return sequenceName;
+    }
+
+    /**
+     * Next counter value together with the period (year) it belongs to.
+     */
+    public Allocation next() {
+        int period = periodSupplier.getAsInt();
+        while (true) {
+            Block block = current.get();
+            if (block.period() >= period) {
+                long value = block.next().getAndIncrement();
+                if (value < block.limit()) {
+                    return new Allocation(block.period(), value);
+                }
+            }
+            refill(block, period);
+        }
+    }
+
+    /**
+     * Makes sure the sequence row exists and is at least at the given value.
+     * Called at startup with the highest id already stored in the business table.
+     */
+    public void seed(int period, long nextValue) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Integer storedPeriod = repository.findPeriod(sequenceName);
+                    if (storedPeriod == null) {
+                        repository.insert(sequenceName, period, nextValue);
+                    } else if (storedPeriod < period) {
+                        repository.rollOver(sequenceName, period, nextValue);
+                    } else if (storedPeriod == period) {
+                        repository.raise(sequenceName, period, nextValue);
+                    }
+                });
+                return;
+            } catch (DataAccessException | PersistenceException e) {
+                // Another node created the row between our read and insert; re-read it
+            }
+        }
+        throw new IllegalStateException("Could not seed id sequence " + sequenceName);
+    }
+
+    private void refill(Block exhausted, int period) {
+        refillLock.lock();
+        try {
+            if (current.get() != exhausted) {
+                return; // another thread already installed a fresh block
+            }
+            current.set(reserveBlock(period));
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private Block reserveBlock(int period) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Block block = transactionTemplate.execute(status -> {
+                Integer storedPeriod = repository.findPeriod(sequenceName);
+                if (storedPeriod == null) {
+                    return null;
+                }
+                if (storedPeriod < period) {
+                    repository.rollOver(sequenceName, period, 1L);
+                }
+                int effectivePeriod = Math.max(storedPeriod, period);
+                if (repository.advance(sequenceName, effectivePeriod, blockSize) == 0) {
+                    return null; // the period moved under us, try again
+                }
+                // The row stays locked by our update until commit, so this reads our own write
+                long end = repository.findNextValue(sequenceName);
+                return new Block(effectivePeriod, new AtomicLong(end - blockSize), end);
+            });
+            if (block != null) {
+                return block;
+            }
+            createIfMissing(period);
+        }
+        throw new IllegalStateException("Could not reserve an id block for sequence " + sequenceName);
+    }
+
+    private void createIfMissing(int period) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (repository.findPeriod(sequenceName) == null) {
+                    repository.insert(sequenceName, period, 1L);
+                }
+            });
+        } catch (DataAccessException | PersistenceException e) {
+            // Another node inserted the row first, which is fine
+        }
+    }
+}
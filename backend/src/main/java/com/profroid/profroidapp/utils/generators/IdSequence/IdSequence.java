@@ -0,0 +1,32 @@
+package com.profroid.profroidapp.utils.generators.IdSequence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row per business id sequence (bills, reports, SKUs).
+ * next_value is the first counter value not yet handed out to any node.
+ */
+@Entity
+@Table(name = "id_sequences")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdSequence {
+
+    @Id
+    @Column(name = "seq_name", length = 50)
+    private String seqName;
+
+    // Year the counter belongs to (0 for sequences that never reset)
+    @Column(name = "seq_period", nullable = false)
+    private Integer seqPeriod;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
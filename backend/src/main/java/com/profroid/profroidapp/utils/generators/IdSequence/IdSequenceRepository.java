@@ -0,0 +1,69 @@
+package com.profroid.profroidapp.utils.generators.IdSequence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class IdSequenceRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public Integer findPeriod(String seqName) {
+        List<?> result = entityManager
+                .createNativeQuery("SELECT seq_period FROM id_sequences WHERE seq_name = ?1")
+                .setParameter(1, seqName)
+                .getResultList();
+        return result.isEmpty() ? null : ((Number) result.get(0)).intValue();
+    }
+
+    public Long findNextValue(String seqName) {
+        List<?> result = entityManager
+                .createNativeQuery("SELECT next_value FROM id_sequences WHERE seq_name = ?1")
+                .setParameter(1, seqName)
+                .getResultList();
+        return result.isEmpty() ? null : ((Number) result.get(0)).longValue();
+    }
+
+    public void insert(String seqName, int period, long nextValue) {
+        entityManager
+                .createNativeQuery("INSERT INTO id_sequences (seq_name, seq_period, next_value) VALUES (?1, ?2, ?3)")
+                .setParameter(1, seqName)
+                .setParameter(2, period)
+                .setParameter(3, nextValue)
+                .executeUpdate();
+    }
+
+    // Moves the whole block boundary in one atomic row update
+    public int advance(String seqName, int period, int blockSize) {
+        return entityManager
+                .createNativeQuery("UPDATE id_sequences SET next_value = next_value + ?1 WHERE seq_name = ?2 AND seq_period = ?3")
+                .setParameter(1, blockSize)
+                .setParameter(2, seqName)
+                .setParameter(3, period)
+                .executeUpdate();
+    }
+
+    // Starts a new period; only the first node to see the new year gets a row count of 1
+    public int rollOver(String seqName, int period, long nextValue) {
+        return entityManager
+                .createNativeQuery("UPDATE id_sequences SET seq_period = ?1, next_value = ?2 WHERE seq_name = ?3 AND seq_period < ?1")
+                .setParameter(1, period)
+                .setParameter(2, nextValue)
+                .setParameter(3, seqName)
+                .executeUpdate();
+    }
+
+    // Never moves the counter backwards
+    public int raise(String seqName, int period, long nextValue) {
+        return entityManager
+                .createNativeQuery("UPDATE id_sequences SET next_value = ?1 WHERE seq_name = ?2 AND seq_period = ?3 AND next_value < ?1")
+                .setParameter(1, nextValue)
+                .setParameter(2, seqName)
+                .setParameter(3, period)
+                .executeUpdate();
+    }
+}
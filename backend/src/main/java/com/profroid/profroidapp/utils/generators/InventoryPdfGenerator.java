@@ -17,6 +17,8 @@ import com.profroid.profroidapp.filesubdomain.businessLayer.FileService;
 import com.profroid.profroidapp.filesubdomain.dataAccessLayer.FileCategory;
 import com.profroid.profroidapp.filesubdomain.dataAccessLayer.FileOwnerType;
 import com.profroid.profroidapp.filesubdomain.dataAccessLayer.StoredFile;
+import com.profroid.profroidapp.utils.metrics.ServerTiming;
+import com.profroid.profroidapp.utils.metrics.Timings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -35,6 +37,11 @@ public class InventoryPdfGenerator {
     private static final Logger log = LoggerFactory.getLogger(InventoryPdfGenerator.class);
 
     public byte[] generateInventoryPdf(List<PartResponseModel> parts) {
+        return Timings.record("pdf.render", ServerTiming.Phase.RENDER,
+                () -> renderInventoryPdf(parts), "document", "inventory");
+    }
+
+    private byte[] renderInventoryPdf(List<PartResponseModel> parts) {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         
         try {
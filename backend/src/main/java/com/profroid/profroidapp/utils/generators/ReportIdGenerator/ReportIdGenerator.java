@@ -1,5 +1,7 @@
 package com.profroid.profroidapp.utils.generators.ReportIdGenerator;
 
+import com.profroid.profroidapp.utils.generators.IdSequence.IdBlockAllocator;
+
 import java.time.Year;
 
 public class ReportIdGenerator {
@@ -9,6 +11,15 @@ public class ReportIdGenerator {
     private static final Object lock = new Object();
     private static int counter = 1;
     private static int year = Math.max(Year.now().getValue(), BASE_YEAR);
+    private static volatile IdBlockAllocator allocator;
+
+    static void useAllocator(IdBlockAllocator blockAllocator) {
+        allocator = blockAllocator;
+    }
+
+    static int currentYear() {
+        return Math.max(Year.now().getValue(), BASE_YEAR);
+    }
 
     static void initialize(int persistedYear, int nextCounter) {
         synchronized (lock) {
@@ -25,6 +36,13 @@ public class ReportIdGenerator {
     }
 
     public static String generateReportId() {
+        IdBlockAllocator current = allocator;
+        if (current != null) {
+            IdBlockAllocator.Allocation allocation = current.next();
+            return format(allocation.period(), allocation.value());
+        }
+
+        // No shared sequence (e.g. outside a Spring context): fall back to the local counter
         synchronized (lock) {
             int currentYear = Math.max(Year.now().getValue(), BASE_YEAR);
             if (currentYear != year) {
@@ -32,9 +50,13 @@ public class ReportIdGenerator {
                 counter = 1;
             }
 
-            String id = PREFIX + year + "-" + String.format("%06d", counter);
+            String id = format(year, counter);
             counter++;
             return id;
         }
     }
+
+    static String format(int year, long counter) {
+        return PREFIX + year + "-" + String.format("%06d", counter);
+    }
 }
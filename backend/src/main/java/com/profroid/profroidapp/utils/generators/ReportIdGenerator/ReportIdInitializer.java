@@ -1,8 +1,12 @@
 package com.profroid.profroidapp.utils.generators.ReportIdGenerator;
 
+import com.profroid.profroidapp.utils.generators.IdSequence.IdBlockAllocator;
+import com.profroid.profroidapp.utils.generators.IdSequence.IdSequenceRepository;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -15,8 +19,19 @@ public class ReportIdInitializer {
     @Autowired
     private ReportIdRepository reportIdRepository;
 
+    @Autowired
+    private IdSequenceRepository idSequenceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${ids.block-size:20}")
+    private int blockSize;
+
     @PostConstruct
     public void init() {
+        IdBlockAllocator allocator = new IdBlockAllocator(
+                idSequenceRepository, transactionManager, "RPT", blockSize, ReportIdGenerator::currentYear);
         String maxReportId = reportIdRepository.findMaxReportId();
 
         if (maxReportId != null) {
@@ -25,6 +40,8 @@ public class ReportIdInitializer {
                 int persistedYear = Integer.parseInt(matcher.group(1));
                 int nextCounter = Integer.parseInt(matcher.group(2)) + 1;
                 ReportIdGenerator.initialize(persistedYear, nextCounter);
+                allocator.seed(persistedYear, nextCounter);
+                ReportIdGenerator.useAllocator(allocator);
                 String preview = "RPT-" + persistedYear + "-" + String.format("%06d", nextCounter);
                 System.out.println("Report ID Generator initialized. Next Report ID = " + preview);
                 return;
@@ -32,6 +49,8 @@ public class ReportIdInitializer {
         }
 
         ReportIdGenerator.resetToBaseYear();
+        allocator.seed(ReportIdGenerator.currentYear(), 1);
+        ReportIdGenerator.useAllocator(allocator);
         System.out.println("Report ID Generator initialized. Starting from current/base year.");
     }
 }
@@ -16,6 +16,8 @@ import com.profroid.profroidapp.filesubdomain.dataAccessLayer.FileCategory;
 import com.profroid.profroidapp.filesubdomain.dataAccessLayer.FileOwnerType;
 import com.profroid.profroidapp.filesubdomain.dataAccessLayer.StoredFile;
 import com.profroid.profroidapp.reportsubdomain.presentationLayer.ReportResponseModel;
+import com.profroid.profroidapp.utils.metrics.ServerTiming;
+import com.profroid.profroidapp.utils.metrics.Timings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -35,6 +37,11 @@ public class ReportPdfGenerator {
     private static final Logger log = LoggerFactory.getLogger(ReportPdfGenerator.class);
 
     public byte[] generateReportPdf(ReportResponseModel report, String language) {
+        return Timings.record("pdf.render", ServerTiming.Phase.RENDER,
+                () -> renderReportPdf(report, language), "document", "report");
+    }
+
+    private byte[] renderReportPdf(ReportResponseModel report, String language) {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         try {
             PdfWriter writer = new PdfWriter(outputStream);
@@ -1,9 +1,14 @@
 package com.profroid.profroidapp.utils.generators.SkuGenerator;
 
+import com.profroid.profroidapp.utils.generators.IdSequence.IdBlockAllocator;
+
 public class SkuGenerator {
 
     private static final String PREFIX = "PC-";
+    // SKUs never reset, so the shared sequence keeps a single period
+    static final int NO_PERIOD = 0;
     private static int counter = 1;
+    private static volatile IdBlockAllocator allocator;
 
     private static final Object lock = new Object();
 
@@ -15,7 +20,17 @@ public class SkuGenerator {
         return counter;
     }
 
+    static void useAllocator(IdBlockAllocator blockAllocator) {
+        allocator = blockAllocator;
+    }
+
     public static String generateSku() {
+        IdBlockAllocator current = allocator;
+        if (current != null) {
+            return PREFIX + String.format("%06d", current.next().value());
+        }
+
+        // No shared sequence (e.g. outside a Spring context): fall back to the local counter
         synchronized (lock) {
             String sku = PREFIX + String.format("%06d", counter);
             counter++;
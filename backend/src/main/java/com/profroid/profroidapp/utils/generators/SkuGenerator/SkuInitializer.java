@@ -1,8 +1,12 @@
 package com.profroid.profroidapp.utils.generators.SkuGenerator;
 
+import com.profroid.profroidapp.utils.generators.IdSequence.IdBlockAllocator;
+import com.profroid.profroidapp.utils.generators.IdSequence.IdSequenceRepository;
 import jakarta.annotation.PostConstruct;
 import org.springframework.stereotype.Component;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @Component
 public class SkuInitializer {
@@ -10,6 +14,15 @@ public class SkuInitializer {
     @Autowired
     private SkuRepository skuRepository;
 
+    @Autowired
+    private IdSequenceRepository idSequenceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${ids.block-size:20}")
+    private int blockSize;
+
     @PostConstruct
     public void init() {
         String maxSku = skuRepository.findMaxSku();
@@ -21,6 +34,11 @@ public class SkuInitializer {
             SkuGenerator.setCounter(1);
         }
 
+        IdBlockAllocator allocator = new IdBlockAllocator(
+                idSequenceRepository, transactionManager, "SKU", blockSize, () -> SkuGenerator.NO_PERIOD);
+        allocator.seed(SkuGenerator.NO_PERIOD, SkuGenerator.getCounter());
+        SkuGenerator.useAllocator(allocator);
+
         System.out.println("SKU Generator initialized. Next SKU = " + SkuGenerator.getCounter());
     }
 }
@@ -0,0 +1,47 @@
+package com.profroid.profroidapp.utils.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Charges the JDBC time of every Hibernate session to the db phase of the current
+ * request. Registered for all sessions through hibernate.session.events.auto;
+ * a session is used by one thread at a time, so plain fields are enough.
+ *
+ * Statements issued through JdbcTemplate bypass Hibernate and are not counted.
+ */
+public class JdbcTimingListener implements SessionEventListener {
+
+    private long prepareStart;
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        prepareStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcPrepareStatementEnd() {
+        ServerTiming.add(ServerTiming.Phase.DB, System.nanoTime() - prepareStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        ServerTiming.add(ServerTiming.Phase.DB, System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        ServerTiming.add(ServerTiming.Phase.DB, System.nanoTime() - batchStart);
+    }
+}
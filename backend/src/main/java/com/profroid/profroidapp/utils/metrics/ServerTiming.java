@@ -0,0 +1,90 @@
+package com.profroid.profroidapp.utils.metrics;
+
+import java.util.Locale;
+
+/**
+ * Per-request breakdown of where the time went, sent back in the Server-Timing
+ * response header: database, object storage, remote services (auth-service),
+ * PDF rendering, and the whole request as app.
+ *
+ * Time is collected on the request thread only. Work handed to other threads (day
+ * bundle loaders, telemetry writer) is not charged to the request that started it.
+ */
+public final class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    public enum Phase {
+        DB("db", "Database"),
+        STORAGE("storage", "Object storage"),
+        REMOTE("remote", "Remote services"),
+        RENDER("render", "PDF rendering");
+
+        private final String metricName;
+        private final String description;
+
+        Phase(String metricName, String description) {
+            this.metricName = metricName;
+            this.description = description;
+        }
+    }
+
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    private ServerTiming() {}
+
+    /**
+     * Starts collecting for the request running on this thread.
+     */
+    public static void begin() {
+        CURRENT.set(new long[Phase.values().length]);
+    }
+
+    /**
+     * Stops collecting and returns the time per phase in nanoseconds, null if begin was never called.
+     */
+    public static long[] end() {
+        long[] totals = CURRENT.get();
+        CURRENT.remove();
+        return totals;
+    }
+
+    /**
+     * Time per phase so far, null outside a request.
+     */
+    public static long[] current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Charges time to the current request. Does nothing outside a request.
+     */
+    public static void add(Phase phase, long nanos) {
+        long[] totals = CURRENT.get();
+        if (totals != null) {
+            totals[phase.ordinal()] += nanos;
+        }
+    }
+
+    /**
+     * Header value such as db;desc="Database";dur=12.4, app;dur=30.1 (milliseconds).
+     * Phases that took no time are left out.
+     */
+    public static String headerValue(long[] totals, long requestNanos) {
+        StringBuilder value = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            long nanos = totals[phase.ordinal()];
+            if (nanos > 0) {
+                value.append(phase.metricName)
+                        .append(";desc=\"").append(phase.description).append('"')
+                        .append(";dur=").append(millis(nanos))
+                        .append(", ");
+            }
+        }
+        return value.append("app;dur=").append(millis(requestNanos)).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
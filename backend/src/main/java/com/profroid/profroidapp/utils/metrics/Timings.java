@@ -0,0 +1,70 @@
+package com.profroid.profroidapp.utils.metrics;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times hot-path operations into Micrometer and, when they belong to a Server-Timing
+ * phase, into the current request's breakdown.
+ *
+ * Timers go to the global registry, which Spring Boot connects to the actuator (and
+ * Prometheus) registry; outside a running application they are no-ops. Every timer
+ * carries an outcome tag, success or error, so its count doubles as a call counter.
+ */
+public final class Timings {
+
+    @FunctionalInterface
+    public interface TimedCall<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    @FunctionalInterface
+    public interface TimedRun<E extends Exception> {
+        void run() throws E;
+    }
+
+    private Timings() {}
+
+    /**
+     * Runs call, recording its duration under the timer name with the given tag pairs.
+     * phase may be null for work that is not db, storage, remote or render.
+     */
+    public static <T, E extends Exception> T record(String name, ServerTiming.Phase phase,
+                                                    TimedCall<T, E> call, String... tags) throws E {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = call.call();
+            success = true;
+            return result;
+        } finally {
+            stop(name, phase, start, success, tags);
+        }
+    }
+
+    public static <E extends Exception> void run(String name, ServerTiming.Phase phase,
+                                                 TimedRun<E> run, String... tags) throws E {
+        record(name, phase, () -> {
+            run.run();
+            return null;
+        }, tags);
+    }
+
+    /**
+     * Records an operation started at startNanos (System.nanoTime), for call sites whose
+     * checked exceptions do not fit a single TimedCall type.
+     */
+    public static void stop(String name, ServerTiming.Phase phase, long startNanos, boolean success, String... tags) {
+        long elapsed = System.nanoTime() - startNanos;
+        Timer.builder(name)
+                .tags(tags)
+                .tag("outcome", success ? "success" : "error")
+                .register(Metrics.globalRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        if (phase != null) {
+            ServerTiming.add(phase, elapsed);
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.profroid.profroidapp.utils.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compact in-process inverted index with BM25 ranking over weighted fields.
+ *
+ * Documents are identified by their public id and get an int ordinal internally.
+ * Each term keeps a postings list of parallel int/float arrays (document ordinal,
+ * field-weighted term frequency), so the index holds no per-posting objects.
+ * Every query term must match. The last term, and any email-like term, also match as a
+ * prefix so partial words, emails and serial numbers find their document.
+ *
+ * Writes take a write lock, searches a read lock; updates are cheap enough that
+ * this never becomes the bottleneck at admin-inbox scale.
+ */
+public final class InvertedIndex {
+
+    /**
+     * One page of results, best first, plus the number of matching documents.
+     */
+    public record SearchResult(List<String> keys, long total) {
+    }
+
+    // BM25 parameters (usual defaults)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int MAX_QUERY_TERMS = 16;
+
+    private static final class Postings {
+        int[] docs = new int[4];
+        float[] weights = new float[4];
+        int size;
+
+        void add(int doc, float weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = weight;
+            size++;
+        }
+
+        void remove(int doc) {
+            for (int i = 0; i < size; i++) {
+                if (docs[i] == doc) {
+                    size--;
+                    docs[i] = docs[size];
+                    weights[i] = weights[size];
+                    return;
+                }
+            }
+        }
+    }
+
+    private final Map<String, Float> fieldWeights;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<String> keys = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private String[][] docTerms = new String[16][];
+    private float[] docLengths = new float[16];
+    private double totalLength;
+
+    /**
+     * @param fieldWeights weight of a term occurrence in each field name passed to put
+     */
+    public InvertedIndex(Map<String, Float> fieldWeights) {
+        this.fieldWeights = Map.copyOf(fieldWeights);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces a document. fields maps field name to text; unknown fields get weight 1.
+     */
+    public void put(String key, Map<String, String> fields) {
+        // Tokenize outside the lock
+        Map<String, Float> termWeights = new HashMap<>();
+        float length = 0;
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            float weight = fieldWeights.getOrDefault(field.getKey(), 1f);
+            for (String token : SearchTokenizer.tokenize(field.getValue())) {
+                termWeights.merge(token, weight, Float::sum);
+                length += weight;
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            if (termWeights.isEmpty()) {
+                return;
+            }
+            int doc = freeOrdinals.isEmpty() ? keys.size() : freeOrdinals.pop();
+            if (doc == keys.size()) {
+                keys.add(key);
+                ensureCapacity(doc + 1);
+            } else {
+                keys.set(doc, key);
+            }
+            ordinals.put(key, doc);
+
+            String[] docTermList = new String[termWeights.size()];
+            int i = 0;
+            for (Map.Entry<String, Float> term : termWeights.entrySet()) {
+                terms.computeIfAbsent(term.getKey(), ignored -> new Postings()).add(doc, term.getValue());
+                docTermList[i++] = term.getKey();
+            }
+            docTerms[doc] = docTermList;
+            docLengths[doc] = length;
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Documents matching every query term, ranked by BM25, one page at a time.
+     */
+    public SearchResult search(String query, int page, int size) {
+        List<String> queryTerms = SearchTokenizer.tokenize(query).stream().distinct().limit(MAX_QUERY_TERMS).toList();
+        if (queryTerms.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            int docCount = ordinals.size();
+            if (docCount == 0) {
+                return new SearchResult(List.of(), 0);
+            }
+            double averageLength = totalLength / docCount;
+
+            List<List<Postings>> postingsPerTerm = new ArrayList<>(queryTerms.size());
+            for (int t = 0; t < queryTerms.size(); t++) {
+                String term = queryTerms.get(t);
+                // Emails are matched by prefix wherever they appear, other words only when last
+                boolean prefix = t == queryTerms.size() - 1 || term.indexOf('@') > 0;
+                List<Postings> postings = postingsFor(term, prefix);
+                if (postings.isEmpty()) {
+                    return new SearchResult(List.of(), 0);
+                }
+                postingsPerTerm.add(postings);
+            }
+            // Start from the rarest term: every document must match it, so it bounds the candidates
+            postingsPerTerm.sort(Comparator.comparingInt(InvertedIndex::documentFrequency));
+
+            Map<Integer, Double> scores = new HashMap<>();
+            accumulate(postingsPerTerm.get(0), docCount, averageLength, scores, null);
+            for (int t = 1; t < postingsPerTerm.size() && !scores.isEmpty(); t++) {
+                Map<Integer, Double> matched = new HashMap<>();
+                accumulate(postingsPerTerm.get(t), docCount, averageLength, matched, scores);
+                scores = matched;
+            }
+
+            List<Map.Entry<Integer, Double>> matches = new ArrayList<>(scores.entrySet());
+            matches.sort(Map.Entry.<Integer, Double>comparingByValue().reversed());
+
+            int from = (int) Math.min((long) page * size, matches.size());
+            int to = Math.min(from + size, matches.size());
+            List<String> pageKeys = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                pageKeys.add(keys.get(matches.get(i).getKey()));
+            }
+            return new SearchResult(pageKeys, matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the BM25 contribution of one query term to target. When candidates is given,
+     * only documents already in it are kept, with their previous score carried over.
+     */
+    private void accumulate(List<Postings> termPostings, int docCount, double averageLength,
+                            Map<Integer, Double> target, Map<Integer, Double> candidates) {
+        for (Postings postings : termPostings) {
+            double idf = Math.log(1 + (docCount - postings.size + 0.5) / (postings.size + 0.5));
+            for (int p = 0; p < postings.size; p++) {
+                int doc = postings.docs[p];
+                Double previous = candidates == null ? Double.valueOf(0) : candidates.get(doc);
+                if (previous == null) {
+                    continue;
+                }
+                double tf = postings.weights[p];
+                double norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                double score = idf * tf * (K1 + 1) / (tf + norm);
+                // A document reached through several prefix expansions sums them
+                target.merge(doc, previous + score, (existing, added) -> existing + added - previous);
+            }
+        }
+    }
+
+    private static int documentFrequency(List<Postings> termPostings) {
+        int total = 0;
+        for (Postings postings : termPostings) {
+            total += postings.size;
+        }
+        return total;
+    }
+
+    private List<Postings> postingsFor(String term, boolean prefix) {
+        if (!prefix) {
+            Postings postings = terms.get(term);
+            return postings == null ? List.of() : List.of(postings);
+        }
+        List<Postings> result = new ArrayList<>();
+        for (Postings postings : terms.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+            result.add(postings);
+            if (result.size() >= MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private void removeLocked(String key) {
+        Integer doc = ordinals.remove(key);
+        if (doc == null) {
+            return;
+        }
+        for (String term : docTerms[doc]) {
+            Postings postings = terms.get(term);
+            postings.remove(doc);
+            if (postings.size == 0) {
+                terms.remove(term);
+            }
+        }
+        totalLength -= docLengths[doc];
+        docTerms[doc] = null;
+        docLengths[doc] = 0;
+        keys.set(doc, null);
+        freeOrdinals.push(doc);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > docLengths.length) {
+            int newCapacity = Math.max(capacity, docLengths.length * 2);
+            docLengths = Arrays.copyOf(docLengths, newCapacity);
+            docTerms = Arrays.copyOf(docTerms, newCapacity);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.profroid.profroidapp.utils.search;
+
+import com.profroid.profroidapp.utils.transactions.AfterCommit;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Full-text search over one kind of entity (contact messages, warranty claims).
+ *
+ * Subclasses say which fields are searchable and load the stored rows once at
+ * startup; services then index each write after it commits, so the index follows
+ * the table without being rebuilt.
+ *
+ * @param <T> indexed entity
+ */
+public abstract class SearchIndex<T> {
+
+    private final InvertedIndex index;
+
+    protected SearchIndex(Map<String, Float> fieldWeights) {
+        this.index = new InvertedIndex(fieldWeights);
+    }
+
+    /**
+     * Public id the search results refer to.
+     */
+    protected abstract String key(T entity);
+
+    /**
+     * Searchable text of the entity by field name. Null values are skipped.
+     */
+    protected abstract Map<String, String> fields(T entity);
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Ids of the matching entities for one page, best match first.
+     */
+    public InvertedIndex.SearchResult search(String query, int page, int size) {
+        return index.search(query, page, size);
+    }
+
+    /**
+     * Adds or replaces the entity once the surrounding transaction commits.
+     * The fields are read right away, while the entity is still attached.
+     */
+    public void indexAfterCommit(T entity) {
+        String key = key(entity);
+        Map<String, String> fields = fields(entity);
+        AfterCommit.run(() -> index.put(key, fields));
+    }
+
+    public void removeAfterCommit(String key) {
+        AfterCommit.run(() -> index.remove(key));
+    }
+
+    protected void load(List<T> entities) {
+        entities.parallelStream().forEach(entity -> index.put(key(entity), fields(entity)));
+    }
+}
@@ -0,0 +1,123 @@
+package com.profroid.profroidapp.utils.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Tokenizer shared by indexing and querying, for French and English text.
+ *
+ * Accents and case are folded ("Réfrigérateur" -> "refrigerateur"), words are split on
+ * anything that is not a letter or digit (which also splits elisions like "l'unité"),
+ * common stop words of both languages are dropped and a trailing plural "s" is removed.
+ * Email addresses are kept whole in addition to their parts so an exact address ranks
+ * first.
+ */
+public final class SearchTokenizer {
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            // English
+            "the", "and", "for", "with", "this", "that", "are", "was", "were", "you", "your", "have",
+            "has", "had", "not", "but", "from", "they", "our", "its", "is", "it", "in", "on", "at",
+            "of", "to", "an", "be", "we", "my", "me", "or", "as", "by", "so", "if", "do", "no",
+            // French
+            "le", "la", "les", "de", "des", "du", "un", "une", "et", "est", "pour", "que", "qui",
+            "dans", "sur", "au", "aux", "pas", "plus", "par", "ce", "ces", "se", "sa", "son", "ses",
+            "mon", "ma", "mes", "je", "vous", "nous", "il", "elle", "ne", "avec", "ou", "mais",
+            "votre", "vos", "notre", "nos", "ai", "sont", "cette", "tres"
+    );
+
+    private SearchTokenizer() {}
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String folded = fold(text);
+        for (String chunk : folded.split("\\s+")) {
+            if (chunk.indexOf('@') > 0) {
+                String email = trimPunctuation(chunk);
+                if (!email.isEmpty()) {
+                    tokens.add(email);
+                }
+            }
+            splitWords(chunk, tokens);
+        }
+        return tokens;
+    }
+
+    /**
+     * Lower-cased text with accents removed.
+     */
+    public static String fold(String text) {
+        if (isAscii(text)) {
+            return text.toLowerCase(Locale.ROOT);
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder builder = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 127) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void splitWords(String chunk, List<String> tokens) {
+        int start = -1;
+        for (int i = 0; i <= chunk.length(); i++) {
+            boolean wordChar = i < chunk.length() && Character.isLetterOrDigit(chunk.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addWord(chunk.substring(start, i), tokens);
+                start = -1;
+            }
+        }
+    }
+
+    private static void addWord(String word, List<String> tokens) {
+        if (word.length() < MIN_TOKEN_LENGTH || STOP_WORDS.contains(word)) {
+            return;
+        }
+        tokens.add(stem(word));
+    }
+
+    /**
+     * Plural folding only: "compresseurs" / "compressors" -> "compresseur" / "compressor".
+     */
+    static String stem(String word) {
+        if (word.length() > 3 && word.endsWith("s") && !word.endsWith("ss")
+                && !Character.isDigit(word.charAt(word.length() - 2))) {
+            return word.substring(0, word.length() - 1);
+        }
+        return word;
+    }
+
+    private static String trimPunctuation(String chunk) {
+        int start = 0;
+        int end = chunk.length();
+        while (start < end && !Character.isLetterOrDigit(chunk.charAt(start))) {
+            start++;
+        }
+        while (end > start && !Character.isLetterOrDigit(chunk.charAt(end - 1))) {
+            end--;
+        }
+        return chunk.substring(start, end);
+    }
+}
@@ -0,0 +1,7 @@
+package com.profroid.profroidapp.utils.similarity;
+
+/**
+ * Public id and text of a stored row, as loaded into a near-duplicate index at startup.
+ */
+public record IndexedText(String key, String text) {
+}
@@ -0,0 +1,258 @@
+package com.profroid.profroidapp.utils.similarity;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory near-duplicate index based on MinHash signatures and LSH banding.
+ *
+ * Texts are normalized (case, accents, punctuation) and cut into overlapping
+ * character shingles. Each text keeps a fixed-size MinHash signature whose share of
+ * equal positions with another signature estimates the Jaccard similarity of their
+ * shingle sets. The signature is split into bands; texts sharing a full band land in
+ * the same bucket, so a lookup only compares against the few texts that share a bucket
+ * instead of the whole history.
+ *
+ * All operations are thread-safe. Reads do not lock.
+ */
+public final class MinHashIndex {
+
+    /**
+     * Closest stored text and its estimated Jaccard similarity (0..1).
+     */
+    public record Match(String key, double similarity) {
+    }
+
+    private static final int SHINGLE_SIZE = 5;
+
+    // Bounds the work of one lookup when many stored texts share a bucket
+    private static final int MAX_CANDIDATES = 256;
+
+    private final int bands;
+    private final int rows;
+    private final int minLength;
+    private final long[] multipliers;
+    private final long[] increments;
+
+    private final ConcurrentHashMap<String, int[]> signatures = new ConcurrentHashMap<>();
+    // One map per band: band hash -> keys in that bucket. Buckets are small immutable
+    // arrays replaced on write, most of them hold a single key.
+    private final List<ConcurrentHashMap<Long, String[]>> buckets;
+
+    /**
+     * @param bands     number of LSH bands
+     * @param rows      signature rows per band (signature length is bands * rows)
+     * @param minLength texts shorter than this after normalization are not indexed,
+     *                  short messages like "Great service!" are legitimately repeated
+     */
+    public MinHashIndex(int bands, int rows, int minLength) {
+        if (bands < 1 || rows < 1) {
+            throw new IllegalArgumentException("MinHash index needs at least one band and one row");
+        }
+        this.bands = bands;
+        this.rows = rows;
+        this.minLength = Math.max(minLength, SHINGLE_SIZE);
+
+        // Fixed seed: signatures must stay comparable across restarts and nodes
+        SplittableRandom random = new SplittableRandom(0x5DEECE66DL);
+        this.multipliers = new long[bands * rows];
+        this.increments = new long[bands * rows];
+        for (int i = 0; i < multipliers.length; i++) {
+            multipliers[i] = random.nextLong() | 1L;
+            increments[i] = random.nextLong();
+        }
+
+        this.buckets = new ArrayList<>(bands);
+        for (int b = 0; b < bands; b++) {
+            buckets.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    /**
+     * Adds or replaces the text stored under key. Texts too short to compare are ignored.
+     */
+    public void put(String key, String text) {
+        int[] signature = signature(text);
+        remove(key);
+        if (signature == null) {
+            return;
+        }
+        signatures.put(key, signature);
+        for (int b = 0; b < bands; b++) {
+            buckets.get(b).merge(bandHash(signature, b), new String[]{key}, MinHashIndex::append);
+        }
+    }
+
+    public void remove(String key) {
+        int[] signature = signatures.remove(key);
+        if (signature == null) {
+            return;
+        }
+        for (int b = 0; b < bands; b++) {
+            buckets.get(b).computeIfPresent(bandHash(signature, b), (hash, keys) -> without(keys, key));
+        }
+    }
+
+    /**
+     * Most similar stored text whose estimated similarity is at least threshold.
+     */
+    public Optional<Match> findMostSimilar(String text, double threshold) {
+        int[] signature = signature(text);
+        if (signature == null || signatures.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<String> compared = new HashSet<>();
+        Match best = null;
+        for (int b = 0; b < bands && compared.size() < MAX_CANDIDATES; b++) {
+            String[] bucket = buckets.get(b).get(bandHash(signature, b));
+            if (bucket == null) {
+                continue;
+            }
+            for (String key : bucket) {
+                if (compared.size() >= MAX_CANDIDATES) {
+                    break;
+                }
+                if (!compared.add(key)) {
+                    continue;
+                }
+                int[] other = signatures.get(key);
+                if (other == null) {
+                    continue; // removed concurrently
+                }
+                double similarity = similarity(signature, other);
+                if (similarity >= threshold && (best == null || similarity > best.similarity())) {
+                    best = new Match(key, similarity);
+                }
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private static String[] append(String[] keys, String[] added) {
+        String[] result = Arrays.copyOf(keys, keys.length + 1);
+        result[keys.length] = added[0];
+        return result;
+    }
+
+    private static String[] without(String[] keys, String key) {
+        int index = -1;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) {
+            return keys;
+        }
+        if (keys.length == 1) {
+            return null;
+        }
+        String[] result = new String[keys.length - 1];
+        System.arraycopy(keys, 0, result, 0, index);
+        System.arraycopy(keys, index + 1, result, index, keys.length - index - 1);
+        return result;
+    }
+
+    // =====================================================
+    // SIGNATURES
+    // =====================================================
+
+    /**
+     * MinHash signature of the text, or null when it is too short to be compared.
+     */
+    int[] signature(String text) {
+        if (text == null) {
+            return null;
+        }
+        char[] chars = normalize(text);
+        if (chars.length < minLength) {
+            return null;
+        }
+
+        int[] signature = new int[multipliers.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        for (int i = 0; i + SHINGLE_SIZE <= chars.length; i++) {
+            long shingle = 0;
+            for (int k = 0; k < SHINGLE_SIZE; k++) {
+                shingle = shingle * 0x10001L + chars[i + k];
+            }
+            // One strong hash per shingle, then a cheap multiply-shift hash per signature row
+            long hashed = mix(shingle);
+            for (int h = 0; h < multipliers.length; h++) {
+                int value = (int) ((hashed * multipliers[h] + increments[h]) >>> 33);
+                if (value < signature[h]) {
+                    signature[h] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    static double similarity(int[] left, int[] right) {
+        int equal = 0;
+        for (int i = 0; i < left.length; i++) {
+            if (left[i] == right[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / left.length;
+    }
+
+    private long bandHash(int[] signature, int band) {
+        long hash = band;
+        int offset = band * rows;
+        for (int r = 0; r < rows; r++) {
+            hash = hash * 0x100000001B3L + signature[offset + r];
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Lower-cased letters and digits, accents stripped, every run of anything else
+     * turned into one space.
+     */
+    static char[] normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder builder = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && builder.length() > 0) {
+                    builder.append(' ');
+                }
+                builder.append(Character.toLowerCase(c));
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        char[] chars = new char[builder.length()];
+        builder.getChars(0, builder.length(), chars, 0);
+        return chars;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
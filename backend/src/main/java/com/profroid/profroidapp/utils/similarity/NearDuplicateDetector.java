@@ -0,0 +1,62 @@
+package com.profroid.profroidapp.utils.similarity;
+
+import com.profroid.profroidapp.utils.transactions.AfterCommit;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Near-duplicate lookup over one kind of submitted text (reviews, contact messages).
+ *
+ * Subclasses load the stored texts once at startup; services then check each new
+ * submission and add it to the index, so the index stays current without ever
+ * re-reading the history from the database.
+ */
+public abstract class NearDuplicateDetector {
+
+    // 16 bands x 4 rows: texts at 0.8 similarity share a band with ~99.9% probability
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+
+    private final MinHashIndex index;
+    private final double threshold;
+
+    protected NearDuplicateDetector(double threshold, int minTextLength) {
+        if (threshold <= 0 || threshold > 1) {
+            throw new IllegalArgumentException("Similarity threshold must be in (0, 1]");
+        }
+        this.index = new MinHashIndex(BANDS, ROWS, minTextLength);
+        this.threshold = threshold;
+    }
+
+    public double getThreshold() {
+        return threshold;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Closest stored text at or above the similarity threshold, if any.
+     */
+    public Optional<MinHashIndex.Match> findDuplicate(String text) {
+        return index.findMostSimilar(text, threshold);
+    }
+
+    /**
+     * Indexes the text once the surrounding transaction commits, so a rolled back
+     * insert never ends up in the index.
+     */
+    public void addAfterCommit(String key, String text) {
+        AfterCommit.run(() -> index.put(key, text));
+    }
+
+    public void removeAfterCommit(String key) {
+        AfterCommit.run(() -> index.remove(key));
+    }
+
+    protected void load(List<IndexedText> texts) {
+        texts.parallelStream().forEach(entry -> index.put(entry.key(), entry.text()));
+    }
+}
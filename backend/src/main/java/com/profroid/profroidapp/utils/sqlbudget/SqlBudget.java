@@ -0,0 +1,20 @@
+package com.profroid.profroidapp.utils.sqlbudget;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Most SQL statements one call of this controller method may run through Hibernate.
+ * Going over it is logged with the repeated statements (usually an N+1), and fails the
+ * integration test that made the call. Methods without it use sql-budget.default-max-statements.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    int value();
+}
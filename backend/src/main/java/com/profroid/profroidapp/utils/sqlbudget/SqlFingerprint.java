@@ -0,0 +1,24 @@
+package com.profroid.profroidapp.utils.sqlbudget;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces a SQL statement to its shape, so the statements an N+1 repeats with different
+ * ids count as one: literals become ?, IN lists become (?) and whitespace is collapsed.
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {}
+
+    public static String of(String sql) {
+        String fingerprint = STRING_LITERAL.matcher(sql).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+        return IN_LIST.matcher(fingerprint).replaceAll("(?)");
+    }
+}
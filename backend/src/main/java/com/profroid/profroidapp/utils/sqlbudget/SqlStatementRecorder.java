@@ -0,0 +1,111 @@
+package com.profroid.profroidapp.utils.sqlbudget;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Counts the SQL statements Hibernate prepares while a recording is running on the
+ * current thread, grouped by fingerprint. Registered for every session through
+ * hibernate.session_factory.statement_inspector; outside a recording it only reads
+ * a ThreadLocal.
+ *
+ * Statements issued through JdbcTemplate bypass Hibernate and are not counted, and
+ * neither is work handed to other threads (day bundle loaders, telemetry writer).
+ * Second-level cache hits run no statement, so they are free.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Starts counting on this thread. onOverBudget runs once, on the statement that
+     * goes over budget, while the request is still running.
+     */
+    public static Recording start(String endpoint, int budget, Consumer<Recording> onOverBudget) {
+        Recording recording = new Recording(endpoint, budget, onOverBudget);
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    /**
+     * Stops counting and returns what was recorded, null if nothing was being recorded.
+     */
+    public static Recording stop() {
+        Recording recording = CURRENT.get();
+        CURRENT.remove();
+        return recording;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.record(sql);
+        }
+        return sql;
+    }
+
+    public static final class Recording {
+
+        // A request building statements dynamically must not grow the map without bound
+        private static final int MAX_FINGERPRINTS = 200;
+
+        private final String endpoint;
+        private final int budget;
+        private final Consumer<Recording> onOverBudget;
+        private final Map<String, Integer> fingerprints = new LinkedHashMap<>();
+        private int statements;
+
+        private Recording(String endpoint, int budget, Consumer<Recording> onOverBudget) {
+            this.endpoint = endpoint;
+            this.budget = budget;
+            this.onOverBudget = onOverBudget;
+        }
+
+        void record(String sql) {
+            statements++;
+            String fingerprint = SqlFingerprint.of(sql);
+            if (fingerprints.size() < MAX_FINGERPRINTS || fingerprints.containsKey(fingerprint)) {
+                fingerprints.merge(fingerprint, 1, Integer::sum);
+            }
+            if (statements == budget + 1) {
+                onOverBudget.accept(this);
+            }
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public int getBudget() {
+            return budget;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public boolean isOverBudget() {
+            return statements > budget;
+        }
+
+        /**
+         * The most repeated fingerprints first, as "12x select ...", one per line.
+         */
+        public String topFingerprints(int limit) {
+            List<Map.Entry<String, Integer>> entries = new ArrayList<>(fingerprints.entrySet());
+            entries.sort(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()));
+            return entries.stream()
+                    .limit(limit)
+                    .map(entry -> entry.getValue() + "x " + entry.getKey())
+                    .collect(Collectors.joining("\n  ", "  ", ""));
+        }
+    }
+}
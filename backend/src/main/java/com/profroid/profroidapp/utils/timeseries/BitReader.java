@@ -0,0 +1,48 @@
+package com.profroid.profroidapp.utils.timeseries;
+
+/**
+ * Reads a bit stream written by BitWriter.
+ */
+final class BitReader {
+
+    private final byte[] bytes;
+    private int byteIndex;
+    private int bitIndex;
+
+    BitReader(byte[] bytes, int offset) {
+        this.bytes = bytes;
+        this.byteIndex = offset;
+    }
+
+    long read(int bits) {
+        long value = 0;
+        while (bits > 0) {
+            if (byteIndex >= bytes.length) {
+                throw new IllegalArgumentException("Chunk is truncated");
+            }
+            int available = 8 - bitIndex;
+            int take = Math.min(bits, available);
+            int chunk = (bytes[byteIndex] >>> (available - take)) & ((1 << take) - 1);
+            value = (value << take) | chunk;
+            bitIndex += take;
+            bits -= take;
+            if (bitIndex == 8) {
+                byteIndex++;
+                bitIndex = 0;
+            }
+        }
+        return value;
+    }
+
+    boolean readBit() {
+        if (byteIndex >= bytes.length) {
+            throw new IllegalArgumentException("Chunk is truncated");
+        }
+        boolean bit = ((bytes[byteIndex] >>> (7 - bitIndex)) & 1) != 0;
+        if (++bitIndex == 8) {
+            byteIndex++;
+            bitIndex = 0;
+        }
+        return bit;
+    }
+}
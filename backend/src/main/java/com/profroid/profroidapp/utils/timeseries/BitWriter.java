@@ -0,0 +1,60 @@
+package com.profroid.profroidapp.utils.timeseries;
+
+import java.util.Arrays;
+
+/**
+ * Append-only bit stream, most significant bit first.
+ */
+final class BitWriter {
+
+    private byte[] bytes;
+    private int byteCount;
+    // Bits already used in bytes[byteCount], 0..7
+    private int bitCount;
+
+    BitWriter(int initialBytes) {
+        bytes = new byte[Math.max(16, initialBytes)];
+    }
+
+    /**
+     * Writes the low bits of value.
+     */
+    void write(long value, int bits) {
+        while (bits > 0) {
+            if (byteCount == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            int take = Math.min(bits, 8 - bitCount);
+            int chunk = (int) (value >>> (bits - take)) & ((1 << take) - 1);
+            bytes[byteCount] |= (byte) (chunk << (8 - bitCount - take));
+            bitCount += take;
+            bits -= take;
+            if (bitCount == 8) {
+                byteCount++;
+                bitCount = 0;
+            }
+        }
+    }
+
+    void writeBit(boolean bit) {
+        write(bit ? 1 : 0, 1);
+    }
+
+    long bitLength() {
+        return (long) byteCount * 8 + bitCount;
+    }
+
+    /**
+     * Copies the stream into target at offset, the last byte padded with zero bits.
+     * Returns the number of bytes copied.
+     */
+    int copyTo(byte[] target, int offset) {
+        int length = byteLength();
+        System.arraycopy(bytes, 0, target, offset, length);
+        return length;
+    }
+
+    int byteLength() {
+        return byteCount + (bitCount > 0 ? 1 : 0);
+    }
+}
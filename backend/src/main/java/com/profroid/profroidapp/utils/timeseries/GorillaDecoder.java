@@ -0,0 +1,110 @@
+package com.profroid.profroidapp.utils.timeseries;
+
+/**
+ * Cursor over a chunk written by GorillaEncoder. Points come out in time order and
+ * nothing is allocated per point:
+ *
+ * <pre>
+ * GorillaDecoder decoder = new GorillaDecoder(bytes);
+ * while (decoder.next()) {
+ *     use(decoder.time(), decoder.value(0));
+ * }
+ * </pre>
+ */
+public final class GorillaDecoder {
+
+    private final BitReader in;
+    private final int columns;
+    private final int count;
+
+    private int read;
+    private long time;
+    private long delta;
+
+    private final long[] values;
+    private final int[] leading;
+    private final int[] trailing;
+
+    public GorillaDecoder(byte[] chunk) {
+        if (chunk == null || chunk.length < GorillaEncoder.HEADER_BYTES) {
+            throw new IllegalArgumentException("Chunk is too short");
+        }
+        if (chunk[0] != GorillaEncoder.VERSION) {
+            throw new IllegalArgumentException("Unsupported chunk version " + chunk[0]);
+        }
+        this.columns = chunk[1];
+        this.count = ((chunk[2] & 0xFF) << 24) | ((chunk[3] & 0xFF) << 16) | ((chunk[4] & 0xFF) << 8) | (chunk[5] & 0xFF);
+        this.in = new BitReader(chunk, GorillaEncoder.HEADER_BYTES);
+        this.values = new long[columns];
+        this.leading = new int[columns];
+        this.trailing = new int[columns];
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Moves to the next point; false once every point has been read.
+     */
+    public boolean next() {
+        if (read == count) {
+            return false;
+        }
+        if (read == 0) {
+            time = in.read(64);
+            for (int c = 0; c < columns; c++) {
+                values[c] = in.read(64);
+            }
+        } else {
+            delta += readDeltaOfDelta();
+            time += delta;
+            for (int c = 0; c < columns; c++) {
+                readValue(c);
+            }
+        }
+        read++;
+        return true;
+    }
+
+    public long time() {
+        return time;
+    }
+
+    public double value(int column) {
+        return Double.longBitsToDouble(values[column]);
+    }
+
+    private long readDeltaOfDelta() {
+        if (!in.readBit()) {
+            return 0;
+        }
+        if (!in.readBit()) {
+            return in.read(7) - 63;
+        }
+        if (!in.readBit()) {
+            return in.read(9) - 255;
+        }
+        if (!in.readBit()) {
+            return in.read(12) - 2047;
+        }
+        return in.read(64);
+    }
+
+    private void readValue(int column) {
+        if (!in.readBit()) {
+            return;
+        }
+        if (in.readBit()) {
+            leading[column] = (int) in.read(5);
+            int meaningful = (int) in.read(6) + 1;
+            trailing[column] = 64 - leading[column] - meaningful;
+        }
+        int meaningful = 64 - leading[column] - trailing[column];
+        values[column] ^= in.read(meaningful) << trailing[column];
+    }
+}
@@ -0,0 +1,167 @@
+package com.profroid.profroidapp.utils.timeseries;
+
+/**
+ * Append-only encoder for a chunk of points, each a timestamp and a fixed number of
+ * double columns, following the Gorilla paper (Pelkonen et al., VLDB 2015).
+ *
+ * Timestamps are stored as the difference between consecutive deltas, so a device
+ * reporting on a steady period costs one bit per point. Each column stores the XOR
+ * with its previous value: an unchanged value costs one bit, and a changed one only
+ * the bits between the leading and trailing zeros of the XOR, reusing the previous
+ * window when it fits.
+ *
+ * Layout: one version byte, one column-count byte, the point count as a big-endian
+ * int, then the bit stream. The first point is stored raw (64-bit time and values).
+ * Timestamps are plain longs in whatever unit the caller picks; they must not go
+ * backwards.
+ */
+public final class GorillaEncoder {
+
+    static final byte VERSION = 1;
+    static final int HEADER_BYTES = 6;
+
+    private final BitWriter out;
+    private final int columns;
+
+    private int count;
+    private long firstTime;
+    private long lastTime;
+    private long lastDelta;
+
+    private final long[] lastValues;
+    private final int[] lastLeading;
+    private final int[] lastTrailing;
+
+    public GorillaEncoder(int columns) {
+        this(columns, 256);
+    }
+
+    public GorillaEncoder(int columns, int expectedPoints) {
+        if (columns < 1 || columns > 127) {
+            throw new IllegalArgumentException("A chunk holds between 1 and 127 columns");
+        }
+        this.columns = columns;
+        this.out = new BitWriter(expectedPoints * (1 + columns));
+        this.lastValues = new long[columns];
+        this.lastLeading = new int[columns];
+        this.lastTrailing = new int[columns];
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public long firstTime() {
+        return firstTime;
+    }
+
+    public long lastTime() {
+        return lastTime;
+    }
+
+    /**
+     * Appends one point. values must hold one entry per column; use NaN for a missing value.
+     */
+    public void append(long time, double... values) {
+        if (values.length != columns) {
+            throw new IllegalArgumentException("Expected " + columns + " values, got " + values.length);
+        }
+        if (count == 0) {
+            out.write(time, 64);
+            for (int c = 0; c < columns; c++) {
+                long bits = Double.doubleToRawLongBits(values[c]);
+                out.write(bits, 64);
+                lastValues[c] = bits;
+                lastLeading[c] = -1;
+            }
+            firstTime = time;
+            lastTime = time;
+            count = 1;
+            return;
+        }
+        if (time < lastTime) {
+            throw new IllegalArgumentException("Points must be appended in time order");
+        }
+
+        long delta = time - lastTime;
+        writeDeltaOfDelta(delta - lastDelta);
+        lastDelta = delta;
+        lastTime = time;
+
+        for (int c = 0; c < columns; c++) {
+            writeValue(c, Double.doubleToRawLongBits(values[c]));
+        }
+        count++;
+    }
+
+    /**
+     * The chunk as it stands; the encoder can keep appending afterwards.
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[HEADER_BYTES + out.byteLength()];
+        bytes[0] = VERSION;
+        bytes[1] = (byte) columns;
+        bytes[2] = (byte) (count >>> 24);
+        bytes[3] = (byte) (count >>> 16);
+        bytes[4] = (byte) (count >>> 8);
+        bytes[5] = (byte) count;
+        out.copyTo(bytes, HEADER_BYTES);
+        return bytes;
+    }
+
+    public int byteLength() {
+        return HEADER_BYTES + out.byteLength();
+    }
+
+    private void writeDeltaOfDelta(long dod) {
+        if (dod == 0) {
+            out.write(0b0, 1);
+        } else if (dod >= -63 && dod <= 64) {
+            out.write(0b10, 2);
+            out.write(dod + 63, 7);
+        } else if (dod >= -255 && dod <= 256) {
+            out.write(0b110, 3);
+            out.write(dod + 255, 9);
+        } else if (dod >= -2047 && dod <= 2048) {
+            out.write(0b1110, 4);
+            out.write(dod + 2047, 12);
+        } else {
+            out.write(0b1111, 4);
+            out.write(dod, 64);
+        }
+    }
+
+    private void writeValue(int column, long bits) {
+        long xor = bits ^ lastValues[column];
+        lastValues[column] = bits;
+        if (xor == 0) {
+            out.write(0b0, 1);
+            return;
+        }
+        out.write(0b1, 1);
+
+        // Five bits hold the leading zero count, so cap it at 31
+        int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+        int trailing = Long.numberOfTrailingZeros(xor);
+
+        if (lastLeading[column] >= 0 && leading >= lastLeading[column] && trailing >= lastTrailing[column]) {
+            // Meaningful bits fit in the previous window
+            out.write(0b0, 1);
+            out.write(xor >>> lastTrailing[column], 64 - lastLeading[column] - lastTrailing[column]);
+            return;
+        }
+
+        int meaningful = 64 - leading - trailing;
+        out.write(0b1, 1);
+        out.write(leading, 5);
+        // 1..64 stored as 0..63
+        out.write(meaningful - 1, 6);
+        out.write(xor >>> trailing, meaningful);
+        lastLeading[column] = leading;
+        lastTrailing[column] = trailing;
+    }
+}
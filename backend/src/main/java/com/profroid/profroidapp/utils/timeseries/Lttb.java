@@ -0,0 +1,72 @@
+package com.profroid.profroidapp.utils.timeseries;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling (Steinarsson, 2013).
+ *
+ * Keeps the first and last point, splits the rest into equal buckets and keeps the
+ * point of each bucket that forms the largest triangle with the point kept before it
+ * and the average of the next bucket. Peaks and dips survive, which a plain average
+ * or every-nth pick would flatten.
+ */
+public final class Lttb {
+
+    private Lttb() {
+    }
+
+    /**
+     * Indices of the points to keep, ascending. times must be ascending and values free
+     * of NaN. Returns every index when there are no more than threshold points.
+     */
+    public static int[] downsample(long[] times, double[] values, int threshold) {
+        int n = times.length;
+        if (values.length != n) {
+            throw new IllegalArgumentException("times and values must have the same length");
+        }
+        if (threshold >= n || threshold < 3) {
+            int[] all = new int[n];
+            for (int i = 0; i < n; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] kept = new int[threshold];
+        // Relative to the first point, so large epoch values keep their precision as doubles
+        long origin = times[0];
+        double every = (double) (n - 2) / (threshold - 2);
+        int previous = 0;
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int nextStart = (int) Math.floor((bucket + 1) * every) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * every) + 1, n);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += times[i] - origin;
+                averageY += values[i];
+            }
+            averageX /= nextEnd - nextStart;
+            averageY /= nextEnd - nextStart;
+
+            int start = (int) Math.floor(bucket * every) + 1;
+            int end = (int) Math.floor((bucket + 1) * every) + 1;
+            double previousX = times[previous] - origin;
+            double previousY = values[previous];
+            double largestArea = -1;
+            int chosen = start;
+            for (int i = start; i < end; i++) {
+                // Twice the triangle area; only the comparison matters
+                double area = Math.abs((previousX - averageX) * (values[i] - previousY)
+                        - (previousX - (times[i] - origin)) * (averageY - previousY));
+                if (area > largestArea) {
+                    largestArea = area;
+                    chosen = i;
+                }
+            }
+            kept[bucket + 1] = chosen;
+            previous = chosen;
+        }
+        kept[threshold - 1] = n - 1;
+        return kept;
+    }
+}
@@ -0,0 +1,30 @@
+package com.profroid.profroidapp.warrantysubdomain.businessLayer;
+
+import com.profroid.profroidapp.utils.exceptions.InvalidOperationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position in the claim queue: the (createdAt, id) of the last claim of a page,
+ * passed to clients as an opaque URL-safe string.
+ */
+record WarrantyClaimCursor(Instant createdAt, long id) {
+
+    String encode() {
+        String raw = createdAt.toString() + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static WarrantyClaimCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new WarrantyClaimCursor(Instant.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidOperationException("Invalid warranty claim queue cursor.");
+        }
+    }
+}
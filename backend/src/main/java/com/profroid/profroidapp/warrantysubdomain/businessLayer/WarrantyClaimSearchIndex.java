@@ -0,0 +1,52 @@
+package com.profroid.profroidapp.warrantysubdomain.businessLayer;
+
+import com.profroid.profroidapp.utils.search.SearchIndex;
+import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaim;
+import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaimRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inverted index over warranty claims, keyed by claimId.
+ * Serial numbers and emails identify a claim almost uniquely, so they weigh the most.
+ */
+@Component
+public class WarrantyClaimSearchIndex extends SearchIndex<WarrantyClaim> {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarrantyClaimSearchIndex.class);
+
+    private final WarrantyClaimRepository claimRepository;
+
+    public WarrantyClaimSearchIndex(WarrantyClaimRepository claimRepository) {
+        super(Map.of("productSerialNumber", 3f, "customerEmail", 3f, "productName", 2f, "issueDescription", 1f));
+        this.claimRepository = claimRepository;
+    }
+
+    @PostConstruct
+    public void init() {
+        List<WarrantyClaim> claims = claimRepository.findAll();
+        load(claims);
+        logger.info("Warranty claim search index loaded: {} claims", size());
+    }
+
+    @Override
+    protected String key(WarrantyClaim claim) {
+        return claim.getClaimId();
+    }
+
+    @Override
+    protected Map<String, String> fields(WarrantyClaim claim) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("productSerialNumber", claim.getProductSerialNumber());
+        fields.put("customerEmail", claim.getCustomerEmail());
+        fields.put("productName", claim.getProductName());
+        fields.put("issueDescription", claim.getIssueDescription());
+        return fields;
+    }
+}
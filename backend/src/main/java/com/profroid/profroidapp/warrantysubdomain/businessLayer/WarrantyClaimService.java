@@ -1,10 +1,16 @@
 package com.profroid.profroidapp.warrantysubdomain.businessLayer;
 
 import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaimStatus;
+import com.profroid.profroidapp.warrantysubdomain.presentationLayer.WarrantyClaimFacetsResponseModel;
+import com.profroid.profroidapp.warrantysubdomain.presentationLayer.WarrantyClaimQueueResponseModel;
 import com.profroid.profroidapp.warrantysubdomain.presentationLayer.WarrantyClaimRequestModel;
 import com.profroid.profroidapp.warrantysubdomain.presentationLayer.WarrantyClaimResponseModel;
 import com.profroid.profroidapp.warrantysubdomain.presentationLayer.WarrantyClaimStatusUpdateModel;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
 import java.util.List;
 
 public interface WarrantyClaimService {
@@ -15,6 +21,29 @@ public interface WarrantyClaimService {
     
     List<WarrantyClaimResponseModel> getClaimsByStatus(WarrantyClaimStatus status);
     
+    /**
+     * One page of the admin queue, newest first. Every filter is optional; from and to are
+     * inclusive days. cursor is the nextCursor of the previous page, null for the first page.
+     */
+    WarrantyClaimQueueResponseModel getClaimQueue(
+        WarrantyClaimStatus status,
+        String assignedTo,
+        LocalDate from,
+        LocalDate to,
+        String cursor,
+        int size
+    );
+    
+    /**
+     * Claim counts per status for the same assignee and date filters as the queue
+     */
+    WarrantyClaimFacetsResponseModel getClaimFacets(String assignedTo, LocalDate from, LocalDate to);
+    
+    /**
+     * Full-text search over product, serial number, issue and customer email, best match first
+     */
+    Page<WarrantyClaimResponseModel> searchClaims(String query, Pageable pageable);
+    
     WarrantyClaimResponseModel getClaimById(String claimId);
     
     WarrantyClaimResponseModel updateClaimStatus(
@@ -1,38 +1,65 @@
 package com.profroid.profroidapp.warrantysubdomain.businessLayer;
 
+import com.profroid.profroidapp.dashboardsubdomain.businessLayer.AdminCounter;
+import com.profroid.profroidapp.dashboardsubdomain.businessLayer.AdminCounters;
+import com.profroid.profroidapp.utils.exceptions.InvalidOperationException;
 import com.profroid.profroidapp.utils.exceptions.ResourceNotFoundException;
+import com.profroid.profroidapp.utils.search.InvertedIndex;
 import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaim;
+import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaimQueueFilter;
+import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaimQueueRepository;
 import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaimRepository;
 import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaimStatus;
 import com.profroid.profroidapp.warrantysubdomain.mappingLayer.WarrantyClaimRequestMapper;
 import com.profroid.profroidapp.warrantysubdomain.mappingLayer.WarrantyClaimResponseMapper;
+import com.profroid.profroidapp.warrantysubdomain.presentationLayer.WarrantyClaimFacetsResponseModel;
+import com.profroid.profroidapp.warrantysubdomain.presentationLayer.WarrantyClaimQueueResponseModel;
 import com.profroid.profroidapp.warrantysubdomain.presentationLayer.WarrantyClaimRequestModel;
 import com.profroid.profroidapp.warrantysubdomain.presentationLayer.WarrantyClaimResponseModel;
 import com.profroid.profroidapp.warrantysubdomain.presentationLayer.WarrantyClaimStatusUpdateModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 public class WarrantyClaimServiceImpl implements WarrantyClaimService {
     
     private static final Logger logger = LoggerFactory.getLogger(WarrantyClaimServiceImpl.class);
+    private static final ZoneId BUSINESS_ZONE = ZoneId.of("America/Toronto");
+    private static final int MAX_QUEUE_PAGE_SIZE = 100;
     
     private final WarrantyClaimRepository claimRepository;
+    private final WarrantyClaimQueueRepository queueRepository;
     private final WarrantyClaimRequestMapper requestMapper;
     private final WarrantyClaimResponseMapper responseMapper;
+    private final WarrantyClaimSearchIndex searchIndex;
+    private final AdminCounters adminCounters;
     
     public WarrantyClaimServiceImpl(
             WarrantyClaimRepository claimRepository,
+            WarrantyClaimQueueRepository queueRepository,
             WarrantyClaimRequestMapper requestMapper,
-            WarrantyClaimResponseMapper responseMapper) {
+            WarrantyClaimResponseMapper responseMapper,
+            WarrantyClaimSearchIndex searchIndex,
+            AdminCounters adminCounters) {
         this.claimRepository = claimRepository;
+        this.queueRepository = queueRepository;
         this.requestMapper = requestMapper;
         this.responseMapper = responseMapper;
+        this.searchIndex = searchIndex;
+        this.adminCounters = adminCounters;
     }
     
     @Override
@@ -44,6 +71,9 @@ public class WarrantyClaimServiceImpl implements WarrantyClaimService {
         claim.setStatus(WarrantyClaimStatus.PENDING);
         
         WarrantyClaim savedClaim = claimRepository.save(claim);
+        searchIndex.indexAfterCommit(savedClaim);
+        adminCounters.adjustAfterCommit(AdminCounter.PENDING_WARRANTY_CLAIMS, 1);
+        adminCounters.announceAfterCommit("WARRANTY_CLAIM", savedClaim.getClaimId(), savedClaim.getProductName());
         logger.info("Warranty claim created with ID: {}", savedClaim.getClaimId());
         
         return responseMapper.entityToResponseModel(savedClaim);
@@ -63,6 +93,81 @@ public class WarrantyClaimServiceImpl implements WarrantyClaimService {
         return responseMapper.entityListToResponseModelList(claims);
     }
     
+    @Override
+    public WarrantyClaimQueueResponseModel getClaimQueue(
+            WarrantyClaimStatus status,
+            String assignedTo,
+            LocalDate from,
+            LocalDate to,
+            String cursor,
+            int size) {
+        
+        logger.info("Fetching warranty claim queue (status: {}, assignedTo: {}, from: {}, to: {})",
+                status, assignedTo, from, to);
+        int pageSize = Math.min(Math.max(size, 1), MAX_QUEUE_PAGE_SIZE);
+        WarrantyClaimQueueFilter filter = queueFilter(status, assignedTo, from, to);
+        WarrantyClaimCursor after = cursor == null || cursor.isBlank() ? null : WarrantyClaimCursor.decode(cursor);
+        
+        // One extra row tells whether another page follows
+        List<WarrantyClaim> claims = queueRepository.findPage(filter,
+                after == null ? null : after.createdAt(),
+                after == null ? null : after.id(),
+                pageSize + 1);
+        
+        String nextCursor = null;
+        if (claims.size() > pageSize) {
+            claims = claims.subList(0, pageSize);
+            WarrantyClaim last = claims.get(pageSize - 1);
+            nextCursor = new WarrantyClaimCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        
+        return WarrantyClaimQueueResponseModel.builder()
+                .claims(responseMapper.entityListToResponseModelList(claims))
+                .nextCursor(nextCursor)
+                .build();
+    }
+    
+    @Override
+    public WarrantyClaimFacetsResponseModel getClaimFacets(String assignedTo, LocalDate from, LocalDate to) {
+        logger.info("Fetching warranty claim status facets (assignedTo: {}, from: {}, to: {})", assignedTo, from, to);
+        Map<WarrantyClaimStatus, Long> counts = queueRepository.countByStatus(queueFilter(null, assignedTo, from, to));
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        return WarrantyClaimFacetsResponseModel.builder()
+                .totalCount(total)
+                .countByStatus(counts)
+                .build();
+    }
+    
+    private WarrantyClaimQueueFilter queueFilter(WarrantyClaimStatus status, String assignedTo,
+                                                 LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidOperationException("The start date must not be after the end date.");
+        }
+        // Days are business days in Toronto; the upper bound covers the whole "to" day
+        Instant createdFrom = from == null ? null : from.atStartOfDay(BUSINESS_ZONE).toInstant();
+        Instant createdTo = to == null ? null : to.plusDays(1).atStartOfDay(BUSINESS_ZONE).toInstant();
+        String assignee = assignedTo == null || assignedTo.isBlank() ? null : assignedTo;
+        return new WarrantyClaimQueueFilter(status, assignee, createdFrom, createdTo);
+    }
+    
+    @Override
+    public Page<WarrantyClaimResponseModel> searchClaims(String query, Pageable pageable) {
+        logger.info("Searching warranty claims for: {}", query);
+        InvertedIndex.SearchResult result = searchIndex.search(query, pageable.getPageNumber(), pageable.getPageSize());
+        
+        // Keep the rank order of the index, not the order the rows come back in
+        Map<String, WarrantyClaim> byId = new HashMap<>();
+        for (WarrantyClaim claim : claimRepository.findByClaimIdIn(result.keys())) {
+            byId.put(claim.getClaimId(), claim);
+        }
+        List<WarrantyClaimResponseModel> content = result.keys().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(responseMapper::entityToResponseModel)
+                .toList();
+        return new PageImpl<>(content, pageable, result.total());
+    }
+    
     @Override
     public WarrantyClaimResponseModel getClaimById(String claimId) {
         logger.info("Fetching warranty claim: {}", claimId);
@@ -105,6 +210,8 @@ public class WarrantyClaimServiceImpl implements WarrantyClaimService {
         }
         
         WarrantyClaim updatedClaim = claimRepository.save(claim);
+        adminCounters.transitionAfterCommit(AdminCounter.PENDING_WARRANTY_CLAIMS, WarrantyClaimStatus.PENDING,
+                oldStatus, updatedClaim.getStatus());
         logger.info("Warranty claim {} updated successfully", claimId);
         
         return responseMapper.entityToResponseModel(updatedClaim);
@@ -121,12 +228,15 @@ public class WarrantyClaimServiceImpl implements WarrantyClaimService {
         claim.setAssignedTo(assignedTo);
         
         // Auto-update status to IN_REVIEW if currently PENDING
-        if (claim.getStatus() == WarrantyClaimStatus.PENDING) {
+        WarrantyClaimStatus oldStatus = claim.getStatus();
+        if (oldStatus == WarrantyClaimStatus.PENDING) {
             claim.setStatus(WarrantyClaimStatus.IN_REVIEW);
             claim.setReviewedAt(Instant.now());
         }
         
         WarrantyClaim updatedClaim = claimRepository.save(claim);
+        adminCounters.transitionAfterCommit(AdminCounter.PENDING_WARRANTY_CLAIMS, WarrantyClaimStatus.PENDING,
+                oldStatus, updatedClaim.getStatus());
         logger.info("Warranty claim {} assigned successfully", claimId);
         
         return responseMapper.entityToResponseModel(updatedClaim);
@@ -9,7 +9,12 @@ import java.time.Instant;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "warranty_claims")
+@Table(name = "warranty_claims", indexes = {
+    // Admin queue: newest first, optionally narrowed by status or assignee (keyset on createdAt, id)
+    @Index(name = "idx_warranty_status_created", columnList = "status, createdAt, id"),
+    @Index(name = "idx_warranty_assigned_created", columnList = "assignedTo, createdAt, id"),
+    @Index(name = "idx_warranty_created", columnList = "createdAt, id")
+})
 @Data
 public class WarrantyClaim {
     
@@ -54,6 +59,9 @@ public class WarrantyClaim {
     @Column
     private String assignedTo;
     
+    @Column
+    private Boolean profanityFlagged = false;
+    
     @Column(columnDefinition = "TEXT")
     private String adminNotes;
     
@@ -0,0 +1,13 @@
+package com.profroid.profroidapp.warrantysubdomain.dataAccessLayer;
+
+import java.time.Instant;
+
+/**
+ * Optional filters of the admin claim queue; null means "any".
+ * createdFrom is inclusive, createdTo exclusive.
+ */
+public record WarrantyClaimQueueFilter(WarrantyClaimStatus status,
+                                       String assignedTo,
+                                       Instant createdFrom,
+                                       Instant createdTo) {
+}
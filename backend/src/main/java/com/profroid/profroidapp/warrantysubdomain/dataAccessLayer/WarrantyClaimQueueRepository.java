@@ -0,0 +1,92 @@
+package com.profroid.profroidapp.warrantysubdomain.dataAccessLayer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin queue queries over warranty_claims.
+ *
+ * The JPQL is assembled from the filters actually given instead of "(:x IS NULL OR ...)"
+ * guards, so the database sees plain equality and range predicates and can walk one of
+ * the (status | assigned_to, created_at, id) indexes. Pages are read with a keyset on
+ * (createdAt, id) rather than an offset, so deep pages cost the same as the first one.
+ */
+@Repository
+public class WarrantyClaimQueueRepository {
+
+    private final EntityManager entityManager;
+
+    public WarrantyClaimQueueRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Up to limit claims, newest first, strictly after the (afterCreatedAt, afterId) position
+     * when one is given.
+     */
+    public List<WarrantyClaim> findPage(WarrantyClaimQueueFilter filter, Instant afterCreatedAt, Long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT c FROM WarrantyClaim c WHERE 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+        appendFilters(jpql, parameters, filter, true);
+        if (afterCreatedAt != null && afterId != null) {
+            jpql.append(" AND (c.createdAt < :afterCreatedAt OR (c.createdAt = :afterCreatedAt AND c.id < :afterId))");
+            parameters.put("afterCreatedAt", afterCreatedAt);
+            parameters.put("afterId", afterId);
+        }
+        jpql.append(" ORDER BY c.createdAt DESC, c.id DESC");
+
+        TypedQuery<WarrantyClaim> query = entityManager.createQuery(jpql.toString(), WarrantyClaim.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Number of claims per status, from one GROUP BY. The status filter is ignored so
+     * every facet stays visible; statuses without claims are reported as 0.
+     */
+    public Map<WarrantyClaimStatus, Long> countByStatus(WarrantyClaimQueueFilter filter) {
+        StringBuilder jpql = new StringBuilder("SELECT c.status, COUNT(c) FROM WarrantyClaim c WHERE 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+        appendFilters(jpql, parameters, filter, false);
+        jpql.append(" GROUP BY c.status");
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        parameters.forEach(query::setParameter);
+
+        Map<WarrantyClaimStatus, Long> counts = new EnumMap<>(WarrantyClaimStatus.class);
+        for (WarrantyClaimStatus status : WarrantyClaimStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (Object[] row : query.getResultList()) {
+            counts.put((WarrantyClaimStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private void appendFilters(StringBuilder jpql, Map<String, Object> parameters,
+                               WarrantyClaimQueueFilter filter, boolean includeStatus) {
+        if (includeStatus && filter.status() != null) {
+            jpql.append(" AND c.status = :status");
+            parameters.put("status", filter.status());
+        }
+        if (filter.assignedTo() != null) {
+            jpql.append(" AND c.assignedTo = :assignedTo");
+            parameters.put("assignedTo", filter.assignedTo());
+        }
+        if (filter.createdFrom() != null) {
+            jpql.append(" AND c.createdAt >= :createdFrom");
+            parameters.put("createdFrom", filter.createdFrom());
+        }
+        if (filter.createdTo() != null) {
+            jpql.append(" AND c.createdAt < :createdTo");
+            parameters.put("createdTo", filter.createdTo());
+        }
+    }
+}
@@ -18,4 +18,8 @@ public interface WarrantyClaimRepository extends JpaRepository<WarrantyClaim, Lo
     List<WarrantyClaim> findAllByOrderByCreatedAtDesc();
     
     List<WarrantyClaim> findByStatusOrderByCreatedAtDesc(WarrantyClaimStatus status);
+    
+    long countByStatus(WarrantyClaimStatus status);
+    
+    List<WarrantyClaim> findByClaimIdIn(List<String> claimIds);
 }
@@ -24,6 +24,7 @@ public class WarrantyClaimResponseMapper {
                 .preferredContactMethod(claim.getPreferredContactMethod())
                 .status(claim.getStatus())
                 .assignedTo(claim.getAssignedTo())
+                .profanityFlagged(Boolean.TRUE.equals(claim.getProfanityFlagged()))
                 .adminNotes(claim.getAdminNotes())
                 .resolutionDetails(claim.getResolutionDetails())
                 .reviewedBy(claim.getReviewedBy())
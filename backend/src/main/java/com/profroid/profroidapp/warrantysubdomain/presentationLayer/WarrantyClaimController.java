@@ -5,12 +5,17 @@ import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaimS
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -60,6 +65,54 @@ public class WarrantyClaimController {
         return ResponseEntity.ok(claims);
     }
     
+    /**
+     * Paginated claim queue, newest first (Admin only)
+     * Optional filters: status, assignedTo and a from/to day range (ISO dates, inclusive).
+     * Pass the nextCursor of a page as cursor to get the following one.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/queue")
+    public ResponseEntity<WarrantyClaimQueueResponseModel> getClaimQueue(
+            @RequestParam(required = false) WarrantyClaimStatus status,
+            @RequestParam(required = false) String assignedTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        logger.info("Admin fetching warranty claim queue");
+        WarrantyClaimQueueResponseModel queue = claimService.getClaimQueue(status, assignedTo, from, to, cursor, size);
+        return ResponseEntity.ok(queue);
+    }
+    
+    /**
+     * Claim counts per status, for the status tabs of the queue (Admin only)
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/facets")
+    public ResponseEntity<WarrantyClaimFacetsResponseModel> getClaimFacets(
+            @RequestParam(required = false) String assignedTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        logger.info("Admin fetching warranty claim status facets");
+        return ResponseEntity.ok(claimService.getClaimFacets(assignedTo, from, to));
+    }
+    
+    /**
+     * Search claims by product, serial number, issue or customer email (Admin only)
+     * Results are ranked by relevance
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/search")
+    public ResponseEntity<Page<WarrantyClaimResponseModel>> searchClaims(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        logger.info("Admin searching warranty claims");
+        Pageable pageable = PageRequest.of(page, Math.min(size, 100));
+        Page<WarrantyClaimResponseModel> claims = claimService.searchClaims(query, pageable);
+        return ResponseEntity.ok(claims);
+    }
+    
     /**
      * Get pending claims (Admin only)
      */
@@ -0,0 +1,18 @@
+package com.profroid.profroidapp.warrantysubdomain.presentationLayer;
+
+import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaimStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarrantyClaimFacetsResponseModel {
+    private long totalCount;
+    private Map<WarrantyClaimStatus, Long> countByStatus;
+}
@@ -0,0 +1,21 @@
+package com.profroid.profroidapp.warrantysubdomain.presentationLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the claim queue. Pass nextCursor back as cursor to get the next page;
+ * it is null on the last page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarrantyClaimQueueResponseModel {
+    private List<WarrantyClaimResponseModel> claims;
+    private String nextCursor;
+}
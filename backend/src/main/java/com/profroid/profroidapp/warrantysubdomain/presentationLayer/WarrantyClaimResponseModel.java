@@ -27,6 +27,7 @@ public class WarrantyClaimResponseModel {
     private String preferredContactMethod;
     private WarrantyClaimStatus status;
     private String assignedTo;
+    private Boolean profanityFlagged;
     private String adminNotes;
     private String resolutionDetails;
     private String reviewedBy;
@@ -0,0 +1,9 @@
+-- Warranty claim queue: keyset pagination on (created_at, id), newest first,
+-- optionally filtered by status or assignee
+CREATE INDEX idx_warranty_status_created ON warranty_claims (status, created_at, id);
+CREATE INDEX idx_warranty_assigned_created ON warranty_claims (assigned_to, created_at, id);
+CREATE INDEX idx_warranty_created ON warranty_claims (created_at, id);
+
+-- Covered by the composite indexes above
+DROP INDEX idx_status ON warranty_claims;
+DROP INDEX idx_created_at ON warranty_claims;
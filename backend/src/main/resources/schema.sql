@@ -10,7 +10,10 @@ create table if not exists customers
     country VARCHAR(50),
     postal_code VARCHAR(9),
     user_id VARCHAR(36),
-    is_active BOOLEAN NOT NULL DEFAULT true
+    is_active BOOLEAN NOT NULL DEFAULT true,
+    INDEX idx_customers_name (last_name, first_name),
+    INDEX idx_customers_postal_code (postal_code),
+    INDEX idx_customers_user_id (user_id)
     );
 
 CREATE TABLE IF NOT EXISTS customer_phonenumbers (
@@ -18,7 +21,8 @@ CREATE TABLE IF NOT EXISTS customer_phonenumbers (
     type VARCHAR(50),
     number VARCHAR(50),
     FOREIGN KEY (customer_id) REFERENCES customers(id) ON DELETE CASCADE,
-    PRIMARY KEY (customer_id, number)
+    PRIMARY KEY (customer_id, number),
+    INDEX idx_customer_phonenumbers_number (number)
 );
 
 CREATE TABLE IF NOT EXISTS jobs  (
@@ -93,7 +97,8 @@ CREATE TABLE IF NOT EXISTS cellars (
 
                          cellar_type VARCHAR(50) NOT NULL,                  -- Enum stored as string
                          is_active BOOLEAN DEFAULT true,                     -- Soft delete flag
-                         is_deleted BOOLEAN DEFAULT false                    -- Hard/soft delete indicator
+                         is_deleted BOOLEAN DEFAULT false,                   -- Hard/soft delete indicator
+                         INDEX idx_cellars_owner_active_deleted (owner_customer_id, is_active, is_deleted)
 );
 
 CREATE TABLE IF NOT EXISTS parts (
@@ -126,10 +131,11 @@ CREATE TABLE IF NOT EXISTS appointments (
                                             province VARCHAR(255),                                -- AppointmentAddress - province
                                             country VARCHAR(255),                                 -- AppointmentAddress - country
                                             postal_code VARCHAR(10),                              -- AppointmentAddress - postal code
-                                            appointment_status_type VARCHAR(50) NOT NULL,         -- SCHEDULED, COMPLETED, CANCELLED
+                                            appointment_status_type VARCHAR(50) NOT NULL,         -- DRAFT, SCHEDULED, COMPLETED, CANCELLED
                                             is_active BOOLEAN NOT NULL DEFAULT true,
                                             created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
                                             updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+                                            INDEX idx_appointments_technician_updated (technician_id, updated_at),   -- technician delta sync
                                             FOREIGN KEY (customer_id) REFERENCES customers(id) ON DELETE CASCADE,
                                             FOREIGN KEY (technician_id) REFERENCES employees(id) ON DELETE CASCADE,
                                             FOREIGN KEY (job_id) REFERENCES jobs(id) ON DELETE CASCADE,
@@ -148,6 +154,8 @@ CREATE TABLE IF NOT EXISTS contact_messages (
     message LONGTEXT NOT NULL,
     ip_address VARCHAR(45) NOT NULL,
     is_read BOOLEAN NOT NULL DEFAULT FALSE,
+    profanity_flagged BOOLEAN DEFAULT FALSE,
+    duplicate_of VARCHAR(36),
     admin_notes LONGTEXT,
     responded_by VARCHAR(36),
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
@@ -159,6 +167,64 @@ CREATE TABLE IF NOT EXISTS contact_messages (
     INDEX idx_created_at (created_at)
 );
 
+-- Cellar controllers allowed to report readings (token stored as a SHA-256 hash)
+CREATE TABLE IF NOT EXISTS telemetry_devices (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    device_id VARCHAR(36) NOT NULL UNIQUE,
+    cellar_id VARCHAR(36) NOT NULL,
+    owner_customer_id VARCHAR(36) NOT NULL,
+    token_hash VARCHAR(64) NOT NULL,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_telemetry_devices_cellar (cellar_id)
+);
+
+-- Temperature/humidity readings, one Gorilla-compressed chunk per cellar and UTC day
+CREATE TABLE IF NOT EXISTS cellar_reading_chunks (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    cellar_id VARCHAR(36) NOT NULL,
+    chunk_day DATE NOT NULL,
+    first_time TIMESTAMP(6) NOT NULL,
+    last_time TIMESTAMP(6) NOT NULL,
+    point_count INT NOT NULL,
+    data MEDIUMBLOB NOT NULL,
+    version BIGINT NOT NULL DEFAULT 1,
+    CONSTRAINT uk_cellar_reading_chunks_cellar_day UNIQUE (cellar_id, chunk_day)
+);
+
+-- Min/max/sum/count of cellar readings per 5-minute, hourly and daily bucket, for history charts
+CREATE TABLE IF NOT EXISTS cellar_reading_rollups (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    cellar_id VARCHAR(36) NOT NULL,
+    resolution VARCHAR(16) NOT NULL,
+    bucket_start TIMESTAMP(6) NOT NULL,
+    temperature_min DOUBLE,
+    temperature_max DOUBLE,
+    temperature_sum DOUBLE NOT NULL,
+    temperature_count INT NOT NULL,
+    humidity_min DOUBLE,
+    humidity_max DOUBLE,
+    humidity_sum DOUBLE NOT NULL,
+    humidity_count INT NOT NULL,
+    CONSTRAINT uk_cellar_reading_rollups_bucket UNIQUE (cellar_id, resolution, bucket_start)
+);
+
+-- Appointments reassigned away from a technician, so their app can drop them on the next sync
+CREATE TABLE IF NOT EXISTS appointment_sync_tombstones (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    technician_id INT NOT NULL,
+    appointment_id VARCHAR(36) NOT NULL,
+    removed_at TIMESTAMP(6) NOT NULL,
+    INDEX idx_appointment_sync_tombstones_technician (technician_id, removed_at)
+);
+
+-- Business id counters (bills, reports, SKUs); each node reserves a block of values at a time
+CREATE TABLE IF NOT EXISTS id_sequences (
+    seq_name VARCHAR(50) PRIMARY KEY,
+    seq_period INT NOT NULL,
+    next_value BIGINT NOT NULL
+);
+
 -- Ensure all existing records have is_read set to FALSE
 UPDATE contact_messages SET is_read = FALSE WHERE is_read IS NULL;
 
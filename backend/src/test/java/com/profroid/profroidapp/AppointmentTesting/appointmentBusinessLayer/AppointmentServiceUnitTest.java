@@ -2,13 +2,18 @@
 package com.profroid.profroidapp.AppointmentTesting.appointmentBusinessLayer;
 
 import com.profroid.profroidapp.appointmentsubdomain.businessLayer.AppointmentServiceImpl;
+import com.profroid.profroidapp.appointmentsubdomain.businessLayer.AvailabilityCoalescer;
 import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentRepository;
 import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentStatus;
 import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentStatusType;
 import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentAddress;
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentSyncTombstone;
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentSyncTombstoneRepository;
 import com.profroid.profroidapp.appointmentsubdomain.mappingLayer.AppointmentRequestMapper;
 import com.profroid.profroidapp.appointmentsubdomain.mappingLayer.AppointmentResponseMapper;
 import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.Cellar;
+import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.CellarIdentifier;
+import com.profroid.profroidapp.customersubdomain.dataAccessLayer.CustomerAddress;
 import com.profroid.profroidapp.customersubdomain.dataAccessLayer.CustomerRepository;
 import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.*;
 import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeScheduleDataAccessLayer.Schedule;
@@ -22,6 +27,7 @@ import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeSchedu
 import com.profroid.profroidapp.appointmentsubdomain.utils.AppointmentValidationUtils;
 import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentRequestModel;
 import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentResponseModel;
+import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentSyncResponseModel;
 import com.profroid.profroidapp.customersubdomain.dataAccessLayer.Customer;
 import com.profroid.profroidapp.customersubdomain.dataAccessLayer.CustomerIdentifier;
 import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.Appointment;
@@ -31,14 +37,19 @@ import com.profroid.profroidapp.utils.exceptions.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -56,6 +67,9 @@ public class AppointmentServiceUnitTest {
     @Mock private EmployeeResponseMapper employeeResponseMapper;
     @Mock private ScheduleRepository scheduleRepository;
     @Mock private AppointmentValidationUtils validationUtils;
+    @Mock private AppointmentSyncTombstoneRepository syncTombstoneRepository;
+    @Spy private AvailabilityCoalescer availabilityCoalescer = new AvailabilityCoalescer();
+    @Mock private Executor notificationExecutor;
 
     @InjectMocks
     private AppointmentServiceImpl appointmentService;
@@ -191,6 +205,69 @@ public class AppointmentServiceUnitTest {
         verify(appointmentResponseMapper).toResponseModelList(anyList());
     }
 
+    private Appointment syncAppointment(String appointmentId, AppointmentStatusType statusType) {
+        AppointmentStatus status = new AppointmentStatus();
+        status.setAppointmentStatusType(statusType);
+        Appointment syncAppointment = new Appointment();
+        syncAppointment.setAppointmentIdentifier(new AppointmentIdentifier(appointmentId));
+        syncAppointment.setAppointmentStatus(status);
+        syncAppointment.setCustomer(new Customer());
+        syncAppointment.setTechnician(mockTechnician);
+        syncAppointment.setJob(mockJob);
+        syncAppointment.setCellar(mockCellar);
+        syncAppointment.setIsActive(true);
+        return syncAppointment;
+    }
+
+    @Test
+    void getTechnicianAppointmentChanges_withSince_returnsChangesAndTombstones() {
+        mockTechnician.setId(7);
+        when(employeeRepository.findEmployeeByEmployeeIdentifier_EmployeeId("tech-uuid")).thenReturn(mockTechnician);
+        Instant since = Instant.parse("2050-01-06T10:00:00Z");
+        Appointment updated = syncAppointment("appt-updated", AppointmentStatusType.SCHEDULED);
+        Appointment cancelled = syncAppointment("appt-cancelled", AppointmentStatusType.CANCELLED);
+        when(appointmentRepository.findChangedByTechnicianSince(mockTechnician, since)).thenReturn(List.of(updated, cancelled));
+        // appt-updated was reassigned away and back, so it is still this technician's
+        when(syncTombstoneRepository.findAllByTechnicianIdAndRemovedAtGreaterThanEqual(7, since)).thenReturn(List.of(
+                new AppointmentSyncTombstone(7, "appt-reassigned", since.plusSeconds(30)),
+                new AppointmentSyncTombstone(7, "appt-updated", since.plusSeconds(10))));
+        when(appointmentResponseMapper.toResponseModelList(List.of(updated))).thenReturn(List.of(responseModel));
+
+        Instant before = Instant.now();
+        AppointmentSyncResponseModel result = appointmentService.getTechnicianAppointmentChanges("tech-uuid", since);
+
+        assertFalse(result.isFullSync());
+        assertEquals(List.of(responseModel), result.getChanged());
+        assertEquals(List.of("appt-cancelled", "appt-reassigned"), result.getRemoved());
+        // The next sync overlaps this one slightly
+        assertTrue(result.getNextSince().isBefore(before));
+        verify(appointmentRepository, never()).findAllByTechnician(any());
+    }
+
+    @Test
+    void getTechnicianAppointmentChanges_withoutSince_returnsOpenAppointmentsOnly() {
+        when(employeeRepository.findEmployeeByEmployeeIdentifier_EmployeeId("tech-uuid")).thenReturn(mockTechnician);
+        Appointment open = syncAppointment("appt-open", AppointmentStatusType.SCHEDULED);
+        Appointment cancelled = syncAppointment("appt-cancelled", AppointmentStatusType.CANCELLED);
+        when(appointmentRepository.findAllByTechnician(mockTechnician)).thenReturn(List.of(open, cancelled));
+        when(appointmentResponseMapper.toResponseModelList(List.of(open))).thenReturn(List.of(responseModel));
+
+        AppointmentSyncResponseModel result = appointmentService.getTechnicianAppointmentChanges("tech-uuid", null);
+
+        assertTrue(result.isFullSync());
+        assertEquals(List.of(responseModel), result.getChanged());
+        assertTrue(result.getRemoved().isEmpty());
+        verifyNoInteractions(syncTombstoneRepository);
+    }
+
+    @Test
+    void getTechnicianAppointmentChanges_unknownTechnician_throwsNotFound() {
+        when(employeeRepository.findEmployeeByEmployeeIdentifier_EmployeeId("missing")).thenReturn(null);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> appointmentService.getTechnicianAppointmentChanges("missing", null));
+    }
+
     @Test
     void getAppointmentById_validId_returnsResponse() {
         Appointment mockAppointment = mock(Appointment.class);
@@ -457,6 +534,8 @@ public class AppointmentServiceUnitTest {
         verify(mockAppointment, times(1)).setAppointmentStatus(any(AppointmentStatus.class));
         verify(mockAppointment, times(1)).setSchedule(null);
         verify(appointmentRepository).save(mockAppointment);
+        // The cancellation notice is handed to the notification executor, not a new thread
+        verify(notificationExecutor).execute(any(Runnable.class));
     }
 
     @Test
@@ -933,6 +1012,112 @@ public class AppointmentServiceUnitTest {
         );
     }
 
+    // ===== Draft appointments =====
+
+    private Appointment draftAppointment(LocalDateTime appointmentDate, Customer customer, Employee technician) {
+        Appointment mockAppointment = mock(Appointment.class);
+        AppointmentStatus draftStatus = mock(AppointmentStatus.class);
+        when(draftStatus.getAppointmentStatusType()).thenReturn(AppointmentStatusType.DRAFT);
+        when(mockAppointment.getAppointmentStatus()).thenReturn(draftStatus);
+        lenient().when(mockAppointment.getAppointmentDate()).thenReturn(appointmentDate);
+        lenient().when(mockAppointment.getCustomer()).thenReturn(customer);
+        lenient().when(mockAppointment.getTechnician()).thenReturn(technician);
+        lenient().when(mockAppointment.getJob()).thenReturn(mockJob);
+        lenient().when(mockAppointment.getCellar()).thenReturn(mockCellar);
+        lenient().when(mockAppointment.getAppointmentIdentifier()).thenReturn(mock(AppointmentIdentifier.class));
+        when(appointmentRepository.findAppointmentByAppointmentIdentifier_AppointmentId(anyString())).thenReturn(Optional.of(mockAppointment));
+        return mockAppointment;
+    }
+
+    @Test
+    void patchAppointmentStatus_customerConfirmsDraft_successful() {
+        Customer customer = mock(Customer.class);
+        lenient().when(customer.getId()).thenReturn(1);
+        Appointment mockAppointment = draftAppointment(LocalDateTime.of(2050, 1, 10, 9, 0), customer, mock(Employee.class));
+        when(customerRepository.findCustomerByCustomerIdentifier_CustomerId(anyString())).thenReturn(customer);
+        when(appointmentRepository.save(mockAppointment)).thenReturn(mockAppointment);
+        when(appointmentResponseMapper.toResponseModel(mockAppointment)).thenReturn(responseModel);
+
+        appointmentService.patchAppointmentStatus("appt-id",
+                new com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentStatusChangeRequestModel("SCHEDULED"),
+                "user-id", "CUSTOMER");
+
+        ArgumentCaptor<AppointmentStatus> status = ArgumentCaptor.forClass(AppointmentStatus.class);
+        verify(mockAppointment).setAppointmentStatus(status.capture());
+        assertEquals(AppointmentStatusType.SCHEDULED, status.getValue().getAppointmentStatusType());
+        verify(mockAppointment, never()).setSchedule(null);
+    }
+
+    @Test
+    void patchAppointmentStatus_technicianConfirmsDraft_successful() {
+        Employee technician = mock(Employee.class);
+        lenient().when(technician.getId()).thenReturn(1);
+        Appointment mockAppointment = draftAppointment(LocalDateTime.of(2050, 1, 10, 9, 0), mock(Customer.class), technician);
+        when(employeeRepository.findEmployeeByEmployeeIdentifier_EmployeeId(anyString())).thenReturn(technician);
+        when(appointmentRepository.save(mockAppointment)).thenReturn(mockAppointment);
+        when(appointmentResponseMapper.toResponseModel(mockAppointment)).thenReturn(responseModel);
+
+        appointmentService.patchAppointmentStatus("appt-id",
+                new com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentStatusChangeRequestModel("SCHEDULED"),
+                "tech-id", "TECHNICIAN");
+
+        verify(appointmentRepository).save(mockAppointment);
+    }
+
+    @Test
+    void patchAppointmentStatus_draftCompletedWithoutConfirming_throwsInvalidOperationException() {
+        Employee technician = mock(Employee.class);
+        lenient().when(technician.getId()).thenReturn(1);
+        Appointment mockAppointment = draftAppointment(LocalDateTime.of(2050, 1, 10, 9, 0), mock(Customer.class), technician);
+        when(employeeRepository.findEmployeeByEmployeeIdentifier_EmployeeId(anyString())).thenReturn(technician);
+
+        assertThrows(InvalidOperationException.class, () ->
+                appointmentService.patchAppointmentStatus("appt-id",
+                        new com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentStatusChangeRequestModel("COMPLETED"),
+                        "tech-id", "TECHNICIAN")
+        );
+        verify(mockAppointment, never()).setAppointmentStatus(any());
+    }
+
+    @Test
+    void patchAppointmentStatus_backToDraft_throwsInvalidOperationException() {
+        Appointment mockAppointment = mock(Appointment.class);
+        AppointmentStatus scheduledStatus = mock(AppointmentStatus.class);
+        when(scheduledStatus.getAppointmentStatusType()).thenReturn(AppointmentStatusType.SCHEDULED);
+        when(mockAppointment.getAppointmentStatus()).thenReturn(scheduledStatus);
+        Employee technician = mock(Employee.class);
+        lenient().when(technician.getId()).thenReturn(1);
+        lenient().when(mockAppointment.getCustomer()).thenReturn(mock(Customer.class));
+        lenient().when(mockAppointment.getTechnician()).thenReturn(technician);
+        lenient().when(mockAppointment.getJob()).thenReturn(mockJob);
+        lenient().when(mockAppointment.getCellar()).thenReturn(mockCellar);
+        lenient().when(mockAppointment.getAppointmentIdentifier()).thenReturn(mock(AppointmentIdentifier.class));
+        when(appointmentRepository.findAppointmentByAppointmentIdentifier_AppointmentId(anyString())).thenReturn(Optional.of(mockAppointment));
+        when(employeeRepository.findEmployeeByEmployeeIdentifier_EmployeeId(anyString())).thenReturn(technician);
+
+        assertThrows(InvalidOperationException.class, () ->
+                appointmentService.patchAppointmentStatus("appt-id",
+                        new com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentStatusChangeRequestModel("DRAFT"),
+                        "tech-id", "TECHNICIAN")
+        );
+        verify(mockAppointment, never()).setAppointmentStatus(any());
+    }
+
+    @Test
+    void patchAppointmentStatus_customerConfirmsPastDraft_throwsInvalidOperationException() {
+        Customer customer = mock(Customer.class);
+        lenient().when(customer.getId()).thenReturn(1);
+        Appointment mockAppointment = draftAppointment(LocalDateTime.of(2020, 1, 10, 9, 0), customer, mock(Employee.class));
+        when(customerRepository.findCustomerByCustomerIdentifier_CustomerId(anyString())).thenReturn(customer);
+
+        assertThrows(InvalidOperationException.class, () ->
+                appointmentService.patchAppointmentStatus("appt-id",
+                        new com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentStatusChangeRequestModel("SCHEDULED"),
+                        "user-id", "CUSTOMER")
+        );
+        verify(mockAppointment, never()).setAppointmentStatus(any());
+    }
+
 //    @Test
 //    void patchAppointmentStatus_integrityCheck_missingCustomer_throwsResourceNotFoundException() {
 //        // 1. Setup Appointment where getCustomer() returns null to trigger the integrity check
@@ -1389,6 +1574,67 @@ public class AppointmentServiceUnitTest {
         assertEquals(0, result.getBookedSlots().size());
     }
 
+    @Test
+    void getAggregatedAvailability_editedAppointmentDoesNotBlockItsOwnTechnician() {
+        LocalDate date = LocalDate.of(2040, 1, 8);
+
+        Job job = mock(Job.class);
+        when(job.getEstimatedDurationMinutes()).thenReturn(120);
+        when(jobRepository.findJobByJobName(any())).thenReturn(job);
+
+        Employee tech = mock(Employee.class);
+        EmployeeRole role = mock(EmployeeRole.class);
+        EmployeeIdentifier id = mock(EmployeeIdentifier.class);
+
+        when(role.getEmployeeRoleType()).thenReturn(EmployeeRoleType.TECHNICIAN);
+        when(id.getEmployeeId()).thenReturn("tech");
+        when(tech.getEmployeeRole()).thenReturn(role);
+        when(tech.getEmployeeIdentifier()).thenReturn(id);
+        when(tech.getIsActive()).thenReturn(true);
+
+        when(employeeRepository.findAll()).thenReturn(List.of(tech));
+
+        Schedule morning = mock(Schedule.class);
+        var morningSlot = mock(com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeScheduleDataAccessLayer.TimeSlot.class);
+        when(morningSlot.getTimeslot()).thenReturn(TimeSlotType.NINE_AM);
+        when(morning.getTimeSlot()).thenReturn(morningSlot);
+        Schedule afternoon = mock(Schedule.class);
+        var afternoonSlot = mock(com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeScheduleDataAccessLayer.TimeSlot.class);
+        when(afternoonSlot.getTimeslot()).thenReturn(TimeSlotType.ONE_PM);
+        when(afternoon.getTimeSlot()).thenReturn(afternoonSlot);
+
+        when(scheduleRepository.findAllByEmployee_EmployeeIdentifier_EmployeeIdAndSpecificDate(any(), any()))
+                .thenReturn(List.of(morning, afternoon));
+
+        AppointmentStatus scheduled = mock(AppointmentStatus.class);
+        when(scheduled.getAppointmentStatusType()).thenReturn(AppointmentStatusType.SCHEDULED);
+
+        // The appointment being edited, at 9:00 with this technician
+        Appointment edited = mock(Appointment.class);
+        AppointmentIdentifier editedId = mock(AppointmentIdentifier.class);
+        when(editedId.getAppointmentId()).thenReturn("apt-edited");
+        when(edited.getAppointmentIdentifier()).thenReturn(editedId);
+        when(edited.getAppointmentStatus()).thenReturn(scheduled);
+
+        // Another appointment of the same technician at 13:00
+        Appointment other = mock(Appointment.class);
+        AppointmentIdentifier otherId = mock(AppointmentIdentifier.class);
+        when(otherId.getAppointmentId()).thenReturn("apt-other");
+        when(other.getAppointmentIdentifier()).thenReturn(otherId);
+        when(other.getAppointmentStatus()).thenReturn(scheduled);
+        when(other.getAppointmentDate()).thenReturn(LocalDateTime.of(2040, 1, 8, 13, 0));
+        when(other.getJob()).thenReturn(job);
+
+        when(appointmentRepository.findByTechnicianAndAppointmentDateBetween(any(), any(), any()))
+                .thenReturn(List.of(edited, other));
+
+        var result = appointmentService.getAggregatedAvailability(date, "Installation", null, null, "apt-edited");
+
+        // The edited appointment's own slot stays open; the technician's other appointment still blocks 13:00
+        assertEquals(1, result.getBookedSlots().size());
+        assertEquals(java.time.LocalTime.of(9, 0), result.getBookedSlots().get(0).getStartTime());
+    }
+
     @Test
     void addAppointment_endsAfter5pm_throwsException() {
         when(requestModel.getAppointmentDate())
@@ -1452,6 +1698,70 @@ public class AppointmentServiceUnitTest {
         verify(validationUtils).validateProvinceRestriction(address);
     }
 
+    @Test
+    void getTechnicianBookedSlots_draftAppointment_holdsItsSlot() {
+        Employee mockTech = mock(Employee.class);
+        when(employeeRepository.findEmployeeByEmployeeIdentifier_EmployeeId("tech-id")).thenReturn(mockTech);
+
+        Appointment draftAppt = mock(Appointment.class);
+        AppointmentStatus draftStatus = mock(AppointmentStatus.class);
+        when(draftStatus.getAppointmentStatusType()).thenReturn(AppointmentStatusType.DRAFT);
+        when(draftAppt.getAppointmentStatus()).thenReturn(draftStatus);
+        when(draftAppt.getAppointmentDate()).thenReturn(LocalDateTime.of(2025, 1, 15, 13, 0));
+        when(draftAppt.getJob()).thenReturn(mockJob);
+        when(mockJob.getEstimatedDurationMinutes()).thenReturn(60);
+
+        when(appointmentRepository.findByTechnicianAndAppointmentDateBetween(any(), any(), any()))
+                .thenReturn(List.of(draftAppt));
+
+        var result = appointmentService.getTechnicianBookedSlots("tech-id", LocalDate.of(2025, 1, 15));
+
+        assertEquals(1, result.getBookedSlots().size());
+    }
+
+    @Test
+    void addAppointment_customerHasOverlappingDraft_throwsException() {
+        AppointmentAddress address = AppointmentAddress.builder()
+                .streetAddress("123 Main St")
+                .city("Montreal")
+                .province("QC")
+                .country("Canada")
+                .postalCode("H1A 0A1")
+                .build();
+
+        when(requestModel.getAppointmentAddress()).thenReturn(address);
+        when(requestModel.getAppointmentDate()).thenReturn(LocalDateTime.of(2050, 1, 10, 9, 0));
+        when(requestModel.getJobName()).thenReturn("Installation");
+        when(mockJob.getJobType()).thenReturn(JobType.QUOTATION);
+
+        Customer mockCustomer = mock(Customer.class);
+        CustomerIdentifier customerId = mock(CustomerIdentifier.class);
+        when(customerId.getCustomerId()).thenReturn("f9b67bf1-3f7e-4f69-9c5d-5b5bdf9a02fd");
+        when(mockCustomer.getCustomerIdentifier()).thenReturn(customerId);
+        when(customerRepository.findCustomerByCustomerIdentifier_CustomerId(anyString())).thenReturn(mockCustomer);
+
+        when(jobRepository.findJobByJobName("Installation")).thenReturn(mockJob);
+        when(mockJob.isActive()).thenReturn(true);
+        when(mockJob.getEstimatedDurationMinutes()).thenReturn(60);
+
+        // A maintenance draft the customer has not confirmed yet, at the same time
+        Appointment draft = mock(Appointment.class);
+        when(draft.getAppointmentDate()).thenReturn(LocalDateTime.of(2050, 1, 10, 9, 30));
+        when(draft.getJob()).thenReturn(mockJob);
+        when(appointmentRepository.findAllByCustomerAndAppointmentDateBetweenAndStatusIn(
+                eq(mockCustomer), any(), any(), eq(AppointmentStatusType.SLOT_HOLDING)))
+                .thenReturn(List.of(draft));
+
+        assertThrows(InvalidOperationException.class, () ->
+                appointmentService.addAppointment(
+                        requestModel,
+                        "f9b67bf1-3f7e-4f69-9c5d-5b5bdf9a02fd",
+                        "CUSTOMER"
+                )
+        );
+        verify(appointmentRepository, never()).save(any());
+    }
+
     @Test
     void addAppointment_validOntarioPostalCode_succeeds() {
         AppointmentAddress address = AppointmentAddress.builder()
@@ -1678,5 +1988,80 @@ public class AppointmentServiceUnitTest {
         );
     }
 
+    @Test
+    void createDraftMaintenanceAppointment_firstFreeSlot_savesDraftWithAutoAssignedTechnician() {
+        Cellar cellar = new Cellar();
+        cellar.setCellarIdentifier(new CellarIdentifier("cellar-1"));
+        cellar.setOwnerCustomerIdentifier(new CustomerIdentifier("123e4567-e89b-12d3-a456-426614174000"));
+        cellar.setIsDeleted(false);
+        when(cellarRepository.findCellarByCellarIdentifier_CellarId("cellar-1")).thenReturn(cellar);
+        when(appointmentRepository.findOpenMaintenanceByCellarId(eq("cellar-1"), any())).thenReturn(List.of());
+
+        Customer owner = new Customer();
+        owner.setCustomerIdentifier(new CustomerIdentifier("123e4567-e89b-12d3-a456-426614174000"));
+        owner.setCustomerAddress(CustomerAddress.builder()
+                .streetAddress("123 Test St").city("Montreal").province("Quebec").country("Canada").postalCode("H1A 1A1")
+                .build());
+        when(customerRepository.findCustomerByCustomerIdentifier_CustomerId("123e4567-e89b-12d3-a456-426614174000")).thenReturn(owner);
+
+        Job maintenance = new Job();
+        maintenance.setJobName("Maintenance");
+        maintenance.setJobType(JobType.MAINTENANCE);
+        maintenance.setActive(true);
+        maintenance.setEstimatedDurationMinutes(60);
+        when(jobRepository.findFirstByJobTypeAndActiveTrueOrderByIdAsc(JobType.MAINTENANCE)).thenReturn(maintenance);
 
+        Employee tech = mock(Employee.class);
+        EmployeeIdentifier id = mock(EmployeeIdentifier.class);
+        EmployeeRole role = mock(EmployeeRole.class);
+        lenient().when(id.getEmployeeId()).thenReturn("tech");
+        lenient().when(role.getEmployeeRoleType()).thenReturn(EmployeeRoleType.TECHNICIAN);
+        lenient().when(tech.getEmployeeIdentifier()).thenReturn(id);
+        lenient().when(tech.getEmployeeRole()).thenReturn(role);
+        lenient().when(tech.getIsActive()).thenReturn(true);
+        when(employeeRepository.findAll()).thenReturn(List.of(tech));
+
+        // Free at 9 AM every day
+        Schedule nineAm = mock(Schedule.class);
+        var slot = mock(com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeScheduleDataAccessLayer.TimeSlot.class);
+        lenient().when(slot.getTimeslot()).thenReturn(TimeSlotType.NINE_AM);
+        lenient().when(nineAm.getTimeSlot()).thenReturn(slot);
+        lenient().when(scheduleRepository.findAllByEmployee_EmployeeIdentifier_EmployeeId(any())).thenReturn(List.of());
+        when(scheduleRepository.findAllByEmployee_EmployeeIdentifier_EmployeeIdAndSpecificDate(any(), any()))
+                .thenReturn(List.of(nineAm));
+        lenient().when(appointmentRepository.findByTechnicianAndAppointmentDateBetween(any(), any(), any()))
+                .thenReturn(List.of());
+
+        when(appointmentRepository.save(any(Appointment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(appointmentResponseMapper.toResponseModel(any(Appointment.class))).thenReturn(responseModel);
+
+        Optional<AppointmentResponseModel> result =
+                appointmentService.createDraftMaintenanceAppointment("cellar-1", "Humidity below 50%");
+
+        assertTrue(result.isPresent());
+        ArgumentCaptor<Appointment> saved = ArgumentCaptor.forClass(Appointment.class);
+        verify(appointmentRepository).save(saved.capture());
+        Appointment draft = saved.getValue();
+        assertEquals(AppointmentStatusType.DRAFT, draft.getAppointmentStatus().getAppointmentStatusType());
+        assertSame(tech, draft.getTechnician());
+        assertSame(maintenance, draft.getJob());
+        assertEquals("SYSTEM", draft.getCreatedByRole());
+        assertEquals("Montreal", draft.getAppointmentAddress().getCity());
+        assertEquals(9, draft.getAppointmentDate().getHour());
+        assertTrue(draft.getAppointmentDate().toLocalDate().isAfter(LocalDate.now(java.time.ZoneId.of("America/Toronto"))));
+        assertNotEquals(java.time.DayOfWeek.SATURDAY, draft.getAppointmentDate().getDayOfWeek());
+        assertNotEquals(java.time.DayOfWeek.SUNDAY, draft.getAppointmentDate().getDayOfWeek());
+    }
+
+    @Test
+    void createDraftMaintenanceAppointment_openMaintenanceVisitExists_returnsEmpty() {
+        Cellar cellar = new Cellar();
+        cellar.setCellarIdentifier(new CellarIdentifier("cellar-1"));
+        cellar.setIsDeleted(false);
+        when(cellarRepository.findCellarByCellarIdentifier_CellarId("cellar-1")).thenReturn(cellar);
+        when(appointmentRepository.findOpenMaintenanceByCellarId(eq("cellar-1"), any())).thenReturn(List.of(appointment));
+
+        assertTrue(appointmentService.createDraftMaintenanceAppointment("cellar-1", "Humidity below 50%").isEmpty());
+        verify(appointmentRepository, never()).save(any());
+    }
 }
@@ -0,0 +1,156 @@
+package com.profroid.profroidapp.AppointmentTesting.appointmentBusinessLayer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.profroid.profroidapp.appointmentsubdomain.businessLayer.TechnicianDayBundleService;
+import com.profroid.profroidapp.appointmentsubdomain.businessLayer.TechnicianDayBundleServiceImpl;
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.Appointment;
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentIdentifier;
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentRepository;
+import com.profroid.profroidapp.appointmentsubdomain.mappingLayer.AppointmentResponseMapper;
+import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentResponseModel;
+import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.Cellar;
+import com.profroid.profroidapp.cellarsubdomain.mappingLayer.CellarResponseMapper;
+import com.profroid.profroidapp.customersubdomain.dataAccessLayer.Customer;
+import com.profroid.profroidapp.customersubdomain.dataAccessLayer.CustomerIdentifier;
+import com.profroid.profroidapp.customersubdomain.mappingLayer.CustomerResponseMapper;
+import com.profroid.profroidapp.customersubdomain.presentationLayer.CustomerResponseModel;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.Employee;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.EmployeeRepository;
+import com.profroid.profroidapp.filesubdomain.dataAccessLayer.StoredFileRepository;
+import com.profroid.profroidapp.filesubdomain.mappingLayer.FileResponseMapper;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.Job;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.JobIdentifier;
+import com.profroid.profroidapp.jobssubdomain.mappingLayer.JobResponseMapper;
+import com.profroid.profroidapp.partsubdomain.businessLayer.PartService;
+import com.profroid.profroidapp.utils.exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TechnicianDayBundleServiceUnitTest {
+
+    private static final String TECHNICIAN_ID = "tech-uuid";
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 15);
+
+    @Mock private AppointmentRepository appointmentRepository;
+    @Mock private EmployeeRepository employeeRepository;
+    @Mock private StoredFileRepository storedFileRepository;
+    @Mock private PartService partService;
+    @Mock private AppointmentResponseMapper appointmentResponseMapper;
+    @Mock private CellarResponseMapper cellarResponseMapper;
+    @Mock private CustomerResponseMapper customerResponseMapper;
+    @Mock private JobResponseMapper jobResponseMapper;
+    @Mock private FileResponseMapper fileResponseMapper;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private TechnicianDayBundleServiceImpl dayBundleService;
+    private Employee technician;
+
+    @BeforeEach
+    void setup() {
+        dayBundleService = new TechnicianDayBundleServiceImpl(appointmentRepository, employeeRepository,
+                storedFileRepository, partService, appointmentResponseMapper, cellarResponseMapper,
+                customerResponseMapper, jobResponseMapper, fileResponseMapper,
+                new ObjectMapper().findAndRegisterModules(), transactionManager, 2, false);
+        technician = new Employee();
+        technician.setId(7);
+        technician.setIsActive(true);
+    }
+
+    private Appointment appointment(String appointmentId, Customer customer, Job job, Cellar cellar) {
+        Appointment appointment = new Appointment();
+        appointment.setAppointmentIdentifier(new AppointmentIdentifier(appointmentId));
+        appointment.setCustomer(customer);
+        appointment.setJob(job);
+        appointment.setCellar(cellar);
+        return appointment;
+    }
+
+    @Test
+    void getDayBundle_sharedCustomer_listedOnceAndFilesLoadedInOneQuery() throws Exception {
+        Customer customer = new Customer();
+        customer.setId(1);
+        customer.setCustomerIdentifier(new CustomerIdentifier("cust-1"));
+        Job job = new Job();
+        job.setId(2);
+        job.setJobIdentifier(new JobIdentifier("job-1"));
+        Cellar cellar = new Cellar();
+        cellar.setId(3);
+        List<Appointment> appointments = List.of(
+                appointment("appt-1", customer, job, cellar),
+                appointment("appt-2", customer, job, cellar));
+
+        when(employeeRepository.findEmployeeByEmployeeIdentifier_EmployeeId(TECHNICIAN_ID)).thenReturn(technician);
+        when(partService.getCatalogVersion()).thenReturn("0123456789abcdef");
+        when(appointmentRepository.findOpenByTechnicianIdBetween(7, DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay()))
+                .thenReturn(appointments);
+        when(appointmentResponseMapper.toResponseModelList(appointments)).thenReturn(List.of(
+                AppointmentResponseModel.builder().appointmentId("appt-1").build(),
+                AppointmentResponseModel.builder().appointmentId("appt-2").build()));
+        when(customerResponseMapper.toResponseModelList(List.of(customer)))
+                .thenReturn(List.of(CustomerResponseModel.builder().customerId("cust-1").build()));
+        when(cellarResponseMapper.toResponseModelList(List.of(cellar))).thenReturn(List.of());
+        when(jobResponseMapper.toResponseModelList(List.of(job))).thenReturn(List.of());
+        when(storedFileRepository.findAllByOwnerTypeInAndOwnerIdInAndDeletedAtIsNull(anyCollection(), anyCollection()))
+                .thenReturn(List.of());
+        when(fileResponseMapper.toResponseModelList(List.of())).thenReturn(List.of());
+
+        TechnicianDayBundleService.BundleJson bundle = dayBundleService.getDayBundle(TECHNICIAN_ID, DAY);
+
+        JsonNode json = new ObjectMapper().readTree(bundle.body());
+        assertEquals("0123456789abcdef", json.get("partCatalogVersion").asText());
+        assertEquals(2, json.get("appointments").size());
+        assertEquals(1, json.get("customers").size());
+        assertTrue(bundle.etag().startsWith("\"") && bundle.etag().endsWith("\""));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> ownerIds = ArgumentCaptor.forClass(Collection.class);
+        verify(storedFileRepository, times(1))
+                .findAllByOwnerTypeInAndOwnerIdInAndDeletedAtIsNull(anyCollection(), ownerIds.capture());
+        assertEquals(Set.of("appt-1", "appt-2", "cust-1", "job-1"), Set.copyOf(ownerIds.getValue()));
+    }
+
+    @Test
+    void getDayBundle_sameContent_returnsSameEtag() {
+        when(employeeRepository.findEmployeeByEmployeeIdentifier_EmployeeId(TECHNICIAN_ID)).thenReturn(technician);
+        when(partService.getCatalogVersion()).thenReturn("v1");
+        when(appointmentRepository.findOpenByTechnicianIdBetween(eq(7), any(), any())).thenReturn(List.of());
+        when(appointmentResponseMapper.toResponseModelList(List.of())).thenReturn(List.of());
+        when(cellarResponseMapper.toResponseModelList(List.of())).thenReturn(List.of());
+        when(customerResponseMapper.toResponseModelList(List.of())).thenReturn(List.of());
+        when(jobResponseMapper.toResponseModelList(List.of())).thenReturn(List.of());
+
+        String first = dayBundleService.getDayBundle(TECHNICIAN_ID, DAY).etag();
+        String second = dayBundleService.getDayBundle(TECHNICIAN_ID, DAY).etag();
+        when(partService.getCatalogVersion()).thenReturn("v2");
+        String afterCatalogChange = dayBundleService.getDayBundle(TECHNICIAN_ID, DAY).etag();
+
+        assertEquals(first, second);
+        assertNotEquals(first, afterCatalogChange);
+        // No appointments, nothing to look up files for
+        verifyNoInteractions(storedFileRepository);
+    }
+
+    @Test
+    void getDayBundle_unknownTechnician_throwsNotFound() {
+        when(employeeRepository.findEmployeeByEmployeeIdentifier_EmployeeId("missing")).thenReturn(null);
+
+        assertThrows(ResourceNotFoundException.class, () -> dayBundleService.getDayBundle("missing", DAY));
+        verifyNoInteractions(appointmentRepository, partService);
+    }
+}
@@ -5,6 +5,8 @@ package com.profroid.profroidapp.AppointmentTesting.appointmentDataAccessLayer;
 import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.Appointment;
 import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentIdentifier;
 import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentRepository;
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentStatus;
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentStatusType;
 import com.profroid.profroidapp.customersubdomain.dataAccessLayer.Customer;
 import com.profroid.profroidapp.customersubdomain.dataAccessLayer.CustomerIdentifier;
 import com.profroid.profroidapp.customersubdomain.dataAccessLayer.CustomerRepository;
@@ -29,6 +31,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -193,5 +196,51 @@ public class AppointmentRepositoryIntegrationTest {
         assertTrue(activeAppointments.get(0).getIsActive());
     }
 
+    // -------------------------------------------------------------------------
+    // FIND CHANGED BY TECHNICIAN SINCE (delta sync)
+    // -------------------------------------------------------------------------
+    @Test
+    void whenSaveAppointment_thenUpdatedAtIsSetAndFoundByTechnicianSince() {
+        Appointment appointment = buildAppointment("appointmentSync");
+        Employee technician = appointment.getTechnician();
+        Appointment saved = appointmentRepository.saveAndFlush(appointment);
+
+        assertNotNull(saved.getUpdatedAt());
+        List<Appointment> changed = appointmentRepository.findChangedByTechnicianSince(
+                technician, saved.getUpdatedAt().minusSeconds(1));
+        assertEquals(1, changed.size());
+        assertEquals("appointmentSync", changed.get(0).getAppointmentIdentifier().getAppointmentId());
+
+        List<Appointment> later = appointmentRepository.findChangedByTechnicianSince(
+                technician, saved.getUpdatedAt().plusSeconds(60));
+        assertTrue(later.isEmpty());
+    }
+
+
+    // -------------------------------------------------------------------------
+    // FIND BY TECHNICIAN AND DATE, SLOT-HOLDING STATUSES
+    // -------------------------------------------------------------------------
+    @Test
+    void whenAppointmentIsDraft_thenItHoldsTheTechniciansSlot_untilCancelled() {
+        Appointment appointment = buildAppointment("appointmentDraft");
+        Employee technician = appointment.getTechnician();
+        AppointmentStatus draft = new AppointmentStatus();
+        draft.setAppointmentStatusType(AppointmentStatusType.DRAFT);
+        appointment.setAppointmentStatus(draft);
+        Appointment saved = appointmentRepository.saveAndFlush(appointment);
+        LocalDate date = saved.getAppointmentDate().toLocalDate();
+
+        List<Appointment> holding = appointmentRepository.findByTechnicianAndDateAndScheduled(technician, date);
+        assertEquals(1, holding.size());
+        assertEquals("appointmentDraft", holding.get(0).getAppointmentIdentifier().getAppointmentId());
+
+        AppointmentStatus cancelled = new AppointmentStatus();
+        cancelled.setAppointmentStatusType(AppointmentStatusType.CANCELLED);
+        saved.setAppointmentStatus(cancelled);
+        appointmentRepository.saveAndFlush(saved);
+
+        assertTrue(appointmentRepository.findByTechnicianAndDateAndScheduled(technician, date).isEmpty());
+    }
+
 
 }
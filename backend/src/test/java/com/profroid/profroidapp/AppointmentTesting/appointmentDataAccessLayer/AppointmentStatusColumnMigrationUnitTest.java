@@ -0,0 +1,63 @@
+package com.profroid.profroidapp.AppointmentTesting.appointmentDataAccessLayer;
+
+import com.profroid.profroidapp.appointmentsubdomain.dataAccessLayer.AppointmentStatusColumnMigration;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AppointmentStatusColumnMigrationUnitTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @InjectMocks
+    private AppointmentStatusColumnMigration migration;
+
+    @Test
+    void widenStatusColumn_mysqlEnumColumn_altersToVarchar() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("MySQL");
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("enum"));
+
+        migration.widenStatusColumn();
+
+        verify(jdbcTemplate).execute("ALTER TABLE appointments MODIFY appointment_status_type VARCHAR(50) NOT NULL");
+    }
+
+    @Test
+    void widenStatusColumn_mysqlVarcharColumn_leavesItAlone() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("MySQL");
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("varchar"));
+
+        migration.widenStatusColumn();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void widenStatusColumn_h2_skipsLookup() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+
+        migration.widenStatusColumn();
+
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
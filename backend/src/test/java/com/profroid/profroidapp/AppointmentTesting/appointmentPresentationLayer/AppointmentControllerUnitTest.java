@@ -3,9 +3,11 @@ package com.profroid.profroidapp.AppointmentTesting.appointmentPresentationLayer
 
 import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentController;
 import com.profroid.profroidapp.appointmentsubdomain.businessLayer.AppointmentService;
+import com.profroid.profroidapp.appointmentsubdomain.businessLayer.TechnicianDayBundleService;
 import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentRequestModel;
 import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentResponseModel;
 import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentStatusChangeRequestModel;
+import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentSyncResponseModel;
 import com.profroid.profroidapp.customersubdomain.dataAccessLayer.Customer;
 import com.profroid.profroidapp.customersubdomain.dataAccessLayer.CustomerIdentifier;
 import com.profroid.profroidapp.customersubdomain.dataAccessLayer.CustomerRepository;
@@ -15,12 +17,18 @@ import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAc
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -41,6 +49,9 @@ public class AppointmentControllerUnitTest {
     @Mock
     private AppointmentService appointmentService;
 
+    @Mock
+    private TechnicianDayBundleService dayBundleService;
+
     @Mock
     private CustomerRepository customerRepository;
 
@@ -123,6 +134,89 @@ public class AppointmentControllerUnitTest {
         verify(appointmentService, times(1)).getTechnicianAppointments(TECHNICIAN_ID);
     }
 
+    // [Appointment][Unit Test][Positive] Sync my jobs since a previous sync -> returns changes
+    @Test
+    void whenSyncMyJobs_withSince_thenReturnChanges() {
+        setupEmployeeLookup();
+        Authentication auth = createAuthentication(TECHNICIAN_USER_ID, "TECHNICIAN");
+        Instant since = Instant.parse("2026-01-15T14:03:10Z");
+        AppointmentSyncResponseModel changes = AppointmentSyncResponseModel.builder()
+            .nextSince(since.plusSeconds(60))
+            .changed(List.of(res1))
+            .removed(List.of("appt-2"))
+            .build();
+        when(appointmentService.getTechnicianAppointmentChanges(TECHNICIAN_ID, since)).thenReturn(changes);
+
+        ResponseEntity<AppointmentSyncResponseModel> response = appointmentController.syncMyJobs(since, auth);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(changes, response.getBody());
+        verify(appointmentService, times(1)).getTechnicianAppointmentChanges(TECHNICIAN_ID, since);
+    }
+
+    // [Appointment][Unit Test][Positive] Get my day bundle -> returns JSON body with ETag
+    @Test
+    void whenGetMyDayBundle_withoutIfNoneMatch_thenReturnBodyWithEtag() {
+        setupEmployeeLookup();
+        Authentication auth = createAuthentication(TECHNICIAN_USER_ID, "TECHNICIAN");
+        LocalDate date = LocalDate.of(2026, 1, 15);
+        byte[] body = "{\"appointments\":[]}".getBytes();
+        when(dayBundleService.getDayBundle(TECHNICIAN_ID, date))
+            .thenReturn(new TechnicianDayBundleService.BundleJson(body, "\"abc\""));
+
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        ResponseEntity<byte[]> response = appointmentController.getMyDayBundle(
+            date, dayBundleRequest(null, servletResponse), auth);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"abc\"", servletResponse.getHeader(HttpHeaders.ETAG));
+        assertArrayEquals(body, response.getBody());
+    }
+
+    // [Appointment][Unit Test][Positive] Get my day bundle with a matching (weak) ETag -> 304 without body
+    @Test
+    void whenGetMyDayBundle_withMatchingEtag_thenReturnNotModified() {
+        setupEmployeeLookup();
+        Authentication auth = createAuthentication(TECHNICIAN_USER_ID, "TECHNICIAN");
+        when(dayBundleService.getDayBundle(TECHNICIAN_ID, null))
+            .thenReturn(new TechnicianDayBundleService.BundleJson(new byte[] {'{', '}'}, "\"abc\""));
+
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        ResponseEntity<byte[]> response = appointmentController.getMyDayBundle(
+            null, dayBundleRequest("W/\"abc\"", servletResponse), auth);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), servletResponse.getStatus());
+        assertEquals("\"abc\"", servletResponse.getHeader(HttpHeaders.ETAG));
+        assertNull(response.getBody());
+    }
+
+    // [Appointment][Unit Test][Positive] Get my day bundle with another ETag -> full body
+    @Test
+    void whenGetMyDayBundle_withStaleEtag_thenReturnBody() {
+        setupEmployeeLookup();
+        Authentication auth = createAuthentication(TECHNICIAN_USER_ID, "TECHNICIAN");
+        byte[] body = "{\"appointments\":[]}".getBytes();
+        when(dayBundleService.getDayBundle(TECHNICIAN_ID, null))
+            .thenReturn(new TechnicianDayBundleService.BundleJson(body, "\"abc\""));
+
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        ResponseEntity<byte[]> response = appointmentController.getMyDayBundle(
+            null, dayBundleRequest("\"old\", W/\"older\"", servletResponse), auth);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(HttpStatus.OK.value(), servletResponse.getStatus());
+        assertArrayEquals(body, response.getBody());
+    }
+
+    private static ServletWebRequest dayBundleRequest(String ifNoneMatch, MockHttpServletResponse servletResponse) {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/v1/appointments/my-jobs/day");
+        if (ifNoneMatch != null) {
+            servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(servletRequest, servletResponse);
+    }
+
     // ===== GET APPOINTMENT BY ID =====
     // [Appointment][Unit Test][Positive] Get appointment by ID with valid customer role -> returns appointment
     @Test
@@ -25,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -112,14 +113,14 @@ public class CellarServiceUnitTest {
     // [Cellar-Service][Unit Test][Positive] Get all cellars -> returns list
     @Test
     void getAllCellars_returnsList() {
-        when(cellarRepository.findAll()).thenReturn(Arrays.asList(existingCellar, existingCellar));
+        when(cellarRepository.findAllNotDeleted()).thenReturn(Arrays.asList(existingCellar, existingCellar));
         when(cellarResponseMapper.toResponseModelList(any(List.class)))
                 .thenReturn(Arrays.asList(existingCellarResponse, existingCellarResponse));
 
         List<CellarResponseModel> result = cellarService.getAllCellars();
 
         assertEquals(2, result.size());
-        verify(cellarRepository).findAll();
+        verify(cellarRepository).findAllNotDeleted();
         verify(cellarResponseMapper).toResponseModelList(any(List.class));
     }
 
@@ -609,4 +610,28 @@ public class CellarServiceUnitTest {
                 () -> cellarService.getAllCellarsForUser(userId));
         verify(customerRepository).findCustomerByUserId(userId);
     }
+
+    // [Cellar-Service][Unit Test][Positive] Cellars for several customers -> one query, every customer keyed
+    @Test
+    void getCellarsForCustomers_groupsByCustomerInRequestOrder() {
+        String otherCustomerId = "22222222-2222-2222-2222-222222222222";
+        when(cellarRepository.findActiveByOwnerCustomerIds(any())).thenReturn(List.of(existingCellar));
+        when(cellarResponseMapper.toResponseModel(existingCellar)).thenReturn(existingCellarResponse);
+
+        Map<String, List<CellarResponseModel>> result =
+                cellarService.getCellarsForCustomers(List.of(otherCustomerId, VALID_CUSTOMER_ID, otherCustomerId));
+
+        assertEquals(List.of(otherCustomerId, VALID_CUSTOMER_ID), List.copyOf(result.keySet()));
+        assertTrue(result.get(otherCustomerId).isEmpty());
+        assertEquals(List.of(existingCellarResponse), result.get(VALID_CUSTOMER_ID));
+        verify(cellarRepository, times(1)).findActiveByOwnerCustomerIds(any());
+    }
+
+    // [Cellar-Service][Unit Test][Negative] Cellars for customers with an invalid ID -> throws InvalidIdentifierException
+    @Test
+    void getCellarsForCustomers_invalidId_throwsInvalidIdentifier() {
+        assertThrows(InvalidIdentifierException.class,
+                () -> cellarService.getCellarsForCustomers(List.of(VALID_CUSTOMER_ID, "bad-id")));
+        verify(cellarRepository, never()).findActiveByOwnerCustomerIds(any());
+    }
 }
@@ -11,6 +11,9 @@ import com.profroid.profroidapp.customersubdomain.dataAccessLayer.CustomerReposi
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Collections;
@@ -221,4 +224,59 @@ public class CellarRepositoryIntegrationTest {
         assertEquals(customer.getCustomerIdentifier().getCustomerId(),
                 found.getOwnerCustomerIdentifier().getCustomerId());
     }
+
+    // -------------------------------------------------------------------------
+    // QUERY-LEVEL FILTERING
+    // -------------------------------------------------------------------------
+    @Test
+    void whenFindNotDeleted_thenDeletedCellarsAreExcludedAndActiveFilterApplies() {
+        Customer customer = createTestCustomer("pagetest");
+        CustomerIdentifier owner = customer.getCustomerIdentifier();
+
+        cellarRepository.save(buildCellar(owner, "A Cellar", CellarType.PRIVATE));
+        Cellar inactive = buildCellar(owner, "B Cellar", CellarType.PRIVATE);
+        inactive.setIsActive(false);
+        cellarRepository.save(inactive);
+        Cellar deleted = buildCellar(owner, "C Cellar", CellarType.PRIVATE);
+        deleted.setIsDeleted(true);
+        cellarRepository.save(deleted);
+        cellarRepository.save(buildCellar(owner, "D Cellar", CellarType.COMMERCIAL));
+
+        Page<Cellar> firstPage = cellarRepository.findNotDeleted(null, PageRequest.of(0, 2, Sort.by("name")));
+        Page<Cellar> activeOnly = cellarRepository.findNotDeleted(true, PageRequest.of(0, 10, Sort.by("name")));
+        Page<Cellar> inactiveOnly = cellarRepository.findNotDeleted(false, PageRequest.of(0, 10, Sort.by("name")));
+
+        assertEquals(3, firstPage.getTotalElements());
+        assertEquals(List.of("A Cellar", "B Cellar"), firstPage.map(Cellar::getName).getContent());
+        assertEquals(List.of("A Cellar", "D Cellar"), activeOnly.map(Cellar::getName).getContent());
+        assertEquals(List.of("B Cellar"), inactiveOnly.map(Cellar::getName).getContent());
+        assertEquals(3, cellarRepository.findAllNotDeleted().size());
+    }
+
+    @Test
+    void whenFindActiveByOwnerCustomerIds_thenReturnsCellarsOfRequestedOwnersOnly() {
+        Customer first = createTestCustomer("batchone");
+        Customer second = createTestCustomer("batchtwo");
+        Customer other = createTestCustomer("batchother");
+
+        cellarRepository.save(buildCellar(first.getCustomerIdentifier(), "Zinfandel Room", CellarType.PRIVATE));
+        cellarRepository.save(buildCellar(first.getCustomerIdentifier(), "Annex", CellarType.PRIVATE));
+        Cellar deleted = buildCellar(second.getCustomerIdentifier(), "Old Cellar", CellarType.PRIVATE);
+        deleted.setIsDeleted(true);
+        cellarRepository.save(deleted);
+        cellarRepository.save(buildCellar(second.getCustomerIdentifier(), "Main Cellar", CellarType.COMMERCIAL));
+        cellarRepository.save(buildCellar(other.getCustomerIdentifier(), "Not Requested", CellarType.PRIVATE));
+
+        List<Cellar> found = cellarRepository.findActiveByOwnerCustomerIds(List.of(
+                first.getCustomerIdentifier().getCustomerId(),
+                second.getCustomerIdentifier().getCustomerId()));
+
+        assertEquals(3, found.size());
+        assertTrue(found.stream().noneMatch(c -> c.getName().equals("Old Cellar") || c.getName().equals("Not Requested")));
+        List<String> firstOwnerNames = found.stream()
+                .filter(c -> c.getOwnerCustomerIdentifier().getCustomerId().equals(first.getCustomerIdentifier().getCustomerId()))
+                .map(Cellar::getName)
+                .toList();
+        assertEquals(List.of("Annex", "Zinfandel Room"), firstOwnerNames);
+    }
 }
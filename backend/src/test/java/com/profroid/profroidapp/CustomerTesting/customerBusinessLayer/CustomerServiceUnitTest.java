@@ -24,6 +24,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import java.util.*;
 
@@ -429,5 +432,27 @@ public class CustomerServiceUnitTest {
         verify(customerRepository).findCustomerByCustomerIdentifier_CustomerId(VALID_CUSTOMER_ID);
         verify(customerRepository, never()).save(any());
     }
-}
 
+    @Test
+    void getCustomersPage_twoWords_searchesFirstAndLastNameWithEscapedPrefixes() {
+        when(customerRepository.searchByNamePrefixes(eq("Jo%"), eq("D!_e%"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(existingCustomer)));
+        when(customerResponseMapper.toResponseModel(existingCustomer)).thenReturn(existingCustomerResponse);
+
+        Page<CustomerResponseModel> page = customerService.getCustomersPage(" Jo  D_e ", 0, 500, "lastName", "desc");
+
+        assertEquals(1, page.getTotalElements());
+        assertEquals(VALID_CUSTOMER_ID, page.getContent().get(0).getCustomerId());
+        verify(customerRepository).searchByNamePrefixes(eq("Jo%"), eq("D!_e%"), argThat(pageable ->
+                pageable.getPageSize() == 100
+                        && pageable.getSort().getOrderFor("lastName").isDescending()
+                        && pageable.getSort().getOrderFor("id") != null));
+    }
+
+    @Test
+    void getCustomersPage_unknownSort_throwsInvalidOperation() {
+        assertThrows(InvalidOperationException.class,
+                () -> customerService.getCustomersPage(null, 0, 20, "password", "asc"));
+        verifyNoInteractions(customerRepository);
+    }
+}
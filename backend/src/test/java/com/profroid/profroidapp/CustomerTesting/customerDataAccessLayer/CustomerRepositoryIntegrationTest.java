@@ -4,9 +4,14 @@ import com.profroid.profroidapp.customersubdomain.dataAccessLayer.*;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -73,4 +78,47 @@ public class CustomerRepositoryIntegrationTest {
         assertNotNull(found);
         assertEquals(customerId, found.getCustomerIdentifier().getCustomerId());
     }
+
+    // -------------------------------------------------------------------------
+    // PREFIX SEARCH
+    // -------------------------------------------------------------------------
+    @Test
+    void whenSearchingByPrefix_thenMatchesNamePostalCodeAndPhone() {
+        customerRepository.save(buildCustomer("alicemartin"));
+        Customer other = buildCustomer("bobtremblay");
+        other.setFirstName("Bob");
+        other.setLastName("Tremblay");
+        other.getCustomerAddress().setPostalCode("J4K 1A1");
+        CustomerPhoneNumber phone = new CustomerPhoneNumber();
+        phone.setType(PhoneType.HOME);
+        phone.setNumber("514-555-9876");
+        other.setPhoneNumbers(Arrays.asList(phone));
+        customerRepository.save(other);
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("lastName", "firstName", "id"));
+
+        assertEquals(List.of("Martin"), lastNames(customerRepository.searchByPrefix("Mar%", pageable)));
+        assertEquals(List.of("Tremblay"), lastNames(customerRepository.searchByPrefix("J4K%", pageable)));
+        assertEquals(List.of("Tremblay"), lastNames(customerRepository.searchByPrefix("514-%", pageable)));
+        assertEquals(List.of("Martin"), lastNames(customerRepository.searchByNamePrefixes("Al%", "Ma%", pageable)));
+        assertEquals(List.of("Tremblay"), lastNames(customerRepository.searchByNamePrefixes("Trem%", "B%", pageable)));
+        assertEquals(0, customerRepository.searchByPrefix("!%%", pageable).getTotalElements());
+    }
+
+    @Test
+    void whenPaging_thenTotalCountsAllMatchesAndPhonesAreLoaded() {
+        for (int i = 0; i < 5; i++) {
+            customerRepository.save(buildCustomer("user" + i));
+        }
+
+        Page<Customer> page = customerRepository.searchByPrefix("Mart%", PageRequest.of(1, 2, Sort.by("id")));
+
+        assertEquals(5, page.getTotalElements());
+        assertEquals(2, page.getContent().size());
+        page.getContent().forEach(customer -> assertEquals(1, customer.getPhoneNumbers().size()));
+    }
+
+    private List<String> lastNames(Page<Customer> page) {
+        return page.getContent().stream().map(Customer::getLastName).toList();
+    }
 }
@@ -12,6 +12,7 @@ import com.profroid.profroidapp.employeesubdomain.presentationLayer.employeeSche
 import com.profroid.profroidapp.employeesubdomain.presentationLayer.employeeSchedulePresentationLayer.EmployeeScheduleResponseModel;
 import com.profroid.profroidapp.utils.exceptions.InvalidIdentifierException;
 import com.profroid.profroidapp.utils.exceptions.MissingDataException;
+import com.profroid.profroidapp.utils.cache.ReferenceDataCache;
 import com.profroid.profroidapp.utils.exceptions.ResourceAlreadyExistsException;
 import com.profroid.profroidapp.utils.exceptions.ResourceNotFoundException;
 import com.profroid.profroidapp.utils.exceptions.InvalidOperationException;
@@ -56,6 +57,7 @@ public class EmployeeScheduleServiceUnitTest {
     @Mock private EmployeeScheduleResponseMapper responseMapper;
     @Mock private EmployeeScheduleRequestMapper requestMapper;
         @Mock private AppointmentRepository appointmentRepository;
+    @Mock private ReferenceDataCache referenceDataCache;
 
     @InjectMocks
     private ScheduleServiceImpl scheduleService;
@@ -218,6 +220,7 @@ public class EmployeeScheduleServiceUnitTest {
         List<EmployeeScheduleResponseModel> result = scheduleService.addEmployeeSchedule(VALID_EMPLOYEE_ID, reqs);
         assertNotNull(result);
         verify(scheduleRepository).saveAll(any(List.class));
+        verify(referenceDataCache).evictSchedules();
     }
 
     // Negative: non-technician must have exactly 2 time slots and start at 9AM, <=8h per day, <=40h week
@@ -0,0 +1,138 @@
+package com.profroid.profroidapp.IdGeneratorTesting;
+
+import com.profroid.profroidapp.utils.generators.IdSequence.IdBlockAllocator;
+import com.profroid.profroidapp.utils.generators.IdSequence.IdSequenceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+public class IdBlockAllocatorIntegrationTest {
+
+    @Autowired
+    private IdSequenceRepository idSequenceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String uniqueSequenceName() {
+        return "TEST-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private IdBlockAllocator allocator(String sequenceName, int blockSize, AtomicInteger period) {
+        return new IdBlockAllocator(idSequenceRepository, transactionManager, sequenceName, blockSize, period::get);
+    }
+
+    @Test
+    void whenSeeded_thenFirstValueContinuesFromSeed() {
+        String name = uniqueSequenceName();
+        AtomicInteger period = new AtomicInteger(2026);
+        IdBlockAllocator allocator = allocator(name, 10, period);
+
+        allocator.seed(2026, 124);
+
+        IdBlockAllocator.Allocation first = allocator.next();
+        assertEquals(2026, first.period());
+        assertEquals(124, first.value());
+        assertEquals(125, allocator.next().value());
+    }
+
+    @Test
+    void whenSeededLower_thenCounterNeverMovesBackwards() {
+        String name = uniqueSequenceName();
+        AtomicInteger period = new AtomicInteger(2026);
+        IdBlockAllocator allocator = allocator(name, 5, period);
+
+        allocator.seed(2026, 50);
+        allocator.seed(2026, 10);
+
+        assertEquals(50, allocator.next().value());
+    }
+
+    @Test
+    void whenYearChanges_thenCounterRestartsAtOne() {
+        String name = uniqueSequenceName();
+        AtomicInteger period = new AtomicInteger(2026);
+        IdBlockAllocator first = allocator(name, 5, period);
+        IdBlockAllocator second = allocator(name, 5, period);
+        first.seed(2026, 900);
+
+        assertEquals(900, first.next().value());
+        assertEquals(905, second.next().value());
+
+        period.set(2027);
+
+        IdBlockAllocator.Allocation afterReset = first.next();
+        assertEquals(2027, afterReset.period());
+        assertEquals(1, afterReset.value());
+
+        IdBlockAllocator.Allocation otherNode = second.next();
+        assertEquals(2027, otherNode.period());
+        assertEquals(6, otherNode.value());
+    }
+
+    @Test
+    void whenSeveralInstancesAllocateConcurrently_thenNoIdIsHandedOutTwice() throws Exception {
+        String name = uniqueSequenceName();
+        AtomicInteger period = new AtomicInteger(2026);
+
+        // Each allocator stands in for one backend replica sharing the same database
+        List<IdBlockAllocator> replicas = List.of(
+                allocator(name, 7, period),
+                allocator(name, 7, period),
+                allocator(name, 7, period));
+        replicas.get(0).seed(2026, 1);
+
+        int threadsPerReplica = 6;
+        int idsPerThread = 300;
+        ExecutorService pool = Executors.newFixedThreadPool(replicas.size() * threadsPerReplica);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Long> seen = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (IdBlockAllocator replica : replicas) {
+            for (int t = 0; t < threadsPerReplica; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < idsPerThread; i++) {
+                        IdBlockAllocator.Allocation allocation = replica.next();
+                        assertEquals(2026, allocation.period());
+                        if (!seen.add(allocation.value())) {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        int expected = replicas.size() * threadsPerReplica * idsPerThread;
+        assertEquals(0, duplicates.get());
+        assertEquals(expected, seen.size());
+        assertTrue(seen.stream().allMatch(value -> value >= 1));
+    }
+}
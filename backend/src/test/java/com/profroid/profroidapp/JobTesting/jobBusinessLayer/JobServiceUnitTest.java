@@ -10,6 +10,7 @@ import com.profroid.profroidapp.jobssubdomain.mappingLayer.JobRequestMapper;
 import com.profroid.profroidapp.jobssubdomain.mappingLayer.JobResponseMapper;
 import com.profroid.profroidapp.jobssubdomain.presentationLayer.JobRequestModel;
 import com.profroid.profroidapp.jobssubdomain.presentationLayer.JobResponseModel;
+import com.profroid.profroidapp.utils.cache.ReferenceDataCache;
 import com.profroid.profroidapp.utils.exceptions.InvalidIdentifierException;
 import com.profroid.profroidapp.utils.exceptions.InvalidOperationException;
 import com.profroid.profroidapp.utils.exceptions.ResourceNotFoundException;
@@ -49,6 +50,9 @@ public class JobServiceUnitTest {
     @Mock
     private FileService fileService;
 
+    @Mock
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private JobServiceImpl jobService;
 
@@ -149,6 +153,7 @@ public class JobServiceUnitTest {
         assertEquals("HVAC Installation", response.getJobName());
         verify(jobRequestMapper).toEntity(any(JobRequestModel.class), any(JobIdentifier.class));
         verify(jobRepository).save(any(Job.class));
+        verify(referenceDataCache).evictJobs();
         verify(jobResponseMapper).toResponseModel(existingJob);
     }
 
@@ -206,6 +211,7 @@ public class JobServiceUnitTest {
         verify(jobRepository).findJobByJobIdentifier_JobId(VALID_JOB_ID);
         verify(appointmentRepository).findAllByJob(existingJob);   // optional but nice
         verify(jobRepository).save(any(Job.class));
+        verify(referenceDataCache).evictJobs();
         verify(jobResponseMapper).toResponseModel(updatedJob);
     }
 
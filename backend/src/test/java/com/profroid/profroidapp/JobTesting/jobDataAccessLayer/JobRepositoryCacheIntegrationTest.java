@@ -0,0 +1,95 @@
+package com.profroid.profroidapp.JobTesting.jobDataAccessLayer;
+
+import com.profroid.profroidapp.config.ReferenceDataCacheConfig;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.Job;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.JobIdentifier;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.JobRepository;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.JobType;
+import com.profroid.profroidapp.utils.cache.ReferenceDataCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Every repository call commits on its own, like the services do; query results are
+// only cached once the rows they read are committed
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ReferenceDataCacheConfig.class, ReferenceDataCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class JobRepositoryCacheIntegrationTest {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        Job job = new Job();
+        job.setJobIdentifier(new JobIdentifier());
+        job.setJobName("Cellar Inspection");
+        job.setJobDescription("Yearly inspection of the cooling unit");
+        job.setHourlyRate(80.00);
+        job.setEstimatedDurationMinutes(120);
+        job.setJobType(JobType.MAINTENANCE);
+        job.setActive(true);
+        jobRepository.save(job);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // Warm the job and query regions
+        jobRepository.findJobByJobName("Cellar Inspection");
+        jobRepository.findJobByJobName("Cellar Inspection");
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanup() {
+        jobRepository.deleteAll();
+    }
+
+    @Test
+    void findJobByJobName_whenCached_runsNoStatement() {
+        Job found = jobRepository.findJobByJobName("Cellar Inspection");
+
+        assertEquals("Cellar Inspection", found.getJobName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(referenceDataCache.getHitRatio(ReferenceDataCache.JOB_QUERIES) > 0);
+    }
+
+    @Test
+    void findJobByJobName_afterEvictJobs_goesToDatabase() {
+        referenceDataCache.evictJobs();
+
+        Job found = jobRepository.findJobByJobName("Cellar Inspection");
+
+        assertEquals("Cellar Inspection", found.getJobName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findJobByJobName_afterRename_seesNewName() {
+        Job job = jobRepository.findJobByJobName("Cellar Inspection");
+        job.setJobName("Cellar Audit");
+        jobRepository.save(job);
+
+        assertNull(jobRepository.findJobByJobName("Cellar Inspection"));
+        assertEquals("Cellar Audit", jobRepository.findJobByJobName("Cellar Audit").getJobName());
+    }
+}
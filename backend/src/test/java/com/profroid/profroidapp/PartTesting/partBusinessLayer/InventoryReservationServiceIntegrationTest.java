@@ -0,0 +1,144 @@
+package com.profroid.profroidapp.PartTesting.partBusinessLayer;
+
+import com.profroid.profroidapp.partsubdomain.businessLayer.InventoryReservationService;
+import com.profroid.profroidapp.partsubdomain.dataAccessLayer.Part;
+import com.profroid.profroidapp.partsubdomain.dataAccessLayer.PartIdentifier;
+import com.profroid.profroidapp.partsubdomain.dataAccessLayer.PartRepository;
+import com.profroid.profroidapp.utils.exceptions.InvalidOperationException;
+import com.profroid.profroidapp.utils.generators.SkuGenerator.SkuGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+public class InventoryReservationServiceIntegrationTest {
+
+    @Autowired
+    private InventoryReservationService inventoryReservationService;
+
+    @Autowired
+    private PartRepository partRepository;
+
+    private String firstPartId;
+    private String secondPartId;
+
+    @BeforeEach
+    void setup() {
+        partRepository.deleteAll();
+        firstPartId = savePart("Compressor Relay", 50);
+        secondPartId = savePart("Door Gasket", 10);
+    }
+
+    @AfterEach
+    void cleanup() {
+        partRepository.deleteAll();
+    }
+
+    private String savePart(String name, int quantity) {
+        PartIdentifier identifier = new PartIdentifier(SkuGenerator.generateSku());
+
+        Part part = new Part();
+        part.setPartIdentifier(identifier);
+        part.setName(name);
+        part.setCategory("Refrigeration");
+        part.setQuantity(quantity);
+        part.setPrice(BigDecimal.valueOf(12.50));
+        part.setSupplier("Acme Supplies");
+        part.setAvailable(true);
+        partRepository.save(part);
+
+        return identifier.getPartId();
+    }
+
+    private int quantityOf(String partId) {
+        return partRepository.findPartByPartIdentifier_PartId(partId).getQuantity();
+    }
+
+    @Test
+    void whenReserve_thenQuantityIsDecremented() {
+        inventoryReservationService.reserve(Map.of(firstPartId, 5, secondPartId, 2));
+
+        assertEquals(45, quantityOf(firstPartId));
+        assertEquals(8, quantityOf(secondPartId));
+    }
+
+    @Test
+    void whenReserveMoreThanInStock_thenNothingIsDecremented() {
+        assertThrows(InvalidOperationException.class,
+                () -> inventoryReservationService.reserve(Map.of(firstPartId, 5, secondPartId, 11)));
+
+        assertEquals(50, quantityOf(firstPartId));
+        assertEquals(10, quantityOf(secondPartId));
+    }
+
+    @Test
+    void whenRelease_thenQuantityIsRestored() {
+        inventoryReservationService.reserve(Map.of(firstPartId, 5));
+        inventoryReservationService.release(Map.of(firstPartId, 5));
+
+        assertEquals(50, quantityOf(firstPartId));
+    }
+
+    @Test
+    void whenAdjust_thenOnlyTheDifferenceIsApplied() {
+        inventoryReservationService.reserve(Map.of(firstPartId, 5, secondPartId, 2));
+
+        inventoryReservationService.adjust(
+                Map.of(firstPartId, 5, secondPartId, 2),
+                Map.of(firstPartId, 8));
+
+        assertEquals(42, quantityOf(firstPartId));
+        assertEquals(10, quantityOf(secondPartId));
+    }
+
+    @Test
+    void whenManyTechniciansReserveConcurrently_thenStockIsNeverOversold() throws Exception {
+        int threads = 32;
+        int perReservation = 3; // 32 * 3 = 96 requested against 50 in stock
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                try {
+                    inventoryReservationService.reserve(Map.of(firstPartId, perReservation));
+                    return true;
+                } catch (InvalidOperationException e) {
+                    return false;
+                }
+            }));
+        }
+
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(30, TimeUnit.SECONDS)) {
+                succeeded++;
+            }
+        }
+        pool.shutdown();
+
+        int remaining = quantityOf(firstPartId);
+        assertEquals(50 / perReservation, succeeded);
+        assertEquals(50 - succeeded * perReservation, remaining);
+        assertTrue(remaining >= 0);
+    }
+}
@@ -11,12 +11,14 @@ import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAc
 import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.EmployeeIdentifier;
 import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.Job;
 import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.JobIdentifier;
+import com.profroid.profroidapp.partsubdomain.businessLayer.InventoryReservationService;
 import com.profroid.profroidapp.partsubdomain.dataAccessLayer.Part;
 import com.profroid.profroidapp.partsubdomain.dataAccessLayer.PartIdentifier;
 import com.profroid.profroidapp.partsubdomain.dataAccessLayer.PartRepository;
 import com.profroid.profroidapp.reportsubdomain.businessLayer.ReportServiceImpl;
 import com.profroid.profroidapp.reportsubdomain.dataAccessLayer.Report;
 import com.profroid.profroidapp.reportsubdomain.dataAccessLayer.ReportIdentifier;
+import com.profroid.profroidapp.reportsubdomain.dataAccessLayer.ReportPart;
 import com.profroid.profroidapp.reportsubdomain.dataAccessLayer.ReportRepository;
 import com.profroid.profroidapp.filesubdomain.businessLayer.FileService;
 import com.profroid.profroidapp.filesubdomain.dataAccessLayer.FileCategory;
@@ -44,6 +46,7 @@ import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -63,6 +66,7 @@ public class ReportServiceUnitTest {
     @Mock private StoredFileRepository storedFileRepository;
     @Mock private ReportPdfGenerator reportPdfGenerator;
     @Mock private BillRepository billRepository;
+    @Mock private InventoryReservationService inventoryReservationService;
 
     @InjectMocks
     private ReportServiceImpl reportService;
@@ -343,6 +347,69 @@ public class ReportServiceUnitTest {
         verify(reportRepository, never()).save(any());
     }
 
+    @Test
+    void createReport_withParts_reservesStock() {
+        Part part = new Part();
+        part.setPartIdentifier(new PartIdentifier("PART-1"));
+        part.setAvailable(true);
+
+        ReportRequestModel.ReportPartRequestModel first = ReportRequestModel.ReportPartRequestModel.builder()
+                .partId("PART-1")
+                .quantity(2)
+                .price(BigDecimal.valueOf(25.0))
+                .build();
+        ReportRequestModel.ReportPartRequestModel second = ReportRequestModel.ReportPartRequestModel.builder()
+                .partId("PART-1")
+                .quantity(1)
+                .price(BigDecimal.valueOf(25.0))
+                .build();
+        validRequest.setParts(List.of(first, second));
+
+        when(appointmentRepository.findAppointmentByAppointmentIdentifier_AppointmentId("APPT-1"))
+                .thenReturn(Optional.of(appointment));
+        when(reportRepository.findReportByAppointment_AppointmentIdentifier_AppointmentId("APPT-1"))
+                .thenReturn(null);
+        when(partRepository.findPartByPartIdentifier_PartId("PART-1"))
+                .thenReturn(part);
+        when(reportRepository.save(any(Report.class)))
+                .thenReturn(report);
+        when(responseMapper.toResponseModel(any(Report.class)))
+                .thenReturn(mockResponse);
+
+        reportService.createReport(validRequest, "admin", "ADMIN");
+
+        verify(inventoryReservationService).reserve(Map.of("PART-1", 3));
+        verify(reportRepository).save(argThat(saved -> Boolean.TRUE.equals(saved.getStockReserved())));
+    }
+
+    @Test
+    void createReport_insufficientStock_throwsInvalidOperation() {
+        Part part = new Part();
+        part.setPartIdentifier(new PartIdentifier("PART-1"));
+        part.setAvailable(true);
+
+        ReportRequestModel.ReportPartRequestModel partRequest = ReportRequestModel.ReportPartRequestModel.builder()
+                .partId("PART-1")
+                .quantity(20)
+                .price(BigDecimal.valueOf(25.0))
+                .build();
+        validRequest.setParts(List.of(partRequest));
+
+        when(appointmentRepository.findAppointmentByAppointmentIdentifier_AppointmentId("APPT-1"))
+                .thenReturn(Optional.of(appointment));
+        when(reportRepository.findReportByAppointment_AppointmentIdentifier_AppointmentId("APPT-1"))
+                .thenReturn(null);
+        when(partRepository.findPartByPartIdentifier_PartId("PART-1"))
+                .thenReturn(part);
+        doThrow(new InvalidOperationException("Insufficient stock for part: PART-1"))
+                .when(inventoryReservationService).reserve(Map.of("PART-1", 20));
+
+        assertThrows(InvalidOperationException.class,
+                () -> reportService.createReport(validRequest, "admin", "ADMIN"));
+        verify(reportRepository, never()).save(any());
+        verify(billRepository, never()).save(any());
+    }
+
     // ==================== READ TESTS ====================
 
     @Test
@@ -568,8 +635,120 @@ public class ReportServiceUnitTest {
         verify(reportRepository).save(any(Report.class));
     }
 
+    @Test
+    void updateReport_withParts_adjustsStockAgainstPreviousParts() {
+        Part part = new Part();
+        part.setPartIdentifier(new PartIdentifier("PART-1"));
+
+        ReportPart existingPart = new ReportPart();
+        existingPart.setReport(report);
+        existingPart.setPart(part);
+        existingPart.setQuantity(5);
+        existingPart.setPrice(BigDecimal.valueOf(30.0));
+        report.getReportParts().add(existingPart);
+        report.setStockReserved(true);
+
+        ReportRequestModel.ReportPartRequestModel partRequest = ReportRequestModel.ReportPartRequestModel.builder()
+                .partId("PART-1")
+                .quantity(3)
+                .price(BigDecimal.valueOf(30.0))
+                .build();
+        validRequest.setParts(List.of(partRequest));
+
+        when(reportRepository.findReportByReportIdentifier_ReportId("REP-123"))
+                .thenReturn(report);
+        when(partRepository.findPartByPartIdentifier_PartId("PART-1"))
+                .thenReturn(part);
+        when(reportRepository.save(any(Report.class)))
+                .thenReturn(report);
+        when(responseMapper.toResponseModel(any(Report.class)))
+                .thenReturn(mockResponse);
+
+        reportService.updateReport("REP-123", validRequest, "admin", "ADMIN");
+
+        verify(inventoryReservationService).adjust(Map.of("PART-1", 5), Map.of("PART-1", 3));
+    }
+
+    @Test
+    void updateReport_reportWithoutReservation_leavesStockAlone() {
+        Part part = new Part();
+        part.setPartIdentifier(new PartIdentifier("PART-1"));
+
+        ReportPart existingPart = new ReportPart();
+        existingPart.setReport(report);
+        existingPart.setPart(part);
+        existingPart.setQuantity(5);
+        existingPart.setPrice(BigDecimal.valueOf(30.0));
+        report.getReportParts().add(existingPart);
+        report.setStockReserved(null);
+
+        ReportRequestModel.ReportPartRequestModel partRequest = ReportRequestModel.ReportPartRequestModel.builder()
+                .partId("PART-1")
+                .quantity(3)
+                .price(BigDecimal.valueOf(30.0))
+                .build();
+        validRequest.setParts(List.of(partRequest));
+
+        when(reportRepository.findReportByReportIdentifier_ReportId("REP-123"))
+                .thenReturn(report);
+        when(partRepository.findPartByPartIdentifier_PartId("PART-1"))
+                .thenReturn(part);
+        when(reportRepository.save(any(Report.class)))
+                .thenReturn(report);
+        when(responseMapper.toResponseModel(any(Report.class)))
+                .thenReturn(mockResponse);
+
+        reportService.updateReport("REP-123", validRequest, "admin", "ADMIN");
+
+        verify(inventoryReservationService, never()).adjust(any(), any());
+    }
+
     // ==================== DELETE TESTS ====================
 
+    @Test
+    void deleteReport_withParts_releasesStock() {
+        Part part = new Part();
+        part.setPartIdentifier(new PartIdentifier("PART-1"));
+
+        ReportPart usedPart = new ReportPart();
+        usedPart.setReport(report);
+        usedPart.setPart(part);
+        usedPart.setQuantity(4);
+        usedPart.setPrice(BigDecimal.valueOf(30.0));
+        report.getReportParts().add(usedPart);
+        report.setStockReserved(true);
+
+        when(reportRepository.findReportByReportIdentifier_ReportId("REP-123"))
+                .thenReturn(report);
+
+        reportService.deleteReport("REP-123", "admin", "ADMIN");
+
+        verify(inventoryReservationService).release(Map.of("PART-1", 4));
+        verify(reportRepository).delete(report);
+    }
+
+    @Test
+    void deleteReport_reportWithoutReservation_leavesStockAlone() {
+        Part part = new Part();
+        part.setPartIdentifier(new PartIdentifier("PART-1"));
+
+        ReportPart usedPart = new ReportPart();
+        usedPart.setReport(report);
+        usedPart.setPart(part);
+        usedPart.setQuantity(4);
+        usedPart.setPrice(BigDecimal.valueOf(30.0));
+        report.getReportParts().add(usedPart);
+        report.setStockReserved(null);
+
+        when(reportRepository.findReportByReportIdentifier_ReportId("REP-123"))
+                .thenReturn(report);
+
+        reportService.deleteReport("REP-123", "admin", "ADMIN");
+
+        verify(inventoryReservationService, never()).release(any());
+        verify(reportRepository).delete(report);
+    }
+
     @Test
     void deleteReport_adminRole_deletesSuccessfully() {
         when(reportRepository.findReportByReportIdentifier_ReportId("REP-123"))
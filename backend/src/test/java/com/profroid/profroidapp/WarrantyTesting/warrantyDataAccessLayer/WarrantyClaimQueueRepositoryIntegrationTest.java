@@ -0,0 +1,143 @@
+package com.profroid.profroidapp.WarrantyTesting.warrantyDataAccessLayer;
+
+import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaim;
+import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaimQueueFilter;
+import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaimQueueRepository;
+import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaimRepository;
+import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaimStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(WarrantyClaimQueueRepository.class)
+public class WarrantyClaimQueueRepositoryIntegrationTest {
+
+    private static final WarrantyClaimQueueFilter NO_FILTER = new WarrantyClaimQueueFilter(null, null, null, null);
+    private static final Instant BASE = Instant.parse("2025-06-01T12:00:00Z");
+
+    @Autowired
+    private WarrantyClaimQueueRepository queueRepository;
+
+    @Autowired
+    private WarrantyClaimRepository claimRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<WarrantyClaim> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        WarrantyClaimStatus[] statuses = {WarrantyClaimStatus.PENDING, WarrantyClaimStatus.IN_REVIEW, WarrantyClaimStatus.RESOLVED};
+        for (int i = 0; i < 60; i++) {
+            // Pairs of claims share a creation time, so the keyset has to break ties on id
+            saveClaim(i, statuses[i % 3], i % 2 == 0 ? "tech-1" : "tech-2", BASE.minus(i / 2, ChronoUnit.DAYS));
+        }
+        entityManager.clear();
+    }
+
+    private void saveClaim(int index, WarrantyClaimStatus status, String assignedTo, Instant createdAt) {
+        WarrantyClaim claim = new WarrantyClaim();
+        claim.setClaimId("WC-" + index);
+        claim.setCustomerName("Customer " + index);
+        claim.setCustomerEmail("customer" + index + "@example.com");
+        claim.setCustomerPhone("514-555-0100");
+        claim.setProductName("Wine Cellar 200");
+        claim.setPurchaseDate(LocalDate.of(2024, 1, 1));
+        claim.setIssueDescription("Compressor noise");
+        claim.setStatus(status);
+        claim.setAssignedTo(assignedTo);
+        WarrantyClaim savedClaim = claimRepository.saveAndFlush(claim);
+        // createdAt is set by Hibernate on insert, so move it afterwards
+        jdbcTemplate.update("UPDATE warranty_claims SET created_at = ? WHERE id = ?",
+                Timestamp.from(createdAt), savedClaim.getId());
+        saved.add(savedClaim);
+    }
+
+    @Test
+    void findPage_walkingWithKeyset_returnsEveryClaimOnceNewestFirst() {
+        List<WarrantyClaim> walked = new ArrayList<>();
+        Instant afterCreatedAt = null;
+        Long afterId = null;
+        List<WarrantyClaim> page;
+        do {
+            page = queueRepository.findPage(NO_FILTER, afterCreatedAt, afterId, 7);
+            walked.addAll(page);
+            if (!page.isEmpty()) {
+                afterCreatedAt = page.get(page.size() - 1).getCreatedAt();
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == 7);
+
+        assertEquals(60, walked.size());
+        assertEquals(60, walked.stream().map(WarrantyClaim::getId).distinct().count());
+        for (int i = 1; i < walked.size(); i++) {
+            WarrantyClaim previous = walked.get(i - 1);
+            WarrantyClaim current = walked.get(i);
+            int byDate = current.getCreatedAt().compareTo(previous.getCreatedAt());
+            assertTrue(byDate < 0 || (byDate == 0 && current.getId() < previous.getId()));
+        }
+    }
+
+    @Test
+    void findPage_withFilters_returnsOnlyMatchingClaims() {
+        WarrantyClaimQueueFilter filter = new WarrantyClaimQueueFilter(
+                WarrantyClaimStatus.PENDING, "tech-1", BASE.minus(10, ChronoUnit.DAYS), BASE.plusSeconds(1));
+
+        List<WarrantyClaim> claims = queueRepository.findPage(filter, null, null, 100);
+
+        // Indexes 0..21 fall in the range; PENDING is every 3rd and tech-1 every 2nd, i.e. 0, 6, 12, 18
+        assertEquals(List.of("WC-0", "WC-6", "WC-12", "WC-18"), claims.stream().map(WarrantyClaim::getClaimId).toList());
+    }
+
+    @Test
+    void countByStatus_groupsAllStatusesAndIgnoresStatusFilter() {
+        Map<WarrantyClaimStatus, Long> counts = queueRepository.countByStatus(
+                new WarrantyClaimQueueFilter(WarrantyClaimStatus.PENDING, "tech-2", null, null));
+
+        assertEquals(10L, counts.get(WarrantyClaimStatus.PENDING));
+        assertEquals(10L, counts.get(WarrantyClaimStatus.IN_REVIEW));
+        assertEquals(10L, counts.get(WarrantyClaimStatus.RESOLVED));
+        assertEquals(0L, counts.get(WarrantyClaimStatus.APPROVED));
+        assertEquals(WarrantyClaimStatus.values().length, counts.size());
+    }
+
+    @Test
+    void queuePlans_useCompositeIndexes() {
+        jdbcTemplate.execute("ANALYZE");
+
+        String byStatus = explain("SELECT * FROM warranty_claims WHERE status = 'PENDING' "
+                + "AND (created_at < TIMESTAMP '2025-05-20 00:00:00' "
+                + "OR (created_at = TIMESTAMP '2025-05-20 00:00:00' AND id < 40)) "
+                + "ORDER BY created_at DESC, id DESC LIMIT 21");
+        String byAssignee = explain("SELECT * FROM warranty_claims WHERE assigned_to = 'tech-1' "
+                + "ORDER BY created_at DESC, id DESC LIMIT 21");
+
+        assertTrue(byStatus.contains("IDX_WARRANTY_STATUS_CREATED"), byStatus);
+        assertTrue(byAssignee.contains("IDX_WARRANTY_ASSIGNED_CREATED"), byAssignee);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toUpperCase();
+    }
+}
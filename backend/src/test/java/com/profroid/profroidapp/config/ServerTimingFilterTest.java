@@ -0,0 +1,44 @@
+package com.profroid.profroidapp.config;
+
+import com.profroid.profroidapp.utils.metrics.ServerTiming;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ServerTimingFilterTest {
+
+    private final ServerTimingFilter filter = new ServerTimingFilter();
+
+    @Test
+    void doFilter_addsServerTimingHeaderWithPhases() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/appointments/availability");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            ServerTiming.add(ServerTiming.Phase.DB, 5_000_000);
+            res.getWriter().write("[]");
+        });
+
+        String header = response.getHeader(ServerTiming.HEADER);
+        assertNotNull(header);
+        assertTrue(header.startsWith("db;desc=\"Database\";dur=5.0, app;dur="), header);
+        assertNull(ServerTiming.current());
+    }
+
+    @Test
+    void doFilter_whenChainFlushesBody_addsHeaderBeforeCommit() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/files/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            ServerTiming.add(ServerTiming.Phase.STORAGE, 1_000_000);
+            res.getOutputStream().write(new byte[]{1, 2, 3});
+            res.flushBuffer();
+        });
+
+        assertTrue(response.isCommitted());
+        assertTrue(response.getHeader(ServerTiming.HEADER).startsWith("storage;"));
+    }
+}
@@ -0,0 +1,179 @@
+package com.profroid.profroidapp.config;
+
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeDataAccessLayer.*;
+import com.profroid.profroidapp.employeesubdomain.dataAccessLayer.employeeScheduleDataAccessLayer.*;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.Job;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.JobIdentifier;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.JobRepository;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.JobType;
+import com.profroid.profroidapp.utils.sqlbudget.SqlStatementRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Runs each @SqlBudget endpoint against a realistic amount of data with strict mode on and
+// checks the statement count the interceptor recorded. MockMvc runs the request on the test
+// thread, so the recording is finished by the time perform returns.
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "sql-budget.strict=true")
+public class SqlBudgetEndpointsIntegrationTest {
+
+    private static final int JOBS = 12;
+    private static final LocalDate OVERRIDE_DATE = LocalDate.of(2025, 12, 8); // a Monday
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlBudgetInterceptor sqlBudgetInterceptor;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    private String jobId;
+    private String employeeId;
+
+    @BeforeEach
+    void setup() {
+        scheduleRepository.deleteAll();
+        employeeRepository.deleteAll();
+        jobRepository.deleteAll();
+
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < JOBS; i++) {
+            Job job = new Job();
+            job.setJobIdentifier(new JobIdentifier());
+            job.setJobName("Job " + i);
+            job.setJobDescription("Description " + i);
+            job.setHourlyRate(75.00);
+            job.setEstimatedDurationMinutes(120);
+            job.setJobType(JobType.values()[i % JobType.values().length]);
+            job.setActive(true);
+            jobs.add(job);
+        }
+        jobId = jobRepository.saveAll(jobs).get(0).getJobIdentifier().getJobId();
+
+        Employee technician = new Employee();
+        technician.setEmployeeIdentifier(new EmployeeIdentifier());
+        technician.setFirstName("Tech");
+        technician.setLastName("Nician");
+        technician.setUserId("technician");
+
+        EmployeePhoneNumber phone = new EmployeePhoneNumber();
+        phone.setType(EmployeePhoneType.MOBILE);
+        phone.setNumber("514-111-1111");
+        technician.setPhoneNumbers(Collections.singletonList(phone));
+
+        technician.setEmployeeAddress(EmployeeAddress.builder()
+                .streetAddress("100 Tech St")
+                .city("Montreal")
+                .province("Quebec")
+                .country("Canada")
+                .postalCode("H1T 1T1")
+                .build());
+
+        EmployeeRole role = new EmployeeRole();
+        role.setEmployeeRoleType(EmployeeRoleType.TECHNICIAN);
+        technician.setEmployeeRole(role);
+
+        technician = employeeRepository.save(technician);
+        employeeId = technician.getEmployeeIdentifier().getEmployeeId();
+
+        // A full working week of template slots plus a date-specific override
+        List<Schedule> schedules = new ArrayList<>();
+        for (DayOfWeekType day : List.of(DayOfWeekType.MONDAY, DayOfWeekType.TUESDAY, DayOfWeekType.WEDNESDAY,
+                DayOfWeekType.THURSDAY, DayOfWeekType.FRIDAY)) {
+            for (TimeSlotType slot : TimeSlotType.values()) {
+                schedules.add(schedule(technician, day, slot, null));
+            }
+        }
+        schedules.add(schedule(technician, DayOfWeekType.MONDAY, TimeSlotType.NINE_AM, OVERRIDE_DATE));
+        schedules.add(schedule(technician, DayOfWeekType.MONDAY, TimeSlotType.ONE_PM, OVERRIDE_DATE));
+        scheduleRepository.saveAll(schedules);
+
+        sqlBudgetInterceptor.drainRecordings();
+    }
+
+    @AfterEach
+    void cleanup() {
+        scheduleRepository.deleteAll();
+        employeeRepository.deleteAll();
+        jobRepository.deleteAll();
+    }
+
+    @Test
+    void getAllJobs_staysWithinBudget() throws Exception {
+        mockMvc.perform(get("/v1/jobs")).andExpect(status().isOk());
+
+        assertWithinBudget("JobController.getAllJobs");
+    }
+
+    @Test
+    void getJobById_staysWithinBudget() throws Exception {
+        mockMvc.perform(get("/v1/jobs/{jobId}", jobId)).andExpect(status().isOk());
+
+        assertWithinBudget("JobController.getJobById");
+    }
+
+    @Test
+    void getEmployeeSchedule_staysWithinBudget() throws Exception {
+        mockMvc.perform(get("/v1/employees/{employeeId}/schedules", employeeId)).andExpect(status().isOk());
+
+        assertWithinBudget("EmployeeScheduleController.getEmployeeSchedule");
+    }
+
+    @Test
+    void getEmployeeScheduleForDate_staysWithinBudget() throws Exception {
+        mockMvc.perform(get("/v1/employees/{employeeId}/schedules", employeeId)
+                        .param("date", OVERRIDE_DATE.toString()))
+                .andExpect(status().isOk());
+
+        assertWithinBudget("EmployeeScheduleController.getEmployeeSchedule");
+    }
+
+    private void assertWithinBudget(String handler) {
+        List<SqlStatementRecorder.Recording> recordings = sqlBudgetInterceptor.drainRecordings();
+        assertEquals(1, recordings.size());
+        SqlStatementRecorder.Recording recording = recordings.get(0);
+        assertTrue(recording.getEndpoint().contains(handler), recording.getEndpoint());
+        assertTrue(recording.getStatements() <= recording.getBudget(),
+                recording.getEndpoint() + " ran " + recording.getStatements() + " SQL statements, budget "
+                        + recording.getBudget() + ":\n" + recording.topFingerprints(5));
+    }
+
+    private static Schedule schedule(Employee employee, DayOfWeekType day, TimeSlotType slot, LocalDate specificDate) {
+        Schedule schedule = new Schedule();
+        DayOfWeek dayOfWeek = new DayOfWeek();
+        dayOfWeek.setDayOfWeek(day);
+        schedule.setDayOfWeek(dayOfWeek);
+        TimeSlot timeSlot = new TimeSlot();
+        timeSlot.setTimeslot(slot);
+        schedule.setTimeSlot(timeSlot);
+        schedule.setEmployee(employee);
+        schedule.setSpecificDate(specificDate);
+        return schedule;
+    }
+}
@@ -0,0 +1,120 @@
+package com.profroid.profroidapp.config;
+
+import com.profroid.profroidapp.utils.sqlbudget.SqlBudget;
+import com.profroid.profroidapp.utils.sqlbudget.SqlStatementRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SqlBudgetInterceptorTest {
+
+    private final SqlStatementRecorder inspector = new SqlStatementRecorder();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void cleanup() {
+        SqlStatementRecorder.stop();
+    }
+
+    @Test
+    void overAnnotatedBudget_recordsViolationWithRepeatedStatement() throws Exception {
+        SqlBudgetInterceptor interceptor = new SqlBudgetInterceptor(true, 0, true);
+        MockHttpServletRequest request = request("/v1/jobs");
+        HandlerMethod handler = handler("listJobs");
+
+        interceptor.preHandle(request, response, handler);
+        inspector.inspect("select j1_0.id from job j1_0");
+        for (int id = 1; id <= 3; id++) {
+            inspector.inspect("select c1_0.id from cellar c1_0 where c1_0.id=" + id);
+        }
+        interceptor.afterCompletion(request, response, handler, null);
+
+        List<String> violations = interceptor.drainViolations();
+        assertEquals(1, violations.size());
+        assertTrue(violations.get(0).startsWith("GET /v1/jobs (Endpoints.listJobs) ran more than 2 SQL statements"),
+                violations.get(0));
+        assertTrue(violations.get(0).contains("2x select c1_0.id from cellar c1_0 where c1_0.id=?"), violations.get(0));
+        assertTrue(interceptor.drainViolations().isEmpty());
+    }
+
+    @Test
+    void withinBudget_recordsNothing() throws Exception {
+        SqlBudgetInterceptor interceptor = new SqlBudgetInterceptor(true, 0, true);
+        MockHttpServletRequest request = request("/v1/jobs");
+        HandlerMethod handler = handler("listJobs");
+
+        interceptor.preHandle(request, response, handler);
+        inspector.inspect("select j1_0.id from job j1_0");
+        inspector.inspect("select j1_0.id from job j1_0");
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertTrue(interceptor.drainViolations().isEmpty());
+    }
+
+    @Test
+    void withoutAnnotation_usesDefaultBudget() throws Exception {
+        SqlBudgetInterceptor interceptor = new SqlBudgetInterceptor(true, 1, true);
+        MockHttpServletRequest request = request("/v1/parts");
+        HandlerMethod handler = handler("listParts");
+
+        interceptor.preHandle(request, response, handler);
+        inspector.inspect("select p1_0.id from part p1_0");
+        inspector.inspect("select p1_0.id from part p1_0");
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertEquals(1, interceptor.drainViolations().size());
+    }
+
+    @Test
+    void notStrict_onlyLogs() throws Exception {
+        SqlBudgetInterceptor interceptor = new SqlBudgetInterceptor(true, 0, false);
+        MockHttpServletRequest request = request("/v1/jobs");
+        HandlerMethod handler = handler("listJobs");
+
+        interceptor.preHandle(request, response, handler);
+        for (int i = 0; i < 5; i++) {
+            inspector.inspect("select j1_0.id from job j1_0");
+        }
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertTrue(interceptor.drainViolations().isEmpty());
+        assertNull(SqlStatementRecorder.stop());
+    }
+
+    @Test
+    void disabled_recordsNothing() throws Exception {
+        SqlBudgetInterceptor interceptor = new SqlBudgetInterceptor(false, 1, true);
+        MockHttpServletRequest request = request("/v1/jobs");
+        HandlerMethod handler = handler("listJobs");
+
+        interceptor.preHandle(request, response, handler);
+        assertNull(SqlStatementRecorder.stop());
+    }
+
+    private static MockHttpServletRequest request(String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Endpoints(), Endpoints.class.getMethod(name));
+    }
+
+    static class Endpoints {
+
+        @SqlBudget(2)
+        public void listJobs() {
+        }
+
+        public void listParts() {
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.profroid.profroidapp.config;
+
+import org.springframework.core.Ordered;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+import java.util.List;
+import java.util.Optional;
+
+// Fails a test when a controller call it made went over its SQL budget (see SqlBudgetInterceptor).
+// Registered for every Spring test in META-INF/spring.factories; only contexts that turn on
+// sql-budget.strict record overruns, and contexts without the interceptor (repository
+// slices, mocked controllers) are left alone.
+public class SqlBudgetTestExecutionListener extends AbstractTestExecutionListener {
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public void beforeTestMethod(TestContext testContext) {
+        // Drop overruns and recordings from requests of an earlier test that finished after it
+        drainViolations(testContext);
+        interceptor(testContext).ifPresent(SqlBudgetInterceptor::drainRecordings);
+    }
+
+    @Override
+    public void afterTestMethod(TestContext testContext) {
+        if (testContext.getTestException() != null) {
+            return;
+        }
+        List<String> violations = drainViolations(testContext);
+        if (!violations.isEmpty()) {
+            throw new AssertionError("SQL budget exceeded:\n" + String.join("\n", violations));
+        }
+    }
+
+    private static List<String> drainViolations(TestContext testContext) {
+        return interceptor(testContext).map(SqlBudgetInterceptor::drainViolations).orElse(List.of());
+    }
+
+    private static Optional<SqlBudgetInterceptor> interceptor(TestContext testContext) {
+        if (!testContext.hasApplicationContext()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(testContext.getApplicationContext()
+                .getBeanProvider(SqlBudgetInterceptor.class)
+                .getIfAvailable());
+    }
+}
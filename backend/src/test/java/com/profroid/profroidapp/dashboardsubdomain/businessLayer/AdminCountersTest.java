@@ -0,0 +1,94 @@
+package com.profroid.profroidapp.dashboardsubdomain.businessLayer;
+
+import com.profroid.profroidapp.contactsubdomain.dataAccessLayer.ContactMessageRepository;
+import com.profroid.profroidapp.dashboardsubdomain.presentationLayer.AdminCountsResponseModel;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ReviewRepository;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ReviewStatus;
+import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaimRepository;
+import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaimStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AdminCountersTest {
+
+    @Mock
+    private ContactMessageRepository contactMessageRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private WarrantyClaimRepository warrantyClaimRepository;
+
+    @Mock
+    private AdminEventBroadcaster broadcaster;
+
+    private AdminCounters counters;
+
+    @BeforeEach
+    void setup() {
+        counters = new AdminCounters(contactMessageRepository, reviewRepository, warrantyClaimRepository,
+                broadcaster, 60_000);
+        when(contactMessageRepository.countByIsReadAndDuplicateOfIsNull(false)).thenReturn(3L);
+        when(reviewRepository.countByStatus(ReviewStatus.PENDING)).thenReturn(2L);
+        when(warrantyClaimRepository.countByStatus(WarrantyClaimStatus.PENDING)).thenReturn(1L);
+        counters.reconcile();
+        clearInvocations(broadcaster);
+    }
+
+    @Test
+    void reconcile_loadsCountsFromDatabase() {
+        AdminCountsResponseModel counts = counters.getCounts();
+
+        assertEquals(3, counts.getUnreadMessages());
+        assertEquals(2, counts.getPendingReviews());
+        assertEquals(1, counts.getPendingWarrantyClaims());
+    }
+
+    @Test
+    void adjust_outsideTransaction_appliesAndPublishesCounts() {
+        counters.adjustAfterCommit(AdminCounter.UNREAD_MESSAGES, 1);
+
+        assertEquals(4, counters.get(AdminCounter.UNREAD_MESSAGES));
+        verify(broadcaster).publish(eq(AdminCounters.COUNTS_EVENT), any(AdminCountsResponseModel.class));
+    }
+
+    @Test
+    void transition_countsOnlyMovesInOrOutOfCountedState() {
+        counters.transitionAfterCommit(AdminCounter.PENDING_REVIEWS, ReviewStatus.PENDING, ReviewStatus.PENDING, ReviewStatus.APPROVED);
+        counters.transitionAfterCommit(AdminCounter.PENDING_REVIEWS, ReviewStatus.PENDING, ReviewStatus.APPROVED, ReviewStatus.REJECTED);
+        counters.transitionAfterCommit(AdminCounter.PENDING_REVIEWS, ReviewStatus.PENDING, null, ReviewStatus.PENDING);
+        counters.transitionAfterCommit(AdminCounter.PENDING_REVIEWS, ReviewStatus.PENDING, null, ReviewStatus.PENDING);
+
+        assertEquals(3, counters.get(AdminCounter.PENDING_REVIEWS));
+        verify(broadcaster, times(3)).publish(eq(AdminCounters.COUNTS_EVENT), any());
+    }
+
+    @Test
+    void reconcile_correctsDriftAndPublishesOnlyWhenChanged() {
+        counters.reconcile();
+        verify(broadcaster, never()).publish(any(), any());
+
+        when(warrantyClaimRepository.countByStatus(WarrantyClaimStatus.PENDING)).thenReturn(5L);
+        counters.reconcile();
+
+        assertEquals(5, counters.get(AdminCounter.PENDING_WARRANTY_CLAIMS));
+        verify(broadcaster).publish(eq(AdminCounters.COUNTS_EVENT), any());
+    }
+
+    @Test
+    void announce_publishesNewItemEvent() {
+        counters.announceAfterCommit("REVIEW", "REV-1", "Jane Doe");
+
+        verify(broadcaster).publish(eq(AdminCounters.NEW_ITEM_EVENT), any());
+    }
+}
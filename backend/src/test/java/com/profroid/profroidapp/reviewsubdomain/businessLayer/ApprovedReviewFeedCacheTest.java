@@ -0,0 +1,132 @@
+package com.profroid.profroidapp.reviewsubdomain.businessLayer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.Review;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ReviewRepository;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ReviewStatus;
+import com.profroid.profroidapp.reviewsubdomain.mappingLayer.ReviewResponseMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ApprovedReviewFeedCacheTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private ApprovedReviewFeedCache cache;
+
+    @BeforeEach
+    void setup() {
+        cache = new ApprovedReviewFeedCache(reviewRepository, new ReviewResponseMapper(), objectMapper, 30);
+    }
+
+    private Review review(String reviewId, int rating, Instant createdAt) {
+        Review review = new Review();
+        review.setReviewId(reviewId);
+        review.setRating(rating);
+        review.setCustomerName("Customer " + reviewId);
+        review.setComment("Comment " + reviewId);
+        review.setStatus(ReviewStatus.APPROVED);
+        review.setCreatedAt(createdAt);
+        return review;
+    }
+
+    private List<Review> approvedReviews() {
+        Instant now = Instant.now();
+        List<Review> reviews = new ArrayList<>();
+        reviews.add(review("REV-1", 5, now.minus(Duration.ofDays(1))));
+        reviews.add(review("REV-2", 4, now.minus(Duration.ofDays(10))));
+        reviews.add(review("REV-3", 5, now.minus(Duration.ofDays(40))));
+        reviews.add(review("REV-4", 2, now.minus(Duration.ofDays(90))));
+        return reviews;
+    }
+
+    @Test
+    void getPage_calledTwice_queriesDatabaseOnceAndReturnsSameBytes() {
+        when(reviewRepository.findByStatusOrderByCreatedAtDesc(ReviewStatus.APPROVED)).thenReturn(approvedReviews());
+
+        ApprovedReviewFeedCache.CachedJson first = cache.getPage(null, null);
+        ApprovedReviewFeedCache.CachedJson second = cache.getPage(null, null);
+
+        assertSame(first, second);
+        assertEquals(4, first.totalCount());
+        assertTrue(first.etag().startsWith("\"") && first.etag().endsWith("\""));
+        verify(reviewRepository, times(1)).findByStatusOrderByCreatedAtDesc(ReviewStatus.APPROVED);
+    }
+
+    @Test
+    void getPage_returnsRequestedSliceNewestFirst() throws Exception {
+        when(reviewRepository.findByStatusOrderByCreatedAtDesc(ReviewStatus.APPROVED)).thenReturn(approvedReviews());
+
+        JsonNode page = objectMapper.readTree(cache.getPage(1, 3).body());
+        JsonNode beyond = objectMapper.readTree(cache.getPage(5, 3).body());
+
+        assertEquals(1, page.size());
+        assertEquals("REV-4", page.get(0).get("reviewId").asText());
+        assertEquals(0, beyond.size());
+    }
+
+    @Test
+    void onReviewChanged_involvingApproved_reloadsFeed() {
+        when(reviewRepository.findByStatusOrderByCreatedAtDesc(ReviewStatus.APPROVED))
+                .thenReturn(approvedReviews())
+                .thenReturn(approvedReviews().subList(0, 2));
+
+        ApprovedReviewFeedCache.CachedJson before = cache.getPage(null, null);
+        cache.onReviewChanged(ReviewStatus.APPROVED, ReviewStatus.REJECTED);
+        ApprovedReviewFeedCache.CachedJson after = cache.getPage(null, null);
+
+        assertEquals(2, after.totalCount());
+        assertNotEquals(before.etag(), after.etag());
+        verify(reviewRepository, times(2)).findByStatusOrderByCreatedAtDesc(ReviewStatus.APPROVED);
+    }
+
+    @Test
+    void onReviewChanged_notInvolvingApproved_keepsFeed() {
+        when(reviewRepository.findByStatusOrderByCreatedAtDesc(ReviewStatus.APPROVED)).thenReturn(approvedReviews());
+
+        cache.getPage(null, null);
+        cache.onReviewChanged(null, ReviewStatus.PENDING);
+        cache.onReviewChanged(ReviewStatus.PENDING, ReviewStatus.REJECTED);
+        cache.getPage(null, null);
+
+        verify(reviewRepository, times(1)).findByStatusOrderByCreatedAtDesc(ReviewStatus.APPROVED);
+    }
+
+    @Test
+    void getSummary_computesAggregatesFromSnapshot() throws Exception {
+        when(reviewRepository.findByStatusOrderByCreatedAtDesc(ReviewStatus.APPROVED)).thenReturn(approvedReviews());
+
+        JsonNode summary = objectMapper.readTree(cache.getSummary().body());
+
+        assertEquals(4, summary.get("totalCount").asLong());
+        assertEquals(4.0, summary.get("averageRating").asDouble());
+        assertEquals(2, summary.get("countByRating").get("5").asLong());
+        assertEquals(0, summary.get("countByRating").get("3").asLong());
+        assertEquals(2, summary.get("recentCount").asLong());
+        assertEquals(30, summary.get("recentDays").asInt());
+
+        cache.getPage(0, 2);
+        verify(reviewRepository, times(1)).findByStatusOrderByCreatedAtDesc(ReviewStatus.APPROVED);
+    }
+}
@@ -0,0 +1,109 @@
+package com.profroid.profroidapp.reviewsubdomain.businessLayer;
+
+import com.profroid.profroidapp.reviewsubdomain.utils.ProfanityMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProfanityFilterServiceTest {
+
+    private ProfanityFilterService profanityFilterService;
+
+    @BeforeEach
+    void setup() {
+        profanityFilterService = new ProfanityFilterService();
+    }
+
+    @Test
+    void containsProfanity_cleanText_returnsFalse() {
+        assertFalse(profanityFilterService.containsProfanity("Great service, the technician was on time and very helpful."));
+        assertFalse(profanityFilterService.containsProfanity("Excellent travail, merci beaucoup!"));
+        assertFalse(profanityFilterService.containsProfanity(null));
+        assertFalse(profanityFilterService.containsProfanity("   "));
+    }
+
+    @Test
+    void containsProfanity_wordInsideLongerWord_returnsFalse() {
+        assertFalse(profanityFilterService.containsProfanity("He said hello to the class assistant"));
+        assertFalse(profanityFilterService.containsProfanity("The shell of the compressor"));
+    }
+
+    @Test
+    void containsProfanity_plainWord_returnsTrue() {
+        assertTrue(profanityFilterService.containsProfanity("This is shit"));
+        assertTrue(profanityFilterService.containsProfanity("quel bordel"));
+    }
+
+    @Test
+    void containsProfanity_obfuscatedWord_returnsTrue() {
+        assertTrue(profanityFilterService.containsProfanity("what the fuuuuck"));
+        assertTrue(profanityFilterService.containsProfanity("SH1T service"));
+        assertTrue(profanityFilterService.containsProfanity("you are a b1tch"));
+        assertTrue(profanityFilterService.containsProfanity("fvck this"));
+        assertTrue(profanityFilterService.containsProfanity("sh|t happens"));
+        assertTrue(profanityFilterService.containsProfanity("bullshit"));
+    }
+
+    @Test
+    void containsProfanity_accentedFrenchWord_returnsTrue() {
+        assertTrue(profanityFilterService.containsProfanity("espèce d'enculé"));
+        assertTrue(profanityFilterService.containsProfanity("ENCULÉ"));
+    }
+
+    @Test
+    void containsProfanity_multiWordPhrase_returnsTrue() {
+        assertTrue(profanityFilterService.containsProfanity("ferme ta gueule"));
+        assertTrue(profanityFilterService.containsProfanity("son   of a bitch"));
+    }
+
+    @Test
+    void findProfanity_returnsDistinctWordsInOrder() {
+        List<String> found = profanityFilterService.findProfanity("merde, shit and merde again");
+
+        assertEquals(List.of("merde", "shit"), found);
+    }
+
+    @Test
+    void scan_returnsOffsetsInOriginalText() {
+        String text = "oh shiiiit.";
+
+        List<ProfanityMatcher.Match> matches = profanityFilterService.scan(text);
+
+        assertEquals(1, matches.size());
+        assertEquals("shiiiit", text.substring(matches.get(0).start(), matches.get(0).end()));
+    }
+
+    @Test
+    void censorProfanity_replacesOnlyTheMatchedCharacters() {
+        assertEquals("This is **** and ******* too", profanityFilterService.censorProfanity("This is shit and SHIIIIT too"));
+        assertEquals("Clean text", profanityFilterService.censorProfanity("Clean text"));
+    }
+
+    @Test
+    void validateText_withProfanity_throwsProfanityException() {
+        assertThrows(ProfanityException.class, () -> profanityFilterService.validateText("putain"));
+        assertDoesNotThrow(() -> profanityFilterService.validateText("Merci pour le service"));
+    }
+
+    @Test
+    void reloadDictionary_picksUpWordsFromFile(@TempDir Path tempDir) throws Exception {
+        Path dictionary = tempDir.resolve("profanity.txt");
+        Files.writeString(dictionary, "# custom words\nfrobnicate\n");
+
+        ProfanityFilterService service = new ProfanityFilterService(dictionary.toString(), 0);
+        assertTrue(service.containsProfanity("do not frobnicate"));
+        assertFalse(service.containsProfanity("do not wibble"));
+
+        Files.writeString(dictionary, "frobnicate\nwibble\n");
+        Files.setLastModifiedTime(dictionary, FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+
+        assertTrue(service.containsProfanity("do not wibble"));
+    }
+}
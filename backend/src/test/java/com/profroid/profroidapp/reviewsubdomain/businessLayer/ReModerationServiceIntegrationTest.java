@@ -0,0 +1,187 @@
+package com.profroid.profroidapp.reviewsubdomain.businessLayer;
+
+import com.profroid.profroidapp.contactsubdomain.dataAccessLayer.ContactMessage;
+import com.profroid.profroidapp.contactsubdomain.dataAccessLayer.ContactMessageRepository;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ModerationCheckpoint;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ModerationCheckpointRepository;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ModerationSource;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.Review;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ReviewRepository;
+import com.profroid.profroidapp.reviewsubdomain.dataAccessLayer.ReviewStatus;
+import com.profroid.profroidapp.reviewsubdomain.presentationLayer.ReModerationStatusResponseModel;
+import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaim;
+import com.profroid.profroidapp.warrantysubdomain.dataAccessLayer.WarrantyClaimRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "moderation.rescan.chunk-size=2")
+public class ReModerationServiceIntegrationTest {
+
+    @Autowired
+    private ReModerationService reModerationService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ContactMessageRepository contactMessageRepository;
+
+    @Autowired
+    private WarrantyClaimRepository warrantyClaimRepository;
+
+    @Autowired
+    private ModerationCheckpointRepository checkpointRepository;
+
+    @BeforeEach
+    void setup() {
+        cleanup();
+    }
+
+    @AfterEach
+    void cleanup() {
+        reviewRepository.deleteAll();
+        contactMessageRepository.deleteAll();
+        warrantyClaimRepository.deleteAll();
+        checkpointRepository.deleteAll();
+    }
+
+    private Review saveReview(String comment, ReviewStatus status, boolean flagged) {
+        Review review = new Review();
+        review.setReviewId("REV-" + UUID.randomUUID().toString().substring(0, 8));
+        review.setRating(4);
+        review.setCustomerName("Jane Doe");
+        review.setComment(comment);
+        review.setStatus(status);
+        review.setProfanityFlagged(flagged);
+        return reviewRepository.save(review);
+    }
+
+    private ContactMessage saveMessage(String message) {
+        ContactMessage contactMessage = new ContactMessage();
+        contactMessage.setMessageId(UUID.randomUUID().toString());
+        contactMessage.setName("John Smith");
+        contactMessage.setEmail("john@example.com");
+        contactMessage.setSubject("Cellar repair");
+        contactMessage.setMessage(message);
+        contactMessage.setIpAddress("127.0.0.1");
+        return contactMessageRepository.save(contactMessage);
+    }
+
+    private WarrantyClaim saveClaim(String issue) {
+        WarrantyClaim claim = new WarrantyClaim();
+        claim.setClaimId("WC-" + UUID.randomUUID().toString().substring(0, 8));
+        claim.setCustomerName("Marie Tremblay");
+        claim.setCustomerEmail("marie@example.com");
+        claim.setCustomerPhone("514-555-0101");
+        claim.setProductName("Wine Cellar 200");
+        claim.setPurchaseDate(LocalDate.of(2025, 3, 1));
+        claim.setIssueDescription(issue);
+        return warrantyClaimRepository.save(claim);
+    }
+
+    private ReModerationStatusResponseModel runAndWait(boolean restart) throws InterruptedException {
+        reModerationService.startRescan(restart);
+        long deadline = System.currentTimeMillis() + 30_000;
+        ReModerationStatusResponseModel status = reModerationService.getStatus();
+        while (status.isRunning() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            status = reModerationService.getStatus();
+        }
+        assertFalse(status.isRunning(), "re-moderation run did not finish in time");
+        assertNull(status.getError());
+        return status;
+    }
+
+    @Test
+    void whenRescanning_thenProfaneRowsAreFlaggedAndApprovedReviewsHeld() throws Exception {
+        Review clean = saveReview("Great service, very professional", ReviewStatus.APPROVED, false);
+        Review dirty = saveReview("The old cellar was a piece of shit", ReviewStatus.APPROVED, false);
+        Review fixed = saveReview("Technician was on time", ReviewStatus.PENDING, true);
+        Review rejected = saveReview("quel bordel", ReviewStatus.REJECTED, false);
+        ContactMessage cleanMessage = saveMessage("My cellar is too warm");
+        ContactMessage dirtyMessage = saveMessage("Fix this fucking cellar");
+        WarrantyClaim dirtyClaim = saveClaim("The compressor is merde");
+
+        ReModerationStatusResponseModel status = runAndWait(true);
+
+        assertFalse(reviewRepository.findById(clean.getId()).orElseThrow().getProfanityFlagged());
+        assertEquals(ReviewStatus.APPROVED, reviewRepository.findById(clean.getId()).orElseThrow().getStatus());
+
+        Review heldReview = reviewRepository.findById(dirty.getId()).orElseThrow();
+        assertTrue(heldReview.getProfanityFlagged());
+        assertEquals(ReviewStatus.PENDING, heldReview.getStatus());
+
+        Review clearedReview = reviewRepository.findById(fixed.getId()).orElseThrow();
+        assertFalse(clearedReview.getProfanityFlagged());
+        assertEquals(ReviewStatus.PENDING, clearedReview.getStatus());
+
+        Review rejectedReview = reviewRepository.findById(rejected.getId()).orElseThrow();
+        assertTrue(rejectedReview.getProfanityFlagged());
+        assertEquals(ReviewStatus.REJECTED, rejectedReview.getStatus());
+
+        assertFalse(contactMessageRepository.findById(cleanMessage.getId()).orElseThrow().getProfanityFlagged());
+        assertTrue(contactMessageRepository.findById(dirtyMessage.getId()).orElseThrow().getProfanityFlagged());
+        assertTrue(warrantyClaimRepository.findById(dirtyClaim.getId()).orElseThrow().getProfanityFlagged());
+
+        assertEquals(7, status.getScanned());
+        assertEquals(4, status.getFlagged());
+        assertEquals(1, status.getCleared());
+        ReModerationStatusResponseModel.SourceStatus reviews = status.getSources().get(0);
+        assertEquals("REVIEWS", reviews.getSource());
+        assertEquals(2, reviews.getChunks());
+        assertTrue(reviews.isCompleted());
+
+        for (ModerationSource source : ModerationSource.values()) {
+            assertTrue(checkpointRepository.findById(source).orElseThrow().getCompleted());
+        }
+    }
+
+    @Test
+    void whenCheckpointIsIncomplete_thenRunResumesAfterLastId() throws Exception {
+        Review alreadyScanned = saveReview("shit", ReviewStatus.APPROVED, false);
+        Review notYetScanned = saveReview("bullshit", ReviewStatus.APPROVED, false);
+
+        // Simulates a run that stopped right after the first review was written back
+        Instant now = Instant.now();
+        checkpointRepository.save(new ModerationCheckpoint(
+                ModerationSource.REVIEWS, alreadyScanned.getId(), 1L, 0L, 0L, false, now, now));
+
+        ReModerationStatusResponseModel status = runAndWait(false);
+
+        assertFalse(reviewRepository.findById(alreadyScanned.getId()).orElseThrow().getProfanityFlagged());
+        assertTrue(reviewRepository.findById(notYetScanned.getId()).orElseThrow().getProfanityFlagged());
+        assertTrue(status.getSources().get(0).isResumed());
+        assertEquals(1, status.getSources().get(0).getScanned());
+
+        ModerationCheckpoint checkpoint = checkpointRepository.findById(ModerationSource.REVIEWS).orElseThrow();
+        assertEquals(2L, checkpoint.getScanned());
+        assertEquals(1L, checkpoint.getFlagged());
+        assertTrue(checkpoint.getCompleted());
+    }
+
+    @Test
+    void whenRestartRequested_thenCheckpointIsIgnored() throws Exception {
+        Review first = saveReview("shit", ReviewStatus.APPROVED, false);
+        saveReview("all good", ReviewStatus.APPROVED, false);
+
+        Instant now = Instant.now();
+        checkpointRepository.save(new ModerationCheckpoint(
+                ModerationSource.REVIEWS, first.getId(), 1L, 0L, 0L, false, now, now));
+
+        runAndWait(true);
+
+        assertTrue(reviewRepository.findById(first.getId()).orElseThrow().getProfanityFlagged());
+        assertEquals(2L, checkpointRepository.findById(ModerationSource.REVIEWS).orElseThrow().getScanned());
+    }
+}
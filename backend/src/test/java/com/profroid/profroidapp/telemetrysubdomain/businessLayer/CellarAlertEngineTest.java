@@ -0,0 +1,141 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+import com.profroid.profroidapp.appointmentsubdomain.businessLayer.AppointmentService;
+import com.profroid.profroidapp.appointmentsubdomain.presentationLayer.AppointmentResponseModel;
+import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.Cellar;
+import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.CellarRepository;
+import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.CellarType;
+import com.profroid.profroidapp.telemetrysubdomain.businessLayer.CellarAlertEngine.Phase;
+import com.profroid.profroidapp.telemetrysubdomain.businessLayer.CellarAlertEngine.RuleState;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.TelemetryReading;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CellarAlertEngineTest {
+
+    private static final String CELLAR_ID = "11111111-1111-1111-1111-111111111111";
+    private static final long MINUTE = 60_000;
+    private static final CellarAlertRule HUMIDITY_LOW = CellarAlertRule.parse("humidity < 50 for 30m clear 55");
+
+    @Mock
+    private CellarRepository cellarRepository;
+    @Mock
+    private AppointmentService appointmentService;
+
+    private CellarAlertEngine engine;
+
+    @BeforeEach
+    void setup() {
+        CellarAlertRules rules = new CellarAlertRules(
+                new MockEnvironment().withProperty("telemetry.alerts.rules.PROFESSIONAL", "temperature > 16 for 20m clear 15"),
+                "humidity < 50 for 30m clear 55; temperature > 18 for 30m clear 17");
+        engine = new CellarAlertEngine(cellarRepository, rules, appointmentService, 360);
+    }
+
+    @Test
+    void advance_firesOnlyAfterSustainedBreach() {
+        RuleState state = new RuleState();
+
+        assertFalse(engine.advance(HUMIDITY_LOW, state, 0, 45));
+        assertEquals(Phase.PENDING, state.phase);
+        assertFalse(engine.advance(HUMIDITY_LOW, state, 20 * MINUTE, 46));
+        assertTrue(engine.advance(HUMIDITY_LOW, state, 30 * MINUTE, 47));
+        assertEquals(Phase.FIRING, state.phase);
+        // Still out of range: no second alert
+        assertFalse(engine.advance(HUMIDITY_LOW, state, 31 * MINUTE, 44));
+    }
+
+    @Test
+    void advance_shortDipRecovers_doesNotFire() {
+        RuleState state = new RuleState();
+
+        engine.advance(HUMIDITY_LOW, state, 0, 45);
+        engine.advance(HUMIDITY_LOW, state, 10 * MINUTE, 52);
+        assertEquals(Phase.OK, state.phase);
+        assertFalse(engine.advance(HUMIDITY_LOW, state, 30 * MINUTE, 45));
+        assertEquals(Phase.PENDING, state.phase);
+    }
+
+    @Test
+    void advance_firingRule_clearsOnlyPastClearThreshold() {
+        RuleState state = new RuleState();
+        engine.advance(HUMIDITY_LOW, state, 0, 45);
+        engine.advance(HUMIDITY_LOW, state, 30 * MINUTE, 45);
+
+        // Between threshold and clear threshold: stays firing
+        engine.advance(HUMIDITY_LOW, state, 31 * MINUTE, 52);
+        assertEquals(Phase.FIRING, state.phase);
+        engine.advance(HUMIDITY_LOW, state, 32 * MINUTE, 56);
+        assertEquals(Phase.OK, state.phase);
+    }
+
+    @Test
+    void advance_refiringWithinCooldown_isDeduplicated() {
+        RuleState state = new RuleState();
+        assertFalse(engine.advance(HUMIDITY_LOW, state, 0, 45));
+        assertTrue(engine.advance(HUMIDITY_LOW, state, 30 * MINUTE, 45));
+        engine.advance(HUMIDITY_LOW, state, 40 * MINUTE, 60);
+
+        engine.advance(HUMIDITY_LOW, state, 50 * MINUTE, 45);
+        assertFalse(engine.advance(HUMIDITY_LOW, state, 80 * MINUTE, 45));
+        assertEquals(Phase.FIRING, state.phase);
+
+        // Cleared, then breached again after the six hour cooldown
+        engine.advance(HUMIDITY_LOW, state, 400 * MINUTE, 60);
+        engine.advance(HUMIDITY_LOW, state, 410 * MINUTE, 45);
+        assertTrue(engine.advance(HUMIDITY_LOW, state, 440 * MINUTE, 45));
+    }
+
+    @Test
+    void advance_gapLongerThanSustain_restartsPendingWindow() {
+        RuleState state = new RuleState();
+        engine.advance(HUMIDITY_LOW, state, 0, 45);
+
+        assertFalse(engine.advance(HUMIDITY_LOW, state, 45 * MINUTE, 45));
+        assertEquals(45 * MINUTE, state.since);
+        // Late reading from before the last one is ignored
+        assertFalse(engine.advance(HUMIDITY_LOW, state, 10 * MINUTE, 80));
+        assertEquals(Phase.PENDING, state.phase);
+    }
+
+    @Test
+    void observe_usesRulesOfCellarTypeAndOpensDraftAppointment() {
+        Cellar cellar = new Cellar();
+        cellar.setName("Basement");
+        cellar.setCellarType(CellarType.PROFESSIONAL);
+        cellar.setIsDeleted(false);
+        when(cellarRepository.findCellarByCellarIdentifier_CellarId(CELLAR_ID)).thenReturn(cellar);
+        when(appointmentService.createDraftMaintenanceAppointment(eq(CELLAR_ID), anyString()))
+                .thenReturn(Optional.of(new AppointmentResponseModel()));
+
+        // 17 °C breaches the professional rule (16) but not the default one (18)
+        for (int minute = 0; minute <= 20; minute += 5) {
+            engine.observe(new TelemetryReading(CELLAR_ID, "device", minute * MINUTE, 17.0, 70.0));
+        }
+
+        assertEquals(1, engine.getFiredCount());
+        verify(appointmentService, timeout(2000))
+                .createDraftMaintenanceAppointment(eq(CELLAR_ID), contains("temperature above 16°C"));
+        verify(cellarRepository, times(1)).findCellarByCellarIdentifier_CellarId(CELLAR_ID);
+    }
+
+    @Test
+    void rules_malformedRule_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CellarAlertRule.parse("humidity below 50"));
+        // Clearing at 45 would clear while still under the 50 threshold
+        assertThrows(IllegalArgumentException.class, () -> CellarAlertRule.parse("humidity < 50 for 30m clear 45"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.CellarReadingRollupRepository;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.CellarReadingRollupRepository.Rollup;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.CellarReadingRollupRepository.Stats;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.RollupResolution;
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryHistoryResponseModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CellarChartBuilderTest {
+
+    private static final String CELLAR_ID = "11111111-1111-1111-1111-111111111111";
+
+    @Mock
+    private CellarTimeSeriesStore timeSeriesStore;
+    @Mock
+    private CellarReadingRollupRepository rollupRepository;
+
+    @InjectMocks
+    private CellarChartBuilder chartBuilder;
+
+    @Test
+    void resolutionFor_picksCoarsestResolutionWithEnoughBuckets() {
+        assertNull(CellarChartBuilder.resolutionFor(Duration.ofDays(1).toSeconds(), 300));
+        assertEquals(RollupResolution.FIVE_MINUTES, CellarChartBuilder.resolutionFor(Duration.ofDays(7).toSeconds(), 300));
+        assertEquals(RollupResolution.HOUR, CellarChartBuilder.resolutionFor(Duration.ofDays(30).toSeconds(), 300));
+        assertEquals(RollupResolution.DAY, CellarChartBuilder.resolutionFor(Duration.ofDays(365).toSeconds(), 300));
+    }
+
+    @Test
+    void build_yearWindow_readsDailyRollupsAndCapsPoints() {
+        Instant to = Instant.parse("2026-03-01T00:00:00Z");
+        Instant from = to.minus(Duration.ofDays(365));
+        List<Rollup> days = new ArrayList<>();
+        for (int i = 0; i < 365; i++) {
+            long start = from.getEpochSecond() + i * 86_400L;
+            days.add(new Rollup(CELLAR_ID, RollupResolution.DAY, start, new Stats(4, 6 + i % 3, 10 * 5, 10), Stats.EMPTY));
+        }
+        when(rollupRepository.findRange(eq(CELLAR_ID), eq(RollupResolution.DAY), anyLong(), anyLong())).thenReturn(days);
+
+        TelemetryHistoryResponseModel chart = chartBuilder.build(CELLAR_ID, from, to, 300);
+
+        assertEquals("DAY", chart.getResolution());
+        assertEquals(300, chart.getPoints().size());
+        assertEquals(from, chart.getPoints().get(0).getTime());
+        assertEquals(5.0, chart.getPoints().get(0).getTemperatureAvg());
+        assertEquals(4.0, chart.getPoints().get(0).getTemperatureMin());
+        assertNull(chart.getPoints().get(0).getHumidityAvg());
+        verifyNoInteractions(timeSeriesStore);
+    }
+
+    @Test
+    void build_shortWindow_usesRawReadings() {
+        Instant to = Instant.parse("2026-03-01T12:00:00Z");
+        Instant from = to.minus(Duration.ofHours(2));
+        when(timeSeriesStore.query(CELLAR_ID, from.toEpochMilli(), to.toEpochMilli())).thenReturn(List.of(
+                new TelemetryPoint(from.plusSeconds(60).toEpochMilli(), null, 70.0),
+                new TelemetryPoint(from.plusSeconds(120).toEpochMilli(), 5.0, 71.0)));
+
+        TelemetryHistoryResponseModel chart = chartBuilder.build(CELLAR_ID, from, to, 300);
+
+        assertEquals(CellarChartBuilder.RAW, chart.getResolution());
+        assertEquals(2, chart.getPoints().size());
+        assertNull(chart.getPoints().get(0).getTemperatureAvg());
+        assertEquals(70.0, chart.getPoints().get(0).getHumidityMax());
+        assertEquals(5.0, chart.getPoints().get(1).getTemperatureMax());
+        verifyNoInteractions(rollupRepository);
+    }
+}
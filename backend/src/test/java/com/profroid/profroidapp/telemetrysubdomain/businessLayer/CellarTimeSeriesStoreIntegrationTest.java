@@ -0,0 +1,95 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.CellarReadingChunkRepository;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.TelemetryReading;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two stores on one table stand in for two nodes behind the load balancer receiving
+// readings of the same cellar; every write commits on its own, as on the writer thread
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(CellarReadingChunkRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CellarTimeSeriesStoreIntegrationTest {
+
+    private static final String CELLAR_ID = "11111111-1111-1111-1111-111111111111";
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 1);
+    private static final long DAY_START = Instant.parse("2026-03-01T00:00:00Z").toEpochMilli();
+
+    @Autowired
+    private CellarReadingChunkRepository chunkRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM cellar_reading_chunks");
+    }
+
+    private static TelemetryReading reading(long recordedAt, double temperature) {
+        return new TelemetryReading(CELLAR_ID, "device", recordedAt, temperature, 70.0);
+    }
+
+    private CellarTimeSeriesStore node() {
+        return new CellarTimeSeriesStore(chunkRepository, 60_000);
+    }
+
+    private List<Long> storedTimes() {
+        return node().query(CELLAR_ID, DAY_START, DAY_START + 3_600_000).stream()
+                .map(TelemetryPoint::recordedAt)
+                .toList();
+    }
+
+    @Test
+    void twoNodesWritingTheSameCellar_keepEachOthersPoints() {
+        CellarTimeSeriesStore nodeA = node();
+        CellarTimeSeriesStore nodeB = node();
+        nodeA.append(reading(DAY_START + 60_000, 12.0));
+        nodeB.append(reading(DAY_START + 120_000, 12.1));
+        nodeA.append(reading(DAY_START + 180_000, 12.2));
+        nodeB.append(reading(DAY_START + 240_000, 12.3));
+
+        // A inserts the day; B's insert finds the row and merges into it
+        nodeA.persistDue(true);
+        nodeB.persistDue(true);
+        // A's next write is over a version B has moved past
+        nodeA.append(reading(DAY_START + 300_000, 12.4));
+        nodeA.persistDue(true);
+
+        assertEquals(List.of(DAY_START + 60_000, DAY_START + 120_000, DAY_START + 180_000,
+                DAY_START + 240_000, DAY_START + 300_000), storedTimes());
+        assertEquals(3, chunkRepository.find(CELLAR_ID, DAY).version());
+        // Each node continues from the merged chunk
+        assertEquals(4, nodeB.query(CELLAR_ID, DAY_START, DAY_START + 3_600_000).size());
+        assertEquals(5, nodeA.query(CELLAR_ID, DAY_START, DAY_START + 3_600_000).size());
+    }
+
+    @Test
+    void readingSentToBothNodes_isStoredOnce() {
+        CellarTimeSeriesStore nodeA = node();
+        CellarTimeSeriesStore nodeB = node();
+        nodeA.append(reading(DAY_START + 60_000, 12.0));
+        nodeB.append(reading(DAY_START + 60_000, 12.0));
+        nodeB.append(reading(DAY_START + 120_000, 12.1));
+
+        nodeA.persistDue(true);
+        nodeB.persistDue(true);
+
+        assertEquals(List.of(DAY_START + 60_000, DAY_START + 120_000), storedTimes());
+    }
+}
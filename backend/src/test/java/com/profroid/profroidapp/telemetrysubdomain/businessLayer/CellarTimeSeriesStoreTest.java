@@ -0,0 +1,208 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.CellarReadingChunkRepository;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.CellarReadingChunkRepository.StoredChunk;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.TelemetryReading;
+import com.profroid.profroidapp.utils.timeseries.GorillaDecoder;
+import com.profroid.profroidapp.utils.timeseries.GorillaEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CellarTimeSeriesStoreTest {
+
+    private static final String CELLAR_ID = "11111111-1111-1111-1111-111111111111";
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 1);
+    private static final long DAY_START = Instant.parse("2026-03-01T00:00:00Z").toEpochMilli();
+
+    @Mock
+    private CellarReadingChunkRepository chunkRepository;
+
+    private CellarTimeSeriesStore store;
+
+    @BeforeEach
+    void setup() {
+        store = new CellarTimeSeriesStore(chunkRepository, 60_000);
+    }
+
+    private static TelemetryReading reading(long recordedAt, Double temperature, Double humidity) {
+        return new TelemetryReading(CELLAR_ID, "device", recordedAt, temperature, humidity);
+    }
+
+    @Test
+    void query_beforePersist_readsHeadChunk() {
+        store.append(reading(DAY_START + 60_000, 12.5, 70.0));
+        store.append(reading(DAY_START + 120_000, null, 71.0));
+        // Out of order within the head: merged in place
+        store.append(reading(DAY_START + 90_000, 12.6, 70.5));
+
+        List<TelemetryPoint> points = store.query(CELLAR_ID, DAY_START, DAY_START + 3_600_000);
+
+        assertEquals(List.of(
+                new TelemetryPoint(DAY_START + 60_000, 12.5, 70.0),
+                new TelemetryPoint(DAY_START + 90_000, 12.6, 70.5),
+                new TelemetryPoint(DAY_START + 120_000, null, 71.0)), points);
+        verify(chunkRepository, never()).updateAll(anyList());
+    }
+
+    @Test
+    void persistDue_newChunk_isInsertedOnceAndNotRewrittenWhenClean() {
+        when(chunkRepository.updateAll(anyList())).thenReturn(new int[]{0});
+        store.append(reading(DAY_START + 60_000, 12.5, 70.0));
+
+        store.persistDue(true);
+        store.persistDue(true);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StoredChunk>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(chunkRepository, times(1)).updateAll(anyList());
+        verify(chunkRepository).insertAll(inserted.capture());
+        StoredChunk chunk = inserted.getValue().get(0);
+        assertEquals(DAY, chunk.day());
+        assertEquals(1, chunk.pointCount());
+        assertEquals((DAY_START + 60_000) / 1000, chunk.firstTime());
+    }
+
+    @Test
+    void persistDue_latePointForPreviousDay_isMergedIntoStoredChunk() {
+        GorillaEncoder existing = new GorillaEncoder(2);
+        existing.append(DAY_START / 1000 + 600, 11.0, 68.0);
+        long stored = DAY_START / 1000 + 600;
+        when(chunkRepository.find(CELLAR_ID, DAY.plusDays(1))).thenReturn(null);
+        when(chunkRepository.find(CELLAR_ID, DAY)).thenReturn(
+                new StoredChunk(CELLAR_ID, DAY, stored, stored, 1, existing.toBytes(), 1));
+        when(chunkRepository.updateAll(anyList())).thenAnswer(invocation -> {
+            int[] counts = new int[invocation.<List<?>>getArgument(0).size()];
+            Arrays.fill(counts, 1);
+            return counts;
+        });
+
+        store.append(reading(DAY_START + 86_400_000 + 60_000, 12.0, 70.0));
+        store.append(reading(DAY_START + 300_000, 10.5, 67.0));
+        store.persistDue(true);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StoredChunk>> updated = ArgumentCaptor.forClass(List.class);
+        verify(chunkRepository).updateAll(updated.capture());
+        StoredChunk merged = updated.getValue().stream()
+                .filter(chunk -> chunk.day().equals(DAY))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2, merged.pointCount());
+        GorillaDecoder decoder = new GorillaDecoder(merged.data());
+        assertTrue(decoder.next());
+        assertEquals((DAY_START + 300_000) / 1000, decoder.time());
+        assertTrue(decoder.next());
+        assertEquals(stored, decoder.time());
+        assertEquals(1, merged.version());
+        verify(chunkRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void persistDue_chunkChangedByAnotherNode_isReReadAndMerged() {
+        long stored = DAY_START / 1000 + 600;
+        GorillaEncoder ours = new GorillaEncoder(2);
+        ours.append(stored, 11.0, 68.0);
+        when(chunkRepository.find(CELLAR_ID, DAY)).thenReturn(
+                new StoredChunk(CELLAR_ID, DAY, stored, stored, 1, ours.toBytes(), 1));
+        store.append(reading(DAY_START + 900_000, 12.0, 70.0));
+
+        // Meanwhile another node added a point and moved the row to version 2
+        GorillaEncoder theirs = new GorillaEncoder(2);
+        theirs.append(stored, 11.0, 68.0);
+        theirs.append(stored + 60, 11.5, 69.0);
+        when(chunkRepository.find(CELLAR_ID, DAY)).thenReturn(
+                new StoredChunk(CELLAR_ID, DAY, stored, stored + 60, 2, theirs.toBytes(), 2));
+        when(chunkRepository.updateAll(anyList())).thenReturn(new int[]{0}, new int[]{1});
+
+        store.persistDue(true);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StoredChunk>> updated = ArgumentCaptor.forClass(List.class);
+        verify(chunkRepository, times(2)).updateAll(updated.capture());
+        StoredChunk merged = updated.getAllValues().get(1).get(0);
+        assertEquals(2, merged.version());
+        assertEquals(3, merged.pointCount());
+        assertEquals(3, store.query(CELLAR_ID, DAY_START, DAY_START + 3_600_000).size());
+    }
+
+    @Test
+    void persistDue_batchSentTwice_storesAndReturnsEachPointOnce() {
+        when(chunkRepository.updateAll(anyList())).thenReturn(new int[]{0});
+        List<TelemetryReading> batch = List.of(
+                reading(DAY_START + 60_000, 12.5, 70.0),
+                reading(DAY_START + 120_000, null, 71.0));
+
+        batch.forEach(store::append);
+        batch.forEach(store::append);
+        Map<String, List<TelemetryPoint>> written = store.persistDue(true);
+
+        assertEquals(Map.of(CELLAR_ID, List.of(
+                new TelemetryPoint(DAY_START + 60_000, 12.5, 70.0),
+                new TelemetryPoint(DAY_START + 120_000, null, 71.0))), written);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StoredChunk>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(chunkRepository).insertAll(inserted.capture());
+        assertEquals(2, inserted.getValue().get(0).pointCount());
+    }
+
+    @Test
+    void persistDue_lateBatchSentAgain_returnsOnlyPointsNotStoredYet() {
+        long stored = DAY_START / 1000 + 600;
+        GorillaEncoder existing = new GorillaEncoder(2);
+        existing.append(stored, 11.0, 68.0);
+        when(chunkRepository.find(CELLAR_ID, DAY.plusDays(1))).thenReturn(null);
+        when(chunkRepository.find(CELLAR_ID, DAY)).thenReturn(
+                new StoredChunk(CELLAR_ID, DAY, stored, stored, 1, existing.toBytes(), 1));
+        when(chunkRepository.updateAll(anyList())).thenAnswer(invocation -> {
+            int[] counts = new int[invocation.<List<?>>getArgument(0).size()];
+            Arrays.fill(counts, 1);
+            return counts;
+        });
+
+        store.append(reading(DAY_START + 86_400_000 + 60_000, 12.0, 70.0));
+        // Retried batch for the previous day: one reading is already stored, one is new
+        store.append(reading(DAY_START + 600_000, 11.0, 68.0));
+        store.append(reading(DAY_START + 300_000, 10.5, 67.0));
+        Map<String, List<TelemetryPoint>> written = store.persistDue(true);
+
+        assertEquals(2, written.get(CELLAR_ID).size());
+        assertTrue(written.get(CELLAR_ID).contains(new TelemetryPoint(DAY_START + 300_000, 10.5, 67.0)));
+        assertTrue(written.get(CELLAR_ID).contains(new TelemetryPoint(DAY_START + 86_400_000 + 60_000, 12.0, 70.0)));
+    }
+
+    @Test
+    void persistDue_readingAnotherNodeAlreadyStored_isNotReturned() {
+        long time = DAY_START / 1000 + 900;
+        when(chunkRepository.find(CELLAR_ID, DAY)).thenReturn(null);
+        store.append(reading(DAY_START + 900_000, 12.0, 70.0));
+
+        // The device sent the same batch to another node, which stored it first
+        GorillaEncoder theirs = new GorillaEncoder(2);
+        theirs.append(time, 12.0, 70.0);
+        theirs.append(time + 60, 12.1, 70.2);
+        when(chunkRepository.find(CELLAR_ID, DAY)).thenReturn(
+                new StoredChunk(CELLAR_ID, DAY, time, time + 60, 2, theirs.toBytes(), 1));
+        when(chunkRepository.updateAll(anyList())).thenReturn(new int[]{0}, new int[]{1});
+        doThrow(new DataIntegrityViolationException("duplicate chunk")).when(chunkRepository).insertAll(anyList());
+
+        Map<String, List<TelemetryPoint>> written = store.persistDue(true);
+
+        assertEquals(Map.of(CELLAR_ID, List.of()), written);
+    }
+}
@@ -0,0 +1,56 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryReadingRequestModel;
+import com.profroid.profroidapp.utils.exceptions.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TelemetryBinaryCodecTest {
+
+    private static final Instant START = Instant.parse("2026-01-15T08:00:00Z");
+
+    private TelemetryReadingRequestModel reading(long secondsAfterStart, Double temperature, Double humidity) {
+        return new TelemetryReadingRequestModel(START.plusSeconds(secondsAfterStart), temperature, humidity);
+    }
+
+    @Test
+    void encodeThenDecode_roundTripsReadingsToHundredths() {
+        List<TelemetryReadingRequestModel> readings = List.of(
+                reading(0, 12.5, 68.25),
+                reading(60, -3.07, null),
+                reading(120, null, 71.0));
+
+        byte[] payload = TelemetryBinaryCodec.encode(readings);
+        List<TelemetryReadingRequestModel> decoded = TelemetryBinaryCodec.decode(payload);
+
+        assertEquals(readings, decoded);
+        // 11-byte header, then 3 bytes of time delta and 4 of values per minute-spaced reading
+        assertEquals(11 + 1 + 4 + 2 * (3 + 4), payload.length);
+    }
+
+    @Test
+    void decode_emptyBatch_returnsNoReadings() {
+        assertTrue(TelemetryBinaryCodec.decode(TelemetryBinaryCodec.encode(List.of())).isEmpty());
+    }
+
+    @Test
+    void decode_truncatedPayload_throwsInvalidOperation() {
+        byte[] payload = TelemetryBinaryCodec.encode(List.of(reading(0, 12.0, 60.0), reading(60, 12.1, 60.2)));
+
+        assertThrows(InvalidOperationException.class,
+                () -> TelemetryBinaryCodec.decode(Arrays.copyOf(payload, payload.length - 2)));
+    }
+
+    @Test
+    void decode_unknownVersion_throwsInvalidOperation() {
+        byte[] payload = TelemetryBinaryCodec.encode(List.of(reading(0, 12.0, 60.0)));
+        payload[0] = 9;
+
+        assertThrows(InvalidOperationException.class, () -> TelemetryBinaryCodec.decode(payload));
+    }
+}
@@ -0,0 +1,196 @@
+package com.profroid.profroidapp.telemetrysubdomain.businessLayer;
+
+import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.Cellar;
+import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.CellarIdentifier;
+import com.profroid.profroidapp.cellarsubdomain.dataAccessLayer.CellarRepository;
+import com.profroid.profroidapp.customersubdomain.dataAccessLayer.Customer;
+import com.profroid.profroidapp.customersubdomain.dataAccessLayer.CustomerIdentifier;
+import com.profroid.profroidapp.customersubdomain.dataAccessLayer.CustomerRepository;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.TelemetryDevice;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.TelemetryDeviceRepository;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.TelemetryReading;
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryDeviceResponseModel;
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryIngestResponseModel;
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryReadingRequestModel;
+import com.profroid.profroidapp.telemetrysubdomain.presentationLayer.TelemetryReadingResponseModel;
+import com.profroid.profroidapp.utils.exceptions.InvalidOperationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TelemetryServiceImplTest {
+
+    private static final String CELLAR_ID = "11111111-1111-1111-1111-111111111111";
+    private static final String OWNER_ID = "22222222-2222-2222-2222-222222222222";
+    private static final String DEVICE_ID = "33333333-3333-3333-3333-333333333333";
+    private static final String TOKEN = "device-token";
+
+    @Mock
+    private TelemetryDeviceRepository deviceRepository;
+    @Mock
+    private CellarRepository cellarRepository;
+    @Mock
+    private CustomerRepository customerRepository;
+    @Mock
+    private TelemetryWriter telemetryWriter;
+    @Mock
+    private CellarTimeSeriesStore timeSeriesStore;
+    @Mock
+    private CellarChartBuilder chartBuilder;
+
+    private TelemetryDeviceAuthenticator authenticator;
+    private TelemetryServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        authenticator = new TelemetryDeviceAuthenticator(deviceRepository, cellarRepository, 60_000);
+        service = new TelemetryServiceImpl(deviceRepository, cellarRepository, customerRepository,
+                authenticator, telemetryWriter, timeSeriesStore, chartBuilder, 1000, 168, 7, 400);
+    }
+
+    private Cellar cellar(String ownerId) {
+        Cellar cellar = new Cellar();
+        cellar.setCellarIdentifier(new CellarIdentifier(CELLAR_ID));
+        cellar.setOwnerCustomerIdentifier(new CustomerIdentifier(ownerId));
+        cellar.setIsDeleted(false);
+        return cellar;
+    }
+
+    private void registeredDevice(String ownerAtRegistration, String cellarOwner) {
+        TelemetryDevice device = new TelemetryDevice();
+        device.setDeviceId(DEVICE_ID);
+        device.setCellarId(CELLAR_ID);
+        device.setOwnerCustomerId(ownerAtRegistration);
+        device.setTokenHash(TelemetryDeviceAuthenticator.hashHex(TOKEN));
+        device.setIsActive(true);
+        when(deviceRepository.findByDeviceId(DEVICE_ID)).thenReturn(Optional.of(device));
+        when(cellarRepository.findCellarByCellarIdentifier_CellarId(CELLAR_ID)).thenReturn(cellar(cellarOwner));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void ingestReadings_queuesValidReadingsAndCountsRejected() {
+        registeredDevice(OWNER_ID, OWNER_ID);
+        when(telemetryWriter.offer(anyList())).thenReturn(true);
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        TelemetryIngestResponseModel response = service.ingestReadings(CELLAR_ID, DEVICE_ID, TOKEN, List.of(
+                new TelemetryReadingRequestModel(now.minusSeconds(60), 12.5, 70.0),
+                new TelemetryReadingRequestModel(now, null, 68.0),
+                new TelemetryReadingRequestModel(now, 400.0, 70.0),
+                new TelemetryReadingRequestModel(now.plusSeconds(3600), 12.0, 70.0),
+                new TelemetryReadingRequestModel(now, null, null)));
+
+        assertEquals(2, response.getAccepted());
+        assertEquals(3, response.getRejected());
+        ArgumentCaptor<List<TelemetryReading>> queued = ArgumentCaptor.forClass(List.class);
+        verify(telemetryWriter).offer(queued.capture());
+        assertEquals(new TelemetryReading(CELLAR_ID, DEVICE_ID, now.minusSeconds(60).toEpochMilli(), 12.5, 70.0),
+                queued.getValue().get(0));
+    }
+
+    @Test
+    void ingestReadings_secondBatch_isAuthenticatedFromCache() {
+        registeredDevice(OWNER_ID, OWNER_ID);
+        when(telemetryWriter.offer(anyList())).thenReturn(true);
+        List<TelemetryReadingRequestModel> batch = List.of(new TelemetryReadingRequestModel(null, 12.0, 70.0));
+
+        service.ingestReadings(CELLAR_ID, DEVICE_ID, TOKEN, batch);
+        service.ingestReadings(CELLAR_ID, DEVICE_ID, TOKEN, batch);
+
+        verify(deviceRepository, times(1)).findByDeviceId(DEVICE_ID);
+    }
+
+    @Test
+    void ingestReadings_wrongToken_isDeniedWithoutQueueing() {
+        registeredDevice(OWNER_ID, OWNER_ID);
+
+        assertThrows(AccessDeniedException.class, () -> service.ingestReadings(CELLAR_ID, DEVICE_ID, "guess",
+                List.of(new TelemetryReadingRequestModel(null, 12.0, 70.0))));
+        verifyNoInteractions(telemetryWriter);
+    }
+
+    @Test
+    void ingestReadings_cellarTransferredToAnotherCustomer_isDenied() {
+        registeredDevice(OWNER_ID, "44444444-4444-4444-4444-444444444444");
+
+        assertThrows(AccessDeniedException.class, () -> service.ingestReadings(CELLAR_ID, DEVICE_ID, TOKEN,
+                List.of(new TelemetryReadingRequestModel(null, 12.0, 70.0))));
+    }
+
+    @Test
+    void ingestReadings_bufferFull_throwsBackpressure() {
+        registeredDevice(OWNER_ID, OWNER_ID);
+        when(telemetryWriter.offer(anyList())).thenReturn(false);
+
+        assertThrows(TelemetryBufferFullException.class, () -> service.ingestReadings(CELLAR_ID, DEVICE_ID, TOKEN,
+                List.of(new TelemetryReadingRequestModel(null, 12.0, 70.0))));
+    }
+
+    @Test
+    void registerDevice_byOwner_returnsTokenAndStoresOnlyItsHash() {
+        when(cellarRepository.findCellarByCellarIdentifier_CellarId(CELLAR_ID)).thenReturn(cellar(OWNER_ID));
+        Customer owner = new Customer();
+        owner.setCustomerIdentifier(new CustomerIdentifier(OWNER_ID));
+        when(customerRepository.findCustomerByUserId("user-1")).thenReturn(owner);
+        when(deviceRepository.save(any(TelemetryDevice.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TelemetryDeviceResponseModel response = service.registerDevice(CELLAR_ID, "user-1", false);
+
+        ArgumentCaptor<TelemetryDevice> saved = ArgumentCaptor.forClass(TelemetryDevice.class);
+        verify(deviceRepository).save(saved.capture());
+        assertNotNull(response.getToken());
+        assertEquals(TelemetryDeviceAuthenticator.hashHex(response.getToken()), saved.getValue().getTokenHash());
+        assertEquals(OWNER_ID, saved.getValue().getOwnerCustomerId());
+    }
+
+    @Test
+    void registerDevice_byAnotherCustomer_isDenied() {
+        when(cellarRepository.findCellarByCellarIdentifier_CellarId(CELLAR_ID)).thenReturn(cellar(OWNER_ID));
+        Customer other = new Customer();
+        other.setCustomerIdentifier(new CustomerIdentifier("44444444-4444-4444-4444-444444444444"));
+        when(customerRepository.findCustomerByUserId("user-2")).thenReturn(other);
+
+        assertThrows(AccessDeniedException.class, () -> service.registerDevice(CELLAR_ID, "user-2", false));
+        verify(deviceRepository, never()).save(any());
+    }
+
+    @Test
+    void getReadings_byTechnician_returnsStoredPoints() {
+        when(cellarRepository.findCellarByCellarIdentifier_CellarId(CELLAR_ID)).thenReturn(cellar(OWNER_ID));
+        Instant to = Instant.parse("2026-03-02T12:00:00Z");
+        Instant from = to.minus(6, ChronoUnit.HOURS);
+        when(timeSeriesStore.query(CELLAR_ID, from.toEpochMilli(), to.toEpochMilli()))
+                .thenReturn(List.of(new TelemetryPoint(from.plusSeconds(60).toEpochMilli(), 12.5, null)));
+
+        List<TelemetryReadingResponseModel> readings = service.getReadings(CELLAR_ID, from, to, "tech-user", true);
+
+        assertEquals(1, readings.size());
+        assertEquals(from.plusSeconds(60), readings.get(0).getRecordedAt());
+        assertEquals(12.5, readings.get(0).getTemperature());
+        assertNull(readings.get(0).getHumidity());
+    }
+
+    @Test
+    void getReadings_rangeTooLong_throwsInvalidOperation() {
+        when(cellarRepository.findCellarByCellarIdentifier_CellarId(CELLAR_ID)).thenReturn(cellar(OWNER_ID));
+        Instant to = Instant.parse("2026-03-02T12:00:00Z");
+
+        assertThrows(InvalidOperationException.class,
+                () -> service.getReadings(CELLAR_ID, to.minus(8, ChronoUnit.DAYS), to, "admin-user", true));
+        verifyNoInteractions(timeSeriesStore);
+    }
+}
@@ -0,0 +1,61 @@
+package com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer;
+
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.CellarReadingRollupRepository.Rollup;
+import com.profroid.profroidapp.telemetrysubdomain.dataAccessLayer.CellarReadingRollupRepository.Stats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(CellarReadingRollupRepository.class)
+public class CellarReadingRollupRepositoryIntegrationTest {
+
+    private static final String CELLAR_ID = "11111111-1111-1111-1111-111111111111";
+    private static final long BUCKET = 1_772_323_200L;
+
+    @Autowired
+    private CellarReadingRollupRepository rollupRepository;
+
+    @Test
+    void addAll_mergesIntoExistingBucketAndCreatesMissingOnes() {
+        rollupRepository.addAll(List.of(
+                new Rollup(CELLAR_ID, RollupResolution.HOUR, BUCKET, new Stats(10, 12, 22, 2), Stats.EMPTY)));
+
+        rollupRepository.addAll(List.of(
+                new Rollup(CELLAR_ID, RollupResolution.HOUR, BUCKET, new Stats(9, 11, 20, 2), new Stats(70, 72, 142, 2)),
+                new Rollup(CELLAR_ID, RollupResolution.HOUR, BUCKET + 3_600, new Stats(13, 13, 13, 1), Stats.EMPTY)));
+
+        List<Rollup> stored = rollupRepository.findRange(CELLAR_ID, RollupResolution.HOUR, BUCKET, BUCKET + 3_600);
+
+        assertEquals(2, stored.size());
+        Rollup merged = stored.get(0);
+        assertEquals(BUCKET, merged.bucketStart());
+        assertEquals(new Stats(9, 12, 42, 4), merged.temperature());
+        assertEquals(10.5, merged.temperature().average());
+        assertEquals(new Stats(70, 72, 142, 2), merged.humidity());
+
+        Rollup created = stored.get(1);
+        assertEquals(new Stats(13, 13, 13, 1), created.temperature());
+        assertEquals(0, created.humidity().count());
+        assertTrue(Double.isNaN(created.humidity().min()));
+    }
+
+    @Test
+    void findRange_onlyReturnsRequestedResolution() {
+        rollupRepository.addAll(List.of(
+                new Rollup(CELLAR_ID, RollupResolution.DAY, BUCKET, new Stats(10, 12, 22, 2), Stats.EMPTY),
+                new Rollup(CELLAR_ID, RollupResolution.HOUR, BUCKET, new Stats(10, 12, 22, 2), Stats.EMPTY)));
+
+        List<Rollup> days = rollupRepository.findRange(CELLAR_ID, RollupResolution.DAY, BUCKET - 86_400, BUCKET + 86_400);
+
+        assertEquals(1, days.size());
+        assertEquals(RollupResolution.DAY, days.get(0).resolution());
+    }
+}
@@ -0,0 +1,106 @@
+package com.profroid.profroidapp.utils.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MpscRingBufferTest {
+
+    @Test
+    void capacity_isRoundedUpToPowerOfTwo() {
+        assertEquals(8, new MpscRingBuffer<Integer>(5).capacity());
+        assertEquals(8, new MpscRingBuffer<Integer>(8).capacity());
+    }
+
+    @Test
+    void drain_returnsElementsInOfferOrder() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+        buffer.offer(1);
+        buffer.offerAll(List.of(2, 3, 4));
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(3, buffer.drain(drained::add, 3));
+        assertEquals(1, buffer.drain(drained::add, 10));
+
+        assertEquals(List.of(1, 2, 3, 4), drained);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void offerAll_whenBatchDoesNotFit_addsNothing() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        assertTrue(buffer.offerAll(List.of(1, 2, 3)));
+
+        assertFalse(buffer.offerAll(List.of(4, 5)));
+        assertEquals(3, buffer.size());
+        assertTrue(buffer.offer(4));
+        assertFalse(buffer.offer(5));
+    }
+
+    @Test
+    void offer_afterDrain_reusesFreedSlots() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        for (int lap = 0; lap < 10; lap++) {
+            assertTrue(buffer.offerAll(List.of(lap * 4, lap * 4 + 1, lap * 4 + 2, lap * 4 + 3)));
+            buffer.drain(drained::add, 4);
+        }
+        assertEquals(40, drained.size());
+        assertEquals(39, drained.get(39));
+    }
+
+    @Test
+    void concurrentProducers_everyAcceptedElementIsDrainedOnceAndBatchesStayContiguous() throws Exception {
+        int producers = 4;
+        int batchesPerProducer = 5_000;
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            pool.execute(() -> {
+                for (int b = 0; b < batchesPerProducer; b++) {
+                    List<long[]> batch = List.of(new long[]{producer, b, 0}, new long[]{producer, b, 1});
+                    while (!buffer.offerAll(batch)) {
+                        Thread.yield();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        long[] nextBatch = new long[producers];
+        List<long[]> drained = new ArrayList<>();
+        long expected = (long) producers * batchesPerProducer * 2;
+        long received = 0;
+        while (received < expected) {
+            drained.clear();
+            received += buffer.drain(drained::add, 100);
+            for (int i = 0; i < drained.size(); i++) {
+                long[] element = drained.get(i);
+                if (element[2] == 0) {
+                    // The second half of a batch always follows its first half
+                    assertEquals(nextBatch[(int) element[0]]++, element[1]);
+                }
+            }
+            if (drained.isEmpty() && done.getCount() == 0 && buffer.size() == 0) {
+                break;
+            }
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        pool.shutdown();
+        assertEquals(expected, received);
+        for (long count : nextBatch) {
+            assertEquals(batchesPerProducer, count);
+        }
+    }
+}
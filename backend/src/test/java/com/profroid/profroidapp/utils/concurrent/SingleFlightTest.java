@@ -0,0 +1,118 @@
+package com.profroid.profroidapp.utils.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest {
+
+    @Test
+    void execute_concurrentCallsForSameKey_shareOneComputation() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+        int callers = 4;
+
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> flights.execute("2026-10-20", () -> {
+                    computations.incrementAndGet();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return 42;
+                })));
+            }
+            // Every caller has arrived before the first computation is allowed to finish
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (flights.getCallCount() < callers && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(42, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, computations.get());
+        assertEquals(callers, flights.getCallCount());
+        assertEquals(1, flights.getExecutionCount());
+        assertEquals(0, flights.getInFlightCount());
+    }
+
+    @Test
+    void execute_sequentialCalls_computeEachTime() {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        AtomicInteger computations = new AtomicInteger();
+
+        assertEquals(1, flights.execute("key", computations::incrementAndGet));
+        assertEquals(2, flights.execute("key", computations::incrementAndGet));
+
+        assertEquals(2, flights.getExecutionCount());
+    }
+
+    @Test
+    void execute_differentKeys_doNotShare() {
+        SingleFlight<String, String> flights = new SingleFlight<>();
+
+        assertEquals("a", flights.execute("a", () -> "a"));
+        assertEquals("b", flights.execute("b", () -> "b"));
+
+        assertEquals(2, flights.getExecutionCount());
+    }
+
+    @Test
+    void execute_whenLoaderFails_propagatesToWaitersAndFreesKey() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> leader = pool.submit(() -> flights.execute("key", () -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("boom");
+            }));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (flights.getInFlightCount() == 0 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            Future<Integer> waiter = pool.submit(() -> flights.execute("key", () -> 1));
+            while (flights.getCallCount() < 2 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, leaderError.getCause());
+            Exception waiterError = assertThrows(Exception.class, () -> waiter.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, waiterError.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(0, flights.getInFlightCount());
+        assertEquals(7, flights.execute("key", () -> 7));
+    }
+}
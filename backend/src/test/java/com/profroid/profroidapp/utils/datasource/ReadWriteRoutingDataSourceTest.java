@@ -0,0 +1,151 @@
+package com.profroid.profroidapp.utils.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and the replica; each holds a row
+ * naming itself, so every read shows where it was routed.
+ */
+public class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaHealth replicaHealth;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_status (lag_seconds INT)");
+        new JdbcTemplate(replica).update("INSERT INTO replica_status VALUES (0)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (replicaHealth != null) {
+            replicaHealth.stop();
+        }
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(replica).execute("SHUTDOWN");
+    }
+
+    @Test
+    void readOnlyTransaction_readsFromReplica() {
+        Routing routing = routing(replica, "");
+
+        assertEquals("replica", routing.readOnly(null));
+    }
+
+    @Test
+    void readWriteTransaction_andNoTransaction_useThePrimary() {
+        Routing routing = routing(replica, "");
+
+        assertEquals("primary", routing.readWrite());
+        assertEquals("primary", routing.jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    @Test
+    void readOnlyTransactionOfSpringDataFinder_staysOnThePrimary() {
+        Routing routing = routing(replica, "");
+
+        assertEquals("primary",
+                routing.readOnly("org.springframework.data.jpa.repository.support.SimpleJpaRepository.findAll"));
+    }
+
+    @Test
+    void replicaConnectionFails_fallsBackToThePrimary_andMarksReplicaDown() {
+        // The health check still sees the replica; it goes away before the next one
+        replicaHealth = new ReplicaHealth(replica, "", "", 2);
+        replicaHealth.check();
+        DataSource unreachable = new DriverManagerDataSource("jdbc:unknown:replica");
+        Routing routing = new Routing(new ReadWriteRoutingDataSource(primary, unreachable, replicaHealth));
+
+        assertEquals("primary", routing.readOnly(null));
+        assertFalse(replicaHealth.isAvailable());
+    }
+
+    @Test
+    void unreachableReplica_isReportedDown() {
+        replicaHealth = new ReplicaHealth(new DriverManagerDataSource("jdbc:unknown:replica"), "", "", 2);
+        replicaHealth.check();
+
+        assertFalse(replicaHealth.isAvailable());
+    }
+
+    @Test
+    void replicaLagsBehind_readsUseThePrimary_untilItCatchesUp() {
+        Routing routing = routing(replica, "SELECT lag_seconds FROM replica_status");
+        assertEquals("replica", routing.readOnly(null));
+
+        new JdbcTemplate(replica).update("UPDATE replica_status SET lag_seconds = 30");
+        replicaHealth.check();
+        assertEquals("primary", routing.readOnly(null));
+
+        new JdbcTemplate(replica).update("UPDATE replica_status SET lag_seconds = 1");
+        replicaHealth.check();
+        assertEquals("replica", routing.readOnly(null));
+    }
+
+    @Test
+    void replicaReportsNoReplication_readsUseThePrimary() {
+        new JdbcTemplate(replica).update("DELETE FROM replica_status");
+        Routing routing = routing(replica, "SELECT lag_seconds FROM replica_status");
+
+        assertFalse(replicaHealth.isAvailable());
+        assertEquals("primary", routing.readOnly(null));
+    }
+
+    private Routing routing(DataSource replicaDataSource, String lagQuery) {
+        replicaHealth = new ReplicaHealth(replicaDataSource, lagQuery, "", 2);
+        replicaHealth.check();
+        return new Routing(new ReadWriteRoutingDataSource(primary, replicaDataSource, replicaHealth));
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    /**
+     * The routing DataSource wired as in ReadReplicaConfig, with a transaction manager on top.
+     */
+    private static final class Routing {
+
+        final JdbcTemplate jdbcTemplate;
+        final DataSourceTransactionManager transactionManager;
+
+        Routing(ReadWriteRoutingDataSource routingDataSource) {
+            DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.transactionManager = new DataSourceTransactionManager(dataSource);
+        }
+
+        String readOnly(String transactionName) {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.setName(transactionName);
+            return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        }
+
+        String readWrite() {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        }
+    }
+}
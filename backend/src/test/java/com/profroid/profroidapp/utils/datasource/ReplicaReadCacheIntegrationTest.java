@@ -0,0 +1,143 @@
+package com.profroid.profroidapp.utils.datasource;
+
+import com.profroid.profroidapp.config.ReadReplicaConfig;
+import com.profroid.profroidapp.config.ReferenceDataCacheConfig;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.Job;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.JobIdentifier;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.JobRepository;
+import com.profroid.profroidapp.jobssubdomain.dataAccessLayer.JobType;
+import com.profroid.profroidapp.utils.cache.ReferenceDataCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The replica is a second H2 database that only catches up when replicate() copies the
+// primary over, so it can be left behind an admin's change on purpose
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=" + ReplicaReadCacheIntegrationTest.PRIMARY_URL,
+        "replica.enabled=true",
+        "replica.url=" + ReplicaReadCacheIntegrationTest.REPLICA_URL,
+        "replica.check-interval-ms=600000"
+})
+@Import({ReadReplicaConfig.class, ReferenceDataCacheConfig.class, ReferenceDataCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ReplicaReadCacheIntegrationTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:replica-cache-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-cache-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    private Integer jobId;
+
+    @BeforeEach
+    void setup() {
+        Job job = new Job();
+        job.setJobIdentifier(new JobIdentifier());
+        job.setJobName("Cellar Inspection");
+        job.setJobDescription("Yearly inspection of the cooling unit");
+        job.setHourlyRate(80.00);
+        job.setEstimatedDurationMinutes(120);
+        job.setJobType(JobType.MAINTENANCE);
+        job.setActive(true);
+        jobId = jobRepository.save(job).getId();
+        replicate();
+    }
+
+    @AfterEach
+    void cleanup() {
+        jobRepository.deleteAll();
+        cache().evictAllRegions();
+    }
+
+    @Test
+    void readOnlyTransaction_readsTheReplica() {
+        renameJobOnPrimary("Cellar Audit");
+
+        assertEquals("Cellar Inspection", readOnly(() -> jobRepository.findById(jobId).orElseThrow().getJobName()));
+    }
+
+    @Test
+    void staleReplicaReadAfterEviction_isNotCached_andThePrimaryReadIs() {
+        renameJobOnPrimary("Cellar Audit");
+
+        // The replica still has the old row; it must not refill the evicted regions
+        assertEquals("Cellar Inspection", readOnly(() -> jobRepository.findById(jobId).orElseThrow().getJobName()));
+        assertEquals("Cellar Inspection",
+                readOnly(() -> jobRepository.findJobByJobName("Cellar Inspection").getJobName()));
+        assertFalse(cache().containsEntity(Job.class, jobId));
+        assertNull(jobRepository.findJobByJobName("Cellar Inspection"));
+
+        // A primary read caches the new row, which replica reads are then served from
+        assertEquals("Cellar Audit", jobRepository.findById(jobId).orElseThrow().getJobName());
+        assertTrue(cache().containsEntity(Job.class, jobId));
+        assertEquals("Cellar Audit", readOnly(() -> jobRepository.findById(jobId).orElseThrow().getJobName()));
+    }
+
+    // What JobServiceImpl does on an update: write, then evict once committed
+    private void renameJobOnPrimary(String jobName) {
+        Job job = jobRepository.findById(jobId).orElseThrow();
+        job.setJobName(jobName);
+        jobRepository.save(job);
+        referenceDataCache.evictJobs();
+    }
+
+    private <T> T readOnly(Supplier<T> read) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> read.get());
+    }
+
+    // Copies the primary's schema and rows to the replica
+    private void replicate() {
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replica.execute("DROP ALL OBJECTS");
+        for (String statement : new JdbcTemplate(primaryDataSource).queryForList("SCRIPT", String.class)) {
+            if (!statement.startsWith("--")) {
+                replica.execute(statement);
+            }
+        }
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
@@ -0,0 +1,79 @@
+package com.profroid.profroidapp.utils.metrics;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ServerTimingTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void cleanup() {
+        ServerTiming.end();
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    void headerValue_listsPhasesWithTimeThenApp() {
+        long[] totals = new long[ServerTiming.Phase.values().length];
+        totals[ServerTiming.Phase.DB.ordinal()] = 12_345_678;
+        totals[ServerTiming.Phase.RENDER.ordinal()] = 2_000_000;
+
+        String header = ServerTiming.headerValue(totals, 30_050_000);
+
+        assertEquals("db;desc=\"Database\";dur=12.3, render;desc=\"PDF rendering\";dur=2.0, app;dur=30.1", header);
+    }
+
+    @Test
+    void add_outsideRequest_isIgnored() {
+        ServerTiming.add(ServerTiming.Phase.DB, 1_000);
+
+        assertNull(ServerTiming.current());
+    }
+
+    @Test
+    void add_duringRequest_accumulatesPerPhase() {
+        ServerTiming.begin();
+        ServerTiming.add(ServerTiming.Phase.STORAGE, 1_000);
+        ServerTiming.add(ServerTiming.Phase.STORAGE, 2_000);
+
+        long[] totals = ServerTiming.end();
+
+        assertEquals(3_000, totals[ServerTiming.Phase.STORAGE.ordinal()]);
+        assertEquals(0, totals[ServerTiming.Phase.DB.ordinal()]);
+        assertNull(ServerTiming.current());
+    }
+
+    @Test
+    void timingsRecord_recordsTimerAndPhase() {
+        Metrics.addRegistry(registry);
+        ServerTiming.begin();
+
+        String result = Timings.record("files.put", ServerTiming.Phase.STORAGE, () -> "stored", "category", "IMAGE");
+
+        assertEquals("stored", result);
+        Timer timer = registry.get("files.put").tags("category", "IMAGE", "outcome", "success").timer();
+        assertEquals(1, timer.count());
+        assertTrue(ServerTiming.current()[ServerTiming.Phase.STORAGE.ordinal()] > 0);
+    }
+
+    @Test
+    void timingsRecord_whenCallFails_recordsErrorOutcomeAndRethrows() {
+        Metrics.addRegistry(registry);
+
+        assertThrows(IllegalStateException.class, () -> Timings.record("pdf.render", ServerTiming.Phase.RENDER, () -> {
+            throw new IllegalStateException("broken template");
+        }, "document", "bill"));
+
+        Timer timer = registry.get("pdf.render").tags("document", "bill", "outcome", "error").timer();
+        assertEquals(1, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.NANOSECONDS) >= 0);
+    }
+}
@@ -0,0 +1,84 @@
+package com.profroid.profroidapp.utils.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new InvertedIndex(Map.of("subject", 2f, "message", 1f, "email", 3f, "name", 2f));
+        index.put("MSG-1", Map.of(
+                "subject", "Compresseur bruyant",
+                "message", "Le compresseur de mon cellier fait un bruit étrange depuis l'été",
+                "email", "marie.tremblay@example.com",
+                "name", "Marie Tremblay"));
+        index.put("MSG-2", Map.of(
+                "subject", "Quote request",
+                "message", "I need a quote for a new cooling unit and compressor",
+                "email", "john@acme.com",
+                "name", "John Smith"));
+        index.put("MSG-3", Map.of(
+                "subject", "Porte",
+                "message", "La porte du cellier ne ferme plus",
+                "email", "paul@example.org",
+                "name", "Paul Gagnon"));
+    }
+
+    @Test
+    void tokenize_foldsAccentsAndDropsStopWords() {
+        List<String> tokens = SearchTokenizer.tokenize("L'unité de réfrigération fait du bruit, the compressors");
+
+        assertEquals(List.of("unite", "refrigeration", "fait", "bruit", "compressor"), tokens);
+    }
+
+    @Test
+    void search_accentsAndCaseIgnored() {
+        assertEquals(List.of("MSG-1"), index.search("ÉTRANGE Été", 0, 10).keys());
+    }
+
+    @Test
+    void search_requiresEveryTerm() {
+        assertEquals(List.of("MSG-3"), index.search("cellier porte", 0, 10).keys());
+        assertEquals(0, index.search("cellier quote", 0, 10).total());
+    }
+
+    @Test
+    void search_lastTermAndEmailsMatchAsPrefix() {
+        assertEquals(List.of("MSG-1", "MSG-2"), index.search("compres", 0, 10).keys());
+        assertEquals(List.of("MSG-1"), index.search("marie.tremblay@exa", 0, 10).keys());
+    }
+
+    @Test
+    void search_ranksWeightedFieldsFirstAndPaginates() {
+        index.put("MSG-4", Map.of("subject", "Other", "message", "Paul said the door is fine", "email", "x@y.com"));
+
+        InvertedIndex.SearchResult first = index.search("paul", 0, 1);
+        InvertedIndex.SearchResult second = index.search("paul", 1, 1);
+
+        assertEquals(2, first.total());
+        assertEquals(List.of("MSG-3"), first.keys());
+        assertEquals(List.of("MSG-4"), second.keys());
+    }
+
+    @Test
+    void putAndRemove_updateIndexIncrementally() {
+        index.put("MSG-1", Map.of("subject", "Door", "message", "Fixed now"));
+        index.remove("MSG-2");
+
+        assertEquals(0, index.search("compresseur", 0, 10).total());
+        assertEquals(List.of("MSG-1"), index.search("door", 0, 10).keys());
+        assertEquals(0, index.search("quote", 0, 10).total());
+        assertEquals(2, index.size());
+
+        index.put("MSG-5", Map.of("message", "Another quote please"));
+        assertEquals(List.of("MSG-5"), index.search("quote", 0, 10).keys());
+    }
+}
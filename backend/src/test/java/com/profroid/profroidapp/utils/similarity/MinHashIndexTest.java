@@ -0,0 +1,73 @@
+package com.profroid.profroidapp.utils.similarity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MinHashIndexTest {
+
+    private static final String SPAM =
+            "Buy cheap watches at www.example.com, best prices guaranteed. Limited offer for your wine cellar today!";
+
+    private MinHashIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new MinHashIndex(16, 4, 30);
+        index.put("REV-1", SPAM);
+        index.put("REV-2", "The technician replaced the fan and the cellar is back at 12 degrees, thank you!");
+    }
+
+    @Test
+    void findMostSimilar_smallVariation_returnsOriginal() {
+        Optional<MinHashIndex.Match> match = index.findMostSimilar(
+                "BUY CHEAP WATCHES at www.example.net - best prices guaranteed!! Limited offer for your wine cellar today", 0.8);
+
+        assertTrue(match.isPresent());
+        assertEquals("REV-1", match.get().key());
+        assertTrue(match.get().similarity() >= 0.8);
+    }
+
+    @Test
+    void findMostSimilar_accentsAndCaseIgnored() {
+        index.put("MSG-1", "Bonjour, mon cellier fait un bruit étrange depuis la réparation de la semaine dernière.");
+
+        Optional<MinHashIndex.Match> match = index.findMostSimilar(
+                "BONJOUR mon cellier fait un bruit etrange depuis la reparation de la semaine derniere", 0.9);
+
+        assertEquals("MSG-1", match.map(MinHashIndex.Match::key).orElse(null));
+    }
+
+    @Test
+    void findMostSimilar_unrelatedText_returnsEmpty() {
+        assertTrue(index.findMostSimilar(
+                "Could someone call me back about a quote for a new cooling unit in my basement?", 0.8).isEmpty());
+    }
+
+    @Test
+    void findMostSimilar_shortText_isNeverCompared() {
+        index.put("REV-3", "Great service!");
+
+        assertTrue(index.findMostSimilar("Great service!", 0.5).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void remove_dropsTextFromIndex() {
+        index.remove("REV-1");
+
+        assertTrue(index.findMostSimilar(SPAM, 0.8).isEmpty());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void put_sameKeyTwice_replacesPreviousText() {
+        index.put("REV-1", "Completely different text about a thermostat that stopped working in July.");
+
+        assertTrue(index.findMostSimilar(SPAM, 0.8).isEmpty());
+        assertEquals(2, index.size());
+    }
+}
@@ -0,0 +1,37 @@
+package com.profroid.profroidapp.utils.sqlbudget;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SqlFingerprintTest {
+
+    @Test
+    void of_replacesLiteralsAndCollapsesWhitespace() {
+        String fingerprint = SqlFingerprint.of(
+                "select a1_0.id\n    from appointment a1_0\n    where a1_0.status='SCHEDULED' and a1_0.id=42 limit 10");
+
+        assertEquals("select a1_0.id from appointment a1_0 where a1_0.status=? and a1_0.id=? limit ?", fingerprint);
+    }
+
+    @Test
+    void of_collapsesInListsOfAnyLength() {
+        assertEquals(
+                SqlFingerprint.of("select * from job where id in (?, ?)"),
+                SqlFingerprint.of("select * from job where id in (?,?,?,?,?)"));
+        assertEquals("select * from job where id in (?)", SqlFingerprint.of("select * from job where id in (1, 2, 3)"));
+    }
+
+    @Test
+    void of_keepsEscapedQuotesInsideOneLiteral() {
+        assertEquals("select * from customer where last_name=? and city=?",
+                SqlFingerprint.of("select * from customer where last_name='O''Brien' and city='Laval'"));
+    }
+
+    @Test
+    void of_leavesBoundParametersAlone() {
+        String sql = "select s1_0.id from schedule s1_0 where s1_0.employee_fk=?";
+
+        assertEquals(sql, SqlFingerprint.of(sql));
+    }
+}
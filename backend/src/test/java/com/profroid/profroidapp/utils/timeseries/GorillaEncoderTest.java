@@ -0,0 +1,88 @@
+package com.profroid.profroidapp.utils.timeseries;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GorillaEncoderTest {
+
+    @Test
+    void roundTrip_returnsEveryPointBitForBit() {
+        SplittableRandom random = new SplittableRandom(7);
+        long[] times = new long[5000];
+        double[][] values = new double[times.length][2];
+        long time = 1_700_000_000L;
+        for (int i = 0; i < times.length; i++) {
+            // Mostly steady period, with jitter, equal timestamps and long gaps mixed in
+            time += switch (i % 97) {
+                case 0 -> 0;
+                case 1 -> 86_000;
+                case 2 -> random.nextLong(1, 5_000);
+                default -> 60 + random.nextInt(-2, 3);
+            };
+            times[i] = time;
+            values[i][0] = i % 13 == 0 ? Double.NaN : Math.round(random.nextDouble(-20, 30) * 100) / 100.0;
+            values[i][1] = i % 5 == 0 ? values[Math.max(0, i - 1)][1] : random.nextDouble(0, 100);
+        }
+
+        GorillaEncoder encoder = new GorillaEncoder(2);
+        for (int i = 0; i < times.length; i++) {
+            encoder.append(times[i], values[i][0], values[i][1]);
+        }
+        assertEquals(times[0], encoder.firstTime());
+        assertEquals(times[times.length - 1], encoder.lastTime());
+
+        GorillaDecoder decoder = new GorillaDecoder(encoder.toBytes());
+        assertEquals(2, decoder.columns());
+        assertEquals(times.length, decoder.count());
+        for (int i = 0; i < times.length; i++) {
+            assertTrue(decoder.next());
+            assertEquals(times[i], decoder.time());
+            assertEquals(Double.doubleToRawLongBits(values[i][0]), Double.doubleToRawLongBits(decoder.value(0)));
+            assertEquals(Double.doubleToRawLongBits(values[i][1]), Double.doubleToRawLongBits(decoder.value(1)));
+        }
+        assertFalse(decoder.next());
+    }
+
+    @Test
+    void steadySeries_costsAboutOneBytePerPoint() {
+        GorillaEncoder encoder = new GorillaEncoder(2);
+        for (int i = 0; i < 1440; i++) {
+            // Regular minute readings whose values change every ten minutes
+            encoder.append(1_700_000_000L + i * 60L, 4.0 + (i / 10) % 3 * 0.5, 85.0);
+        }
+        assertTrue(encoder.byteLength() < 1440 * 2, "got " + encoder.byteLength() + " bytes");
+    }
+
+    @Test
+    void toBytes_canBeCalledWhileAppending() {
+        GorillaEncoder encoder = new GorillaEncoder(1);
+        encoder.append(10, 1.0);
+        byte[] first = encoder.toBytes();
+        encoder.append(20, 2.0);
+
+        GorillaDecoder decoder = new GorillaDecoder(first);
+        assertEquals(1, decoder.count());
+        assertTrue(decoder.next());
+        assertEquals(10, decoder.time());
+        assertFalse(decoder.next());
+        assertEquals(2, new GorillaDecoder(encoder.toBytes()).count());
+    }
+
+    @Test
+    void append_backwardsInTime_throws() {
+        GorillaEncoder encoder = new GorillaEncoder(1);
+        encoder.append(100, 1.0);
+        assertThrows(IllegalArgumentException.class, () -> encoder.append(99, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> encoder.append(101, 1.0, 2.0));
+    }
+
+    @Test
+    void decoder_rejectsUnknownVersion() {
+        byte[] chunk = new GorillaEncoder(1).toBytes();
+        chunk[0] = 9;
+        assertThrows(IllegalArgumentException.class, () -> new GorillaDecoder(chunk));
+    }
+}
@@ -0,0 +1,41 @@
+package com.profroid.profroidapp.utils.timeseries;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LttbTest {
+
+    @Test
+    void downsample_fewerPointsThanThreshold_keepsEveryPoint() {
+        int[] kept = Lttb.downsample(new long[]{1, 2, 3}, new double[]{1, 2, 3}, 10);
+        assertArrayEquals(new int[]{0, 1, 2}, kept);
+    }
+
+    @Test
+    void downsample_keepsEndpointsAndSpikes() {
+        int n = 10_000;
+        long[] times = new long[n];
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            times[i] = 1_700_000_000_000L + i * 60_000L;
+            values[i] = 5 + Math.sin(i / 500.0);
+        }
+        // A single door-open spike that an average would wash out
+        values[4321] = 25;
+
+        int[] kept = Lttb.downsample(times, values, 200);
+
+        assertEquals(200, kept.length);
+        assertEquals(0, kept[0]);
+        assertEquals(n - 1, kept[kept.length - 1]);
+        for (int i = 1; i < kept.length; i++) {
+            assertTrue(kept[i] > kept[i - 1]);
+        }
+        boolean spikeKept = false;
+        for (int index : kept) {
+            spikeKept |= index == 4321;
+        }
+        assertTrue(spikeKept);
+    }
+}
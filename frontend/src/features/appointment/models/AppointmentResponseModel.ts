@@ -1,5 +1,8 @@
 import type { AppointmentAddress } from './AppointmentAddress';
 
+// DRAFT: opened by a cellar alert, holds the slot until the customer or technician confirms it
+export type AppointmentStatus = 'DRAFT' | 'SCHEDULED' | 'COMPLETED' | 'CANCELLED';
+
 export interface CustomerPhoneNumber {
   type: string;
   number: string;
@@ -34,7 +37,7 @@ export interface AppointmentResponseModel {
   appointmentStartTime?: string;
   appointmentEndTime?: string;
   description: string;
-  status: string; // SCHEDULED, COMPLETED, CANCELLED
+  status: AppointmentStatus;
 
   // Appointment Address
   appointmentAddress: AppointmentAddress;
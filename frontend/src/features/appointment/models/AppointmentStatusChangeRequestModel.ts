@@ -1,3 +1,6 @@
+import type { AppointmentStatus } from './AppointmentResponseModel';
+
+// A draft can be confirmed (SCHEDULED) or cancelled, but nothing moves back to DRAFT
 export interface AppointmentStatusChangeRequestModel {
-  status: 'SCHEDULED' | 'CANCELLED' | 'COMPLETED';
+  status: Exclude<AppointmentStatus, 'DRAFT'>;
 }
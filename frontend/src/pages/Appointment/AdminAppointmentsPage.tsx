@@ -90,6 +90,8 @@ export default function AdminAppointmentsPage(): React.ReactElement {
 
   const getStatusBadge = (status: string): string => {
     switch (status) {
+      case 'DRAFT':
+        return 'status-draft';
       case 'SCHEDULED':
         return 'status-scheduled';
       case 'COMPLETED':
@@ -103,6 +105,8 @@ export default function AdminAppointmentsPage(): React.ReactElement {
 
   const getStatusLabel = (status: string): string => {
     switch (status) {
+      case 'DRAFT':
+        return t('pages.appointments.statusDraft');
       case 'SCHEDULED':
         return t('pages.appointments.statusScheduled');
       case 'COMPLETED':
@@ -16,6 +16,7 @@ import {
   AlertCircle,
   Edit,
   X,
+  CheckCircle,
   ChevronLeft,
   ChevronRight,
   Filter,
@@ -140,6 +141,16 @@ export default function MyAppointmentsPage(): React.ReactElement {
     }
   };
 
+  const handleConfirmDraft = async (appointmentId: string) => {
+    try {
+      await patchAppointmentStatus(appointmentId, { status: 'SCHEDULED' });
+      fetchAppointments();
+      setToast({ message: t('pages.appointments.draftConfirmed'), type: 'success' });
+    } catch {
+      setToast({ message: t('pages.appointments.errorConfirmingDraft'), type: 'error' });
+    }
+  };
+
   const handleEditAppointment = (appointment: AppointmentResponseModel) => {
     setEditingAppointment(appointment);
     setShowAddModal(true);
@@ -158,6 +169,8 @@ export default function MyAppointmentsPage(): React.ReactElement {
 
   const getStatusBadge = (status: string): string => {
     switch (status) {
+      case 'DRAFT':
+        return 'status-draft';
       case 'SCHEDULED':
         return 'status-scheduled';
       case 'COMPLETED':
@@ -171,6 +184,8 @@ export default function MyAppointmentsPage(): React.ReactElement {
 
   const getStatusLabel = (status: string): string => {
     switch (status) {
+      case 'DRAFT':
+        return t('pages.appointments.statusDraft');
       case 'SCHEDULED':
         return t('pages.appointments.statusScheduled');
       case 'COMPLETED':
@@ -518,7 +533,17 @@ export default function MyAppointmentsPage(): React.ReactElement {
                         {t('common.edit')}
                       </button>
                     )}
-                  {appointment.status === 'SCHEDULED' && (
+                  {appointment.status === 'DRAFT' && (
+                    <button
+                      className="btn-edit"
+                      onClick={() => handleConfirmDraft(appointment.appointmentId)}
+                      title={t('pages.appointments.confirmDraft')}
+                    >
+                      <CheckCircle size={16} />
+                      {t('pages.appointments.confirmDraft')}
+                    </button>
+                  )}
+                  {(appointment.status === 'SCHEDULED' || appointment.status === 'DRAFT') && (
                     <button
                       className="btn-cancel"
                       onClick={() => handleCancelAppointment(appointment.appointmentId)}
@@ -185,6 +185,10 @@ export default function MyJobsPage(): React.ReactElement {
     setConfirmModal({ isOpen: true, type: 'complete', appointmentId });
   };
 
+  const handleAcceptJob = (appointmentId: string) => {
+    setConfirmModal({ isOpen: true, type: 'accept', appointmentId });
+  };
+
   const handleCancelJob = (appointmentId: string) => {
     setConfirmModal({ isOpen: true, type: 'cancel', appointmentId });
   };
@@ -214,7 +218,9 @@ export default function MyJobsPage(): React.ReactElement {
       let errorMessage =
         confirmModal.type === 'complete'
           ? t('pages.jobs.errorCompleting')
-          : t('pages.appointments.errorCancelling');
+          : confirmModal.type === 'accept'
+            ? t('pages.jobs.errorAccepting')
+            : t('pages.appointments.errorCancelling');
 
       if (typeof error === 'object' && error && 'response' in error) {
         const resp = (error as { response?: { data?: unknown } }).response;
@@ -290,6 +296,8 @@ export default function MyJobsPage(): React.ReactElement {
 
   const getStatusBadge = (status: string): string => {
     switch (status) {
+      case 'DRAFT':
+        return 'status-draft';
       case 'SCHEDULED':
         return 'status-scheduled';
       case 'COMPLETED':
@@ -303,6 +311,8 @@ export default function MyJobsPage(): React.ReactElement {
 
   const getStatusLabel = (status: string): string => {
     switch (status) {
+      case 'DRAFT':
+        return t('pages.appointments.statusDraft');
       case 'SCHEDULED':
         return t('pages.appointments.statusScheduled');
       case 'COMPLETED':
@@ -617,6 +627,26 @@ export default function MyJobsPage(): React.ReactElement {
                 </div>
                 {/* Action Buttons */}
                 <div className="job-actions">
+                  {job.status === 'DRAFT' && (
+                    <>
+                      <button
+                        className="btn-complete"
+                        onClick={() => handleAcceptJob(job.appointmentId)}
+                        title={t('pages.jobs.acceptJob')}
+                      >
+                        <CheckCircle size={16} />
+                        {t('pages.jobs.acceptJob')}
+                      </button>
+                      <button
+                        className="btn-cancel"
+                        onClick={() => handleCancelJob(job.appointmentId)}
+                        title={t('pages.appointments.cancelAppointment')}
+                      >
+                        <X size={16} />
+                        {t('common.cancel')}
+                      </button>
+                    </>
+                  )}
                   {job.status === 'SCHEDULED' && (
                     <>
                       <button
@@ -888,15 +918,23 @@ export default function MyJobsPage(): React.ReactElement {
         title={
           confirmModal.type === 'complete'
             ? t('pages.jobs.confirmCompleteTitle')
-            : t('pages.appointments.confirmCancelTitle')
+            : confirmModal.type === 'accept'
+              ? t('pages.jobs.acceptJob')
+              : t('pages.appointments.confirmCancelTitle')
         }
         message={
           confirmModal.type === 'complete'
             ? t('pages.jobs.confirmComplete')
-            : t('pages.appointments.confirmCancel')
+            : confirmModal.type === 'accept'
+              ? t('pages.jobs.confirmAccept')
+              : t('pages.appointments.confirmCancel')
         }
         confirmText={
-          confirmModal.type === 'complete' ? t('pages.jobs.markComplete') : t('common.cancel')
+          confirmModal.type === 'complete'
+            ? t('pages.jobs.markComplete')
+            : confirmModal.type === 'accept'
+              ? t('pages.jobs.acceptJob')
+              : t('common.cancel')
         }
         cancelText={t('common.goBack')}
         isDanger={confirmModal.type === 'cancel'}